@@ -225,7 +225,7 @@ public class Operation extends AbstractStep
     /**
      * Sets the operation type, resolving it to the corresponding {@link DatabaseOperation}.
      *
-     * @param type one of: UPDATE, INSERT, REFRESH, DELETE, DELETE_ALL, CLEAN_INSERT, NONE,
+     * @param type one of: UPDATE, INSERT, REFRESH, DELETE, DELETE_ALL, CLEAN_INSERT, SYNC, NONE,
      *            MSSQL_CLEAN_INSERT, MSSQL_INSERT, or MSSQL_REFRESH.
      */
     public void setType(String type)
@@ -250,6 +250,9 @@ public class Operation extends AbstractStep
         } else if ("CLEAN_INSERT".equals(type)) {
             _operation = DatabaseOperation.CLEAN_INSERT;
             _forwardOperation = false;
+        } else if ("SYNC".equals(type)) {
+            _operation = DatabaseOperation.SYNC;
+            _forwardOperation = false;
         } else if ("NONE".equals(type)) {
             _operation = DatabaseOperation.NONE;
             _forwardOperation = true;
@@ -264,7 +267,7 @@ public class Operation extends AbstractStep
             _forwardOperation = true;
         } else {
             throw new IllegalArgumentException("Type must be one of: UPDATE, INSERT,"
-                    + " REFRESH, DELETE, DELETE_ALL, CLEAN_INSERT, MSSQL_INSERT, "
+                    + " REFRESH, DELETE, DELETE_ALL, CLEAN_INSERT, SYNC, MSSQL_INSERT, "
                     + " or MSSQL_REFRESH but was: " + type);
         }
         _type = type;
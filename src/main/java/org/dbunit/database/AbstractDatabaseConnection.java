@@ -28,6 +28,7 @@ import java.sql.Statement;
 
 import org.dbunit.DatabaseUnitRuntimeException;
 import org.dbunit.database.statement.IStatementFactory;
+import org.dbunit.database.statement.PreparedStatementCache;
 import org.dbunit.dataset.DataSetException;
 import org.dbunit.dataset.FilteredDataSet;
 import org.dbunit.dataset.IDataSet;
@@ -56,6 +57,7 @@ public abstract class AbstractDatabaseConnection implements IDatabaseConnection
 
     private IDataSet _dataSet = null;
     private final DatabaseConfig _databaseConfig;
+    private PreparedStatementCache _preparedStatementCache = null;
 
     /**
      * Creates a connection with a new, default {@link DatabaseConfig}.
@@ -206,6 +208,56 @@ public abstract class AbstractDatabaseConnection implements IDatabaseConnection
         return _databaseConfig;
     }
 
+    /**
+     * Lazily creates the cache when
+     * {@link DatabaseConfig#PROPERTY_PREPARED_STATEMENT_CACHE_SIZE} is
+     * positive, and replaces it when the configured size changes.
+     */
+    @Override
+    public synchronized PreparedStatementCache getPreparedStatementCache()
+    {
+        final Integer size = (Integer) _databaseConfig.getProperty(
+                DatabaseConfig.PROPERTY_PREPARED_STATEMENT_CACHE_SIZE);
+        final int maxSize = size == null ? 0 : size.intValue();
+        if (_preparedStatementCache != null
+                && _preparedStatementCache.getMaxSize() != maxSize)
+        {
+            invalidatePreparedStatementCache();
+        }
+        if (_preparedStatementCache == null && maxSize > 0)
+        {
+            _preparedStatementCache = new PreparedStatementCache(maxSize);
+        }
+        return _preparedStatementCache;
+    }
+
+    /**
+     * Closes all statements cached by {@link #getPreparedStatementCache()} and
+     * drops the cache. Implementations call this before closing their JDBC
+     * connection.
+     *
+     * @since 3.6.0
+     */
+    protected synchronized void invalidatePreparedStatementCache()
+    {
+        if (_preparedStatementCache == null)
+        {
+            return;
+        }
+
+        try
+        {
+            _preparedStatementCache.invalidate();
+        } catch (final SQLException e)
+        {
+            logger.warn("invalidatePreparedStatementCache() - exception while"
+                    + " closing cached statements", e);
+        } finally
+        {
+            _preparedStatementCache = null;
+        }
+    }
+
     /**
      * @deprecated Use {@link #getConfig}
      */
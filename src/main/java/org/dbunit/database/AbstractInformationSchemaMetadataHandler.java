@@ -0,0 +1,385 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class of metadata handlers answering table, column, primary key and foreign key lookups
+ * with one set-based catalog query each, such as a query on <code>information_schema</code>,
+ * instead of the driver's {@link DatabaseMetaData} methods, which some drivers implement as
+ * several catalog queries per call. The rows are copied into an
+ * {@link InMemoryMetadataResultSet} shaped like the corresponding {@link DatabaseMetaData}
+ * result set, so the statement is closed before the result is returned.
+ * <p>
+ * Subclasses supply the queries. Each query binds two <code>LIKE</code> patterns, the schema and
+ * the table, in this order, and returns the columns documented on its method, in that order.
+ * Names given to the handler are escaped, so they match only themselves; a <code>null</code>
+ * schema or table matches any. The schema-wide lookups of
+ * {@link DatabaseConfig#FEATURE_PREFETCH_METADATA} thereby read a whole schema with one query.
+ * <p>
+ * The JDBC <code>DATA_TYPE</code> of a column is looked up by its <code>TYPE_NAME</code> in
+ * {@link DatabaseMetaData#getTypeInfo()}, read once per JDBC URL; see
+ * {@link #getSqlType(String, Map)}.
+ *
+ * @since 3.6.0
+ */
+public abstract class AbstractInformationSchemaMetadataHandler extends DefaultMetadataHandler
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(AbstractInformationSchemaMetadataHandler.class);
+
+    private static final String[] TABLE_LABELS =
+            {"TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME", "TABLE_TYPE", "REMARKS"};
+
+    private static final String[] COLUMN_LABELS = {"TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME",
+            "COLUMN_NAME", "DATA_TYPE", "TYPE_NAME", "COLUMN_SIZE", "BUFFER_LENGTH",
+            "DECIMAL_DIGITS", "NUM_PREC_RADIX", "NULLABLE", "REMARKS", "COLUMN_DEF",
+            "SQL_DATA_TYPE", "SQL_DATETIME_SUB", "CHAR_OCTET_LENGTH", "ORDINAL_POSITION",
+            "IS_NULLABLE", "SCOPE_CATALOG", "SCOPE_SCHEMA", "SCOPE_TABLE", "SOURCE_DATA_TYPE",
+            "IS_AUTOINCREMENT", "IS_GENERATEDCOLUMN"};
+
+    private static final String[] PRIMARY_KEY_LABELS =
+            {"TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME", "COLUMN_NAME", "KEY_SEQ", "PK_NAME"};
+
+    private static final String[] FOREIGN_KEY_LABELS = {"PKTABLE_CAT", "PKTABLE_SCHEM",
+            "PKTABLE_NAME", "PKCOLUMN_NAME", "FKTABLE_CAT", "FKTABLE_SCHEM", "FKTABLE_NAME",
+            "FKCOLUMN_NAME", "KEY_SEQ", "UPDATE_RULE", "DELETE_RULE", "FK_NAME", "PK_NAME",
+            "DEFERRABILITY"};
+
+    private final Map<String, Map<String, Integer>> _sqlTypesByUrl = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the query of the tables and views. Its columns are <code>TABLE_CAT</code>,
+     * <code>TABLE_SCHEM</code>, <code>TABLE_NAME</code>, <code>TABLE_TYPE</code> as reported by
+     * {@link DatabaseMetaData#getTables}, and <code>REMARKS</code>.
+     *
+     * @return The query.
+     */
+    protected abstract String getTablesQuery();
+
+    /**
+     * Returns the query of the columns, ordered by schema, table and position. Its columns are
+     * <code>TABLE_CAT</code>, <code>TABLE_SCHEM</code>, <code>TABLE_NAME</code>,
+     * <code>COLUMN_NAME</code>, <code>TYPE_NAME</code>, <code>COLUMN_SIZE</code>,
+     * <code>DECIMAL_DIGITS</code>, <code>IS_NULLABLE</code>, <code>REMARKS</code>,
+     * <code>COLUMN_DEF</code>, <code>ORDINAL_POSITION</code>, <code>IS_AUTOINCREMENT</code> and
+     * <code>IS_GENERATEDCOLUMN</code>, the flags being <code>YES</code> or <code>NO</code>.
+     *
+     * @return The query.
+     */
+    protected abstract String getColumnsQuery();
+
+    /**
+     * Returns the query of the columns for the given database, by default
+     * {@link #getColumnsQuery()}. Override it if the query depends on the database version.
+     *
+     * @param metaData The metadata of the database.
+     * @return The query, with the columns of {@link #getColumnsQuery()}.
+     * @throws SQLException if a database access error occurs.
+     */
+    protected String getColumnsQuery(final DatabaseMetaData metaData) throws SQLException
+    {
+        return getColumnsQuery();
+    }
+
+    /**
+     * Returns the query of the primary key columns. Its columns are those of
+     * {@link DatabaseMetaData#getPrimaryKeys}.
+     *
+     * @return The query.
+     */
+    protected abstract String getPrimaryKeysQuery();
+
+    /**
+     * Returns the query of the foreign key columns of the tables matching the patterns, ordered
+     * by referenced table and key sequence. Its columns are those of
+     * {@link DatabaseMetaData#getImportedKeys} up to <code>PK_NAME</code>, with
+     * <code>UPDATE_RULE</code> and <code>DELETE_RULE</code> given as their SQL names, such as
+     * <code>CASCADE</code> or <code>NO ACTION</code>.
+     *
+     * @return The query.
+     */
+    protected abstract String getImportedKeysQuery();
+
+    /**
+     * Returns the query of the foreign key columns referencing the tables matching the patterns,
+     * ordered by referencing table and key sequence, with the columns of
+     * {@link #getImportedKeysQuery()}.
+     *
+     * @return The query.
+     */
+    protected abstract String getExportedKeysQuery();
+
+    /**
+     * Returns the JDBC type of a column. By default the type is looked up in the types of
+     * {@link DatabaseMetaData#getTypeInfo()}, an unknown type name being {@link Types#OTHER};
+     * override it for type names the type info does not list.
+     *
+     * @param typeName The <code>TYPE_NAME</code> of the column.
+     * @param sqlTypes The JDBC types of the type info, by upper case type name.
+     * @return The JDBC type.
+     */
+    protected int getSqlType(final String typeName, final Map<String, Integer> sqlTypes)
+    {
+        final Integer sqlType = typeName == null ? null
+                : sqlTypes.get(typeName.toUpperCase(Locale.ENGLISH));
+        return sqlType == null ? Types.OTHER : sqlType;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // IMetadataHandler interface
+
+    @Override
+    public ResultSet getTables(final DatabaseMetaData metaData, final String schemaName,
+            final String[] tableType) throws SQLException
+    {
+        final List<Object[]> rows = new ArrayList<>();
+        for (final Object[] row : query(metaData, getTablesQuery(), TABLE_LABELS.length,
+                schemaName, null))
+        {
+            if (isTableType(row[3], tableType))
+            {
+                rows.add(row);
+            }
+        }
+        return InMemoryMetadataResultSet.create(TABLE_LABELS, rows);
+    }
+
+    @Override
+    public boolean tableExists(final DatabaseMetaData metaData, final String schemaName,
+            final String tableName) throws SQLException
+    {
+        return !query(metaData, getTablesQuery(), TABLE_LABELS.length, schemaName, tableName)
+                .isEmpty();
+    }
+
+    @Override
+    public ResultSet getColumns(final DatabaseMetaData databaseMetaData, final String schemaName,
+            final String tableName) throws SQLException
+    {
+        return InMemoryMetadataResultSet.create(COLUMN_LABELS,
+                toColumnRows(databaseMetaData, schemaName, tableName));
+    }
+
+    @Override
+    public ResultSet getSchemaColumns(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        return getColumns(databaseMetaData, schemaName, null);
+    }
+
+    @Override
+    public ResultSet getPrimaryKeys(final DatabaseMetaData metaData, final String schemaName,
+            final String tableName) throws SQLException
+    {
+        return InMemoryMetadataResultSet.create(PRIMARY_KEY_LABELS, query(metaData,
+                getPrimaryKeysQuery(), PRIMARY_KEY_LABELS.length, schemaName, tableName));
+    }
+
+    @Override
+    public ResultSet getSchemaPrimaryKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        return getPrimaryKeys(databaseMetaData, schemaName, null);
+    }
+
+    @Override
+    public ResultSet getImportedKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName, final String tableName) throws SQLException
+    {
+        return InMemoryMetadataResultSet.create(FOREIGN_KEY_LABELS, toForeignKeyRows(
+                query(databaseMetaData, getImportedKeysQuery(), FOREIGN_KEY_LABELS.length - 1,
+                        schemaName, tableName)));
+    }
+
+    @Override
+    public ResultSet getExportedKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName, final String tableName) throws SQLException
+    {
+        return InMemoryMetadataResultSet.create(FOREIGN_KEY_LABELS, toForeignKeyRows(
+                query(databaseMetaData, getExportedKeysQuery(), FOREIGN_KEY_LABELS.length - 1,
+                        schemaName, tableName)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * @return <code>true</code>, since the key queries match any table for a <code>null</code>
+     *         table name.
+     */
+    @Override
+    public boolean supportsSchemaForeignKeys()
+    {
+        return true;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Queries
+
+    /**
+     * Runs the given query with the escaped schema and table as patterns and copies its rows.
+     */
+    private List<Object[]> query(final DatabaseMetaData metaData, final String sql,
+            final int columnCount, final String schemaName, final String tableName)
+            throws SQLException
+    {
+        if (logger.isTraceEnabled())
+        {
+            logger.trace("query(sql={}, schemaName={}, tableName={}) - start",
+                    new Object[] {sql, schemaName, tableName});
+        }
+
+        final List<Object[]> rows = new ArrayList<>();
+        try (PreparedStatement statement = metaData.getConnection().prepareStatement(sql))
+        {
+            statement.setString(1, toPattern(metaData, schemaName));
+            statement.setString(2, toPattern(metaData, tableName));
+            try (ResultSet resultSet = statement.executeQuery())
+            {
+                while (resultSet.next())
+                {
+                    final Object[] row = new Object[columnCount];
+                    for (int i = 0; i < columnCount; i++)
+                    {
+                        row[i] = resultSet.getObject(i + 1);
+                    }
+                    rows.add(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private String toPattern(final DatabaseMetaData metaData, final String name)
+            throws SQLException
+    {
+        return name == null ? "%" : escapePattern(metaData, name);
+    }
+
+    private static boolean isTableType(final Object type, final String[] tableType)
+    {
+        if (tableType == null)
+        {
+            return true;
+        }
+        for (final String candidate : tableType)
+        {
+            if (candidate.equalsIgnoreCase((String) type))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Object[]> toColumnRows(final DatabaseMetaData metaData, final String schemaName,
+            final String tableName) throws SQLException
+    {
+        final Map<String, Integer> sqlTypes = getSqlTypes(metaData);
+        final List<Object[]> rows = new ArrayList<>();
+        for (final Object[] column : query(metaData, getColumnsQuery(metaData), 13, schemaName,
+                tableName))
+        {
+            final String typeName = (String) column[4];
+            final boolean nullable = "YES".equalsIgnoreCase(String.valueOf(column[7]));
+            rows.add(new Object[] {column[0], column[1], column[2], column[3],
+                    getSqlType(typeName, sqlTypes), typeName, column[5], null,
+                    column[6], 10,
+                    nullable ? DatabaseMetaData.columnNullable : DatabaseMetaData.columnNoNulls,
+                    column[8], column[9], null, null, column[5], column[10],
+                    nullable ? "YES" : "NO", null, null, null, null, column[11], column[12]});
+        }
+        return rows;
+    }
+
+    private static List<Object[]> toForeignKeyRows(final List<Object[]> keys)
+    {
+        final List<Object[]> rows = new ArrayList<>(keys.size());
+        for (final Object[] key : keys)
+        {
+            final Object[] row = new Object[FOREIGN_KEY_LABELS.length];
+            System.arraycopy(key, 0, row, 0, key.length);
+            row[9] = toRule(key[9]);
+            row[10] = toRule(key[10]);
+            row[13] = DatabaseMetaData.importedKeyNotDeferrable;
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static int toRule(final Object rule)
+    {
+        final String name = rule == null ? "" : String.valueOf(rule).toUpperCase(Locale.ENGLISH);
+        switch (name)
+        {
+        case "CASCADE":
+            return DatabaseMetaData.importedKeyCascade;
+        case "RESTRICT":
+            return DatabaseMetaData.importedKeyRestrict;
+        case "SET NULL":
+            return DatabaseMetaData.importedKeySetNull;
+        case "SET DEFAULT":
+            return DatabaseMetaData.importedKeySetDefault;
+        default:
+            return DatabaseMetaData.importedKeyNoAction;
+        }
+    }
+
+    /**
+     * Returns the JDBC types by upper case type name, read once per JDBC URL.
+     */
+    private Map<String, Integer> getSqlTypes(final DatabaseMetaData metaData)
+            throws SQLException
+    {
+        final String url = metaData.getURL();
+        Map<String, Integer> sqlTypes = _sqlTypesByUrl.get(url);
+        if (sqlTypes == null)
+        {
+            sqlTypes = new HashMap<>();
+            try (ResultSet resultSet = metaData.getTypeInfo())
+            {
+                while (resultSet.next())
+                {
+                    sqlTypes.putIfAbsent(resultSet.getString(1).toUpperCase(Locale.ENGLISH),
+                            resultSet.getInt(2));
+                }
+            }
+            _sqlTypesByUrl.put(url, sqlTypes);
+        }
+        return sqlTypes;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The column labels and rows of one metadata lookup, copied from its result
+ * set with every value stored as a string. Instances are never modified once
+ * copied and may be shared between threads.
+ *
+ * @since 3.6.0
+ */
+class CachedMetadataResult implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The columns of the metadata result sets naming a table.
+     */
+    private static final String[] TABLE_NAME_LABELS =
+            {"TABLE_NAME", "PKTABLE_NAME", "FKTABLE_NAME"};
+
+    private final String[] _columnLabels;
+
+    private final ArrayList<Object[]> _rows;
+
+    private CachedMetadataResult(final String[] columnLabels, final ArrayList<Object[]> rows)
+    {
+        _columnLabels = columnLabels;
+        _rows = rows;
+    }
+
+    /**
+     * Copies and closes the given result set.
+     *
+     * @param resultSet The result set of the lookup.
+     * @return The copy.
+     * @throws SQLException if a database access error occurs.
+     */
+    static CachedMetadataResult copy(final ResultSet resultSet) throws SQLException
+    {
+        try
+        {
+            final ResultSetMetaData metaData = resultSet.getMetaData();
+            final int columnCount = metaData.getColumnCount();
+            final String[] columnLabels = new String[columnCount];
+            for (int i = 0; i < columnCount; i++)
+            {
+                columnLabels[i] = metaData.getColumnLabel(i + 1);
+            }
+            final ArrayList<Object[]> rows = new ArrayList<>();
+            while (resultSet.next())
+            {
+                final Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++)
+                {
+                    row[i] = resultSet.getString(i + 1);
+                }
+                rows.add(row);
+            }
+            return new CachedMetadataResult(columnLabels, rows);
+        }
+        finally
+        {
+            resultSet.close();
+        }
+    }
+
+    /**
+     * @return A new result set over the copied rows.
+     */
+    ResultSet toResultSet()
+    {
+        return InMemoryMetadataResultSet.create(_columnLabels, _rows);
+    }
+
+    /**
+     * Tells whether a row names the given table in one of its
+     * <code>TABLE_NAME</code>, <code>PKTABLE_NAME</code> or
+     * <code>FKTABLE_NAME</code> columns, ignoring case.
+     *
+     * @param tableName The table.
+     * @return <code>true</code> if a row names the table.
+     */
+    boolean mentionsTable(final String tableName)
+    {
+        final List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < _columnLabels.length; i++)
+        {
+            for (final String label : TABLE_NAME_LABELS)
+            {
+                if (label.equalsIgnoreCase(_columnLabels[i]))
+                {
+                    indexes.add(i);
+                }
+            }
+        }
+        for (final Object[] row : _rows)
+        {
+            for (final int index : indexes)
+            {
+                if (tableName.equalsIgnoreCase((String) row[index]))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Estimates the heap held by this copy, assuming 16 byte object headers,
+     * 8 byte references and 2 bytes per character.
+     *
+     * @return The estimated size in bytes.
+     */
+    long estimateSize()
+    {
+        long size = 16 + 2 * 8 + estimateArraySize(_columnLabels) + 24
+                + 16 + 8L * _rows.size();
+        for (final Object[] row : _rows)
+        {
+            size += estimateArraySize(row);
+        }
+        return size;
+    }
+
+    private static long estimateArraySize(final Object[] values)
+    {
+        long size = 16 + 8L * values.length;
+        for (final Object value : values)
+        {
+            if (value != null)
+            {
+                size += 40 + 2L * ((String) value).length();
+            }
+        }
+        return size;
+    }
+}
@@ -78,7 +78,10 @@ import org.slf4j.LoggerFactory;
  * re-fetching table metadata, a cached connection's {@code DatabaseDataSet}
  * does not notice schema changes (new/dropped/altered tables) made after it
  * was first cached. Do not share a provider across tests that alter DDL
- * mid-run.
+ * mid-run. To keep the metadata warm when the connection is replaced, or
+ * across several testers using the same database, configure a
+ * {@link SharedMetadataHandler} instead; its {@link MetadataRegistry} can be
+ * invalidated after DDL.
  *
  * @since 3.4.0
  */
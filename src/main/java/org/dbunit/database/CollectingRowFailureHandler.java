@@ -0,0 +1,96 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IRowFailureHandler} logging and collecting every rejected row, and
+ * then either skipping it or aborting. Safe for use by concurrent operations.
+ *
+ * @since 3.6.0
+ */
+public class CollectingRowFailureHandler implements IRowFailureHandler
+{
+    /** Logger for this class */
+    private static final Logger logger =
+            LoggerFactory.getLogger(CollectingRowFailureHandler.class);
+
+    private final boolean _skip;
+
+    private final List<RowFailure> _failures = new ArrayList<>();
+
+    /**
+     * Creates a handler skipping rejected rows.
+     */
+    public CollectingRowFailureHandler()
+    {
+        this(true);
+    }
+
+    /**
+     * @param skip <code>true</code> to skip rejected rows and continue,
+     *            <code>false</code> to abort on the first one.
+     */
+    public CollectingRowFailureHandler(final boolean skip)
+    {
+        _skip = skip;
+    }
+
+    @Override
+    public boolean handleRowFailure(final RowFailure failure)
+    {
+        logger.warn("handleRowFailure() - {} {}", _skip ? "skipping" : "aborting on",
+                failure);
+        synchronized (_failures)
+        {
+            _failures.add(failure);
+        }
+        return _skip;
+    }
+
+    /**
+     * @return The rows rejected so far, in the order they were reported.
+     */
+    public List<RowFailure> getFailures()
+    {
+        synchronized (_failures)
+        {
+            return Collections.unmodifiableList(new ArrayList<>(_failures));
+        }
+    }
+
+    /**
+     * Discards the rows collected so far.
+     */
+    public void clear()
+    {
+        synchronized (_failures)
+        {
+            _failures.clear();
+        }
+    }
+}
@@ -30,7 +30,9 @@ import java.util.Properties;
 import org.dbunit.DatabaseUnitException;
 import org.dbunit.database.rowcount.QueryPerTableRowCounter;
 import org.dbunit.database.rowcount.RowCounter;
+import org.dbunit.database.statement.ISequenceResetStatementBuilder;
 import org.dbunit.database.statement.IStatementFactory;
+import org.dbunit.database.statement.IUpsertStatementBuilder;
 import org.dbunit.database.statement.PreparedStatementFactory;
 import org.dbunit.dataset.datatype.DefaultDataTypeFactory;
 import org.dbunit.dataset.datatype.IDataTypeFactory;
@@ -97,6 +99,70 @@ public class DatabaseConfig
     /** Name of the property configuring the {@link RowCounter} implementation to use. */
     public static final String PROPERTY_ROW_COUNTER =
             "http://www.dbunit.org/properties/rowCounter";
+    /**
+     * Name of the property configuring the {@link IUpsertStatementBuilder} that
+     * {@link org.dbunit.operation.DatabaseOperation#REFRESH} uses to refresh each table with
+     * one batched vendor upsert statement instead of a row-by-row update-else-insert. Defaults
+     * to <code>null</code>, keeping the row-by-row behavior.
+     */
+    public static final String PROPERTY_UPSERT_STATEMENT_BUILDER =
+            "http://www.dbunit.org/properties/upsertStatementBuilder";
+    /**
+     * Name of the property holding the {@link OperationStatistics} that database operations
+     * report their counters to, such as the number of statements they prepared. Defaults to
+     * <code>null</code>, reporting nothing.
+     */
+    public static final String PROPERTY_OPERATION_STATISTICS =
+            "http://www.dbunit.org/properties/operationStatistics";
+    /**
+     * Name of the property configuring how many prepared statements each connection keeps open
+     * for reuse by later database operations, least recently used ones being closed first. See
+     * {@link org.dbunit.database.statement.PreparedStatementCache}. Defaults to <code>0</code>,
+     * closing every statement after use.
+     */
+    public static final String PROPERTY_PREPARED_STATEMENT_CACHE_SIZE =
+            "http://www.dbunit.org/properties/preparedStatementCacheSize";
+    /**
+     * Name of the property holding the {@link OperationDataCache} that
+     * INSERT, UPDATE, DELETE and REFRESH reuse their generated SQL from. Share one instance
+     * between the configs of repeatedly created connections to benefit across test setups.
+     * Defaults to <code>null</code>, building the SQL for every table and execution.
+     */
+    public static final String PROPERTY_OPERATION_DATA_CACHE =
+            "http://www.dbunit.org/properties/operationDataCache";
+    /**
+     * Name of the property holding the {@link IRowFailureHandler} that INSERT, UPDATE and DELETE
+     * report the rows the database rejects to, after isolating them from their failed batch, and
+     * that decides whether to skip them or abort. Defaults to <code>null</code>, failing the whole
+     * table on the first failed batch.
+     */
+    public static final String PROPERTY_ROW_FAILURE_HANDLER =
+            "http://www.dbunit.org/properties/rowFailureHandler";
+    /**
+     * Name of the property holding the number of rows after which INSERT, UPDATE, DELETE and
+     * REFRESH commit, counting across the tables of one execution. Only applies while
+     * {@link #FEATURE_SUSPEND_AUTO_COMMIT} has switched auto-commit off; a transaction of the
+     * caller is never committed in parts. Defaults to <code>0</code>, never committing.
+     */
+    public static final String PROPERTY_COMMIT_INTERVAL_ROWS =
+            "http://www.dbunit.org/properties/commitIntervalRows";
+    /**
+     * Name of the property holding the number of batches of {@link #PROPERTY_BATCH_SIZE} rows
+     * after which INSERT, UPDATE, DELETE and REFRESH commit, counting across the tables of one
+     * execution. Only applies while {@link #FEATURE_SUSPEND_AUTO_COMMIT} has switched
+     * auto-commit off; a transaction of the caller is never committed in parts. Defaults to
+     * <code>0</code>, never committing.
+     */
+    public static final String PROPERTY_COMMIT_INTERVAL_BATCHES =
+            "http://www.dbunit.org/properties/commitIntervalBatches";
+    /**
+     * Name of the property configuring the {@link ISequenceResetStatementBuilder} that
+     * {@link org.dbunit.operation.ResetSequencesOperation} uses to restart identity columns and
+     * sequences. Defaults to <code>null</code>, using the SQL standard
+     * {@link org.dbunit.database.statement.DefaultSequenceResetStatementBuilder}.
+     */
+    public static final String PROPERTY_SEQUENCE_RESET_STATEMENT_BUILDER =
+            "http://www.dbunit.org/properties/sequenceResetStatementBuilder";
 
     /** Name of the feature controlling whether table names are treated as case sensitive. */
     public static final String FEATURE_CASE_SENSITIVE_TABLE_NAMES =
@@ -134,6 +200,69 @@ public class DatabaseConfig
      */
     public static final String FEATURE_ROW_COUNT_CHECK =
             "http://www.dbunit.org/features/rowCountCheck";
+    /**
+     * Name of the feature controlling whether {@link org.dbunit.operation.DatabaseOperation#REFRESH}
+     * first looks up which dataset rows already exist with one query per batch of primary keys,
+     * then writes the existing rows as a batched update and the others as a batched insert,
+     * instead of probing every row with its own update. Ignored when
+     * {@link #PROPERTY_UPSERT_STATEMENT_BUILDER} is set.
+     */
+    public static final String FEATURE_BATCHED_REFRESH =
+            "http://www.dbunit.org/features/batchedRefresh";
+    /**
+     * Name of the feature controlling whether {@link org.dbunit.operation.DatabaseOperation#INSERT}
+     * groups the rows of a table by the set of columns they supply, preparing one statement per
+     * distinct column set instead of one each time that set changes from one row to the next.
+     * Rows are then inserted group by group, so rows referencing earlier rows of the same table
+     * may be inserted before them.
+     */
+    public static final String FEATURE_GROUP_INSERT_ROWS =
+            "http://www.dbunit.org/features/groupInsertRows";
+    /**
+     * Name of the feature controlling whether {@link org.dbunit.operation.DatabaseOperation#UPDATE}
+     * leaves the columns a row does not supply unchanged instead of setting them to
+     * <code>NULL</code>, and groups the rows of a table by the set of columns they update,
+     * preparing one statement per distinct column set and executing each as one batch.
+     */
+    public static final String FEATURE_GROUP_UPDATE_ROWS =
+            "http://www.dbunit.org/features/groupUpdateRows";
+    /**
+     * Name of the feature controlling whether {@link org.dbunit.operation.DatabaseOperation#INSERT}
+     * sends several rows per <code>insert ... values (...), (...)</code> statement instead of
+     * relying on JDBC batching, as far as the configured
+     * {@link org.dbunit.database.statement.IStatementFactory} supports it. See
+     * {@link org.dbunit.database.statement.PreparedStatementFactory#createPreparedInsertStatement}.
+     */
+    public static final String FEATURE_MULTI_ROW_INSERTS =
+            "http://www.dbunit.org/features/multiRowInserts";
+    /**
+     * Name of the feature controlling whether {@link org.dbunit.operation.DatabaseOperation#DELETE}
+     * deletes several rows per <code>delete ... where pk in (...)</code> statement instead of
+     * one statement execution per row, as far as the configured
+     * {@link org.dbunit.database.statement.IStatementFactory} supports it. See
+     * {@link org.dbunit.database.statement.PreparedStatementFactory#createPreparedDeleteStatement}.
+     */
+    public static final String FEATURE_MULTI_ROW_DELETES =
+            "http://www.dbunit.org/features/multiRowDeletes";
+    /**
+     * Name of the feature controlling whether INSERT, UPDATE, DELETE and REFRESH switch off the
+     * auto-commit mode of the connection for their execution, committing at the end, or rolling
+     * back what was not committed yet on failure, and then switching it back on. Without it,
+     * every batch commits on its own while the connection is in auto-commit mode.
+     */
+    public static final String FEATURE_SUSPEND_AUTO_COMMIT =
+            "http://www.dbunit.org/features/suspendAutoCommit";
+    /**
+     * Name of the feature controlling whether {@link DatabaseDataSet} looks up the columns and
+     * primary keys of all tables of a schema at once, with one
+     * {@link IMetadataHandler#getSchemaColumns} and one {@link IMetadataHandler#getSchemaPrimaryKeys}
+     * call, when it lists the schema's tables, instead of two lookups per table on first access.
+     * It also lets {@link DatabaseSequenceFilter} load the foreign keys of the schema at once,
+     * as a {@link org.dbunit.database.search.ForeignKeyGraph}, if the metadata handler
+     * {@link IMetadataHandler#supportsSchemaForeignKeys() supports} it.
+     */
+    public static final String FEATURE_PREFETCH_METADATA =
+            "http://www.dbunit.org/features/prefetchMetadata";
 
     /**
      * A list of all properties as {@link ConfigProperty} objects.
@@ -162,6 +291,21 @@ public class DatabaseConfig
         new ConfigProperty(PROPERTY_ROW_COUNT_CHECK_EXCLUDE_TABLES, String[].class, false),
         new ConfigProperty(PROPERTY_ROW_COUNTER, RowCounter.class, false),
         new ConfigProperty(FEATURE_ROW_COUNT_CHECK, Boolean.class, false),
+        new ConfigProperty(PROPERTY_UPSERT_STATEMENT_BUILDER, IUpsertStatementBuilder.class, true),
+        new ConfigProperty(FEATURE_BATCHED_REFRESH, Boolean.class, false),
+        new ConfigProperty(PROPERTY_OPERATION_STATISTICS, OperationStatistics.class, true),
+        new ConfigProperty(FEATURE_GROUP_INSERT_ROWS, Boolean.class, false),
+        new ConfigProperty(FEATURE_GROUP_UPDATE_ROWS, Boolean.class, false),
+        new ConfigProperty(FEATURE_MULTI_ROW_INSERTS, Boolean.class, false),
+        new ConfigProperty(FEATURE_MULTI_ROW_DELETES, Boolean.class, false),
+        new ConfigProperty(PROPERTY_PREPARED_STATEMENT_CACHE_SIZE, Integer.class, false),
+        new ConfigProperty(PROPERTY_OPERATION_DATA_CACHE, OperationDataCache.class, true),
+        new ConfigProperty(PROPERTY_ROW_FAILURE_HANDLER, IRowFailureHandler.class, true),
+        new ConfigProperty(PROPERTY_COMMIT_INTERVAL_ROWS, Integer.class, false),
+        new ConfigProperty(PROPERTY_COMMIT_INTERVAL_BATCHES, Integer.class, false),
+        new ConfigProperty(FEATURE_SUSPEND_AUTO_COMMIT, Boolean.class, false),
+        new ConfigProperty(PROPERTY_SEQUENCE_RESET_STATEMENT_BUILDER, ISequenceResetStatementBuilder.class, true),
+        new ConfigProperty(FEATURE_PREFETCH_METADATA, Boolean.class, false),
     };
 
     /**
@@ -177,7 +321,14 @@ public class DatabaseConfig
         FEATURE_ALLOW_EMPTY_FIELDS,
         FEATURE_SORT_ALL_COLUMNS_WHEN_NO_PRIMARY_KEY,
         FEATURE_SKIP_CYCLE_CHECK,
-        FEATURE_ROW_COUNT_CHECK
+        FEATURE_ROW_COUNT_CHECK,
+        FEATURE_BATCHED_REFRESH,
+        FEATURE_GROUP_INSERT_ROWS,
+        FEATURE_GROUP_UPDATE_ROWS,
+        FEATURE_MULTI_ROW_INSERTS,
+        FEATURE_MULTI_ROW_DELETES,
+        FEATURE_SUSPEND_AUTO_COMMIT,
+        FEATURE_PREFETCH_METADATA
     };
     
     private static final DefaultDataTypeFactory DEFAULT_DATA_TYPE_FACTORY =
@@ -190,6 +341,8 @@ public class DatabaseConfig
     private static final String[] DEFAULT_TABLE_TYPE = {"TABLE"};
     private static final Integer DEFAULT_BATCH_SIZE = 100;
     private static final Integer DEFAULT_FETCH_SIZE = 100;
+    private static final Integer DEFAULT_PREPARED_STATEMENT_CACHE_SIZE = 0;
+    private static final Integer DEFAULT_COMMIT_INTERVAL = 0;
     private static final String[] DEFAULT_ROW_COUNT_CHECK_EXCLUDE_TABLES = new String[0];
     private static final QueryPerTableRowCounter DEFAULT_ROW_COUNTER =
             new QueryPerTableRowCounter();
@@ -214,6 +367,13 @@ public class DatabaseConfig
         setFeature(FEATURE_SORT_ALL_COLUMNS_WHEN_NO_PRIMARY_KEY, false);
         setFeature(FEATURE_SKIP_CYCLE_CHECK, false);
         setFeature(FEATURE_ROW_COUNT_CHECK, false);
+        setFeature(FEATURE_BATCHED_REFRESH, false);
+        setFeature(FEATURE_GROUP_INSERT_ROWS, false);
+        setFeature(FEATURE_GROUP_UPDATE_ROWS, false);
+        setFeature(FEATURE_MULTI_ROW_INSERTS, false);
+        setFeature(FEATURE_MULTI_ROW_DELETES, false);
+        setFeature(FEATURE_SUSPEND_AUTO_COMMIT, false);
+        setFeature(FEATURE_PREFETCH_METADATA, false);
 
         setProperty(PROPERTY_STATEMENT_FACTORY, PREPARED_STATEMENT_FACTORY);
         setProperty(PROPERTY_RESULTSET_TABLE_FACTORY, RESULT_SET_TABLE_FACTORY);
@@ -222,6 +382,10 @@ public class DatabaseConfig
         setProperty(PROPERTY_TABLE_TYPE, DEFAULT_TABLE_TYPE);
         setProperty(PROPERTY_BATCH_SIZE, DEFAULT_BATCH_SIZE);
         setProperty(PROPERTY_FETCH_SIZE, DEFAULT_FETCH_SIZE);
+        setProperty(PROPERTY_PREPARED_STATEMENT_CACHE_SIZE,
+                DEFAULT_PREPARED_STATEMENT_CACHE_SIZE);
+        setProperty(PROPERTY_COMMIT_INTERVAL_ROWS, DEFAULT_COMMIT_INTERVAL);
+        setProperty(PROPERTY_COMMIT_INTERVAL_BATCHES, DEFAULT_COMMIT_INTERVAL);
         setProperty(PROPERTY_METADATA_HANDLER, new DefaultMetadataHandler());
         setProperty(
                 PROPERTY_ALLOW_VERIFYTABLEDEFINITION_EXPECTEDTABLE_COUNT_MISMATCH,
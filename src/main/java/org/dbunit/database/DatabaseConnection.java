@@ -141,6 +141,7 @@ public class DatabaseConnection extends AbstractDatabaseConnection
     public void close() throws SQLException
     {
         logger.debug("close() - start");
+        invalidatePreparedStatementCache();
         _connection.close();
     }
     
@@ -26,9 +26,15 @@ import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.dbunit.DatabaseUnitRuntimeException;
 import org.dbunit.dataset.AbstractDataSet;
 import org.dbunit.dataset.Column;
@@ -43,6 +49,7 @@ import org.dbunit.dataset.OrderedTableNameMap;
 import org.dbunit.dataset.datatype.BlobDataType;
 import org.dbunit.dataset.datatype.ClobDataType;
 import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.IDataTypeFactory;
 import org.dbunit.dataset.filter.ITableFilterSimple;
 import org.dbunit.util.QualifiedTableName;
 import org.dbunit.util.SQLHelper;
@@ -51,6 +58,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Provides access to a database instance as a {@link IDataSet}.
+ * <p>
+ * The columns and primary keys of a table are looked up on first access. With
+ * {@link DatabaseConfig#FEATURE_PREFETCH_METADATA} enabled, they are looked up for all tables of
+ * a schema at once when the schema's tables are listed. {@link #getMetadataLookupTime()} returns
+ * the time spent in either mode, for comparing them.
  * 
  * @author Manuel Laflamme
  * @author Last changed by: $Author$
@@ -71,6 +83,7 @@ public class DatabaseDataSet extends AbstractDataSet
 
     private final ITableFilterSimple _tableFilter;
     private final ITableFilterSimple _oracleRecycleBinTableFilter;
+    private final AtomicLong _metadataLookupNanos = new AtomicLong();
 
     /**
      * Creates a new database data set
@@ -256,6 +269,9 @@ public class DatabaseDataSet extends AbstractDataSet
                 logger.debug(SQLHelper.getDatabaseInfo(databaseMetaData));
             }
 
+            boolean prefetch = config.getFeature(DatabaseConfig.FEATURE_PREFETCH_METADATA);
+            Map<String, String> tableSchemas = new LinkedHashMap<String, String>();
+
             ResultSet resultSet = metadataHandler.getTables(databaseMetaData, schema, tableType);
 
             if(logger.isDebugEnabled())
@@ -293,12 +309,21 @@ public class DatabaseDataSet extends AbstractDataSet
 
                     // Put the table into the table map
                     _tableMap.add(tableName, null);
+                    if (prefetch)
+                    {
+                        tableSchemas.put(tableName, schemaName);
+                    }
                 }
             }
             finally
             {
                 resultSet.close();
             }
+
+            if (prefetch && !tableSchemas.isEmpty())
+            {
+                prefetchMetaData(databaseMetaData, metadataHandler, schema, tableSchemas);
+            }
         }
         catch (SQLException e)
         {
@@ -306,6 +331,160 @@ public class DatabaseDataSet extends AbstractDataSet
         }
     }
 
+    /**
+     * Creates the metadata of the given tables from one schema-wide column lookup and one
+     * schema-wide primary key lookup. The primary keys are left to be looked up per table if the
+     * driver rejects the schema-wide lookup.
+     * @param databaseMetaData the database metadata.
+     * @param metadataHandler the configured metadata handler.
+     * @param schema the schema whose tables were listed, <code>null</code> for all schemas.
+     * @param tableSchemas the schema of each listed table, by table map name.
+     * @throws SQLException if a database access error occurs.
+     * @throws DataSetException if the data type factory cannot be resolved.
+     */
+    private void prefetchMetaData(DatabaseMetaData databaseMetaData,
+            IMetadataHandler metadataHandler, String schema, Map<String, String> tableSchemas)
+    throws SQLException, DataSetException
+    {
+        logger.debug("prefetchMetaData(schema={}) - start", schema);
+
+        long start = System.nanoTime();
+        DatabaseConfig config = _connection.getConfig();
+        boolean datatypeWarning = config.getFeature(DatabaseConfig.FEATURE_DATATYPE_WARNING);
+
+        Map<String, DatabaseTableMetaData> metaDataMap = new HashMap<String, DatabaseTableMetaData>();
+        for (Map.Entry<String, String> entry : tableSchemas.entrySet())
+        {
+            if (_tableMap.get(entry.getKey()) == null)
+            {
+                DatabaseTableMetaData metaData = new DatabaseTableMetaData(entry.getKey(),
+                        _connection, false, super.isCaseSensitiveTableNames());
+                metaData.setLookupTimer(_metadataLookupNanos);
+                metaDataMap.put(entry.getKey(), metaData);
+            }
+        }
+        if (metaDataMap.isEmpty())
+        {
+            return;
+        }
+        IDataTypeFactory dataTypeFactory =
+                metaDataMap.values().iterator().next().getDataTypeFactory(_connection);
+
+        Map<String, List<Column>> columns = new HashMap<String, List<Column>>();
+        ResultSet resultSet = metadataHandler.getSchemaColumns(databaseMetaData, schema);
+        try
+        {
+            while (resultSet.next())
+            {
+                String tableName = getTableMapName(resultSet, tableSchemas, metadataHandler);
+                if (tableName != null && metaDataMap.containsKey(tableName))
+                {
+                    Column column = SQLHelper.createColumn(resultSet, dataTypeFactory,
+                            datatypeWarning);
+                    if (column != null)
+                    {
+                        columns.computeIfAbsent(tableName, k -> new ArrayList<Column>())
+                                .add(column);
+                    }
+                }
+            }
+        }
+        finally
+        {
+            resultSet.close();
+        }
+
+        Map<String, Map<Integer, String>> primaryKeys =
+                new HashMap<String, Map<Integer, String>>();
+        try
+        {
+            resultSet = metadataHandler.getSchemaPrimaryKeys(databaseMetaData, schema);
+            try
+            {
+                while (resultSet.next())
+                {
+                    String tableName = getTableMapName(resultSet, tableSchemas, metadataHandler);
+                    if (tableName != null)
+                    {
+                        primaryKeys.computeIfAbsent(tableName, k -> new TreeMap<Integer, String>())
+                                .put(resultSet.getInt(5), resultSet.getString(4));
+                    }
+                }
+            }
+            finally
+            {
+                resultSet.close();
+            }
+        }
+        catch (SQLException e)
+        {
+            logger.debug("Schema-wide primary key lookup not supported, looking up per table", e);
+            primaryKeys = null;
+        }
+
+        for (Map.Entry<String, DatabaseTableMetaData> entry : metaDataMap.entrySet())
+        {
+            String tableName = entry.getKey();
+            List<Column> tableColumns = columns.get(tableName);
+            // A table the schema-wide lookup did not return is looked up on its own, rather
+            // than taken as having no columns
+            if (tableColumns == null)
+            {
+                logger.debug("No prefetched columns for table '{}', looking it up on first access",
+                        tableName);
+                continue;
+            }
+            String[] primaryKeyNames = null;
+            if (primaryKeys != null)
+            {
+                Map<Integer, String> keys = primaryKeys.get(tableName);
+                primaryKeyNames = keys == null ? new String[0]
+                        : keys.values().toArray(new String[0]);
+            }
+            entry.getValue().setPrefetchedMetaData(tableColumns.toArray(new Column[0]),
+                    primaryKeyNames);
+            _tableMap.update(tableName, entry.getValue());
+        }
+
+        long nanos = System.nanoTime() - start;
+        _metadataLookupNanos.addAndGet(nanos);
+        logger.debug("Prefetched metadata of {} tables in {} ms", metaDataMap.size(),
+                TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * Returns the time spent looking up the columns and primary keys of this dataset's tables so
+     * far, whether prefetched or looked up per table, excluding listing the tables.
+     * @return The time in milliseconds
+     * @since 3.6.0
+     */
+    public long getMetadataLookupTime()
+    {
+        return TimeUnit.NANOSECONDS.toMillis(_metadataLookupNanos.get());
+    }
+
+    /**
+     * Returns the table map name of the table of the current row of a
+     * {@link DatabaseMetaData#getColumns} or {@link DatabaseMetaData#getPrimaryKeys} result set,
+     * or <code>null</code> if it is not one of the listed tables. The schema is read through
+     * {@link IMetadataHandler#getSchema(ResultSet)}, as when listing the tables, since MySQL
+     * reports it in the catalog column.
+     */
+    private String getTableMapName(ResultSet resultSet, Map<String, String> tableSchemas,
+            IMetadataHandler metadataHandler)
+    throws SQLException
+    {
+        String schemaName = metadataHandler.getSchema(resultSet);
+        String tableName = new QualifiedTableName(resultSet.getString(3), schemaName)
+                .getQualifiedNameIfEnabled(_connection.getConfig());
+        if (!tableSchemas.containsKey(tableName)
+                || !SQLHelper.areEqualIgnoreNull(tableSchemas.get(tableName), schemaName, true))
+        {
+            return null;
+        }
+        return tableName;
+    }
+
     /**
      * Resolves the given schema name to its database-reported casing when this dataset treats
      * table names case-insensitively. A database that folds unquoted identifiers to a canonical
@@ -419,7 +598,10 @@ public class DatabaseDataSet extends AbstractDataSet
         // check above, backed by initialize()'s getTables() enumeration - no
         // need for DatabaseTableMetaData to run its own redundant
         // tableExists() metadata round trip.
-        metaData = new DatabaseTableMetaData(storedTableName, _connection, false, super.isCaseSensitiveTableNames());
+        DatabaseTableMetaData databaseTableMetaData = new DatabaseTableMetaData(storedTableName,
+                _connection, false, super.isCaseSensitiveTableNames());
+        databaseTableMetaData.setLookupTimer(_metadataLookupNanos);
+        metaData = databaseTableMetaData;
         // Put the metadata object into the cache map
         _tableMap.update(tableName, metaData);
 
@@ -210,6 +210,7 @@ public class DatabaseDataSourceConnection extends AbstractDatabaseConnection
     public void close() throws SQLException
     {
         logger.debug("close() - start");
+        invalidatePreparedStatementCache();
 
         if (_connection != null)
         {
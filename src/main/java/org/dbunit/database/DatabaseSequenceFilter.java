@@ -33,6 +33,7 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 
 import org.dbunit.database.search.ExportedKeysSearchCallback;
+import org.dbunit.database.search.ForeignKeyGraph;
 import org.dbunit.database.search.ImportedKeysSearchCallback;
 import org.dbunit.dataset.DataSetException;
 import org.dbunit.dataset.filter.SequenceTableFilter;
@@ -123,6 +124,49 @@ public class DatabaseSequenceFilter extends SequenceTableFilter
         String[] tableNames)
         throws DataSetException, SQLException
             // not sure why this throws DataSetException ? - ENP
+    {
+        return sortTableNames(connection, tableNames, null);
+    }
+
+    /**
+     * Groups table names into dependency levels, in the order
+     * {@link #sortTableNames} sorts them. A table is placed one level after
+     * the last level holding a table it directly depends on, so every table
+     * only depends on tables of earlier levels and the tables of one level
+     * can be written concurrently. With {@link DatabaseConfig#FEATURE_SKIP_CYCLE_CHECK}
+     * enabled, the dependencies among the tables of one cycle are followed in
+     * their sorted order only, which still places each of them on its own
+     * level after the tables it depends on first.
+     *
+     * @param connection the database connection used to resolve table dependencies.
+     * @param tableNames the table names to group.
+     * @return The levels, each holding its table names in sorted order.
+     * @throws DataSetException if a table dependency cycle is detected and
+     * {@link DatabaseConfig#FEATURE_SKIP_CYCLE_CHECK} is not enabled.
+     * @throws SQLException If an exception is encountered in accessing the database.
+     * @since 3.6.0
+     */
+    public static String[][] getDependencyLevels(
+        IDatabaseConnection connection,
+        String[] tableNames)
+        throws DataSetException, SQLException
+    {
+        List<List<String>> levels = new ArrayList<List<String>>();
+        sortTableNames(connection, tableNames, levels);
+
+        String[][] result = new String[levels.size()][];
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] = levels.get(i).toArray(new String[0]);
+        }
+        return result;
+    }
+
+    private static String[] sortTableNames(
+        IDatabaseConnection connection,
+        String[] tableNames,
+        List<List<String>> levels)
+        throws DataSetException, SQLException
     {
         logger.debug("sortTableNames(connection={}, tableNames={}) - start", connection, tableNames);
 
@@ -133,12 +177,15 @@ public class DatabaseSequenceFilter extends SequenceTableFilter
         // searches) only ever triggers one getImportedKeys/getExportedKeys JDBC round trip.
         Map importedEdgesCache = new HashMap();
         Map exportedEdgesCache = new HashMap();
+        // With FEATURE_PREFETCH_METADATA, the edges come from the schema's foreign key graph,
+        // loaded with one lookup for all tables, rather than from a round trip per table.
+        ForeignKeyGraph foreignKeyGraph = ForeignKeyGraph.prefetch(connection);
         String[] normalizedNames;
         try {
             for (int i = 0; i < tableNames.length; i++) {
                 String tableName = tableNames[i];
                 DependencyInfo info = getDependencyInfo(connection, tableName,
-                        importedEdgesCache, exportedEdgesCache);
+                        importedEdgesCache, exportedEdgesCache, foreignKeyGraph);
                 dependencies.put(tableName, info);
             }
             // Dependency-set entries come back in the database's native identifier case (e.g.
@@ -177,7 +224,57 @@ public class DatabaseSequenceFilter extends SequenceTableFilter
             }
         }
 
-        return sort(tableNames, normalizedNames, dependencies);
+        String[] sortedTableNames = sort(tableNames, normalizedNames, dependencies);
+        if (levels != null)
+        {
+            groupIntoLevels(sortedTableNames, tableNames, normalizedNames, dependencies,
+                    levels);
+        }
+        return sortedTableNames;
+    }
+
+    /**
+     * Assigns each of the sorted tables the level after the highest level of
+     * the tables it directly depends on that precede it in sorted order.
+     * @param sortedTableNames The table names in sorted order.
+     * @param tableNames The table names in their original order.
+     * @param normalizedNames {@code tableNames} normalized to the database's stored identifier
+     * case, in the same order.
+     * @param dependencies Each table name's {@link DependencyInfo}, keyed by table name.
+     * @param levels Receives the levels, each holding its table names in sorted order.
+     */
+    private static void groupIntoLevels(String[] sortedTableNames, String[] tableNames,
+            String[] normalizedNames, Map dependencies, List<List<String>> levels)
+    {
+        Map<String, String> normalizedByName = new HashMap<String, String>();
+        for (int i = 0; i < tableNames.length; i++)
+        {
+            normalizedByName.put(tableNames[i], normalizedNames[i]);
+        }
+
+        // dependency edges use the normalized names
+        Map<String, Integer> levelByName = new HashMap<String, Integer>();
+        for (int i = 0; i < sortedTableNames.length; i++)
+        {
+            String tableName = sortedTableNames[i];
+            DependencyInfo info = (DependencyInfo) dependencies.get(tableName);
+            int level = 0;
+            for (Iterator it = info.getDirectDependsOnTablesSet().iterator(); it.hasNext();)
+            {
+                Integer dependencyLevel = levelByName.get(it.next());
+                if (dependencyLevel != null)
+                {
+                    level = Math.max(level, dependencyLevel + 1);
+                }
+            }
+            levelByName.put(normalizedByName.get(tableName), level);
+
+            if (level == levels.size())
+            {
+                levels.add(new ArrayList<String>());
+            }
+            levels.get(level).add(tableName);
+        }
     }
 
 
@@ -367,12 +464,13 @@ public class DatabaseSequenceFilter extends SequenceTableFilter
      * @param importedEdgesCache Per-{@code sortTableNames}-invocation cache of {@code ImportedKeysSearchCallback}
      * edges, shared across all tables being sorted; keyed by table name.
      * @param exportedEdgesCache Same as {@code importedEdgesCache}, for {@code ExportedKeysSearchCallback} edges.
+     * @param foreignKeyGraph The preloaded foreign keys of the schema, or {@code null} to look them up per table.
      * @return The dependency information for the given table.
      * @throws SearchException If the JDBC connection cannot be obtained.
      */
     private static DependencyInfo getDependencyInfo(
             IDatabaseConnection connection, String tableName,
-            Map importedEdgesCache, Map exportedEdgesCache)
+            Map importedEdgesCache, Map exportedEdgesCache, ForeignKeyGraph foreignKeyGraph)
     throws SearchException
     {
         logger.debug("getDependencyInfo(connection={}, tableName={}) - start", connection, tableName);
@@ -384,9 +482,9 @@ public class DatabaseSequenceFilter extends SequenceTableFilter
         // dependencies; the unlimited ones return the whole tree of dependent objects, not
         // only the direct FK-PK related tables.
         ISearchCallback importedCallback = new CachingSearchCallback(
-                new ImportedKeysSearchCallback(connection), importedEdgesCache);
+                new ImportedKeysSearchCallback(connection, foreignKeyGraph), importedEdgesCache);
         ISearchCallback exportedCallback = new CachingSearchCallback(
-                new ExportedKeysSearchCallback(connection), exportedEdgesCache);
+                new ExportedKeysSearchCallback(connection, foreignKeyGraph), exportedEdgesCache);
         String[] normalizedRoot = normalizeToStoredCase(connection, new String[] {tableName});
 
         Set allDependsOnTablesSet = new DepthFirstSearch().search(normalizedRoot, importedCallback);
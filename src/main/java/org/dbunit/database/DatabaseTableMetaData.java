@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.dbunit.dataset.AbstractTableMetaData;
 import org.dbunit.dataset.Column;
@@ -69,6 +70,8 @@ public class DatabaseTableMetaData extends AbstractTableMetaData
     private final IDatabaseConnection _connection;
     private Column[] _columns;
     private Column[] _primaryKeys;
+    private String[] _primaryKeyNames;
+    private AtomicLong _lookupNanos;
     private boolean _caseSensitiveMetaData;
 	//added by hzhan032
     private IColumnFilter lastKeyFilter;
@@ -208,10 +211,30 @@ public class DatabaseTableMetaData extends AbstractTableMetaData
     	return new ResultSetTableMetaData(tableName,resultSet,connection, false);
     }
 
+    /**
+     * Sets the columns and primary key names looked up for several tables at once, so they are
+     * not looked up again for this table.
+     * @param columns The columns of the table
+     * @param primaryKeyNames The primary key column names in key order, or <code>null</code> to
+     * look them up on first access
+     * @since 3.6.0
+     */
+    void setPrefetchedMetaData(Column[] columns, String[] primaryKeyNames)
+    {
+        _columns = columns;
+        _primaryKeyNames = primaryKeyNames;
+    }
+
     private String[] getPrimaryKeyNames() throws SQLException
     {
         logger.debug("getPrimaryKeyNames() - start");
 
+        if (_primaryKeyNames != null)
+        {
+            return _primaryKeyNames;
+        }
+        long start = System.nanoTime();
+
     	String schemaName = _qualifiedTableNameSupport.getSchema();
     	String tableName = _qualifiedTableNameSupport.getTable();
 
@@ -246,6 +269,8 @@ public class DatabaseTableMetaData extends AbstractTableMetaData
             keys[i] = data.getName();
         }
 
+        addLookupTime(System.nanoTime() - start);
+        _primaryKeyNames = keys;
         return keys;
     }
 
@@ -304,6 +329,7 @@ public class DatabaseTableMetaData extends AbstractTableMetaData
         {
             try
             {
+                long start = System.nanoTime();
                 // qualified names support
             	String schemaName = _qualifiedTableNameSupport.getSchema();
             	String tableName = _qualifiedTableNameSupport.getTable();
@@ -355,6 +381,7 @@ public class DatabaseTableMetaData extends AbstractTableMetaData
                 {
                     resultSet.close();
                 }
+                addLookupTime(System.nanoTime() - start);
             }
             catch (SQLException e)
             {
@@ -399,6 +426,24 @@ public class DatabaseTableMetaData extends AbstractTableMetaData
         return _primaryKeys;
     }
 
+    /**
+     * Sets the counter this table adds the time of its metadata lookups to.
+     * @param lookupNanos The counter in nanoseconds, or <code>null</code>
+     * @since 3.6.0
+     */
+    void setLookupTimer(AtomicLong lookupNanos)
+    {
+        _lookupNanos = lookupNanos;
+    }
+
+    private void addLookupTime(long nanos)
+    {
+        if (_lookupNanos != null)
+        {
+            _lookupNanos.addAndGet(nanos);
+        }
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Object class
     public String toString()
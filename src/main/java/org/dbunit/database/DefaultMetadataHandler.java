@@ -128,7 +128,17 @@ public class DefaultMetadataHandler implements IMetadataHandler {
         }
     }
 
-    private String escapePattern(DatabaseMetaData metaData, String identifier) throws SQLException
+    /**
+     * Escapes the search pattern characters of the given identifier with the driver's search
+     * string escape, so it matches only itself in a <code>LIKE</code> or metadata pattern.
+     *
+     * @param metaData The database metadata, supplying the escape.
+     * @param identifier The identifier to escape.
+     * @return The escaped identifier.
+     * @throws SQLException if a database access error occurs.
+     * @since 3.6.0
+     */
+    protected String escapePattern(DatabaseMetaData metaData, String identifier) throws SQLException
     {
         String escape = metaData.getSearchStringEscape();
         if (escape == null || escape.isEmpty())
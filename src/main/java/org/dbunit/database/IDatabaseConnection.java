@@ -22,6 +22,7 @@
 package org.dbunit.database;
 
 import org.dbunit.database.statement.IStatementFactory;
+import org.dbunit.database.statement.PreparedStatementCache;
 import org.dbunit.dataset.DataSetException;
 import org.dbunit.dataset.IDataSet;
 import org.dbunit.dataset.ITable;
@@ -144,6 +145,20 @@ public interface IDatabaseConnection
      */
     public DatabaseConfig getConfig();
 
+    /**
+     * Returns the cache the prepared statements of this connection are leased
+     * from, as configured by
+     * {@link DatabaseConfig#PROPERTY_PREPARED_STATEMENT_CACHE_SIZE}.
+     * {@link #close()} invalidates it.
+     *
+     * @return The cache, or <code>null</code> if statements are not cached.
+     * @since 3.6.0
+     */
+    default PreparedStatementCache getPreparedStatementCache()
+    {
+        return null;
+    }
+
     /**
      * Returns the statement factory configured on this connection.
      *
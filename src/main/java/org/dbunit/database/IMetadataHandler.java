@@ -131,6 +131,129 @@ public interface IMetadataHandler
     public ResultSet getPrimaryKeys(DatabaseMetaData databaseMetaData, String schemaName, String tableName)
     throws SQLException;
 
+    /**
+     * Returns the columns of all tables of the given schema, in the layout and order of
+     * {@link DatabaseMetaData#getColumns(String, String, String, String)}. Used by
+     * {@link DatabaseDataSet} when {@link DatabaseConfig#FEATURE_PREFETCH_METADATA} is enabled;
+     * override to answer it with a single catalog query where the driver's implementation is slow.
+     * @param databaseMetaData The database meta data
+     * @param schemaName The schema name; <code>null</code> returns all schemas
+     * @return The result set containing the columns of all tables of the schema
+     * @throws SQLException if a database access error occurs.
+     * @since 3.6.0
+     */
+    default ResultSet getSchemaColumns(DatabaseMetaData databaseMetaData, String schemaName)
+    throws SQLException
+    {
+        return databaseMetaData.getColumns(null, schemaName, "%", "%");
+    }
+
+    /**
+     * Returns the primary key columns of all tables of the given schema, in the layout of
+     * {@link DatabaseMetaData#getPrimaryKeys(String, String, String)}. Used by
+     * {@link DatabaseDataSet} when {@link DatabaseConfig#FEATURE_PREFETCH_METADATA} is enabled.
+     * The default implementation passes a <code>null</code> table name, which not every driver
+     * accepts; the primary keys are then looked up per table.
+     * @param databaseMetaData The database meta data
+     * @param schemaName The schema name; <code>null</code> returns all schemas
+     * @return The result set containing the primary key columns of all tables of the schema
+     * @throws SQLException if a database access error occurs.
+     * @since 3.6.0
+     */
+    default ResultSet getSchemaPrimaryKeys(DatabaseMetaData databaseMetaData, String schemaName)
+    throws SQLException
+    {
+        return databaseMetaData.getPrimaryKeys(null, schemaName, null);
+    }
+
+    /**
+     * Returns the foreign keys of the given table, in the layout of
+     * {@link DatabaseMetaData#getImportedKeys(String, String, String)}. Used by the foreign key
+     * search callbacks, such as those ordering tables in {@link DatabaseSequenceFilter}.
+     * @param databaseMetaData The database meta data
+     * @param schemaName The schema of the table
+     * @param tableName The table whose foreign keys are retrieved
+     * @return The result set containing the foreign key columns of the table
+     * @throws SQLException if a database access error occurs.
+     * @since 3.6.0
+     */
+    default ResultSet getImportedKeys(DatabaseMetaData databaseMetaData, String schemaName,
+            String tableName) throws SQLException
+    {
+        return databaseMetaData.getImportedKeys(null, schemaName, tableName);
+    }
+
+    /**
+     * Returns the foreign keys referencing the given table, in the layout of
+     * {@link DatabaseMetaData#getExportedKeys(String, String, String)}. Used by the foreign key
+     * search callbacks, such as those ordering tables in {@link DatabaseSequenceFilter}.
+     * @param databaseMetaData The database meta data
+     * @param schemaName The schema of the table
+     * @param tableName The table whose referencing foreign keys are retrieved
+     * @return The result set containing the foreign key columns referencing the table
+     * @throws SQLException if a database access error occurs.
+     * @since 3.6.0
+     */
+    default ResultSet getExportedKeys(DatabaseMetaData databaseMetaData, String schemaName,
+            String tableName) throws SQLException
+    {
+        return databaseMetaData.getExportedKeys(null, schemaName, tableName);
+    }
+
+    /**
+     * Returns the foreign keys of all tables of the given schema, in the layout of
+     * {@link DatabaseMetaData#getImportedKeys(String, String, String)}. Used to load the foreign
+     * key graph of {@link DatabaseSequenceFilter} when
+     * {@link DatabaseConfig#FEATURE_PREFETCH_METADATA} is enabled and
+     * {@link #supportsSchemaForeignKeys()} returns <code>true</code>. The default implementation
+     * passes a <code>null</code> table name to
+     * {@link #getImportedKeys(DatabaseMetaData, String, String)}, which JDBC leaves undefined.
+     * @param databaseMetaData The database meta data
+     * @param schemaName The schema name; <code>null</code> returns all schemas
+     * @return The result set containing the foreign key columns of all tables of the schema
+     * @throws SQLException if a database access error occurs.
+     * @since 3.6.0
+     */
+    default ResultSet getSchemaImportedKeys(DatabaseMetaData databaseMetaData, String schemaName)
+    throws SQLException
+    {
+        return getImportedKeys(databaseMetaData, schemaName, null);
+    }
+
+    /**
+     * Returns the foreign keys referencing any table of the given schema, in the layout of
+     * {@link DatabaseMetaData#getExportedKeys(String, String, String)}. The counterpart of
+     * {@link #getSchemaImportedKeys(DatabaseMetaData, String)}, including foreign keys of other
+     * schemas.
+     * @param databaseMetaData The database meta data
+     * @param schemaName The schema name; <code>null</code> returns all schemas
+     * @return The result set containing the foreign key columns referencing the schema's tables
+     * @throws SQLException if a database access error occurs.
+     * @since 3.6.0
+     */
+    default ResultSet getSchemaExportedKeys(DatabaseMetaData databaseMetaData, String schemaName)
+    throws SQLException
+    {
+        return getExportedKeys(databaseMetaData, schemaName, null);
+    }
+
+    /**
+     * Whether {@link #getSchemaImportedKeys(DatabaseMetaData, String)} and
+     * {@link #getSchemaExportedKeys(DatabaseMetaData, String)} return the foreign keys of all
+     * tables of a schema, so that a table without rows has no foreign keys.
+     * <p>
+     * Returns {@code false} by default, since drivers differ in what a <code>null</code> table
+     * name means: some reject it, others match no table at all, which would silently drop every
+     * dependency. The foreign keys are then looked up per table. Override to return
+     * {@code true} only alongside schema-wide lookups known to be complete.
+     * @return <code>true</code> if the schema-wide foreign key lookups are complete.
+     * @since 3.6.0
+     */
+    default boolean supportsSchemaForeignKeys()
+    {
+        return false;
+    }
+
     /**
      * Tests whether a candidate column's metadata values match the search criteria, using the
      * same semantics as {@link #matches(ResultSet, String, String, String, String, boolean)} but
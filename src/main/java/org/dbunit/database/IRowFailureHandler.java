@@ -0,0 +1,50 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+/**
+ * Decides what happens to a row the database rejected while batched
+ * operations isolate failures, as configured with
+ * {@link DatabaseConfig#PROPERTY_ROW_FAILURE_HANDLER}.
+ * <p>
+ * When a batch fails, {@link org.dbunit.operation.DatabaseOperation#INSERT},
+ * {@link org.dbunit.operation.DatabaseOperation#UPDATE} and
+ * {@link org.dbunit.operation.DatabaseOperation#DELETE} roll it back to a
+ * savepoint and re-execute it in parts, guided by the update counts of the
+ * driver or else by binary search, until each rejected row is pinpointed. The handler is called for each of them, in row order. The rows
+ * of the batch the database accepted are kept.
+ *
+ * @since 3.6.0
+ * @see CollectingRowFailureHandler
+ */
+public interface IRowFailureHandler
+{
+    /**
+     * Handles a rejected row.
+     *
+     * @param failure
+     *            The rejected row.
+     * @return <code>true</code> to skip the row and continue,
+     *         <code>false</code> to abort the operation with a
+     *         {@link RowFailureException} after rolling back the batch.
+     */
+    boolean handleRowFailure(RowFailure failure);
+}
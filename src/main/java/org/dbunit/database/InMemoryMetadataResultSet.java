@@ -41,7 +41,7 @@ import org.dbunit.util.SQLHelper;
  * ahead of time. It supports only the handful of {@link ResultSet}/{@link ResultSetMetaData}
  * methods dbunit itself calls against an {@link IMetadataHandler} result - {@code next()},
  * {@code getString(int/String)}, {@code getInt(int/String)}, {@code getMetaData()}/
- * {@code getColumnCount()}, {@code close()}, plus {@code equals()}/{@code hashCode()}/
+ * {@code getColumnCount()}/{@code getColumnLabel(int)}, {@code close()}, plus {@code equals()}/{@code hashCode()}/
  * {@code toString()} for safe use as a log argument or map key - since implementing the rest of
  * {@link ResultSet}'s ~150 methods would serve no caller. Any other method throws
  * {@link UnsupportedOperationException}.
@@ -155,8 +155,30 @@ public final class InMemoryMetadataResultSet implements InvocationHandler
             closeAll(sources);
         }
 
-        final InMemoryMetadataResultSet handler =
-                new InMemoryMetadataResultSet(rows, columnCount, columnIndexByLabel);
+        return newProxy(new InMemoryMetadataResultSet(rows, columnCount, columnIndexByLabel));
+    }
+
+    /**
+     * Returns a {@link ResultSet} over the given rows, positioned before the first row.
+     *
+     * @param columnLabels The column labels, in column order.
+     * @param rows The rows, each holding one value per column.
+     * @return The result set.
+     * @since 3.6.0
+     */
+    static ResultSet create(final String[] columnLabels, final List<Object[]> rows)
+    {
+        final Map<String, Integer> columnIndexByLabel = new HashMap<String, Integer>();
+        for (int i = 0; i < columnLabels.length; i++)
+        {
+            columnIndexByLabel.put(columnLabels[i].toUpperCase(Locale.ENGLISH), i + 1);
+        }
+        return newProxy(new InMemoryMetadataResultSet(rows, columnLabels.length,
+                columnIndexByLabel));
+    }
+
+    private static ResultSet newProxy(final InMemoryMetadataResultSet handler)
+    {
         return (ResultSet) Proxy.newProxyInstance(InMemoryMetadataResultSet.class.getClassLoader(),
                 new Class<?>[] {ResultSet.class, ResultSetMetaData.class}, handler);
     }
@@ -224,6 +246,10 @@ public final class InMemoryMetadataResultSet implements InvocationHandler
         {
             return columnCount;
         }
+        if ("getColumnLabel".equals(name) || "getColumnName".equals(name))
+        {
+            return columnLabel((Integer) args[0]);
+        }
         if ("close".equals(name))
         {
             return null;
@@ -253,6 +279,18 @@ public final class InMemoryMetadataResultSet implements InvocationHandler
         return rows.get(cursor)[columnIndex(columnArg) - 1];
     }
 
+    private String columnLabel(final int column)
+    {
+        for (final Map.Entry<String, Integer> entry : columnIndexByLabel.entrySet())
+        {
+            if (entry.getValue() == column)
+            {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalArgumentException("Unknown column " + column + ".");
+    }
+
     private int columnIndex(final Object columnArg)
     {
         if (columnArg instanceof Integer)
@@ -0,0 +1,387 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The metadata lookups of one JDBC URL, user, schema and metadata handler
+ * class, shared by every {@link SharedMetadataHandler} and therefore by every
+ * connection to that schema in the JVM. Users seeing different tables, and
+ * handlers reading the metadata differently, get registries of their own. A
+ * {@link DatabaseDataSet} of a new connection builds its table metadata from
+ * the registry instead of querying the database again.
+ * <p>
+ * The registry keeps immutable copies of the table, column, primary key and
+ * foreign key lookups. It does not notice DDL: a test that creates, alters or
+ * drops tables calls {@link #invalidate(String)} or {@link #invalidateAll()}
+ * afterwards. All methods are thread-safe.
+ * <p>
+ * Registries live as long as the JVM unless they are removed. Tests using a
+ * database of their own, such as an in-memory database with a unique URL, call
+ * {@link #remove()} when they drop it, or {@link #clear()} once they are done,
+ * so the lookups of databases no longer used do not accumulate. A removed
+ * registry is recreated empty on its next use.
+ *
+ * @since 3.6.0
+ */
+public final class MetadataRegistry
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger = LoggerFactory.getLogger(MetadataRegistry.class);
+
+    private static final Map<String, MetadataRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+    private final String _id;
+
+    private final String _url;
+
+    private final String _userName;
+
+    private final String _schema;
+
+    private final String _handlerClassName;
+
+    private final Map<LookupKey, CachedMetadataResult> _results = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented by every invalidation, so a lookup started before it does
+     * not store its outdated result.
+     */
+    private final AtomicLong _generation = new AtomicLong();
+
+    private final AtomicLong _hits = new AtomicLong();
+
+    private final AtomicLong _misses = new AtomicLong();
+
+    private final AtomicLong _invalidations = new AtomicLong();
+
+    private MetadataRegistry(final String id, final String url, final String userName,
+            final String schema, final String handlerClassName)
+    {
+        _id = id;
+        _url = url;
+        _userName = userName;
+        _schema = schema;
+        _handlerClassName = handlerClassName;
+    }
+
+    /**
+     * Returns the registry of the given JDBC URL, user, schema and metadata
+     * handler class, creating it on first use.
+     *
+     * @param url The JDBC URL, as returned by
+     *            {@link java.sql.DatabaseMetaData#getURL()}.
+     * @param userName The user, as returned by
+     *            {@link java.sql.DatabaseMetaData#getUserName()}.
+     * @param schema The schema, <code>null</code> if none was given.
+     * @param handlerClass The class of the handler doing the lookups.
+     * @return The registry.
+     */
+    public static MetadataRegistry forSchema(final String url, final String userName,
+            final String schema, final Class<? extends IMetadataHandler> handlerClass)
+    {
+        if (handlerClass == null)
+        {
+            throw new NullPointerException("The parameter 'handlerClass' must not be null");
+        }
+        final String handlerClassName = handlerClass.getName();
+        return REGISTRIES.computeIfAbsent(
+                url + "\n" + userName + "\n" + schema + "\n" + handlerClassName,
+                id -> new MetadataRegistry(id, url, userName, schema, handlerClassName));
+    }
+
+    /**
+     * Removes all registries, discarding their lookups.
+     */
+    public static void clear()
+    {
+        for (final MetadataRegistry registry : REGISTRIES.values())
+        {
+            registry.remove();
+        }
+    }
+
+    /**
+     * Returns the registry of the JDBC URL, user and schema of the given
+     * connection and of its configured
+     * {@link DatabaseConfig#PROPERTY_METADATA_HANDLER}, or of the handler it
+     * decorates if that is a {@link SharedMetadataHandler}.
+     *
+     * @param connection The connection.
+     * @return The registry.
+     * @throws SQLException if a database access error occurs.
+     */
+    public static MetadataRegistry forConnection(final IDatabaseConnection connection)
+            throws SQLException
+    {
+        IMetadataHandler handler = (IMetadataHandler) connection.getConfig()
+                .getProperty(DatabaseConfig.PROPERTY_METADATA_HANDLER);
+        if (handler instanceof SharedMetadataHandler)
+        {
+            handler = ((SharedMetadataHandler) handler).getDelegate();
+        }
+        final DatabaseMetaData databaseMetaData = connection.getConnection().getMetaData();
+        return forSchema(databaseMetaData.getURL(), databaseMetaData.getUserName(),
+                connection.getSchema(), handler.getClass());
+    }
+
+    /**
+     * @return The JDBC URL of this registry.
+     */
+    public String getUrl()
+    {
+        return _url;
+    }
+
+    /**
+     * @return The user of this registry.
+     */
+    public String getUserName()
+    {
+        return _userName;
+    }
+
+    /**
+     * @return The schema of this registry, <code>null</code> if none was given.
+     */
+    public String getSchema()
+    {
+        return _schema;
+    }
+
+    /**
+     * Discards the lookups of the given table, the schema-wide lookups and
+     * every foreign key lookup naming the table, ignoring case. Call it after
+     * DDL changing the table.
+     *
+     * @param tableName The table.
+     */
+    public void invalidate(final String tableName)
+    {
+        if (tableName == null)
+        {
+            throw new NullPointerException("The parameter 'tableName' must not be null");
+        }
+        synchronized (_generation)
+        {
+            _generation.incrementAndGet();
+            final Iterator<Map.Entry<LookupKey, CachedMetadataResult>> entries =
+                    _results.entrySet().iterator();
+            while (entries.hasNext())
+            {
+                final Map.Entry<LookupKey, CachedMetadataResult> entry = entries.next();
+                final String entryTable = entry.getKey()._tableName;
+                if (entryTable == null || entryTable.equalsIgnoreCase(tableName)
+                        || entry.getValue().mentionsTable(tableName))
+                {
+                    entries.remove();
+                }
+            }
+        }
+        _invalidations.incrementAndGet();
+        logger.debug("Invalidated table '{}' of {}", tableName, this);
+    }
+
+    /**
+     * Discards all lookups. Call it after DDL changing several tables.
+     */
+    public void invalidateAll()
+    {
+        synchronized (_generation)
+        {
+            _generation.incrementAndGet();
+            _results.clear();
+        }
+        _invalidations.incrementAndGet();
+        logger.debug("Invalidated {}", this);
+    }
+
+    /**
+     * Removes this registry, discarding its lookups. Handlers and
+     * {@link #forSchema} create a new, empty registry for the same key on its
+     * next use.
+     */
+    public void remove()
+    {
+        REGISTRIES.remove(_id, this);
+        invalidateAll();
+        logger.debug("Removed {}", this);
+    }
+
+    /**
+     * @return The number of lookups answered by this registry.
+     */
+    public long getHitCount()
+    {
+        return _hits.get();
+    }
+
+    /**
+     * @return The number of lookups passed to the database.
+     */
+    public long getMissCount()
+    {
+        return _misses.get();
+    }
+
+    /**
+     * @return The share of lookups answered by this registry, between 0 and
+     *         1, or 0 before the first lookup.
+     */
+    public double getHitRate()
+    {
+        final long hits = _hits.get();
+        final long total = hits + _misses.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * @return The number of calls to {@link #invalidate(String)} and
+     *         {@link #invalidateAll()}.
+     */
+    public long getInvalidationCount()
+    {
+        return _invalidations.get();
+    }
+
+    /**
+     * @return The number of lookups held.
+     */
+    public int getEntryCount()
+    {
+        return _results.size();
+    }
+
+    /**
+     * @return An estimate of the heap held by the lookups, in bytes.
+     */
+    public long getEstimatedSize()
+    {
+        long size = 0;
+        for (final CachedMetadataResult result : _results.values())
+        {
+            size += result.estimateSize();
+        }
+        return size;
+    }
+
+    /**
+     * A lookup of the decorated handler.
+     */
+    @FunctionalInterface
+    interface Lookup
+    {
+        ResultSet get() throws SQLException;
+    }
+
+    /**
+     * Answers a lookup from this registry, or does it and keeps its result.
+     *
+     * @param method The lookup method, including any arguments other than the
+     *            table.
+     * @param tableName The table of the lookup, <code>null</code> for a
+     *            schema-wide lookup.
+     * @param lookup Does the lookup.
+     * @return The result set of the lookup.
+     * @throws SQLException if a database access error occurs.
+     */
+    ResultSet lookup(final String method, final String tableName, final Lookup lookup)
+            throws SQLException
+    {
+        final LookupKey key = new LookupKey(method, tableName);
+        CachedMetadataResult result = _results.get(key);
+        if (result != null)
+        {
+            _hits.incrementAndGet();
+            return result.toResultSet();
+        }
+
+        _misses.incrementAndGet();
+        final long generation = _generation.get();
+        result = CachedMetadataResult.copy(lookup.get());
+        synchronized (_generation)
+        {
+            if (_generation.get() == generation)
+            {
+                _results.putIfAbsent(key, result);
+            }
+        }
+        return result.toResultSet();
+    }
+
+    @Override
+    public String toString()
+    {
+        return "MetadataRegistry[url=" + _url + ", user=" + _userName + ", schema=" + _schema
+                + ", handler=" + _handlerClassName + ", entries="
+                + _results.size() + ", hits=" + _hits + ", misses=" + _misses + "]";
+    }
+
+    /**
+     * A lookup method and its table.
+     */
+    private static final class LookupKey
+    {
+        private final String _method;
+
+        private final String _tableName;
+
+        LookupKey(final String method, final String tableName)
+        {
+            _method = method;
+            _tableName = tableName;
+        }
+
+        @Override
+        public boolean equals(final Object obj)
+        {
+            if (this == obj)
+            {
+                return true;
+            }
+            if (!(obj instanceof LookupKey))
+            {
+                return false;
+            }
+            final LookupKey other = (LookupKey) obj;
+            return _method.equals(other._method) && Objects.equals(_tableName, other._tableName);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(_method, _tableName);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.ITableMetaData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded cache of the operation data, the SQL text and bound {@link Column}
+ * arrays, the database operations generate per table, so that repeated
+ * operations on the same tables reuse them instead of building and escaping
+ * them again.
+ * <p>
+ * Entries are keyed by operation type, schema and table name, the columns and
+ * primary keys of the table metadata, the ignored column mapping and the
+ * configured {@link DatabaseConfig#PROPERTY_ESCAPE_PATTERN escape pattern}, so
+ * a single instance can be shared by the configs of several connections. The
+ * least recently used entries are dropped beyond {@link #getMaxSize()}. Safe
+ * for use by concurrent operations.
+ * <p>
+ * Register an instance with {@link DatabaseConfig#PROPERTY_OPERATION_DATA_CACHE}.
+ * A changed table definition yields different metadata and thereby a new
+ * entry; entries of the previous definition are dropped as they age.
+ *
+ * @since 3.6.0
+ */
+public class OperationDataCache
+{
+    /** Logger for this class */
+    private static final Logger logger =
+            LoggerFactory.getLogger(OperationDataCache.class);
+
+    /**
+     * The maximum number of entries used by the default constructor.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final int _maxSize;
+    private final Map<Key, Object> _entries;
+    private long _hitCount;
+    private long _missCount;
+
+    /**
+     * Creates a cache holding up to {@value #DEFAULT_MAX_SIZE} entries.
+     */
+    public OperationDataCache()
+    {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * @param maxSize
+     *            The maximum number of entries kept. Must be positive.
+     */
+    public OperationDataCache(final int maxSize)
+    {
+        if (maxSize < 1)
+        {
+            throw new IllegalArgumentException(
+                    "maxSize must be positive but was " + maxSize);
+        }
+        _maxSize = maxSize;
+        _entries = new LinkedHashMap<Key, Object>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<Key, Object> eldest)
+            {
+                return size() > _maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached operation data for the given key components, building
+     * and caching it on a miss. Concurrent misses for the same key may build
+     * the data more than once, but all of them return the instance cached
+     * first. Called by the database operations.
+     *
+     * @param <T>
+     *            The type of the operation data, the same for every call with
+     *            the same operation type.
+     * @param operationType
+     *            Identifies the kind of statement built, usually the class of
+     *            the operation.
+     * @param discriminator
+     *            Further operation specific state the statement depends on,
+     *            or <code>null</code>.
+     * @param metaData
+     *            The metadata of the table.
+     * @param ignoreMapping
+     *            The columns left out of the statement, or <code>null</code>.
+     * @param connection
+     *            The connection, for its schema and escape pattern.
+     * @param builder
+     *            Builds the operation data on a miss.
+     * @return The operation data.
+     * @throws DataSetException
+     *             if building the operation data fails.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOperationData(final Object operationType,
+            final Object discriminator, final ITableMetaData metaData,
+            final BitSet ignoreMapping, final IDatabaseConnection connection,
+            final Builder<T> builder) throws DataSetException
+    {
+        final Key key = new Key(operationType, discriminator,
+                connection.getSchema(), metaData, ignoreMapping,
+                (String) connection.getConfig()
+                        .getProperty(DatabaseConfig.PROPERTY_ESCAPE_PATTERN));
+        synchronized (this)
+        {
+            final Object cached = _entries.get(key);
+            if (cached != null)
+            {
+                _hitCount++;
+                return (T) cached;
+            }
+            _missCount++;
+        }
+
+        logger.debug("getOperationData() - building operation data for {}",
+                key);
+        final T operationData = builder.build();
+        synchronized (this)
+        {
+            final Object cached = _entries.putIfAbsent(key, operationData);
+            return cached == null ? operationData : (T) cached;
+        }
+    }
+
+    /**
+     * Drops all entries.
+     */
+    public synchronized void clear()
+    {
+        _entries.clear();
+    }
+
+    /**
+     * @return The maximum number of entries kept.
+     */
+    public int getMaxSize()
+    {
+        return _maxSize;
+    }
+
+    /**
+     * @return The number of entries currently cached.
+     */
+    public synchronized int getSize()
+    {
+        return _entries.size();
+    }
+
+    /**
+     * @return The number of lookups served from the cache.
+     */
+    public synchronized long getHitCount()
+    {
+        return _hitCount;
+    }
+
+    /**
+     * @return The number of lookups that built new operation data.
+     */
+    public synchronized long getMissCount()
+    {
+        return _missCount;
+    }
+
+    @Override
+    public synchronized String toString()
+    {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getName()).append("[");
+        sb.append("maxSize=").append(_maxSize);
+        sb.append(", size=").append(_entries.size());
+        sb.append(", hitCount=").append(_hitCount);
+        sb.append(", missCount=").append(_missCount);
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Builds the operation data on a cache miss.
+     *
+     * @param <T> The type of the operation data.
+     */
+    @FunctionalInterface
+    public interface Builder<T>
+    {
+        /**
+         * @return The operation data.
+         * @throws DataSetException if building the operation data fails.
+         */
+        T build() throws DataSetException;
+    }
+
+    private static final class Key
+    {
+        private final Object _operationType;
+        private final Object _discriminator;
+        private final String _schema;
+        private final String _tableName;
+        private final Column[] _columns;
+        private final Column[] _primaryKeys;
+        private final BitSet _ignoreMapping;
+        private final String _escapePattern;
+        private final int _hashCode;
+
+        Key(final Object operationType, final Object discriminator,
+                final String schema, final ITableMetaData metaData,
+                final BitSet ignoreMapping, final String escapePattern)
+                throws DataSetException
+        {
+            _operationType = operationType;
+            _discriminator = discriminator;
+            _schema = schema;
+            _tableName = metaData.getTableName();
+            _columns = metaData.getColumns();
+            _primaryKeys = metaData.getPrimaryKeys();
+            _ignoreMapping = ignoreMapping == null ? null
+                    : (BitSet) ignoreMapping.clone();
+            _escapePattern = escapePattern;
+            _hashCode = Objects.hash(_operationType, _discriminator, _schema,
+                    _tableName, Arrays.hashCode(_columns),
+                    Arrays.hashCode(_primaryKeys), _ignoreMapping,
+                    _escapePattern);
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Key))
+            {
+                return false;
+            }
+            final Key other = (Key) o;
+            return _hashCode == other._hashCode
+                    && _operationType.equals(other._operationType)
+                    && Objects.equals(_discriminator, other._discriminator)
+                    && Objects.equals(_schema, other._schema)
+                    && _tableName.equals(other._tableName)
+                    && Objects.equals(_ignoreMapping, other._ignoreMapping)
+                    && Objects.equals(_escapePattern, other._escapePattern)
+                    && Arrays.equals(_columns, other._columns)
+                    && Arrays.equals(_primaryKeys, other._primaryKeys);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return _hashCode;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "operation=" + _operationType + ", table=" + _tableName
+                    + ", ignoreMapping=" + _ignoreMapping;
+        }
+    }
+}
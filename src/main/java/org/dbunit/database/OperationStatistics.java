@@ -0,0 +1,315 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.database;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects counters reported by database operations, keyed by table name.
+ * Register an instance with
+ * {@link DatabaseConfig#PROPERTY_OPERATION_STATISTICS} to have the operations
+ * run through that connection report into it, then read it back once they
+ * completed. Safe for use by concurrent operations.
+ *
+ * @since 3.6.0
+ */
+public class OperationStatistics
+{
+    private final ConcurrentMap<String, TableStatistics> _tables =
+            new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, StageStatistics> _stages =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Records that a statement was prepared for the given table.
+     *
+     * @param tableName
+     *            The name of the table the statement writes to.
+     */
+    public void addPreparedStatement(final String tableName)
+    {
+        getTableStatistics(tableName)._preparedStatements.incrementAndGet();
+    }
+
+    /**
+     * @return The number of statements prepared for all tables.
+     */
+    public long getPreparedStatementCount()
+    {
+        long count = 0;
+        for (final TableStatistics table : _tables.values())
+        {
+            count += table._preparedStatements.get();
+        }
+        return count;
+    }
+
+    /**
+     * @param tableName
+     *            The table name, as reported by the operation.
+     * @return The number of statements prepared for the table, <code>0</code>
+     *         if none was reported.
+     */
+    public long getPreparedStatementCount(final String tableName)
+    {
+        final TableStatistics table = _tables.get(tableName);
+        return table == null ? 0 : table._preparedStatements.get();
+    }
+
+    /**
+     * Records time spent writing the given table.
+     *
+     * @param tableName
+     *            The name of the table.
+     * @param millis
+     *            The elapsed time in milliseconds.
+     */
+    public void addElapsedTime(final String tableName, final long millis)
+    {
+        getTableStatistics(tableName)._elapsedMillis.addAndGet(millis);
+    }
+
+    /**
+     * @param tableName
+     *            The table name, as reported by the operation.
+     * @return The time in milliseconds spent writing the table,
+     *         <code>0</code> if none was reported.
+     */
+    public long getElapsedTime(final String tableName)
+    {
+        final TableStatistics table = _tables.get(tableName);
+        return table == null ? 0 : table._elapsedMillis.get();
+    }
+
+    /**
+     * Records rows written to the given table.
+     *
+     * @param tableName
+     *            The name of the table.
+     * @param rows
+     *            The number of rows.
+     */
+    public void addRowCount(final String tableName, final long rows)
+    {
+        getTableStatistics(tableName)._rows.addAndGet(rows);
+    }
+
+    /**
+     * @param tableName
+     *            The table name, as reported by the operation.
+     * @return The number of rows written to the table, <code>0</code> if
+     *         none was reported.
+     */
+    public long getRowCount(final String tableName)
+    {
+        final TableStatistics table = _tables.get(tableName);
+        return table == null ? 0 : table._rows.get();
+    }
+
+    /**
+     * @param tableName
+     *            The table name, as reported by the operation.
+     * @return The rows per second of the time spent writing the table,
+     *         <code>0</code> if no time was reported. Time is reported by
+     *         {@link org.dbunit.operation.ParallelOperation}.
+     */
+    public double getThroughput(final String tableName)
+    {
+        final TableStatistics table = _tables.get(tableName);
+        return table == null ? 0 : table.getThroughput();
+    }
+
+    /**
+     * @return The names of the tables reported so far, sorted.
+     */
+    public Set<String> getTableNames()
+    {
+        return Collections.unmodifiableSet(new TreeSet<>(_tables.keySet()));
+    }
+
+    /**
+     * Records rows processed by a stage of a pipelined operation, such as
+     * reading, converting or writing, and the time the stage was busy with
+     * them, excluding time spent waiting for other stages.
+     *
+     * @param stage
+     *            The name of the stage.
+     * @param rows
+     *            The number of rows processed.
+     * @param nanos
+     *            The busy time in nanoseconds.
+     */
+    public void addStageTime(final String stage, final long rows,
+            final long nanos)
+    {
+        final StageStatistics statistics =
+                _stages.computeIfAbsent(stage, k -> new StageStatistics());
+        statistics._rows.addAndGet(rows);
+        statistics._nanos.addAndGet(nanos);
+    }
+
+    /**
+     * @param stage
+     *            The name of the stage.
+     * @return The number of rows the stage processed, <code>0</code> if none
+     *         was reported.
+     */
+    public long getStageRowCount(final String stage)
+    {
+        final StageStatistics statistics = _stages.get(stage);
+        return statistics == null ? 0 : statistics._rows.get();
+    }
+
+    /**
+     * @param stage
+     *            The name of the stage.
+     * @return The time in milliseconds the stage was busy, <code>0</code> if
+     *         none was reported.
+     */
+    public long getStageTime(final String stage)
+    {
+        final StageStatistics statistics = _stages.get(stage);
+        return statistics == null ? 0
+                : TimeUnit.NANOSECONDS.toMillis(statistics._nanos.get());
+    }
+
+    /**
+     * @param stage
+     *            The name of the stage.
+     * @return The rows per second of busy time the stage processed,
+     *         <code>0</code> if none was reported. The stage with the lowest
+     *         throughput is the bottleneck of the pipeline.
+     */
+    public double getStageThroughput(final String stage)
+    {
+        final StageStatistics statistics = _stages.get(stage);
+        return statistics == null ? 0 : statistics.getThroughput();
+    }
+
+    /**
+     * @return The names of the stages reported so far, sorted.
+     */
+    public Set<String> getStageNames()
+    {
+        return Collections.unmodifiableSet(new TreeSet<>(_stages.keySet()));
+    }
+
+    /**
+     * Discards everything recorded so far.
+     */
+    public void clear()
+    {
+        _tables.clear();
+        _stages.clear();
+    }
+
+    private TableStatistics getTableStatistics(final String tableName)
+    {
+        return _tables.computeIfAbsent(tableName, k -> new TableStatistics());
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getName()).append("[");
+        String separator = "";
+        for (final Map.Entry<String, TableStatistics> entry : new TreeMap<>(_tables)
+                .entrySet())
+        {
+            sb.append(separator).append(entry.getKey()).append("=")
+                    .append(entry.getValue());
+            separator = ", ";
+        }
+        for (final Map.Entry<String, StageStatistics> entry : new TreeMap<>(_stages)
+                .entrySet())
+        {
+            sb.append(separator).append("stage ").append(entry.getKey())
+                    .append("=").append(entry.getValue());
+            separator = ", ";
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * Counters of one table.
+     */
+    private static class TableStatistics
+    {
+        private final AtomicLong _preparedStatements = new AtomicLong();
+
+        private final AtomicLong _elapsedMillis = new AtomicLong();
+
+        private final AtomicLong _rows = new AtomicLong();
+
+        double getThroughput()
+        {
+            final long millis = _elapsedMillis.get();
+            return millis == 0 ? 0
+                    : _rows.get() * (double) TimeUnit.SECONDS.toMillis(1) / millis;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "[preparedStatements=" + _preparedStatements.get()
+                    + ", rows=" + _rows.get()
+                    + ", elapsedMillis=" + _elapsedMillis.get()
+                    + ", rowsPerSecond=" + Math.round(getThroughput()) + "]";
+        }
+    }
+
+    /**
+     * Counters of one pipeline stage.
+     */
+    private static class StageStatistics
+    {
+        private final AtomicLong _rows = new AtomicLong();
+
+        private final AtomicLong _nanos = new AtomicLong();
+
+        double getThroughput()
+        {
+            final long nanos = _nanos.get();
+            return nanos == 0 ? 0
+                    : _rows.get() * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "[rows=" + _rows.get() + ", busyMillis="
+                    + TimeUnit.NANOSECONDS.toMillis(_nanos.get())
+                    + ", rowsPerSecond=" + Math.round(getThroughput()) + "]";
+        }
+    }
+}
@@ -0,0 +1,721 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decorates an {@link IMetadataHandler} and keeps the results of its table, column, primary key
+ * and foreign key lookups in a local file per JDBC URL, user and schema, so a later JVM answers
+ * them without any metadata round trip. Configure it as
+ * {@link DatabaseConfig#PROPERTY_METADATA_HANDLER}; {@link DatabaseDataSet},
+ * {@link DatabaseTableMetaData} and the foreign key search callbacks of
+ * {@link DatabaseSequenceFilter} then all read through it.
+ * <p>
+ * Each file records a {@link Fingerprint} of the schema, computed once per handler, JDBC URL and
+ * schema when the file is first read. A file whose fingerprint differs from the current one is
+ * stale: its lookups are discarded and done again. Choose a fingerprint that changes with every
+ * DDL, such as the last DDL time of the schema's objects, a checksum over the catalog, or a
+ * version maintained by the migrations.
+ * <p>
+ * Lookups made since the file was read are written back by {@link #flush()} and {@link #close()},
+ * and otherwise when the JVM shuts down. The file is replaced atomically where the file system
+ * supports it, so concurrent JVMs sharing the directory read either the previous or the new file.
+ * Cache files not read or written for {@link #DEFAULT_MAX_UNUSED_DAYS} days, or the number of
+ * days given, are deleted when the handler first reads the directory.
+ * <p>
+ * A cache file is only read back into strings, lists, maps and the cached results; any other
+ * class in it makes the file unreadable and it is ignored.
+ * <p>
+ * The cached result sets support the methods of {@link InMemoryMetadataResultSet}; their values
+ * are stored as strings.
+ *
+ * @since 3.6.0
+ */
+public class PersistentMetadataHandler implements IMetadataHandler, Closeable
+{
+    /**
+     * Computes a value that changes whenever the schema's metadata changes.
+     *
+     * @since 3.6.0
+     */
+    @FunctionalInterface
+    public interface Fingerprint
+    {
+        /**
+         * Computes the current fingerprint of the schema.
+         *
+         * @param connection The connection to the database.
+         * @param schemaName The schema, <code>null</code> if none was given.
+         * @return The fingerprint, <code>null</code> being a valid value.
+         * @throws SQLException if a database access error occurs.
+         */
+        String getFingerprint(Connection connection, String schemaName) throws SQLException;
+
+        /**
+         * Returns a fingerprint that is always the given version, for a schema version supplied
+         * by the user or the migration tool.
+         *
+         * @param version The schema version.
+         * @return The fingerprint.
+         */
+        static Fingerprint version(final String version)
+        {
+            return (connection, schemaName) -> version;
+        }
+
+        /**
+         * Returns a fingerprint that is the first column of the first row of the given query, for
+         * example <code>select max(last_ddl_time) from all_objects where owner = ?</code> on
+         * Oracle. A <code>?</code> in the query is bound to the schema name.
+         *
+         * @param sql The query.
+         * @return The fingerprint.
+         */
+        static Fingerprint query(final String sql)
+        {
+            return (connection, schemaName) -> {
+                try (PreparedStatement statement = connection.prepareStatement(sql))
+                {
+                    if (sql.indexOf('?') >= 0)
+                    {
+                        statement.setString(1, schemaName);
+                    }
+                    try (ResultSet resultSet = statement.executeQuery())
+                    {
+                        return resultSet.next() ? resultSet.getString(1) : null;
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(PersistentMetadataHandler.class);
+
+    private static final String FILE_PREFIX = "dbunit-metadata-";
+
+    private static final String FILE_SUFFIX = ".ser";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * The number of days after which an unused cache file is deleted, unless given otherwise.
+     */
+    public static final int DEFAULT_MAX_UNUSED_DAYS = 30;
+
+    /**
+     * The classes a cache file may contain.
+     */
+    private static final Set<String> CACHE_FILE_CLASSES = new HashSet<>(Arrays.asList(
+            String.class.getName(), String[].class.getName(), Object[].class.getName(),
+            Integer.class.getName(), Number.class.getName(), HashMap.class.getName(),
+            ArrayList.class.getName(), CachedMetadataResult.class.getName()));
+
+    private static final String[] EXISTS_LABELS = {"EXISTS"};
+
+    private final IMetadataHandler _delegate;
+
+    private final File _directory;
+
+    private final Fingerprint _fingerprint;
+
+    private final long _maxUnusedMillis;
+
+    private final Map<String, SchemaCache> _caches = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean _pruned = new AtomicBoolean();
+
+    /**
+     * Flushes the caches when the JVM shuts down. It references the caches only, so the handler
+     * itself is not kept alive by the JVM.
+     */
+    private final Thread _shutdownHook;
+
+    private final AtomicBoolean _shutdownHookAdded = new AtomicBoolean();
+
+    private final AtomicLong _hits = new AtomicLong();
+
+    private final AtomicLong _misses = new AtomicLong();
+
+    private final AtomicLong _staleFiles = new AtomicLong();
+
+    /**
+     * Creates a handler keeping the lookups of the given handler in the given directory.
+     *
+     * @param delegate The handler doing the lookups, for example a
+     *            {@link DefaultMetadataHandler}.
+     * @param directory The directory of the cache files, created if missing.
+     * @param fingerprint Computes the current fingerprint of a schema.
+     */
+    public PersistentMetadataHandler(final IMetadataHandler delegate, final File directory,
+            final Fingerprint fingerprint)
+    {
+        this(delegate, directory, fingerprint, DEFAULT_MAX_UNUSED_DAYS);
+    }
+
+    /**
+     * Creates a handler keeping the lookups of the given handler in the given directory.
+     *
+     * @param delegate The handler doing the lookups, for example a
+     *            {@link DefaultMetadataHandler}.
+     * @param directory The directory of the cache files, created if missing.
+     * @param fingerprint Computes the current fingerprint of a schema.
+     * @param maxUnusedDays The number of days after which a cache file not read or written is
+     *            deleted.
+     */
+    public PersistentMetadataHandler(final IMetadataHandler delegate, final File directory,
+            final Fingerprint fingerprint, final int maxUnusedDays)
+    {
+        if (delegate == null)
+        {
+            throw new NullPointerException("The parameter 'delegate' must not be null");
+        }
+        if (directory == null)
+        {
+            throw new NullPointerException("The parameter 'directory' must not be null");
+        }
+        if (fingerprint == null)
+        {
+            throw new NullPointerException("The parameter 'fingerprint' must not be null");
+        }
+        if (maxUnusedDays <= 0)
+        {
+            throw new IllegalArgumentException(
+                    "The parameter 'maxUnusedDays' must be positive: " + maxUnusedDays);
+        }
+        _delegate = delegate;
+        _directory = directory;
+        _fingerprint = fingerprint;
+        _maxUnusedMillis = TimeUnit.DAYS.toMillis(maxUnusedDays);
+        _shutdownHook = new Thread(new Flusher(_caches), "dbunit-metadata-cache");
+    }
+
+    /**
+     * @return The number of lookups answered from the cache.
+     */
+    public long getHitCount()
+    {
+        return _hits.get();
+    }
+
+    /**
+     * @return The number of lookups passed to the decorated handler.
+     */
+    public long getMissCount()
+    {
+        return _misses.get();
+    }
+
+    /**
+     * @return The number of cache files discarded because their fingerprint was outdated.
+     */
+    public long getStaleCount()
+    {
+        return _staleFiles.get();
+    }
+
+    /**
+     * Writes the lookups made since a cache file was read or last written back to it.
+     *
+     * @throws IOException if a file cannot be written.
+     */
+    public void flush() throws IOException
+    {
+        for (final SchemaCache cache : _caches.values())
+        {
+            cache.save();
+        }
+    }
+
+    /**
+     * Writes the pending lookups back like {@link #flush()} and releases the lookups held in
+     * memory and the shutdown hook. Later lookups read the cache files again.
+     *
+     * @throws IOException if a file cannot be written.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        try
+        {
+            flush();
+        }
+        finally
+        {
+            _caches.clear();
+            if (_shutdownHookAdded.compareAndSet(true, false))
+            {
+                try
+                {
+                    Runtime.getRuntime().removeShutdownHook(_shutdownHook);
+                }
+                catch (final IllegalStateException e)
+                {
+                    // the JVM is shutting down and runs the hook anyway
+                }
+            }
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // IMetadataHandler interface
+
+    @Override
+    public ResultSet getColumns(final DatabaseMetaData databaseMetaData, final String schemaName,
+            final String tableName) throws SQLException
+    {
+        return lookup(databaseMetaData, schemaName, "getColumns", tableName,
+                () -> _delegate.getColumns(databaseMetaData, schemaName, tableName));
+    }
+
+    @Override
+    public ResultSet getSchemaColumns(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        return lookup(databaseMetaData, schemaName, "getSchemaColumns", null,
+                () -> _delegate.getSchemaColumns(databaseMetaData, schemaName));
+    }
+
+    @Override
+    public ResultSet getPrimaryKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName, final String tableName) throws SQLException
+    {
+        return lookup(databaseMetaData, schemaName, "getPrimaryKeys", tableName,
+                () -> _delegate.getPrimaryKeys(databaseMetaData, schemaName, tableName));
+    }
+
+    @Override
+    public ResultSet getSchemaPrimaryKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        return lookup(databaseMetaData, schemaName, "getSchemaPrimaryKeys", null,
+                () -> _delegate.getSchemaPrimaryKeys(databaseMetaData, schemaName));
+    }
+
+    @Override
+    public ResultSet getTables(final DatabaseMetaData databaseMetaData, final String schemaName,
+            final String[] tableTypes) throws SQLException
+    {
+        return lookup(databaseMetaData, schemaName, "getTables",
+                tableTypes == null ? null : Arrays.toString(tableTypes),
+                () -> _delegate.getTables(databaseMetaData, schemaName, tableTypes));
+    }
+
+    @Override
+    public ResultSet getImportedKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName, final String tableName) throws SQLException
+    {
+        return lookup(databaseMetaData, schemaName, "getImportedKeys", tableName,
+                () -> _delegate.getImportedKeys(databaseMetaData, schemaName, tableName));
+    }
+
+    @Override
+    public ResultSet getExportedKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName, final String tableName) throws SQLException
+    {
+        return lookup(databaseMetaData, schemaName, "getExportedKeys", tableName,
+                () -> _delegate.getExportedKeys(databaseMetaData, schemaName, tableName));
+    }
+
+    @Override
+    public ResultSet getSchemaImportedKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        return lookup(databaseMetaData, schemaName, "getSchemaImportedKeys", null,
+                () -> _delegate.getSchemaImportedKeys(databaseMetaData, schemaName));
+    }
+
+    @Override
+    public ResultSet getSchemaExportedKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        return lookup(databaseMetaData, schemaName, "getSchemaExportedKeys", null,
+                () -> _delegate.getSchemaExportedKeys(databaseMetaData, schemaName));
+    }
+
+    @Override
+    public boolean tableExists(final DatabaseMetaData databaseMetaData, final String schemaName,
+            final String tableName) throws SQLException
+    {
+        final ResultSet resultSet = lookup(databaseMetaData, schemaName, "tableExists", tableName,
+                () -> InMemoryMetadataResultSet.create(EXISTS_LABELS,
+                        Collections.singletonList(new Object[] {Boolean.valueOf(
+                                _delegate.tableExists(databaseMetaData, schemaName,
+                                        tableName))})));
+        resultSet.next();
+        return Boolean.parseBoolean(resultSet.getString(1));
+    }
+
+    @Override
+    public boolean matches(final ResultSet resultSet, final String schema, final String table,
+            final boolean caseSensitive) throws SQLException
+    {
+        return _delegate.matches(resultSet, schema, table, caseSensitive);
+    }
+
+    @Override
+    public boolean matches(final ResultSet resultSet, final String catalog, final String schema,
+            final String table, final String column, final boolean caseSensitive)
+            throws SQLException
+    {
+        return _delegate.matches(resultSet, catalog, schema, table, column, caseSensitive);
+    }
+
+    @Override
+    public boolean matchesColumn(final String searchCatalog, final String actualCatalog,
+            final String searchSchema, final String actualSchema, final String searchTable,
+            final String actualTable, final String searchColumn, final String actualColumn,
+            final boolean caseSensitive)
+    {
+        return _delegate.matchesColumn(searchCatalog, actualCatalog, searchSchema, actualSchema,
+                searchTable, actualTable, searchColumn, actualColumn, caseSensitive);
+    }
+
+    @Override
+    public boolean supportsColumnCache()
+    {
+        return _delegate.supportsColumnCache();
+    }
+
+    @Override
+    public boolean supportsSchemaForeignKeys()
+    {
+        return _delegate.supportsSchemaForeignKeys();
+    }
+
+    @Override
+    public String getSchema(final ResultSet resultSet) throws SQLException
+    {
+        return _delegate.getSchema(resultSet);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Caching
+
+    /**
+     * A lookup of the decorated handler.
+     */
+    @FunctionalInterface
+    private interface Lookup
+    {
+        ResultSet get() throws SQLException;
+    }
+
+    private ResultSet lookup(final DatabaseMetaData databaseMetaData, final String schemaName,
+            final String method, final String argument, final Lookup lookup)
+            throws SQLException
+    {
+        final SchemaCache cache = getSchemaCache(databaseMetaData, schemaName);
+        final String key = argument == null ? method : method + "(" + argument + ")";
+        CachedMetadataResult result = cache._results.get(key);
+        if (result != null)
+        {
+            _hits.incrementAndGet();
+            return result.toResultSet();
+        }
+
+        _misses.incrementAndGet();
+        result = CachedMetadataResult.copy(lookup.get());
+        cache._results.put(key, result);
+        cache._dirty.set(true);
+        addShutdownHook();
+        return result.toResultSet();
+    }
+
+    private SchemaCache getSchemaCache(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        final String id = databaseMetaData.getURL() + "\n" + databaseMetaData.getUserName()
+                + "\n" + schemaName;
+        SchemaCache cache = _caches.get(id);
+        if (cache == null)
+        {
+            synchronized (_caches)
+            {
+                cache = _caches.get(id);
+                if (cache == null)
+                {
+                    if (_pruned.compareAndSet(false, true))
+                    {
+                        pruneFiles();
+                    }
+                    final String fingerprint = _fingerprint
+                            .getFingerprint(databaseMetaData.getConnection(), schemaName);
+                    cache = new SchemaCache(_directory, new File(_directory,
+                            FILE_PREFIX + hash(id) + FILE_SUFFIX), fingerprint);
+                    if (cache.load())
+                    {
+                        _staleFiles.incrementAndGet();
+                    }
+                    _caches.put(id, cache);
+                }
+            }
+        }
+        return cache;
+    }
+
+    private void addShutdownHook()
+    {
+        if (_shutdownHookAdded.compareAndSet(false, true))
+        {
+            try
+            {
+                Runtime.getRuntime().addShutdownHook(_shutdownHook);
+            }
+            catch (final IllegalArgumentException e)
+            {
+                // already added before close() cleared the flag concurrently
+            }
+        }
+    }
+
+    /**
+     * Deletes the cache files, and temporary files of interrupted writes, of the directory not
+     * modified within the maximum unused time.
+     */
+    private void pruneFiles()
+    {
+        final File[] files = _directory.listFiles((dir, name) -> name.startsWith(FILE_PREFIX)
+                && (name.endsWith(FILE_SUFFIX) || name.endsWith(TEMP_FILE_SUFFIX)));
+        if (files == null)
+        {
+            return;
+        }
+        final long oldest = System.currentTimeMillis() - _maxUnusedMillis;
+        for (final File file : files)
+        {
+            if (file.lastModified() < oldest)
+            {
+                logger.debug("Deleting unused metadata cache file '{}'", file);
+                if (!file.delete())
+                {
+                    logger.debug("Could not delete unused metadata cache file '{}'", file);
+                }
+            }
+        }
+    }
+
+    private static String hash(final String id)
+    {
+        try
+        {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(id.getBytes(StandardCharsets.UTF_8));
+            return String.format("%032x", new BigInteger(1, Arrays.copyOf(digest, 16)));
+        }
+        catch (final NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes all caches back when the JVM shuts down.
+     */
+    private static class Flusher implements Runnable
+    {
+        private final Map<String, SchemaCache> _caches;
+
+        Flusher(final Map<String, SchemaCache> caches)
+        {
+            _caches = caches;
+        }
+
+        @Override
+        public void run()
+        {
+            for (final SchemaCache cache : _caches.values())
+            {
+                try
+                {
+                    cache.save();
+                }
+                catch (final IOException e)
+                {
+                    logger.warn("Could not write the metadata cache", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads only the classes of {@link #CACHE_FILE_CLASSES}.
+     */
+    private static class CacheFileInputStream extends ObjectInputStream
+    {
+        CacheFileInputStream(final InputStream in) throws IOException
+        {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc)
+                throws IOException, ClassNotFoundException
+        {
+            if (!CACHE_FILE_CLASSES.contains(desc.getName()))
+            {
+                throw new InvalidClassException(desc.getName(),
+                        "Class not allowed in a metadata cache file");
+            }
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(final String[] interfaces)
+                throws IOException
+        {
+            throw new InvalidClassException("Proxy not allowed in a metadata cache file");
+        }
+    }
+
+    /**
+     * The lookups of one JDBC URL, user and schema, and their file.
+     */
+    private static class SchemaCache
+    {
+        private final File _directory;
+
+        private final File _file;
+
+        private final String _fingerprint;
+
+        private final Map<String, CachedMetadataResult> _results = new ConcurrentHashMap<>();
+
+        private final AtomicBoolean _dirty = new AtomicBoolean();
+
+        SchemaCache(final File directory, final File file, final String fingerprint)
+        {
+            _directory = directory;
+            _file = file;
+            _fingerprint = fingerprint;
+        }
+
+        /**
+         * Reads the file, if any.
+         *
+         * @return <code>true</code> if the file was stale.
+         */
+        @SuppressWarnings("unchecked")
+        boolean load()
+        {
+            if (!_file.isFile())
+            {
+                return false;
+            }
+            try (InputStream in = Files.newInputStream(_file.toPath());
+                    ObjectInputStream objects = new CacheFileInputStream(in))
+            {
+                final String fingerprint = (String) objects.readObject();
+                if (!Objects.equals(_fingerprint, fingerprint))
+                {
+                    logger.debug("Discarding stale metadata cache file '{}'", _file);
+                    return true;
+                }
+                _results.putAll((Map<String, CachedMetadataResult>) objects.readObject());
+                logger.debug("Read {} lookups from metadata cache file '{}'", _results.size(),
+                        _file);
+                // keep a file in use from being pruned as unused
+                if (!_file.setLastModified(System.currentTimeMillis()))
+                {
+                    logger.debug("Could not touch metadata cache file '{}'", _file);
+                }
+            }
+            catch (final IOException | ClassNotFoundException | ClassCastException e)
+            {
+                logger.warn("Ignoring unreadable metadata cache file '" + _file + "'", e);
+            }
+            return false;
+        }
+
+        void save() throws IOException
+        {
+            if (!_dirty.compareAndSet(true, false))
+            {
+                return;
+            }
+            Files.createDirectories(_directory.toPath());
+            final File temp = File.createTempFile(FILE_PREFIX, TEMP_FILE_SUFFIX, _directory);
+            try
+            {
+                try (OutputStream out = Files.newOutputStream(temp.toPath());
+                        ObjectOutputStream objects = new ObjectOutputStream(out))
+                {
+                    objects.writeObject(_fingerprint);
+                    objects.writeObject(new HashMap<>(_results));
+                }
+                try
+                {
+                    Files.move(temp.toPath(), _file.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                }
+                catch (final IOException e)
+                {
+                    Files.move(temp.toPath(), _file.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            finally
+            {
+                Files.deleteIfExists(temp.toPath());
+            }
+        }
+    }
+}
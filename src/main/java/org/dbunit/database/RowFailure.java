@@ -0,0 +1,113 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import java.sql.SQLException;
+
+import org.dbunit.dataset.Column;
+
+/**
+ * A dataset row the database rejected, as isolated from its batch for the
+ * configured {@link IRowFailureHandler}.
+ *
+ * @since 3.6.0
+ */
+public class RowFailure
+{
+    private final String _tableName;
+    private final int _row;
+    private final Column[] _columns;
+    private final Object[] _values;
+    private final SQLException _cause;
+
+    /**
+     * @param tableName the name of the table the row belongs to.
+     * @param row the index of the row in the dataset table.
+     * @param columns the columns whose values were bound.
+     * @param values the bound values, one per column.
+     * @param cause the exception executing the row on its own.
+     */
+    public RowFailure(final String tableName, final int row,
+            final Column[] columns, final Object[] values,
+            final SQLException cause)
+    {
+        _tableName = tableName;
+        _row = row;
+        _columns = columns;
+        _values = values;
+        _cause = cause;
+    }
+
+    /**
+     * @return The name of the table the row belongs to.
+     */
+    public String getTableName()
+    {
+        return _tableName;
+    }
+
+    /**
+     * @return The index of the row in the dataset table.
+     */
+    public int getRow()
+    {
+        return _row;
+    }
+
+    /**
+     * @return The columns whose values were bound.
+     */
+    public Column[] getColumns()
+    {
+        return _columns.clone();
+    }
+
+    /**
+     * @return The bound values, one per column of {@link #getColumns()}.
+     */
+    public Object[] getValues()
+    {
+        return _values.clone();
+    }
+
+    /**
+     * @return The exception executing the row on its own.
+     */
+    public SQLException getCause()
+    {
+        return _cause;
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("table '").append(_tableName).append("' row ").append(_row);
+        sb.append(" (");
+        for (int i = 0; i < _columns.length; i++)
+        {
+            sb.append(i > 0 ? ", " : "").append(_columns[i].getColumnName())
+                    .append("=").append(_values[i]);
+        }
+        sb.append("): ").append(_cause.getMessage());
+        return sb.toString();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import java.sql.SQLException;
+
+/**
+ * Thrown when an {@link IRowFailureHandler} aborts an operation on a rejected
+ * row. The operation reports it as the cause of the usual
+ * {@link org.dbunit.DatabaseUnitException} for the table.
+ *
+ * @since 3.6.0
+ */
+public class RowFailureException extends SQLException
+{
+    private static final long serialVersionUID = 1L;
+
+    private final transient RowFailure _rowFailure;
+
+    /**
+     * @param rowFailure the rejected row.
+     */
+    public RowFailureException(final RowFailure rowFailure)
+    {
+        super("Rejected " + rowFailure, rowFailure.getCause().getSQLState(),
+                rowFailure.getCause().getErrorCode(), rowFailure.getCause());
+        _rowFailure = rowFailure;
+    }
+
+    /**
+     * @return The rejected row.
+     */
+    public RowFailure getRowFailure()
+    {
+        return _rowFailure;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Decorates an {@link IMetadataHandler} and answers its table, column,
+ * primary key and foreign key lookups from the {@link MetadataRegistry} of
+ * the JDBC URL, user, schema and decorated handler class, which every
+ * connection to the same schema shares.
+ * Configure it as {@link DatabaseConfig#PROPERTY_METADATA_HANDLER}; a
+ * connection replaced by {@link CachingConnectionProvider}, or another tester
+ * using the same database, then reads the metadata already looked up.
+ * <p>
+ * The registry does not notice DDL; see
+ * {@link MetadataRegistry#invalidate(String)}.
+ *
+ * @since 3.6.0
+ */
+public class SharedMetadataHandler implements IMetadataHandler
+{
+    private static final String[] EXISTS_LABELS = {"EXISTS"};
+
+    private final IMetadataHandler _delegate;
+
+    /**
+     * Creates a handler sharing the lookups of the given handler.
+     *
+     * @param delegate The handler doing the lookups, for example a
+     *            {@link DefaultMetadataHandler}.
+     */
+    public SharedMetadataHandler(final IMetadataHandler delegate)
+    {
+        if (delegate == null)
+        {
+            throw new NullPointerException("The parameter 'delegate' must not be null");
+        }
+        _delegate = delegate;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // IMetadataHandler interface
+
+    @Override
+    public ResultSet getColumns(final DatabaseMetaData databaseMetaData, final String schemaName,
+            final String tableName) throws SQLException
+    {
+        return getRegistry(databaseMetaData, schemaName).lookup("getColumns", tableName,
+                () -> _delegate.getColumns(databaseMetaData, schemaName, tableName));
+    }
+
+    @Override
+    public ResultSet getSchemaColumns(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        return getRegistry(databaseMetaData, schemaName).lookup("getSchemaColumns", null,
+                () -> _delegate.getSchemaColumns(databaseMetaData, schemaName));
+    }
+
+    @Override
+    public ResultSet getPrimaryKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName, final String tableName) throws SQLException
+    {
+        return getRegistry(databaseMetaData, schemaName).lookup("getPrimaryKeys", tableName,
+                () -> _delegate.getPrimaryKeys(databaseMetaData, schemaName, tableName));
+    }
+
+    @Override
+    public ResultSet getSchemaPrimaryKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        return getRegistry(databaseMetaData, schemaName).lookup("getSchemaPrimaryKeys", null,
+                () -> _delegate.getSchemaPrimaryKeys(databaseMetaData, schemaName));
+    }
+
+    @Override
+    public ResultSet getTables(final DatabaseMetaData databaseMetaData, final String schemaName,
+            final String[] tableTypes) throws SQLException
+    {
+        return getRegistry(databaseMetaData, schemaName).lookup(
+                "getTables" + Arrays.toString(tableTypes), null,
+                () -> _delegate.getTables(databaseMetaData, schemaName, tableTypes));
+    }
+
+    @Override
+    public ResultSet getImportedKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName, final String tableName) throws SQLException
+    {
+        return getRegistry(databaseMetaData, schemaName).lookup("getImportedKeys", tableName,
+                () -> _delegate.getImportedKeys(databaseMetaData, schemaName, tableName));
+    }
+
+    @Override
+    public ResultSet getExportedKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName, final String tableName) throws SQLException
+    {
+        return getRegistry(databaseMetaData, schemaName).lookup("getExportedKeys", tableName,
+                () -> _delegate.getExportedKeys(databaseMetaData, schemaName, tableName));
+    }
+
+    @Override
+    public ResultSet getSchemaImportedKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        return getRegistry(databaseMetaData, schemaName).lookup("getSchemaImportedKeys", null,
+                () -> _delegate.getSchemaImportedKeys(databaseMetaData, schemaName));
+    }
+
+    @Override
+    public ResultSet getSchemaExportedKeys(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        return getRegistry(databaseMetaData, schemaName).lookup("getSchemaExportedKeys", null,
+                () -> _delegate.getSchemaExportedKeys(databaseMetaData, schemaName));
+    }
+
+    @Override
+    public boolean tableExists(final DatabaseMetaData databaseMetaData, final String schemaName,
+            final String tableName) throws SQLException
+    {
+        final ResultSet resultSet = getRegistry(databaseMetaData, schemaName).lookup(
+                "tableExists", tableName,
+                () -> InMemoryMetadataResultSet.create(EXISTS_LABELS,
+                        Collections.singletonList(new Object[] {Boolean.valueOf(
+                                _delegate.tableExists(databaseMetaData, schemaName,
+                                        tableName))})));
+        resultSet.next();
+        return Boolean.parseBoolean(resultSet.getString(1));
+    }
+
+    @Override
+    public boolean matches(final ResultSet resultSet, final String schema, final String table,
+            final boolean caseSensitive) throws SQLException
+    {
+        return _delegate.matches(resultSet, schema, table, caseSensitive);
+    }
+
+    @Override
+    public boolean matches(final ResultSet resultSet, final String catalog, final String schema,
+            final String table, final String column, final boolean caseSensitive)
+            throws SQLException
+    {
+        return _delegate.matches(resultSet, catalog, schema, table, column, caseSensitive);
+    }
+
+    @Override
+    public boolean matchesColumn(final String searchCatalog, final String actualCatalog,
+            final String searchSchema, final String actualSchema, final String searchTable,
+            final String actualTable, final String searchColumn, final String actualColumn,
+            final boolean caseSensitive)
+    {
+        return _delegate.matchesColumn(searchCatalog, actualCatalog, searchSchema, actualSchema,
+                searchTable, actualTable, searchColumn, actualColumn, caseSensitive);
+    }
+
+    @Override
+    public boolean supportsColumnCache()
+    {
+        return _delegate.supportsColumnCache();
+    }
+
+    @Override
+    public boolean supportsSchemaForeignKeys()
+    {
+        return _delegate.supportsSchemaForeignKeys();
+    }
+
+    @Override
+    public String getSchema(final ResultSet resultSet) throws SQLException
+    {
+        return _delegate.getSchema(resultSet);
+    }
+
+    /**
+     * @return The decorated handler.
+     */
+    IMetadataHandler getDelegate()
+    {
+        return _delegate;
+    }
+
+    private MetadataRegistry getRegistry(final DatabaseMetaData databaseMetaData,
+            final String schemaName) throws SQLException
+    {
+        return MetadataRegistry.forSchema(databaseMetaData.getURL(),
+                databaseMetaData.getUserName(), schemaName, _delegate.getClass());
+    }
+}
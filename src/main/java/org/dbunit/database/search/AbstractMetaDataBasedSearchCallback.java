@@ -25,6 +25,8 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
@@ -57,12 +59,29 @@ public abstract class AbstractMetaDataBasedSearchCallback extends AbstractNodesF
 
     private final IDatabaseConnection connection;
 
+    private final ForeignKeyGraph foreignKeyGraph;
+
     /**
      * Default constructor.
      * @param connection connection where the edges will be calculated from
      */
     public AbstractMetaDataBasedSearchCallback(IDatabaseConnection connection) {
+        this(connection, null);
+    }
+
+    /**
+     * Creates a callback that answers the foreign key lookups of the tables known by
+     * <code>foreignKeyGraph</code> from it, and those of any other table from the database
+     * meta-data.
+     * @param connection connection where the edges will be calculated from
+     * @param foreignKeyGraph the preloaded foreign keys of the connection's schema, or
+     * <code>null</code> to look up the foreign keys of every table
+     * @since 3.6.0
+     */
+    public AbstractMetaDataBasedSearchCallback(IDatabaseConnection connection,
+            ForeignKeyGraph foreignKeyGraph) {
         this.connection = connection;
+        this.foreignKeyGraph = foreignKeyGraph;
     }
 
     /**
@@ -180,6 +199,10 @@ public abstract class AbstractMetaDataBasedSearchCallback extends AbstractNodesF
     	QualifiedTableName qualifiedTableName = new QualifiedTableName(tableName, schema);
     	schema = qualifiedTableName.getSchema();
     	tableName = qualifiedTableName.getTable();
+
+        if (this.foreignKeyGraph != null && addGraphEdges(type, conn, schema, tableName, edges)) {
+            return;
+        }
         
         ResultSet rs = null;
         try {
@@ -199,10 +222,10 @@ public abstract class AbstractMetaDataBasedSearchCallback extends AbstractNodesF
 
             switch (type) {
             case IMPORT:
-                rs = metaData.getImportedKeys(null, schema, tableName);
+                rs = metadataHandler.getImportedKeys(metaData, schema, tableName);
                 break;
             case EXPORT:
-                rs = metaData.getExportedKeys(null, schema, tableName);
+                rs = metadataHandler.getExportedKeys(metaData, schema, tableName);
                 break;
             }
             
@@ -241,6 +264,34 @@ public abstract class AbstractMetaDataBasedSearchCallback extends AbstractNodesF
         }
     }
 
+    /**
+     * Adds the edges of the given table from the foreign key graph.
+     * @return <code>false</code> if the graph does not know the table
+     */
+    private boolean addGraphEdges(int type, Connection conn, String schema, String tableName,
+            SortedSet edges) throws SearchException {
+        List keys = this.foreignKeyGraph.getKeys(type, schema, tableName);
+        if (keys == null) {
+            tableName = SQLHelper.correctCase(tableName, conn);
+            keys = this.foreignKeyGraph.getKeys(type, schema, tableName);
+            if (keys == null) {
+                return false;
+            }
+        }
+
+        DatabaseConfig dbConfig = this.connection.getConfig();
+        String from = new QualifiedTableName(tableName, schema).getQualifiedNameIfEnabled(dbConfig);
+        for (Iterator it = keys.iterator(); it.hasNext();) {
+            String[] key = (String[]) it.next();
+            String to = new QualifiedTableName(key[1], key[0]).getQualifiedNameIfEnabled(dbConfig);
+            IEdge edge = newEdge(null, type, from, to, key[3], key[2]);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Adding edge " + edge);
+            }
+            edges.add(edge);
+        }
+        return true;
+    }
 
     /**
      * Creates an edge representing a foreign key relationship between 2 tables.<br>
@@ -272,7 +323,8 @@ public abstract class AbstractMetaDataBasedSearchCallback extends AbstractNodesF
      * This method can be overwritten by the sub-classes if they need to decorate
      * the edge (for instance, providing an Edge that contains the primary and 
      * foreign keys used).
-     * @param rs database meta-data result set
+     * @param rs database meta-data result set, <code>null</code> if the relationship comes
+     * from a {@link ForeignKeyGraph}
      * @param type type of relationship (IMPORT or EXPORT)
      * @param from name of the table representing the 'from' node
      * @param to name of the table representing the 'to' node
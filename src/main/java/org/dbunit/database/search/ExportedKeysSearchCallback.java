@@ -53,6 +53,20 @@ public class ExportedKeysSearchCallback extends
         super(connection);
     }
 
+    /**
+     * Creates a callback that gets the nodes reachable via exported (reverse) foreign keys, taking those of
+     * the tables known by <code>foreignKeyGraph</code> from it.
+     *
+     * @param connection connection where the edges will be calculated from.
+     * @param foreignKeyGraph the preloaded foreign keys of the connection's schema, or
+     *            <code>null</code> to look up the foreign keys of every table.
+     * @since 3.6.0
+     */
+    public ExportedKeysSearchCallback(IDatabaseConnection connection,
+            ForeignKeyGraph foreignKeyGraph) {
+        super(connection, foreignKeyGraph);
+    }
+
     public SortedSet getEdges(Object node) throws SearchException {
         logger.debug("getEdges(node={}) - start", node);
 
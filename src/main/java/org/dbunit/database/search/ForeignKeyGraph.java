@@ -0,0 +1,238 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database.search;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.IMetadataHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The foreign keys of all tables of a connection's schema, loaded with one table lookup and one
+ * schema-wide lookup each of the imported and the exported keys. Passed to the
+ * {@link AbstractMetaDataBasedSearchCallback} subclasses, it answers their lookups in memory
+ * instead of one {@link IMetadataHandler#getImportedKeys} or
+ * {@link IMetadataHandler#getExportedKeys} round trip per table; a table the graph does not know,
+ * for example one of another schema, is still looked up the usual way.
+ * <p>
+ * The graph is a snapshot and does not notice later DDL.
+ *
+ * @since 3.6.0
+ */
+public class ForeignKeyGraph
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger = LoggerFactory.getLogger(ForeignKeyGraph.class);
+
+    /**
+     * The tables, as {@link #key(String, String)}.
+     */
+    private final Set<String> _tables = new HashSet<String>();
+
+    /**
+     * The schemas of the tables, by table name, resolving a table without a schema.
+     */
+    private final Map<String, Set<String>> _schemasByTable = new HashMap<String, Set<String>>();
+
+    /**
+     * The keys by {@link AbstractMetaDataBasedSearchCallback#IMPORT}/
+     * {@link AbstractMetaDataBasedSearchCallback#EXPORT}, then by table. Each key holds the
+     * schema and name of the table at the other end, the primary key column and the foreign key
+     * column.
+     */
+    private final List<Map<String, List<String[]>>> _keys = new ArrayList<Map<String, List<String[]>>>();
+
+    private ForeignKeyGraph()
+    {
+        _keys.add(new HashMap<String, List<String[]>>());
+        _keys.add(new HashMap<String, List<String[]>>());
+    }
+
+    /**
+     * Loads the foreign key graph of the connection's schema through its configured
+     * {@link IMetadataHandler}, whose schema-wide foreign key lookups must be complete, as
+     * declared by {@link IMetadataHandler#supportsSchemaForeignKeys()}.
+     *
+     * @param connection The connection.
+     * @return The graph.
+     * @throws SQLException if a lookup fails, for example because the driver rejects a
+     *             schema-wide foreign key lookup.
+     */
+    public static ForeignKeyGraph load(final IDatabaseConnection connection) throws SQLException
+    {
+        final long start = System.nanoTime();
+        final DatabaseMetaData metaData = connection.getConnection().getMetaData();
+        final String schema = connection.getSchema();
+        final DatabaseConfig config = connection.getConfig();
+        final IMetadataHandler metadataHandler =
+                (IMetadataHandler) config.getProperty(DatabaseConfig.PROPERTY_METADATA_HANDLER);
+        final String[] tableTypes =
+                (String[]) config.getProperty(DatabaseConfig.PROPERTY_TABLE_TYPE);
+
+        final ForeignKeyGraph graph = new ForeignKeyGraph();
+        try (ResultSet resultSet = metadataHandler.getTables(metaData, schema, tableTypes))
+        {
+            while (resultSet.next())
+            {
+                graph.addTable(metadataHandler.getSchema(resultSet), resultSet.getString(3));
+            }
+        }
+        try (ResultSet resultSet = metadataHandler.getSchemaImportedKeys(metaData, schema))
+        {
+            graph.addKeys(AbstractMetaDataBasedSearchCallback.IMPORT, resultSet);
+        }
+        try (ResultSet resultSet = metadataHandler.getSchemaExportedKeys(metaData, schema))
+        {
+            graph.addKeys(AbstractMetaDataBasedSearchCallback.EXPORT, resultSet);
+        }
+
+        if (logger.isDebugEnabled())
+        {
+            logger.debug("Loaded the foreign keys of {} tables of schema '{}' in {} ms",
+                    new Object[] {graph._tables.size(), schema,
+                            (System.nanoTime() - start) / 1_000_000});
+        }
+        return graph;
+    }
+
+    /**
+     * Loads the foreign key graph of the connection's schema if
+     * {@link DatabaseConfig#FEATURE_PREFETCH_METADATA} is enabled and the configured
+     * {@link IMetadataHandler} {@link IMetadataHandler#supportsSchemaForeignKeys() supports}
+     * schema-wide foreign key lookups.
+     *
+     * @param connection The connection.
+     * @return The graph, or <code>null</code> if it is not supported or a lookup failed, in
+     *         which case the foreign keys are looked up per table.
+     */
+    public static ForeignKeyGraph prefetch(final IDatabaseConnection connection)
+    {
+        final DatabaseConfig config = connection.getConfig();
+        if (!config.getFeature(DatabaseConfig.FEATURE_PREFETCH_METADATA)
+                || !((IMetadataHandler) config.getProperty(
+                        DatabaseConfig.PROPERTY_METADATA_HANDLER)).supportsSchemaForeignKeys())
+        {
+            return null;
+        }
+        try
+        {
+            return load(connection);
+        }
+        catch (final SQLException e)
+        {
+            logger.debug("Could not load the foreign keys of the schema,"
+                    + " looking them up per table", e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the keys of the given table.
+     *
+     * @param type {@link AbstractMetaDataBasedSearchCallback#IMPORT} for the foreign keys of
+     *            the table, {@link AbstractMetaDataBasedSearchCallback#EXPORT} for those
+     *            referencing it.
+     * @param schema The schema of the table, <code>null</code> if not known.
+     * @param table The table.
+     * @return The keys, each holding the schema and name of the table at the other end, the
+     *         primary key column and the foreign key column, or <code>null</code> if the graph
+     *         does not know the table.
+     */
+    List<String[]> getKeys(final int type, final String schema, final String table)
+    {
+        String tableSchema = schema;
+        if (tableSchema == null)
+        {
+            final Set<String> schemas = _schemasByTable.get(table);
+            if (schemas == null || schemas.size() != 1)
+            {
+                return null;
+            }
+            tableSchema = schemas.iterator().next();
+        }
+        final String key = key(tableSchema, table);
+        if (!_tables.contains(key))
+        {
+            return null;
+        }
+        final List<String[]> keys = _keys.get(type).get(key);
+        return keys == null ? Collections.<String[]>emptyList() : keys;
+    }
+
+    private void addTable(final String schema, final String table)
+    {
+        _tables.add(key(schema, table));
+        Set<String> schemas = _schemasByTable.get(table);
+        if (schemas == null)
+        {
+            schemas = new HashSet<String>();
+            _schemasByTable.put(table, schemas);
+        }
+        schemas.add(schema);
+    }
+
+    private void addKeys(final int type, final ResultSet resultSet) throws SQLException
+    {
+        // the owning table is at the opposite end of the dependent one
+        final int ownerIndex = AbstractMetaDataBasedSearchCallback.TABLENAME_INDEXES[1 - type];
+        final int dependentIndex = AbstractMetaDataBasedSearchCallback.TABLENAME_INDEXES[type];
+        final Map<String, List<String[]>> keysByTable = _keys.get(type);
+        while (resultSet.next())
+        {
+            // MySQL reports the database as catalog and no schema
+            String ownerSchema = resultSet.getString(ownerIndex - 1);
+            if (ownerSchema == null)
+            {
+                ownerSchema = resultSet.getString(ownerIndex - 2);
+            }
+            final String key = key(ownerSchema, resultSet.getString(ownerIndex));
+            List<String[]> keys = keysByTable.get(key);
+            if (keys == null)
+            {
+                keys = new ArrayList<String[]>();
+                keysByTable.put(key, keys);
+            }
+            keys.add(new String[] {resultSet.getString(dependentIndex - 1),
+                    resultSet.getString(dependentIndex),
+                    resultSet.getString(AbstractMetaDataBasedSearchCallback.PK_INDEXES[type]),
+                    resultSet.getString(AbstractMetaDataBasedSearchCallback.FK_INDEXES[type])});
+        }
+    }
+
+    private static String key(final String schema, final String table)
+    {
+        return schema + "\n" + table;
+    }
+}
@@ -84,10 +84,32 @@ public class TablesDependencyHelper {
      */
     public static String[] getDependentTables( IDatabaseConnection connection, String[] rootTables )
     throws SearchException
+    {
+        return getDependentTables( connection, rootTables, null );
+    }
+
+    /**
+     * Get the name of all tables that depend on the root tables, like
+     * {@link #getDependentTables(IDatabaseConnection, String[])}, taking the foreign keys of the
+     * tables known by <code>foreignKeyGraph</code> from it.
+     * @param connection database connection
+     * @param rootTables array of root tables described above
+     * @param foreignKeyGraph the foreign keys of the schema, for example from
+     * {@link ForeignKeyGraph#prefetch(IDatabaseConnection)} and reused across searches, or
+     * <code>null</code> to look them up per table
+     * @return name of all tables that depend on the root tables (including the root tables),
+     * in the right order for insertions
+     * @throws SearchException if an exception occurred while calculating the order
+     * @since 3.6.0
+     */
+    public static String[] getDependentTables( IDatabaseConnection connection, String[] rootTables,
+            ForeignKeyGraph foreignKeyGraph )
+    throws SearchException
     {
         logger.debug("getDependentTables(connection={}, rootTables={}) - start", connection, rootTables);
 
-        ImportedKeysSearchCallback callback = new ImportedKeysSearchCallback(connection);
+        ImportedKeysSearchCallback callback = new ImportedKeysSearchCallback(connection,
+                foreignKeyGraph);
         DepthFirstSearch search = new DepthFirstSearch();
         Set tables = search.search( normalizeToStoredCase(connection, rootTables), callback );
         return CollectionsHelper.setToStrings( tables );
@@ -104,10 +126,32 @@ public class TablesDependencyHelper {
      */
     public static String[] getDependsOnTables( IDatabaseConnection connection, String rootTable ) 
     throws SearchException 
+    {
+        return getDependsOnTables( connection, rootTable, null );
+    }
+
+    /**
+     * Get the name of all tables that the given rootTable depends on, like
+     * {@link #getDependsOnTables(IDatabaseConnection, String)}, taking the foreign keys of the
+     * tables known by <code>foreignKeyGraph</code> from it.
+     * @param connection database connection
+     * @param rootTable root table described above
+     * @param foreignKeyGraph the foreign keys of the schema, for example from
+     * {@link ForeignKeyGraph#prefetch(IDatabaseConnection)} and reused across searches, or
+     * <code>null</code> to look them up per table
+     * @return name of all tables that the rootTable depends on (including the rootTable itself), 
+     * in the right order for insertions
+     * @throws SearchException if an exception occurred while calculating the order
+     * @since 3.6.0
+     */
+    public static String[] getDependsOnTables( IDatabaseConnection connection, String rootTable,
+            ForeignKeyGraph foreignKeyGraph ) 
+    throws SearchException 
     {
         logger.debug("getDependsOnTables(connection={}, rootTable={}) - start", connection, rootTable);
 
-        ExportedKeysSearchCallback callback = new ExportedKeysSearchCallback(connection);
+        ExportedKeysSearchCallback callback = new ExportedKeysSearchCallback(connection,
+                foreignKeyGraph);
         DepthFirstSearch search = new DepthFirstSearch();
         Set tables = search.search( normalizeToStoredCase(connection, new String[]{rootTable}), callback );
         return CollectionsHelper.setToStrings( tables );
@@ -142,10 +186,32 @@ public class TablesDependencyHelper {
      */
     public static String[] getAllDependentTables(IDatabaseConnection connection, String[] rootTables)
     throws SearchException
+    {
+        return getAllDependentTables(connection, rootTables, null);
+    }
+
+    /**
+     * Get the name of all tables that depend on the root tables and also the tables the root
+     * tables depend on, like {@link #getAllDependentTables(IDatabaseConnection, String[])},
+     * taking the foreign keys of the tables known by <code>foreignKeyGraph</code> from it.
+     * @param connection database connection
+     * @param rootTables root tables described above
+     * @param foreignKeyGraph the foreign keys of the schema, for example from
+     * {@link ForeignKeyGraph#prefetch(IDatabaseConnection)} and reused across searches, or
+     * <code>null</code> to look them up per table
+     * @return name of all tables that depend on the root tables (including the root tables), 
+     * in the right order for insertions
+     * @throws SearchException if an exception occurred while calculating the order
+     * @since 3.6.0
+     */
+    public static String[] getAllDependentTables(IDatabaseConnection connection, String[] rootTables,
+            ForeignKeyGraph foreignKeyGraph)
+    throws SearchException
     {
         logger.debug("getAllDependentTables(connection={}, rootTables={}) - start",connection, rootTables);
 
-        ImportedAndExportedKeysSearchCallback callback = new ImportedAndExportedKeysSearchCallback(connection);
+        ImportedAndExportedKeysSearchCallback callback = new ImportedAndExportedKeysSearchCallback(connection,
+                foreignKeyGraph);
         DepthFirstSearch search = new DepthFirstSearch();
         Set tables = search.search(normalizeToStoredCase(connection, rootTables), callback);
         return CollectionsHelper.setToStrings(tables);
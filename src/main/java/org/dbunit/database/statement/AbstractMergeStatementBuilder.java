@@ -0,0 +1,145 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.database.statement;
+
+/**
+ * Abstract base {@link IUpsertStatementBuilder} for databases supporting the
+ * SQL:2003 <code>MERGE</code> statement. Builds
+ *
+ * <pre>
+ * merge into T t using (&lt;source row&gt;) s on (t.PK = s.PK)
+ * when matched then update set C = s.C
+ * when not matched then insert (PK, C) values (s.PK, s.C)
+ * </pre>
+ *
+ * leaving subclasses to supply the vendor's syntax for the single-row source.
+ *
+ * @since 3.6.0
+ */
+public abstract class AbstractMergeStatementBuilder
+        extends AbstractUpsertStatementBuilder
+{
+    /** Correlation name of the target table. */
+    protected static final String TARGET_ALIAS = "t";
+    /** Correlation name of the source row. */
+    protected static final String SOURCE_ALIAS = "s";
+
+    /**
+     * Appends the source row, including its correlation name
+     * {@link #SOURCE_ALIAS}, binding one parameter per column in order.
+     *
+     * @param sql
+     *            The buffer to append to.
+     * @param columnNames
+     *            The escaped names of the bound columns.
+     */
+    protected abstract void appendSource(StringBuilder sql,
+            String[] columnNames);
+
+    /**
+     * Returns the keyword placed between the target table and its correlation
+     * name. Defaults to <code>" as "</code>.
+     *
+     * @return The target alias separator.
+     */
+    protected String getTargetAliasSeparator()
+    {
+        return " as ";
+    }
+
+    /**
+     * Returns the text terminating the statement. Defaults to an empty string.
+     *
+     * @return The statement terminator.
+     */
+    protected String getStatementTerminator()
+    {
+        return "";
+    }
+
+    @Override
+    public String buildUpsertStatement(final String tableName,
+            final String[] columnNames, final String[] primaryKeyNames)
+    {
+        final StringBuilder sql = new StringBuilder(256);
+        sql.append("merge into ").append(tableName)
+                .append(getTargetAliasSeparator()).append(TARGET_ALIAS);
+        sql.append(" using ");
+        appendSource(sql, columnNames);
+
+        sql.append(" on (");
+        for (int i = 0; i < primaryKeyNames.length; i++)
+        {
+            if (i > 0)
+            {
+                sql.append(" and ");
+            }
+            sql.append(TARGET_ALIAS).append(".").append(primaryKeyNames[i]);
+            sql.append(" = ");
+            sql.append(SOURCE_ALIAS).append(".").append(primaryKeyNames[i]);
+        }
+        sql.append(")");
+
+        final String[] nonKeyNames =
+                getNonKeyColumnNames(columnNames, primaryKeyNames);
+        if (nonKeyNames.length > 0)
+        {
+            sql.append(" when matched then update set ");
+            for (int i = 0; i < nonKeyNames.length; i++)
+            {
+                if (i > 0)
+                {
+                    sql.append(", ");
+                }
+                sql.append(nonKeyNames[i]).append(" = ");
+                sql.append(SOURCE_ALIAS).append(".").append(nonKeyNames[i]);
+            }
+        }
+
+        sql.append(" when not matched then insert (");
+        appendList(sql, columnNames, "");
+        sql.append(") values (");
+        appendList(sql, columnNames, SOURCE_ALIAS + ".");
+        sql.append(")");
+        sql.append(getStatementTerminator());
+        return sql.toString();
+    }
+
+    /**
+     * Appends a <code>(values (?, ...)) as s (c1, ...)</code> table value
+     * constructor source, supported by HSQLDB and SQL Server.
+     *
+     * @param sql
+     *            The buffer to append to.
+     * @param columnNames
+     *            The escaped names of the bound columns.
+     */
+    protected static void appendValuesSource(final StringBuilder sql,
+            final String[] columnNames)
+    {
+        sql.append("(values (");
+        appendParameters(sql, columnNames.length);
+        sql.append(")) as ").append(SOURCE_ALIAS).append(" (");
+        appendList(sql, columnNames, "");
+        sql.append(")");
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.database.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base implementation of the statements sending several rows in one SQL
+ * statement, without relying on the driver's JDBC batching.
+ * <p>
+ * Rows are buffered until <code>rowsPerStatement</code> of them were added,
+ * then executed in one statement built by {@link #getSql(int)}.
+ * {@link #executeBatch()} executes the remaining rows with a statement sized
+ * to fit them.
+ *
+ * @since 3.6.0
+ */
+abstract class AbstractMultiRowStatement implements IPreparedBatchStatement
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(AbstractMultiRowStatement.class);
+
+    private final Connection _connection;
+    private final int _rowsPerStatement;
+
+    private final List<Object> _values = new ArrayList<>();
+    private final List<DataType> _dataTypes = new ArrayList<>();
+    private int _rowCount;
+    private int _result;
+
+    private PreparedStatement _fullStatement;
+    private PreparedStatement _remainderStatement;
+    private int _remainderRowCount;
+
+    AbstractMultiRowStatement(final int rowsPerStatement,
+            final Connection connection)
+    {
+        _rowsPerStatement = rowsPerStatement;
+        _connection = connection;
+    }
+
+    /**
+     * @return The number of rows sent per statement, except for the last one.
+     */
+    public int getRowsPerStatement()
+    {
+        return _rowsPerStatement;
+    }
+
+    /**
+     * @param rowCount
+     *            The number of rows the statement handles.
+     * @return The multi-row statement, binding the values of the rows one row
+     *         after the other.
+     */
+    abstract String getSql(int rowCount);
+
+    ////////////////////////////////////////////////////////////////////////////
+    // IPreparedBatchStatement interface
+
+    @Override
+    public void addValue(final Object value, final DataType dataType)
+            throws TypeCastException, SQLException
+    {
+        // cast now so invalid values fail where the caller can report them
+        if (value == null || value == ITable.NO_VALUE)
+        {
+            _values.add(value);
+        }
+        else
+        {
+            _values.add(dataType.typeCast(value));
+        }
+        _dataTypes.add(dataType);
+    }
+
+    @Override
+    public void addBatch() throws SQLException
+    {
+        logger.debug("addBatch() - start");
+
+        _rowCount++;
+        if (_rowCount == _rowsPerStatement)
+        {
+            if (_fullStatement == null)
+            {
+                _fullStatement =
+                        _connection.prepareStatement(getSql(_rowsPerStatement));
+            }
+            _result += execute(_fullStatement);
+        }
+    }
+
+    @Override
+    public int executeBatch() throws SQLException
+    {
+        logger.debug("executeBatch() - start");
+
+        if (_rowCount > 0)
+        {
+            if (_remainderStatement == null || _remainderRowCount != _rowCount)
+            {
+                if (_remainderStatement != null)
+                {
+                    _remainderStatement.close();
+                }
+                _remainderStatement =
+                        _connection.prepareStatement(getSql(_rowCount));
+                _remainderRowCount = _rowCount;
+            }
+            _result += execute(_remainderStatement);
+        }
+
+        final int result = _result;
+        _result = 0;
+        return result;
+    }
+
+    @Override
+    public void clearBatch() throws SQLException
+    {
+        logger.debug("clearBatch() - start");
+
+        clearRows();
+        _result = 0;
+    }
+
+    @Override
+    public void close() throws SQLException
+    {
+        logger.debug("close() - start");
+
+        SQLException closeFailure = null;
+        for (final PreparedStatement statement : new PreparedStatement[] {
+                _fullStatement, _remainderStatement})
+        {
+            if (statement == null)
+            {
+                continue;
+            }
+            try
+            {
+                statement.close();
+            }
+            catch (final SQLException e)
+            {
+                if (closeFailure == null)
+                {
+                    closeFailure = e;
+                }
+                else
+                {
+                    closeFailure.addSuppressed(e);
+                }
+            }
+        }
+        if (closeFailure != null)
+        {
+            throw closeFailure;
+        }
+    }
+
+    private int execute(final PreparedStatement statement) throws SQLException
+    {
+        try
+        {
+            for (int i = 0; i < _values.size(); i++)
+            {
+                final Object value = _values.get(i);
+                final DataType dataType = _dataTypes.get(i);
+
+                // Special NULL handling
+                if (value == null || value == ITable.NO_VALUE)
+                {
+                    final String sqlTypeName = dataType.getSqlTypeName();
+                    if (sqlTypeName == null)
+                    {
+                        statement.setNull(i + 1, dataType.getSqlType());
+                    }
+                    else
+                    {
+                        statement.setNull(i + 1, dataType.getSqlType(),
+                                sqlTypeName);
+                    }
+                }
+                else
+                {
+                    dataType.setSqlValue(value, i + 1, statement);
+                }
+            }
+        }
+        catch (final TypeCastException e)
+        {
+            // values were cast by addValue already
+            throw new SQLException("Cannot bind value: " + e.getMessage(), e);
+        }
+        finally
+        {
+            clearRows();
+        }
+        return statement.executeUpdate();
+    }
+
+    private void clearRows()
+    {
+        _values.clear();
+        _dataTypes.clear();
+        _rowCount = 0;
+    }
+}
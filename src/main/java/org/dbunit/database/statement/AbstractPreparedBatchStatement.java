@@ -48,16 +48,45 @@ public abstract class AbstractPreparedBatchStatement implements IPreparedBatchSt
      */
     protected final PreparedStatement _statement;
 
+    private final String _sql;
+    private final Connection _connection;
+    private final PreparedStatementCache _cache;
+
     AbstractPreparedBatchStatement(String sql, Connection connection)
             throws SQLException
     {
-        _statement = connection.prepareStatement(sql);
+        this(sql, connection, null);
+    }
+
+    /**
+     * @param cache
+     *            The cache to lease the statement from and release it to on
+     *            {@link #close()}, or <code>null</code> to prepare and close
+     *            the statement directly.
+     * @since 3.6.0
+     */
+    AbstractPreparedBatchStatement(final String sql,
+            final Connection connection, final PreparedStatementCache cache)
+            throws SQLException
+    {
+        _sql = sql;
+        _connection = connection;
+        _cache = cache;
+        _statement = cache == null ? connection.prepareStatement(sql)
+                : cache.lease(connection, sql);
     }
 
     public void close() throws SQLException
     {
         logger.debug("close() - start");
 
-        _statement.close();
+        if (_cache == null)
+        {
+            _statement.close();
+        }
+        else
+        {
+            _cache.release(_connection, _sql, _statement);
+        }
     }
 }
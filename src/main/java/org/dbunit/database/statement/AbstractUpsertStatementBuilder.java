@@ -0,0 +1,129 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.database.statement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Abstract base {@link IUpsertStatementBuilder} implementation providing the
+ * column list helpers shared by the vendor-specific builders.
+ *
+ * @since 3.6.0
+ */
+public abstract class AbstractUpsertStatementBuilder
+        implements IUpsertStatementBuilder
+{
+    /**
+     * Returns the columns that are not part of the primary key, i.e. the
+     * columns an upsert updates when the row already exists.
+     *
+     * @param columnNames
+     *            The escaped names of all bound columns.
+     * @param primaryKeyNames
+     *            The escaped names of the primary key columns.
+     * @return The non-key column names, in <code>columnNames</code> order.
+     */
+    protected static String[] getNonKeyColumnNames(final String[] columnNames,
+            final String[] primaryKeyNames)
+    {
+        final List<String> keys = Arrays.asList(primaryKeyNames);
+        final List<String> nonKeys = new ArrayList<>(columnNames.length);
+        for (final String columnName : columnNames)
+        {
+            if (!keys.contains(columnName))
+            {
+                nonKeys.add(columnName);
+            }
+        }
+        return nonKeys.toArray(new String[0]);
+    }
+
+    /**
+     * Appends the given names separated by <code>", "</code>, each prefixed
+     * with the given qualifier.
+     *
+     * @param sql
+     *            The buffer to append to.
+     * @param names
+     *            The names to append.
+     * @param qualifier
+     *            Prepended to each name, e.g. <code>"s."</code>; may be empty.
+     */
+    protected static void appendList(final StringBuilder sql,
+            final String[] names, final String qualifier)
+    {
+        for (int i = 0; i < names.length; i++)
+        {
+            if (i > 0)
+            {
+                sql.append(", ");
+            }
+            sql.append(qualifier).append(names[i]);
+        }
+    }
+
+    /**
+     * Appends one <code>?</code> parameter marker per column, separated by
+     * <code>", "</code>.
+     *
+     * @param sql
+     *            The buffer to append to.
+     * @param count
+     *            The number of parameter markers.
+     */
+    protected static void appendParameters(final StringBuilder sql,
+            final int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            if (i > 0)
+            {
+                sql.append(", ");
+            }
+            sql.append("?");
+        }
+    }
+
+    /**
+     * Appends a plain <code>insert into t (c1, ...) values (?, ...)</code>
+     * statement, the common prefix of the <code>INSERT</code>-based upsert
+     * dialects.
+     *
+     * @param sql
+     *            The buffer to append to.
+     * @param tableName
+     *            The qualified and escaped table name.
+     * @param columnNames
+     *            The escaped names of the bound columns.
+     */
+    protected static void appendInsert(final StringBuilder sql,
+            final String tableName, final String[] columnNames)
+    {
+        sql.append("insert into ").append(tableName).append(" (");
+        appendList(sql, columnNames, "");
+        sql.append(") values (");
+        appendParameters(sql, columnNames.length);
+        sql.append(")");
+    }
+}
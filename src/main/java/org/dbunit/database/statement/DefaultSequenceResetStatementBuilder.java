@@ -0,0 +1,59 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database.statement;
+
+/**
+ * Builds the SQL standard statements
+ * <code>alter table T alter column C restart with n</code> and
+ * <code>alter sequence S restart with n</code>, understood by H2, HSQLDB,
+ * Derby, DB2 and PostgreSQL identity columns. Subclasses in the
+ * <code>org.dbunit.ext</code> packages override them for other databases.
+ *
+ * @since 3.6.0
+ */
+public class DefaultSequenceResetStatementBuilder
+        implements ISequenceResetStatementBuilder
+{
+    @Override
+    public String buildIdentityResetStatement(final String tableName,
+            final String columnName, final long maxValue)
+    {
+        return "alter table " + tableName + " alter column " + columnName
+                + " restart with " + (maxValue + 1);
+    }
+
+    @Override
+    public String buildSequenceResetStatement(final String sequenceName,
+            final long maxValue)
+    {
+        return "alter sequence " + sequenceName + " restart with "
+                + (maxValue + 1);
+    }
+
+    /**
+     * @param text a text.
+     * @return the text as a SQL string literal, single quotes doubled.
+     */
+    protected static String toLiteral(final String text)
+    {
+        return "'" + text.replace("'", "''") + "'";
+    }
+}
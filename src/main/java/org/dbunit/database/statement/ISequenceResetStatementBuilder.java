@@ -0,0 +1,105 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database.statement;
+
+import java.sql.SQLException;
+
+import org.dbunit.database.IDatabaseConnection;
+
+/**
+ * Builds the vendor-specific statements restarting an identity column or a
+ * sequence past the highest key value loaded, such as
+ * <code>ALTER TABLE ... RESTART WITH</code>, <code>setval</code> or
+ * <code>DBCC CHECKIDENT</code>.
+ * <p>
+ * When configured via
+ * {@link org.dbunit.database.DatabaseConfig#PROPERTY_SEQUENCE_RESET_STATEMENT_BUILDER},
+ * {@link org.dbunit.operation.ResetSequencesOperation} sends the statements
+ * of all tables in one {@link IBatchStatement}, so they must not return
+ * result sets.
+ *
+ * @since 3.6.0
+ */
+public interface ISequenceResetStatementBuilder
+{
+    /**
+     * Builds the statement restarting the value generation of an identity or
+     * auto-increment column.
+     *
+     * @param tableName
+     *            The qualified and escaped name of the table.
+     * @param columnName
+     *            The escaped name of the column.
+     * @param maxValue
+     *            The highest value loaded into the column.
+     * @return The SQL statement, making the next generated value
+     *         <code>maxValue + 1</code>.
+     */
+    String buildIdentityResetStatement(String tableName, String columnName,
+            long maxValue);
+
+    /**
+     * Builds the statement restarting the value generation of an identity or
+     * auto-increment column, for builders that read the current definition of
+     * the column first. {@link org.dbunit.operation.ResetSequencesOperation}
+     * calls this method; by default it returns
+     * {@link #buildIdentityResetStatement(String, String, long)}.
+     *
+     * @param connection
+     *            The connection, whose schema is the schema of the table.
+     * @param tableName
+     *            The name of the table, as reported by the database metadata.
+     * @param columnName
+     *            The name of the column, as reported by the database
+     *            metadata.
+     * @param qualifiedTableName
+     *            The qualified and escaped name of the table.
+     * @param escapedColumnName
+     *            The escaped name of the column.
+     * @param maxValue
+     *            The highest value loaded into the column.
+     * @return The SQL statement, making the next generated value
+     *         <code>maxValue + 1</code>.
+     * @throws SQLException
+     *             if reading the definition of the column fails.
+     */
+    default String buildIdentityResetStatement(
+            final IDatabaseConnection connection, final String tableName,
+            final String columnName, final String qualifiedTableName,
+            final String escapedColumnName, final long maxValue)
+            throws SQLException
+    {
+        return buildIdentityResetStatement(qualifiedTableName,
+                escapedColumnName, maxValue);
+    }
+
+    /**
+     * Builds the statement restarting a sequence.
+     *
+     * @param sequenceName
+     *            The name of the sequence, as configured.
+     * @param maxValue
+     *            The highest value loaded from the sequence.
+     * @return The SQL statement, making the next value of the sequence
+     *         <code>maxValue + 1</code>.
+     */
+    String buildSequenceResetStatement(String sequenceName, long maxValue);
+}
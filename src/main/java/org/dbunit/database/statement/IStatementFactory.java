@@ -54,6 +54,47 @@ public interface IStatementFactory
      */
     IPreparedBatchStatement createPreparedBatchStatement(String sql,
             IDatabaseConnection connection) throws SQLException;
+
+    /**
+     * Creates a prepared batch statement for the given single-row
+     * <code>insert into T (...) values (?, ...)</code> statement. Factories
+     * may send several rows per statement; the default implementation
+     * delegates to {@link #createPreparedBatchStatement(String, IDatabaseConnection)}.
+     *
+     * @param sql the single-row insert statement to prepare.
+     * @param parameterCount the number of parameters of one row.
+     * @param connection the database connection to create the statement on.
+     * @return the new prepared batch statement.
+     * @throws SQLException if creating the statement fails.
+     * @since 3.6.0
+     */
+    default IPreparedBatchStatement createPreparedInsertStatement(String sql,
+            int parameterCount, IDatabaseConnection connection)
+            throws SQLException
+    {
+        return createPreparedBatchStatement(sql, connection);
+    }
+
+    /**
+     * Creates a prepared batch statement for the given single-row
+     * <code>delete from T where pk1 = ? and ...</code> statement. Factories
+     * may delete several rows per statement by primary key list; the default
+     * implementation delegates to
+     * {@link #createPreparedBatchStatement(String, IDatabaseConnection)}.
+     *
+     * @param sql the single-row delete statement to prepare.
+     * @param parameterCount the number of parameters of one row.
+     * @param connection the database connection to create the statement on.
+     * @return the new prepared batch statement.
+     * @throws SQLException if creating the statement fails.
+     * @since 3.6.0
+     */
+    default IPreparedBatchStatement createPreparedDeleteStatement(String sql,
+            int parameterCount, IDatabaseConnection connection)
+            throws SQLException
+    {
+        return createPreparedBatchStatement(sql, connection);
+    }
 }
 
 
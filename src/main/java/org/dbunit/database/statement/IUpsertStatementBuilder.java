@@ -0,0 +1,58 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.database.statement;
+
+/**
+ * Builds a vendor-specific, single-statement "insert or update" (upsert) SQL
+ * statement, such as {@code MERGE}, {@code INSERT ... ON CONFLICT} or
+ * {@code INSERT ... ON DUPLICATE KEY UPDATE}.
+ * <p>
+ * When configured via
+ * {@link org.dbunit.database.DatabaseConfig#PROPERTY_UPSERT_STATEMENT_BUILDER},
+ * {@link org.dbunit.operation.DatabaseOperation#REFRESH} prepares one such
+ * statement per table and column set and feeds every row through the
+ * configured {@link IStatementFactory}'s batching, instead of probing each row
+ * with its own update and a follow-up insert.
+ * <p>
+ * The statement must bind exactly one parameter per entry of
+ * <code>columnNames</code>, in that order, and nothing else.
+ *
+ * @since 3.6.0
+ */
+public interface IUpsertStatementBuilder
+{
+    /**
+     * Builds the upsert statement for one table and column set.
+     *
+     * @param tableName
+     *            The qualified and escaped name of the target table.
+     * @param columnNames
+     *            The escaped names of the columns whose values are bound, in
+     *            bind order.
+     * @param primaryKeyNames
+     *            The escaped names of the primary key columns, each also
+     *            present in <code>columnNames</code>. Never empty.
+     * @return The SQL statement.
+     */
+    String buildUpsertStatement(String tableName, String[] columnNames,
+            String[] primaryKeyNames);
+}
@@ -0,0 +1,131 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database.statement;
+
+import java.sql.Connection;
+import java.util.Locale;
+
+/**
+ * Turns a single-row <code>delete from T where a = ? and b = ?</code>
+ * statement into statements deleting several rows by primary key list, so
+ * that one execution deletes many rows:
+ * <ul>
+ * <li><code>where a in (?, ?, ...)</code> for a single key column,</li>
+ * <li><code>where (a, b) in ((?, ?), (?, ?), ...)</code> for a composite key,
+ * when the database supports row value constructors,</li>
+ * <li><code>where (a = ? and b = ?) or (a = ? and b = ?) ...</code>
+ * otherwise.</li>
+ * </ul>
+ * Rows are buffered until <code>rowsPerStatement</code> of them were added,
+ * then deleted in one statement. {@link #executeBatch()} deletes the
+ * remaining rows with a statement sized to fit them.
+ *
+ * @since 3.6.0
+ */
+public class MultiRowDeleteStatement extends AbstractMultiRowStatement
+{
+    private static final String WHERE = " where ";
+
+    private static final String AND = " and ";
+
+    private static final String EQUALS_PARAMETER = " = ?";
+
+    private final String _sqlPrefix;
+    private final String[] _columnNames;
+    private final String _sqlCondition;
+    private final boolean _rowValueLists;
+
+    MultiRowDeleteStatement(final String sql, final int rowsPerStatement,
+            final boolean rowValueLists, final Connection connection)
+    {
+        super(rowsPerStatement, connection);
+        final int whereIndex =
+                sql.toLowerCase(Locale.ENGLISH).lastIndexOf(WHERE);
+        if (whereIndex < 0 || !sql.endsWith(EQUALS_PARAMETER))
+        {
+            throw new IllegalArgumentException(
+                    "Not a single-row delete statement: " + sql);
+        }
+        _sqlPrefix = sql.substring(0, whereIndex + WHERE.length());
+        _sqlCondition = sql.substring(whereIndex + WHERE.length());
+        _columnNames = _sqlCondition.split(AND);
+        for (int i = 0; i < _columnNames.length; i++)
+        {
+            if (!_columnNames[i].endsWith(EQUALS_PARAMETER))
+            {
+                throw new IllegalArgumentException(
+                        "Not a single-row delete statement: " + sql);
+            }
+            _columnNames[i] = _columnNames[i].substring(0,
+                    _columnNames[i].length() - EQUALS_PARAMETER.length());
+        }
+        _rowValueLists = rowValueLists;
+    }
+
+    /**
+     * @param rowCount
+     *            The number of rows the statement deletes.
+     * @return The multi-row delete statement.
+     */
+    @Override
+    String getSql(final int rowCount)
+    {
+        final StringBuilder sql = new StringBuilder(_sqlPrefix.length()
+                + rowCount * (_sqlCondition.length() + 6));
+        sql.append(_sqlPrefix);
+        if (_columnNames.length == 1)
+        {
+            sql.append(_columnNames[0]).append(" in (");
+            appendRows(sql, rowCount, "?", ", ");
+            sql.append(')');
+        }
+        else if (_rowValueLists)
+        {
+            sql.append('(').append(String.join(", ", _columnNames))
+                    .append(") in (");
+            final StringBuilder row = new StringBuilder("(");
+            for (int i = 0; i < _columnNames.length; i++)
+            {
+                row.append(i == 0 ? "?" : ", ?");
+            }
+            appendRows(sql, rowCount, row.append(')').toString(), ", ");
+            sql.append(')');
+        }
+        else
+        {
+            appendRows(sql, rowCount, "(" + _sqlCondition + ")", " or ");
+        }
+        return sql.toString();
+    }
+
+    private static void appendRows(final StringBuilder sql, final int rowCount,
+            final String row, final String separator)
+    {
+        for (int i = 0; i < rowCount; i++)
+        {
+            if (i > 0)
+            {
+                sql.append(separator);
+            }
+            sql.append(row);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.database.statement;
+
+import java.sql.Connection;
+import java.util.Locale;
+
+/**
+ * Turns a single-row <code>insert into T (...) values (?, ...)</code> statement
+ * into multi-row <code>values (?, ...), (?, ...), ...</code> statements, so
+ * that several rows are sent in one statement without relying on the driver's
+ * JDBC batching.
+ * <p>
+ * Rows are buffered until <code>rowsPerStatement</code> of them were added,
+ * then executed in one statement. {@link #executeBatch()} executes the
+ * remaining rows with a statement sized to fit them.
+ *
+ * @since 3.6.0
+ */
+public class MultiRowInsertStatement extends AbstractMultiRowStatement
+{
+    private static final String VALUES = " values ";
+
+    private final String _sqlPrefix;
+    private final String _sqlRow;
+    private final String _sqlSuffix;
+
+    /**
+     * @param sql
+     *            The single-row insert statement. Its last
+     *            <code>values (...)</code> row is repeated, any text before
+     *            and after it is kept as is.
+     * @param rowsPerStatement
+     *            The number of rows sent per statement.
+     * @param connection
+     *            The JDBC connection.
+     */
+    public MultiRowInsertStatement(final String sql,
+            final int rowsPerStatement, final Connection connection)
+    {
+        super(rowsPerStatement, connection);
+        final int valuesIndex = sql.toLowerCase(Locale.ENGLISH)
+                .lastIndexOf(VALUES + "(");
+        if (valuesIndex < 0)
+        {
+            throw new IllegalArgumentException(
+                    "Not a single-row insert statement: " + sql);
+        }
+        final int rowStart = valuesIndex + VALUES.length();
+        final int rowEnd = sql.indexOf(')', rowStart) + 1;
+
+        _sqlPrefix = sql.substring(0, rowStart);
+        _sqlRow = sql.substring(rowStart, rowEnd);
+        _sqlSuffix = sql.substring(rowEnd);
+    }
+
+    /**
+     * @param rowCount
+     *            The number of rows the statement inserts.
+     * @return The multi-row insert statement.
+     */
+    @Override
+    String getSql(final int rowCount)
+    {
+        final StringBuilder sql = new StringBuilder(_sqlPrefix.length()
+                + rowCount * (_sqlRow.length() + 2) + _sqlSuffix.length());
+        sql.append(_sqlPrefix);
+        for (int i = 0; i < rowCount; i++)
+        {
+            if (i > 0)
+            {
+                sql.append(", ");
+            }
+            sql.append(_sqlRow);
+        }
+        sql.append(_sqlSuffix);
+        return sql.toString();
+    }
+}
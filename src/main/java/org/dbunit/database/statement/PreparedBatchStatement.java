@@ -52,7 +52,16 @@ public class PreparedBatchStatement extends AbstractPreparedBatchStatement
     PreparedBatchStatement(String sql, Connection connection)
             throws SQLException
     {
-        super(sql, connection);
+        this(sql, connection, null);
+    }
+
+    /**
+     * @since 3.6.0
+     */
+    PreparedBatchStatement(final String sql, final Connection connection,
+            final PreparedStatementCache cache) throws SQLException
+    {
+        super(sql, connection, cache);
         _index = 0;
     }
 
@@ -0,0 +1,330 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Least recently used cache of {@link PreparedStatement}s of one JDBC
+ * {@link Connection}, keyed by their SQL.
+ * <p>
+ * Database operations lease a statement for the time they use it, see
+ * {@link #lease(Connection, String)}, and hand it back with
+ * {@link #release(Connection, String, PreparedStatement)}, so the next
+ * operation preparing the same SQL on the same connection reuses it instead of
+ * preparing it again. Statements beyond {@link #getMaxSize()} are closed, least
+ * recently released first.
+ * <p>
+ * The cache belongs to a single connection: leasing for a different JDBC
+ * connection, or for a closed one, first {@link #invalidate() invalidates} all
+ * cached statements. {@link org.dbunit.database.IDatabaseConnection#close()}
+ * invalidates the cache of the connection, see
+ * {@link org.dbunit.database.IDatabaseConnection#getPreparedStatementCache()}.
+ * <p>
+ * Hits and misses per SQL are kept for the {@link #getMaxSize()} most recently
+ * leased SQL strings only, so that connections running many distinct
+ * statements do not accumulate counters.
+ *
+ * @since 3.6.0
+ * @see org.dbunit.database.DatabaseConfig#PROPERTY_PREPARED_STATEMENT_CACHE_SIZE
+ */
+public class PreparedStatementCache
+{
+    /** Logger for this class */
+    private static final Logger logger =
+            LoggerFactory.getLogger(PreparedStatementCache.class);
+
+    private final int _maxSize;
+    private final LinkedHashMap<String, PreparedStatement> _statements;
+    private final Map<String, long[]> _counters;
+    private Connection _connection;
+    private long _hitCount;
+    private long _missCount;
+
+    /**
+     * @param maxSize
+     *            The maximum number of statements kept open in the cache.
+     *            Must be positive.
+     */
+    public PreparedStatementCache(final int maxSize)
+    {
+        if (maxSize < 1)
+        {
+            throw new IllegalArgumentException(
+                    "maxSize must be positive but was " + maxSize);
+        }
+        _maxSize = maxSize;
+        _statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f,
+                true);
+        _counters = new LinkedHashMap<String, long[]>()
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<String, long[]> eldest)
+            {
+                return size() > _maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns a statement for the given SQL, taking it out of the cache until it
+     * is {@link #release(Connection, String, PreparedStatement) released}, or
+     * preparing a new one if none is cached.
+     *
+     * @param connection
+     *            The connection the statement must belong to.
+     * @param sql
+     *            The SQL of the statement.
+     * @return The statement, never <code>null</code>.
+     * @throws SQLException
+     *             If preparing the statement fails.
+     */
+    public PreparedStatement lease(final Connection connection,
+            final String sql) throws SQLException
+    {
+        PreparedStatement statement;
+        synchronized (this)
+        {
+            if (connection != _connection || connection.isClosed())
+            {
+                invalidate();
+                _connection = connection;
+            }
+
+            statement = _statements.remove(sql);
+            final long[] counter = getCounter(sql);
+            if (statement != null)
+            {
+                _hitCount++;
+                counter[0]++;
+                logger.debug("lease() - reusing statement for sql={}", sql);
+                return statement;
+            }
+            _missCount++;
+            counter[1]++;
+        }
+
+        logger.debug("lease() - preparing statement for sql={}", sql);
+        return connection.prepareStatement(sql);
+    }
+
+    /**
+     * Hands a leased statement back to the cache, clearing its parameters and
+     * pending batch. The statement is closed instead if it does not belong to
+     * the connection of the cache anymore or if another statement for the same
+     * SQL has been released in the meantime.
+     *
+     * @param connection
+     *            The connection the statement was leased for.
+     * @param sql
+     *            The SQL of the statement.
+     * @param statement
+     *            The statement returned by {@link #lease(Connection, String)}.
+     * @throws SQLException
+     *             If resetting or closing the statement fails.
+     */
+    public void release(final Connection connection, final String sql,
+            final PreparedStatement statement) throws SQLException
+    {
+        final List<PreparedStatement> toClose =
+                new ArrayList<PreparedStatement>();
+        synchronized (this)
+        {
+            if (connection != _connection || statement.isClosed()
+                    || _statements.containsKey(sql))
+            {
+                toClose.add(statement);
+            }
+            else
+            {
+                try
+                {
+                    statement.clearParameters();
+                    statement.clearBatch();
+                } catch (final SQLException e)
+                {
+                    statement.close();
+                    throw e;
+                }
+                _statements.put(sql, statement);
+                final Iterator<PreparedStatement> iterator =
+                        _statements.values().iterator();
+                while (_statements.size() > _maxSize)
+                {
+                    toClose.add(iterator.next());
+                    iterator.remove();
+                }
+            }
+        }
+
+        close(toClose);
+    }
+
+    /**
+     * Closes and forgets all cached statements. Statements currently leased
+     * are closed when they are released.
+     *
+     * @throws SQLException
+     *             If closing a statement fails. All statements are closed
+     *             regardless.
+     */
+    public void invalidate() throws SQLException
+    {
+        final List<PreparedStatement> toClose;
+        synchronized (this)
+        {
+            toClose = new ArrayList<PreparedStatement>(_statements.values());
+            _statements.clear();
+            _connection = null;
+        }
+
+        if (!toClose.isEmpty())
+        {
+            logger.debug("invalidate() - closing {} cached statements",
+                    toClose.size());
+        }
+        close(toClose);
+    }
+
+    /**
+     * @return The maximum number of statements kept open in the cache.
+     */
+    public int getMaxSize()
+    {
+        return _maxSize;
+    }
+
+    /**
+     * @return The number of statements currently cached, excluding leased
+     *         ones.
+     */
+    public synchronized int getSize()
+    {
+        return _statements.size();
+    }
+
+    /**
+     * @return The number of leases served by a cached statement.
+     */
+    public synchronized long getHitCount()
+    {
+        return _hitCount;
+    }
+
+    /**
+     * @return The number of leases that prepared a new statement.
+     */
+    public synchronized long getMissCount()
+    {
+        return _missCount;
+    }
+
+    /**
+     * @param sql
+     *            The SQL of the statement.
+     * @return The number of leases of the given SQL served by a cached
+     *         statement, 0 if the SQL is not among the {@link #getMaxSize()}
+     *         most recently leased ones.
+     */
+    public synchronized long getHitCount(final String sql)
+    {
+        final long[] counter = _counters.get(sql);
+        return counter == null ? 0 : counter[0];
+    }
+
+    /**
+     * @param sql
+     *            The SQL of the statement.
+     * @return The number of leases of the given SQL that prepared a new
+     *         statement, 0 if the SQL is not among the {@link #getMaxSize()}
+     *         most recently leased ones.
+     */
+    public synchronized long getMissCount(final String sql)
+    {
+        final long[] counter = _counters.get(sql);
+        return counter == null ? 0 : counter[1];
+    }
+
+    private long[] getCounter(final String sql)
+    {
+        // re-inserted so the least recently leased SQL is dropped first
+        long[] counter = _counters.remove(sql);
+        if (counter == null)
+        {
+            counter = new long[2];
+        }
+        _counters.put(sql, counter);
+        return counter;
+    }
+
+    private static void close(final List<PreparedStatement> statements)
+            throws SQLException
+    {
+        SQLException failure = null;
+        for (final PreparedStatement statement : statements)
+        {
+            try
+            {
+                statement.close();
+            } catch (final SQLException e)
+            {
+                if (failure == null)
+                {
+                    failure = e;
+                }
+                else
+                {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null)
+        {
+            throw failure;
+        }
+    }
+
+    @Override
+    public synchronized String toString()
+    {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getName()).append("[");
+        sb.append("maxSize=").append(_maxSize);
+        sb.append(", size=").append(_statements.size());
+        sb.append(", hitCount=").append(_hitCount);
+        sb.append(", missCount=").append(_missCount);
+        sb.append("]");
+        return sb.toString();
+    }
+}
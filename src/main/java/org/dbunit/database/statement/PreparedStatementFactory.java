@@ -44,6 +44,12 @@ public class PreparedStatementFactory extends AbstractStatementFactory
      */
     private static final Logger logger = LoggerFactory.getLogger(PreparedStatementFactory.class);
 
+    /**
+     * Conservative bind parameter limit used when the database is not known.
+     * @since 3.6.0
+     */
+    public static final int DEFAULT_MAX_PARAMETER_COUNT = 999;
+
     public IBatchStatement createBatchStatement(IDatabaseConnection connection)
             throws SQLException
     {
@@ -70,16 +76,122 @@ public class PreparedStatementFactory extends AbstractStatementFactory
     	
     	Integer batchSize = (Integer)connection.getConfig().getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE);
 
+        PreparedStatementCache cache = connection.getPreparedStatementCache();
         IPreparedBatchStatement statement = null;
         if (supportBatchStatement(connection))
         {
-            statement = new PreparedBatchStatement(sql, connection.getConnection());
+            statement = new PreparedBatchStatement(sql, connection.getConnection(), cache);
         }
         else
         {
-            statement = new SimplePreparedStatement(sql, connection.getConnection());
+            statement = new SimplePreparedStatement(sql, connection.getConnection(), cache);
         }
         return new AutomaticPreparedBatchStatement(statement, batchSize.intValue());
     }
-}
 
+    /**
+     * Sends up to {@link DatabaseConfig#PROPERTY_BATCH_SIZE} rows per
+     * multi-row insert statement when
+     * {@link DatabaseConfig#FEATURE_MULTI_ROW_INSERTS} is enabled, fewer when
+     * needed to respect {@link #getMaxParameterCount()} and
+     * {@link #getMaxRowCount()}.
+     */
+    @Override
+    public IPreparedBatchStatement createPreparedInsertStatement(String sql,
+            int parameterCount, IDatabaseConnection connection)
+            throws SQLException
+    {
+        if (logger.isDebugEnabled())
+        {
+            logger.debug("createPreparedInsertStatement(sql={}, parameterCount={}, connection={}) - start",
+                    sql, parameterCount, connection);
+        }
+
+        DatabaseConfig config = connection.getConfig();
+        if (config.getFeature(DatabaseConfig.FEATURE_MULTI_ROW_INSERTS)
+                && parameterCount > 0)
+        {
+            Integer batchSize = (Integer)config.getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE);
+            int rowsPerStatement = Math.min(batchSize.intValue(),
+                    Math.min(getMaxParameterCount() / parameterCount, getMaxRowCount()));
+            if (rowsPerStatement > 1)
+            {
+                return new MultiRowInsertStatement(sql, rowsPerStatement,
+                        connection.getConnection());
+            }
+        }
+        return createPreparedBatchStatement(sql, connection);
+    }
+
+    /**
+     * Deletes up to {@link DatabaseConfig#PROPERTY_BATCH_SIZE} rows per
+     * statement by primary key list when
+     * {@link DatabaseConfig#FEATURE_MULTI_ROW_DELETES} is enabled, fewer when
+     * needed to respect {@link #getMaxParameterCount()}. Composite keys are
+     * listed as row values when {@link #isRowValueListSupported()}.
+     */
+    @Override
+    public IPreparedBatchStatement createPreparedDeleteStatement(String sql,
+            int parameterCount, IDatabaseConnection connection)
+            throws SQLException
+    {
+        if (logger.isDebugEnabled())
+        {
+            logger.debug("createPreparedDeleteStatement(sql={}, parameterCount={}, connection={}) - start",
+                    sql, parameterCount, connection);
+        }
+
+        DatabaseConfig config = connection.getConfig();
+        if (config.getFeature(DatabaseConfig.FEATURE_MULTI_ROW_DELETES)
+                && parameterCount > 0)
+        {
+            Integer batchSize = (Integer)config.getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE);
+            int rowsPerStatement = Math.min(batchSize.intValue(),
+                    getMaxParameterCount() / parameterCount);
+            if (rowsPerStatement > 1)
+            {
+                return new MultiRowDeleteStatement(sql, rowsPerStatement,
+                        isRowValueListSupported(), connection.getConnection());
+            }
+        }
+        return createPreparedBatchStatement(sql, connection);
+    }
+
+    /**
+     * Returns the maximum number of bind parameters of one statement. Override
+     * for databases allowing more; see the <code>org.dbunit.ext</code>
+     * packages.
+     *
+     * @return {@value #DEFAULT_MAX_PARAMETER_COUNT} by default.
+     * @since 3.6.0
+     */
+    protected int getMaxParameterCount()
+    {
+        return DEFAULT_MAX_PARAMETER_COUNT;
+    }
+
+    /**
+     * Returns the maximum number of rows of one multi-row insert statement.
+     *
+     * @return {@link Integer#MAX_VALUE} by default, no limit besides the
+     *         batch size and parameter count.
+     * @since 3.6.0
+     */
+    protected int getMaxRowCount()
+    {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns whether the database accepts row value lists such as
+     * <code>(a, b) in ((?, ?), (?, ?))</code>, used by multi-row deletes on
+     * composite keys instead of <code>or</code>-ed conditions.
+     *
+     * @return <code>false</code> by default.
+     * @since 3.6.0
+     */
+    protected boolean isRowValueListSupported()
+    {
+        return false;
+    }
+}
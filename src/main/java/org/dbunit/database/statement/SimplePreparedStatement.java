@@ -60,7 +60,26 @@ public class SimplePreparedStatement extends AbstractPreparedBatchStatement
     public SimplePreparedStatement(String sql, Connection connection)
             throws SQLException
     {
-        super(sql, connection);
+        this(sql, connection, null);
+    }
+
+    /**
+     * Creates a new <code>SimplePreparedStatement</code> leasing its statement
+     * from the given cache.
+     *
+     * @param sql the SQL statement to prepare.
+     * @param connection the JDBC connection to prepare the statement on.
+     * @param cache the cache to lease the statement from and release it to on
+     *        {@link #close()}, or <code>null</code> to prepare and close it
+     *        directly.
+     * @throws SQLException if preparing the statement fails.
+     * @since 3.6.0
+     */
+    public SimplePreparedStatement(final String sql,
+            final Connection connection, final PreparedStatementCache cache)
+            throws SQLException
+    {
+        super(sql, connection, cache);
         _index = 0;
         _result = 0;
     }
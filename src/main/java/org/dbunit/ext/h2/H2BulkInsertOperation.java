@@ -0,0 +1,211 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.h2;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.operation.AbstractBulkInsertOperation;
+import org.dbunit.operation.CompositeOperation;
+import org.dbunit.operation.DatabaseOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Inserts the dataset with H2 <code>CSVREAD</code>: the rows of each table are
+ * written to a temporary CSV file, loaded with a single
+ * <code>insert ... select ... from csvread(...)</code> statement, and the file
+ * is deleted afterwards.
+ * <p>
+ * The database must be able to read the temporary file, so this only works
+ * for embedded databases; over a client/server connection
+ * (<code>jdbc:h2:tcp:</code> or <code>jdbc:h2:ssl:</code> URLs) tables are
+ * loaded with {@link DatabaseOperation#INSERT} instead. H2 casts CSV text to
+ * binary as character data rather than hexadecimal, so tables with binary
+ * columns are loaded with {@link DatabaseOperation#INSERT} as well.
+ *
+ * @since 3.6.0
+ */
+public class H2BulkInsertOperation extends AbstractBulkInsertOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(H2BulkInsertOperation.class);
+
+    /** Inserts the dataset with <code>CSVREAD</code>. */
+    public static final DatabaseOperation INSERT = new H2BulkInsertOperation();
+
+    /** {@link DatabaseOperation#DELETE_ALL} followed by {@link #INSERT}. */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new CompositeOperation(DatabaseOperation.DELETE_ALL, INSERT);
+
+    @Override
+    protected void loadTable(final IDatabaseConnection connection,
+            final ITable table, final ITableMetaData metaData)
+            throws DatabaseUnitException, SQLException, IOException
+    {
+        final String url = connection.getConnection().getMetaData().getURL();
+        if (isRemote(url))
+        {
+            logger.debug("loadTable: server of url='{}' cannot read local"
+                    + " files, using INSERT", url);
+            DatabaseOperation.INSERT.execute(connection,
+                    new DefaultDataSet(table));
+            return;
+        }
+
+        final Column[] columns = metaData.getColumns();
+        for (final Column column : columns)
+        {
+            if (isBinary(column.getDataType()))
+            {
+                logger.debug("loadTable: table='{}' has binary column='{}',"
+                        + " using INSERT", metaData.getTableName(),
+                        column.getColumnName());
+                DatabaseOperation.INSERT.execute(connection,
+                        new DefaultDataSet(table));
+                return;
+            }
+        }
+
+        final File file = File.createTempFile("dbunit", ".csv");
+        try
+        {
+            writeCsv(file, table, columns);
+
+            final String sql = buildInsertStatement(connection, metaData,
+                    file.getAbsolutePath());
+            logger.debug("loadTable: sql={}", sql);
+
+            final Statement statement =
+                    connection.getConnection().createStatement();
+            try
+            {
+                statement.executeUpdate(sql);
+            }
+            finally
+            {
+                statement.close();
+            }
+        }
+        finally
+        {
+            Files.deleteIfExists(file.toPath());
+        }
+    }
+
+    String buildInsertStatement(final IDatabaseConnection connection,
+            final ITableMetaData metaData, final String fileName)
+            throws DatabaseUnitException
+    {
+        final Column[] columns = metaData.getColumns();
+        final StringBuilder selectList = new StringBuilder();
+        final StringBuilder csvColumns = new StringBuilder();
+        for (int i = 0; i < columns.length; i++)
+        {
+            if (i > 0)
+            {
+                selectList.append(", ");
+                csvColumns.append(',');
+            }
+            selectList.append('c').append(i);
+            csvColumns.append('C').append(i);
+        }
+
+        return "insert into "
+                + getQualifiedName(connection.getSchema(),
+                        metaData.getTableName(), connection)
+                + " (" + getColumnList(columns, connection) + ") select "
+                + selectList + " from csvread(" + quote(fileName) + ", "
+                + quote(csvColumns.toString()) + ", 'charset=UTF-8')";
+    }
+
+    private void writeCsv(final File file, final ITable table,
+            final Column[] columns) throws DatabaseUnitException, IOException
+    {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8)))
+        {
+            int row = 0;
+            Object[] values;
+            while ((values = getRow(table, columns, row)) != null)
+            {
+                for (int i = 0; i < columns.length; i++)
+                {
+                    if (i > 0)
+                    {
+                        writer.write(',');
+                    }
+                    // unquoted empty field is NULL, quoted values are kept
+                    // as is, including the empty string
+                    final String text =
+                            formatValue(values[i], columns[i].getDataType());
+                    if (text != null)
+                    {
+                        writer.write('"');
+                        writer.write(text.replace("\"", "\"\""));
+                        writer.write('"');
+                    }
+                }
+                writer.write('\n');
+                row++;
+            }
+        }
+    }
+
+    /**
+     * @param url the JDBC URL of the connection.
+     * @return whether the URL connects to an H2 server, which may not see
+     *         the files of this JVM.
+     */
+    static boolean isRemote(final String url)
+    {
+        if (url == null)
+        {
+            return false;
+        }
+        final String lowerCaseUrl = url.toLowerCase(Locale.ENGLISH);
+        return lowerCaseUrl.startsWith("jdbc:h2:tcp:")
+                || lowerCaseUrl.startsWith("jdbc:h2:ssl:");
+    }
+
+    private static String quote(final String text)
+    {
+        return "'" + text.replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.h2;
+
+import java.sql.Types;
+import java.util.Map;
+
+import org.dbunit.database.AbstractInformationSchemaMetadataHandler;
+
+/**
+ * Metadata handler for H2 2.x answering each table, column, primary key and foreign key lookup
+ * with a single query on {@code INFORMATION_SCHEMA}. Like {@link H2MetadataHandler}, it reports
+ * the tables of {@code INFORMATION_SCHEMA} itself as {@code SYSTEM TABLE}, so they stay out of
+ * unscoped table listings, and unlike the driver it also answers a primary key lookup for a whole
+ * schema.
+ *
+ * @since 3.6.0
+ */
+public class H2InformationSchemaMetadataHandler extends AbstractInformationSchemaMetadataHandler
+{
+    private static final String TABLES_QUERY = "select t.table_catalog, t.table_schema,"
+            + " t.table_name,"
+            + " case when t.table_schema = 'INFORMATION_SCHEMA' then 'SYSTEM TABLE'"
+            + " when t.table_type = 'BASE TABLE' then 'TABLE' else t.table_type end,"
+            + " t.remarks"
+            + " from information_schema.tables t"
+            + " where t.table_schema like ? and t.table_name like ?"
+            + " order by t.table_schema, t.table_name";
+
+    private static final String COLUMNS_QUERY = "select c.table_catalog, c.table_schema,"
+            + " c.table_name, c.column_name,"
+            + " case when c.data_type = 'ARRAY' then e.data_type || ' ARRAY'"
+            + " else coalesce(c.declared_data_type, c.data_type) end,"
+            + " coalesce(c.character_maximum_length, c.numeric_precision,"
+            + " c.datetime_precision),"
+            + " c.numeric_scale, c.is_nullable, c.remarks, c.column_default,"
+            + " c.ordinal_position, c.is_identity,"
+            + " case when c.is_generated = 'ALWAYS' then 'YES' else 'NO' end"
+            + " from information_schema.columns c"
+            + " left join information_schema.element_types e"
+            + " on e.object_schema = c.table_schema and e.object_name = c.table_name"
+            + " and e.object_type = 'TABLE'"
+            + " and e.collection_type_identifier = c.dtd_identifier"
+            + " where c.table_schema like ? and c.table_name like ?"
+            + " order by c.table_schema, c.table_name, c.ordinal_position";
+
+    private static final String PRIMARY_KEYS_QUERY = "select k.table_catalog, k.table_schema,"
+            + " k.table_name, k.column_name, k.ordinal_position, k.constraint_name"
+            + " from information_schema.table_constraints tc"
+            + " join information_schema.key_column_usage k"
+            + " on k.constraint_schema = tc.constraint_schema"
+            + " and k.constraint_name = tc.constraint_name"
+            + " where tc.constraint_type = 'PRIMARY KEY'"
+            + " and k.table_schema like ? and k.table_name like ?"
+            + " order by k.table_schema, k.table_name, k.ordinal_position";
+
+    private static final String FOREIGN_KEYS_QUERY = "select pk.table_catalog,"
+            + " pk.table_schema, pk.table_name, pk.column_name,"
+            + " fk.table_catalog, fk.table_schema, fk.table_name, fk.column_name,"
+            + " fk.ordinal_position, rc.update_rule, rc.delete_rule,"
+            + " rc.constraint_name, rc.unique_constraint_name"
+            + " from information_schema.referential_constraints rc"
+            + " join information_schema.key_column_usage fk"
+            + " on fk.constraint_schema = rc.constraint_schema"
+            + " and fk.constraint_name = rc.constraint_name"
+            + " join information_schema.key_column_usage pk"
+            + " on pk.constraint_schema = rc.unique_constraint_schema"
+            + " and pk.constraint_name = rc.unique_constraint_name"
+            + " and pk.ordinal_position = fk.position_in_unique_constraint";
+
+    /**
+     * {@inheritDoc}
+     * Reports {@code DECIMAL} and the arrays, which the type info lists only as {@code NUMERIC}
+     * and {@code ARRAY}, as the driver does.
+     */
+    @Override
+    protected int getSqlType(final String typeName, final Map<String, Integer> sqlTypes)
+    {
+        if ("DECIMAL".equals(typeName))
+        {
+            return Types.DECIMAL;
+        }
+        if (typeName != null && typeName.endsWith(" ARRAY"))
+        {
+            return Types.ARRAY;
+        }
+        return super.getSqlType(typeName, sqlTypes);
+    }
+
+    @Override
+    protected String getTablesQuery()
+    {
+        return TABLES_QUERY;
+    }
+
+    @Override
+    protected String getColumnsQuery()
+    {
+        return COLUMNS_QUERY;
+    }
+
+    @Override
+    protected String getPrimaryKeysQuery()
+    {
+        return PRIMARY_KEYS_QUERY;
+    }
+
+    @Override
+    protected String getImportedKeysQuery()
+    {
+        return FOREIGN_KEYS_QUERY
+                + " where fk.table_schema like ? and fk.table_name like ?"
+                + " order by pk.table_schema, pk.table_name, fk.constraint_name,"
+                + " fk.ordinal_position";
+    }
+
+    @Override
+    protected String getExportedKeysQuery()
+    {
+        return FOREIGN_KEYS_QUERY
+                + " where pk.table_schema like ? and pk.table_name like ?"
+                + " order by fk.table_schema, fk.table_name, fk.constraint_name,"
+                + " fk.ordinal_position";
+    }
+}
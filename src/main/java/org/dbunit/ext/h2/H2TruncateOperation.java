@@ -0,0 +1,72 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.h2;
+
+import java.sql.Connection;
+
+import org.dbunit.operation.AbstractFastTruncateOperation;
+import org.dbunit.operation.CompositeOperation;
+import org.dbunit.operation.DatabaseOperation;
+
+/**
+ * Empties the dataset tables with <code>TRUNCATE TABLE</code> while H2's
+ * referential integrity checking is disabled with
+ * <code>SET REFERENTIAL_INTEGRITY FALSE</code>, so tables referenced by
+ * foreign keys can be truncated. The setting is database-wide, requires admin
+ * rights, and is set back to <code>TRUE</code> afterwards; other sessions
+ * writing during the truncate are not checked either. Falls back to
+ * {@link DatabaseOperation#DELETE_ALL} on other databases.
+ *
+ * @since 3.6.0
+ */
+public class H2TruncateOperation extends AbstractFastTruncateOperation
+{
+    /** Truncates the dataset tables. */
+    public static final DatabaseOperation TRUNCATE = new H2TruncateOperation();
+
+    /** {@link #TRUNCATE} followed by {@link DatabaseOperation#INSERT}. */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new CompositeOperation(TRUNCATE, DatabaseOperation.INSERT);
+
+    @Override
+    protected boolean isSupported(final String productName)
+    {
+        return productName.equals("h2");
+    }
+
+    @Override
+    protected String getDisableConstraintsStatement()
+    {
+        return "set referential_integrity false";
+    }
+
+    /**
+     * H2 does not expose the current setting, so it is always restored to
+     * <code>TRUE</code>.
+     */
+    @Override
+    protected String getRestoreConstraintsStatement(
+            final Connection jdbcConnection)
+    {
+        return "set referential_integrity true";
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.h2;
+
+import org.dbunit.database.statement.AbstractUpsertStatementBuilder;
+
+/**
+ * Builds H2 upsert statements of the form
+ * <code>merge into T (...) key (PK) values (...)</code>.
+ *
+ * @since 3.6.0
+ */
+public class H2UpsertStatementBuilder extends AbstractUpsertStatementBuilder
+{
+    @Override
+    public String buildUpsertStatement(final String tableName,
+            final String[] columnNames, final String[] primaryKeyNames)
+    {
+        final StringBuilder sql = new StringBuilder(256);
+        sql.append("merge into ").append(tableName).append(" (");
+        appendList(sql, columnNames, "");
+        sql.append(") key (");
+        appendList(sql, primaryKeyNames, "");
+        sql.append(") values (");
+        appendParameters(sql, columnNames.length);
+        sql.append(")");
+        return sql.toString();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.hsqldb;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.operation.AbstractFastTruncateOperation;
+import org.dbunit.operation.CompositeOperation;
+import org.dbunit.operation.DatabaseOperation;
+
+/**
+ * Empties the dataset tables with
+ * <code>TRUNCATE TABLE ... AND COMMIT NO CHECK</code>, which skips the
+ * foreign key check for the truncated table alone; HSQLDB's database-wide
+ * <code>SET DATABASE REFERENTIAL INTEGRITY FALSE</code> does not relax
+ * <code>TRUNCATE</code>, so there is no setting to toggle and restore. Each
+ * truncate commits the current transaction. Falls back to
+ * {@link DatabaseOperation#DELETE_ALL} on other databases.
+ *
+ * @since 3.6.0
+ */
+public class HsqldbTruncateOperation extends AbstractFastTruncateOperation
+{
+    /** Truncates the dataset tables. */
+    public static final DatabaseOperation TRUNCATE =
+            new HsqldbTruncateOperation();
+
+    /** {@link #TRUNCATE} followed by {@link DatabaseOperation#INSERT}. */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new CompositeOperation(TRUNCATE, DatabaseOperation.INSERT);
+
+    @Override
+    protected boolean isSupported(final String productName)
+    {
+        return productName.startsWith("hsql");
+    }
+
+    @Override
+    protected String getDisableConstraintsStatement()
+    {
+        return null;
+    }
+
+    @Override
+    protected String getRestoreConstraintsStatement(
+            final Connection jdbcConnection)
+    {
+        return null;
+    }
+
+    @Override
+    protected List<String> getTruncateStatements(final List<String> tableNames)
+    {
+        final List<String> statements = new ArrayList<>(tableNames.size());
+        for (final String tableName : tableNames)
+        {
+            statements.add("truncate table " + tableName + " and commit no check");
+        }
+        return statements;
+    }
+}
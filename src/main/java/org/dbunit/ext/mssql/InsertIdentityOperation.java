@@ -135,7 +135,7 @@ public class InsertIdentityOperation extends AbstractOperation
         _operation = operation;
     }
 
-    boolean hasIdentityColumn(ITableMetaData metaData, IDatabaseConnection connection)
+    static boolean hasIdentityColumn(ITableMetaData metaData, IDatabaseConnection connection)
             throws DataSetException
     {
         logger.debug("hasIdentityColumn(metaData={}, connection={}) - start", metaData, connection);
@@ -0,0 +1,362 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.mssql;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.statement.MultiRowInsertStatement;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.operation.AbstractBulkInsertOperation;
+import org.dbunit.operation.CompositeOperation;
+import org.dbunit.operation.DatabaseOperation;
+import org.dbunit.util.SQLHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Inserts the dataset into SQL Server tables, including explicit values for
+ * <code>IDENTITY</code> columns, in as few round trips as possible.
+ * <p>
+ * {@link #INSERT} sends multi-row <code>insert into T (...) values (...),
+ * (...)</code> statements, sized like {@link MsSqlStatementFactory} does.
+ * For tables with an identity column, as detected by
+ * {@link InsertIdentityOperation}, each statement is wrapped in
+ * <code>set identity_insert T on</code> and <code>off</code> within the same
+ * batch, so a table of up to 1000 rows and 2000 values takes a single round
+ * trip instead of the three of {@link InsertIdentityOperation#INSERT}.
+ * <p>
+ * {@link #BULK_COPY} streams each table through the driver's
+ * <code>SQLServerBulkCopy</code> with <code>KeepIdentity</code> and
+ * <code>KeepNulls</code>, for large tables. It requires the Microsoft JDBC
+ * driver, accessed by reflection; the JDBC connection must unwrap to
+ * <code>com.microsoft.sqlserver.jdbc.SQLServerConnection</code>. Rows are
+ * sent in batches of {@link DatabaseConfig#PROPERTY_BATCH_SIZE}.
+ *
+ * @since 3.6.0
+ */
+public class MsSqlBulkInsertOperation extends AbstractBulkInsertOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(MsSqlBulkInsertOperation.class);
+
+    /** Inserts the dataset with multi-row insert statements. */
+    public static final DatabaseOperation INSERT =
+            new MsSqlBulkInsertOperation(false);
+
+    /** {@link DatabaseOperation#DELETE_ALL} followed by {@link #INSERT}. */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new CompositeOperation(DatabaseOperation.DELETE_ALL, INSERT);
+
+    /** Inserts the dataset with <code>SQLServerBulkCopy</code>. */
+    public static final DatabaseOperation BULK_COPY =
+            new MsSqlBulkInsertOperation(true);
+
+    /** {@link DatabaseOperation#DELETE_ALL} followed by {@link #BULK_COPY}. */
+    public static final DatabaseOperation CLEAN_BULK_COPY =
+            new CompositeOperation(DatabaseOperation.DELETE_ALL, BULK_COPY);
+
+    private static final String DRIVER_PACKAGE = "com.microsoft.sqlserver.jdbc.";
+
+    private final boolean _bulkCopy;
+
+    /**
+     * @param bulkCopy <code>true</code> to load with
+     *            <code>SQLServerBulkCopy</code>, <code>false</code> to send
+     *            multi-row insert statements.
+     */
+    public MsSqlBulkInsertOperation(final boolean bulkCopy)
+    {
+        _bulkCopy = bulkCopy;
+    }
+
+    @Override
+    protected void loadTable(final IDatabaseConnection connection,
+            final ITable table, final ITableMetaData metaData)
+            throws DatabaseUnitException, SQLException
+    {
+        final String tableName = getQualifiedName(connection.getSchema(),
+                metaData.getTableName(), connection);
+        if (_bulkCopy)
+        {
+            bulkCopy(connection, table, metaData, tableName);
+        }
+        else
+        {
+            insert(connection, table, metaData, tableName);
+        }
+    }
+
+    /**
+     * @param connection the database connection.
+     * @param metaData the table metadata.
+     * @param tableName the qualified and escaped table name.
+     * @return the single-row insert statement, wrapped in
+     *         <code>set identity_insert</code> toggles if the table has an
+     *         identity column.
+     * @throws DatabaseUnitException if reading the metadata fails.
+     */
+    String getInsertSql(final IDatabaseConnection connection,
+            final ITableMetaData metaData, final String tableName)
+            throws DatabaseUnitException
+    {
+        final Column[] columns = metaData.getColumns();
+        final StringBuilder sql = new StringBuilder();
+        final boolean identity =
+                InsertIdentityOperation.hasIdentityColumn(metaData, connection);
+        if (identity)
+        {
+            sql.append("set identity_insert ").append(tableName)
+                    .append(" on; ");
+        }
+        sql.append("insert into ").append(tableName).append(" (")
+                .append(getColumnList(columns, connection))
+                .append(") values (");
+        for (int i = 0; i < columns.length; i++)
+        {
+            sql.append(i > 0 ? ", ?" : "?");
+        }
+        sql.append(')');
+        if (identity)
+        {
+            sql.append("; set identity_insert ").append(tableName)
+                    .append(" off");
+        }
+        return sql.toString();
+    }
+
+    private void insert(final IDatabaseConnection connection,
+            final ITable table, final ITableMetaData metaData,
+            final String tableName) throws DatabaseUnitException, SQLException
+    {
+        final Column[] columns = metaData.getColumns();
+        final String sql = getInsertSql(connection, metaData, tableName);
+        final int batchSize = getBatchSize(connection);
+        final int rowsPerStatement = Math.max(1, Math.min(batchSize,
+                Math.min(MsSqlStatementFactory.MAX_PARAMETER_COUNT
+                        / columns.length, MsSqlStatementFactory.MAX_ROW_COUNT)));
+        logger.debug("insert: sql={}, rowsPerStatement={}", sql,
+                rowsPerStatement);
+
+        final MultiRowInsertStatement statement = new MultiRowInsertStatement(
+                sql, rowsPerStatement, connection.getConnection());
+        try
+        {
+            int row = 0;
+            Object[] values;
+            while ((values = getRow(table, columns, row)) != null)
+            {
+                for (int i = 0; i < columns.length; i++)
+                {
+                    statement.addValue(values[i], columns[i].getDataType());
+                }
+                statement.addBatch();
+                row++;
+            }
+            statement.executeBatch();
+        }
+        finally
+        {
+            statement.close();
+        }
+    }
+
+    private void bulkCopy(final IDatabaseConnection connection,
+            final ITable table, final ITableMetaData metaData,
+            final String tableName) throws DatabaseUnitException, SQLException
+    {
+        final Column[] columns = metaData.getColumns();
+        final Connection jdbcConnection = connection.getConnection();
+
+        final Object bulkCopy;
+        try
+        {
+            final Class<?> connectionClass =
+                    loadDriverClass("SQLServerConnection");
+            final Class<?> bulkCopyClass = loadDriverClass("SQLServerBulkCopy");
+            final Class<?> optionsClass =
+                    loadDriverClass("SQLServerBulkCopyOptions");
+
+            final Object options = optionsClass.getConstructor().newInstance();
+            optionsClass.getMethod("setKeepIdentity", Boolean.TYPE)
+                    .invoke(options, Boolean.TRUE);
+            optionsClass.getMethod("setKeepNulls", Boolean.TYPE)
+                    .invoke(options, Boolean.TRUE);
+            optionsClass.getMethod("setBatchSize", Integer.TYPE)
+                    .invoke(options, getBatchSize(connection));
+
+            bulkCopy = bulkCopyClass.getConstructor(Connection.class)
+                    .newInstance(jdbcConnection.unwrap(connectionClass));
+            bulkCopyClass.getMethod("setBulkCopyOptions", optionsClass)
+                    .invoke(bulkCopy, options);
+            bulkCopyClass.getMethod("setDestinationTableName", String.class)
+                    .invoke(bulkCopy, tableName);
+            // map by name, the loaded columns may be a subset of the table's
+            final Method addColumnMapping = bulkCopyClass
+                    .getMethod("addColumnMapping", Integer.TYPE, String.class);
+            for (int i = 0; i < columns.length; i++)
+            {
+                addColumnMapping.invoke(bulkCopy, i + 1,
+                        columns[i].getColumnName());
+            }
+        }
+        catch (final InvocationTargetException e)
+        {
+            throw toException(e.getCause());
+        }
+        catch (final ReflectiveOperationException e)
+        {
+            throw new DatabaseUnitException(
+                    "SQLServerBulkCopy is not available, the Microsoft JDBC"
+                            + " driver is required for bulk copy",
+                    e);
+        }
+
+        try
+        {
+            final MsSqlBulkRecord record = createRecord(jdbcConnection, table,
+                    columns, tableName, getColumnList(columns, connection));
+            final Method writeToServer = getWriteToServer(bulkCopy.getClass());
+            logger.debug("bulkCopy: table={}, source={}", tableName,
+                    writeToServer.getParameterTypes()[0].getName());
+            writeToServer.invoke(bulkCopy,
+                    record.newProxy(writeToServer.getParameterTypes()[0]));
+        }
+        catch (final InvocationTargetException e)
+        {
+            throw toException(MsSqlBulkRecord.unwrap(e.getCause()));
+        }
+        catch (final ReflectiveOperationException e)
+        {
+            throw new DatabaseUnitException(
+                    "Unsupported SQLServerBulkCopy version", e);
+        }
+        finally
+        {
+            try
+            {
+                bulkCopy.getClass().getMethod("close").invoke(bulkCopy);
+            }
+            catch (final ReflectiveOperationException e)
+            {
+                logger.warn("Closing SQLServerBulkCopy failed", e);
+            }
+        }
+    }
+
+    private MsSqlBulkRecord createRecord(final Connection jdbcConnection,
+            final ITable table, final Column[] columns, final String tableName,
+            final String columnList) throws SQLException
+    {
+        // the destination's own types, which bulk copy converts to
+        final int[] types = new int[columns.length];
+        final int[] precisions = new int[columns.length];
+        final int[] scales = new int[columns.length];
+        final Statement statement = jdbcConnection.createStatement();
+        try
+        {
+            final ResultSet resultSet = statement.executeQuery(
+                    "select " + columnList + " from " + tableName
+                            + " where 1 = 0");
+            final ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+            for (int i = 0; i < columns.length; i++)
+            {
+                types[i] = resultSetMetaData.getColumnType(i + 1);
+                precisions[i] = resultSetMetaData.getPrecision(i + 1);
+                scales[i] = resultSetMetaData.getScale(i + 1);
+            }
+            resultSet.close();
+        }
+        finally
+        {
+            SQLHelper.close(statement);
+        }
+        return new MsSqlBulkRecord(table, columns, types, precisions, scales);
+    }
+
+    private static int getBatchSize(final IDatabaseConnection connection)
+    {
+        return ((Integer) connection.getConfig()
+                .getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE)).intValue();
+    }
+
+    private static Method getWriteToServer(final Class<?> bulkCopyClass)
+            throws ReflectiveOperationException
+    {
+        // ISQLServerBulkData replaced ISQLServerBulkRecord in driver 7.4
+        for (final String name : new String[] {"ISQLServerBulkData",
+                "ISQLServerBulkRecord"})
+        {
+            try
+            {
+                return bulkCopyClass.getMethod("writeToServer",
+                        loadDriverClass(name));
+            }
+            catch (final ClassNotFoundException | NoSuchMethodException e)
+            {
+                logger.trace("getWriteToServer: {} not supported", name);
+            }
+        }
+        throw new NoSuchMethodException(
+                bulkCopyClass.getName() + ".writeToServer");
+    }
+
+    private static Class<?> loadDriverClass(final String name)
+            throws ClassNotFoundException
+    {
+        return Class.forName(DRIVER_PACKAGE + name);
+    }
+
+    private static SQLException toException(final Throwable failure)
+            throws DatabaseUnitException
+    {
+        if (failure instanceof SQLException)
+        {
+            return (SQLException) failure;
+        }
+        if (failure instanceof DatabaseUnitException)
+        {
+            throw (DatabaseUnitException) failure;
+        }
+        if (failure instanceof RuntimeException)
+        {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error)
+        {
+            throw (Error) failure;
+        }
+        throw new DatabaseUnitException(failure);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.mssql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.RowOutOfBoundsException;
+
+/**
+ * Presents an {@link ITable} as the driver's bulk copy source record
+ * (<code>ISQLServerBulkData</code>, or <code>ISQLServerBulkRecord</code> for
+ * older drivers), without a compile-time dependency on the driver.
+ * <p>
+ * Rows are read forward once and values are cast with the {@link Column}'s
+ * data type. Failures
+ * reading the table are thrown as {@link UndeclaredThrowableException}, since
+ * the driver's interface only declares its own exception type; see
+ * {@link #unwrap(Throwable)}.
+ *
+ * @since 3.6.0
+ */
+class MsSqlBulkRecord implements InvocationHandler
+{
+    private final ITable _table;
+    private final Column[] _columns;
+    private final int[] _types;
+    private final int[] _precisions;
+    private final int[] _scales;
+
+    private int _row = -1;
+
+    /**
+     * @param table the table to read.
+     * @param columns the columns to read, in destination column order.
+     * @param types the {@link java.sql.Types} of the destination columns.
+     * @param precisions the precisions of the destination columns.
+     * @param scales the scales of the destination columns.
+     */
+    MsSqlBulkRecord(final ITable table, final Column[] columns,
+            final int[] types, final int[] precisions, final int[] scales)
+    {
+        _table = table;
+        _columns = columns;
+        _types = types;
+        _precisions = precisions;
+        _scales = scales;
+    }
+
+    /**
+     * @param recordInterface the driver's bulk record interface.
+     * @return a proxy implementing the interface, backed by this record.
+     */
+    Object newProxy(final Class<?> recordInterface)
+    {
+        return Proxy.newProxyInstance(recordInterface.getClassLoader(),
+                new Class<?>[] {recordInterface}, this);
+    }
+
+    /**
+     * @param failure a failure thrown through the driver.
+     * @return the failure this record reported, if it caused
+     *         <code>failure</code>, otherwise <code>failure</code>.
+     */
+    static Throwable unwrap(final Throwable failure)
+    {
+        for (Throwable t = failure; t != null; t = t.getCause())
+        {
+            if (t instanceof UndeclaredThrowableException
+                    && t.getCause() instanceof DatabaseUnitException)
+            {
+                return t.getCause();
+            }
+        }
+        return failure;
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method,
+            final Object[] args) throws Throwable
+    {
+        final String name = method.getName();
+        switch (name)
+        {
+        case "getColumnOrdinals":
+            final Set<Integer> ordinals = new LinkedHashSet<>();
+            for (int i = 1; i <= _columns.length; i++)
+            {
+                ordinals.add(i);
+            }
+            return ordinals;
+        case "getColumnName":
+            return _columns[column(args)].getColumnName();
+        case "getColumnType":
+            return _types[column(args)];
+        case "getPrecision":
+            return _precisions[column(args)];
+        case "getScale":
+            return _scales[column(args)];
+        case "isAutoIncrement":
+            // identity values are supplied, see KeepIdentity
+            return Boolean.FALSE;
+        case "getColumnDateTimeFormatter":
+            // values are typed, the driver's default formats apply
+            return null;
+        case "next":
+            return next();
+        case "getRowData":
+            return getRowData();
+        case "hashCode":
+            return System.identityHashCode(proxy);
+        case "equals":
+            return proxy == args[0];
+        case "toString":
+            return "MsSqlBulkRecord[table="
+                    + _table.getTableMetaData().getTableName() + ", row="
+                    + _row + "]";
+        default:
+            if (method.getReturnType() == Void.TYPE)
+            {
+                // column metadata and format setters of the writing side
+                return null;
+            }
+            throw new UnsupportedOperationException(name);
+        }
+    }
+
+    private static int column(final Object[] args)
+    {
+        return ((Integer) args[0]).intValue() - 1;
+    }
+
+    private boolean next()
+    {
+        _row++;
+        try
+        {
+            _table.getValue(_row, _columns[0].getColumnName());
+            return true;
+        }
+        catch (final RowOutOfBoundsException e)
+        {
+            return false;
+        }
+        catch (final DatabaseUnitException e)
+        {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private Object[] getRowData()
+    {
+        final Object[] values = new Object[_columns.length];
+        try
+        {
+            for (int i = 0; i < _columns.length; i++)
+            {
+                final Object value =
+                        _table.getValue(_row, _columns[i].getColumnName());
+                if (value != null && value != ITable.NO_VALUE)
+                {
+                    values[i] = _columns[i].getDataType().typeCast(value);
+                }
+            }
+        }
+        catch (final DatabaseUnitException e)
+        {
+            throw new UndeclaredThrowableException(e);
+        }
+        return values;
+    }
+}
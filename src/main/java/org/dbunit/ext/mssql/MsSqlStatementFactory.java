@@ -0,0 +1,54 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.mssql;
+
+import org.dbunit.database.statement.PreparedStatementFactory;
+
+/**
+ * {@link PreparedStatementFactory} sizing multi-row inserts for SQL Server,
+ * which accepts up to 2100 parameters per request and 1000 rows per
+ * <code>values</code> list.
+ *
+ * @since 3.6.0
+ */
+public class MsSqlStatementFactory extends PreparedStatementFactory
+{
+    /**
+     * Stays below the 2100 limit, which also counts the parameters the driver
+     * passes to <code>sp_executesql</code> itself.
+     */
+    static final int MAX_PARAMETER_COUNT = 2000;
+
+    static final int MAX_ROW_COUNT = 1000;
+
+    @Override
+    protected int getMaxParameterCount()
+    {
+        return MAX_PARAMETER_COUNT;
+    }
+
+    @Override
+    protected int getMaxRowCount()
+    {
+        return MAX_ROW_COUNT;
+    }
+}
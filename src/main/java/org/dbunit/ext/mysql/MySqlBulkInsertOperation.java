@@ -0,0 +1,305 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.mysql;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Types;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.operation.AbstractBulkInsertOperation;
+import org.dbunit.operation.CompositeOperation;
+import org.dbunit.operation.DatabaseOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Inserts the dataset with MySQL <code>LOAD DATA LOCAL INFILE</code>, handing
+ * the rows to the driver as an in-memory stream instead of binding one insert
+ * per row.
+ * <p>
+ * The stream is passed with the <code>setLocalInfileInputStream</code> method
+ * of the MySQL Connector/J and MariaDB statements, so no file is written. Local
+ * infile must be enabled on both sides: <code>allowLoadLocalInfile=true</code>
+ * in the JDBC URL and <code>local_infile=ON</code> on the server. Statements
+ * of connection pools such as HikariCP or DBCP are unwrapped to the driver
+ * statement first.
+ * <p>
+ * Rows are sent in chunks of at most {@link #DEFAULT_CHUNK_SIZE} bytes, one
+ * <code>LOAD DATA</code> statement per chunk, to stay below
+ * <code>max_allowed_packet</code> limits.
+ *
+ * @since 3.6.0
+ */
+public class MySqlBulkInsertOperation extends AbstractBulkInsertOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(MySqlBulkInsertOperation.class);
+
+    /** Inserts the dataset with <code>LOAD DATA LOCAL INFILE</code>. */
+    public static final DatabaseOperation INSERT =
+            new MySqlBulkInsertOperation();
+
+    /** {@link DatabaseOperation#DELETE_ALL} followed by {@link #INSERT}. */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new CompositeOperation(DatabaseOperation.DELETE_ALL, INSERT);
+
+    /** Default maximum size, in characters, of one loaded chunk. */
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    private static final String SET_STREAM_METHOD = "setLocalInfileInputStream";
+
+    /**
+     * The driver statement types having {@link #SET_STREAM_METHOD}: Connector/J
+     * 8 and later, Connector/J 5, MariaDB 3 and MariaDB 2.
+     */
+    private static final String[] DRIVER_STATEMENT_TYPES = {
+            "com.mysql.cj.jdbc.JdbcStatement", "com.mysql.jdbc.Statement",
+            "org.mariadb.jdbc.Statement", "org.mariadb.jdbc.MariaDbStatement"};
+
+    private final int chunkSize;
+
+    /**
+     * Creates the operation with the {@link #DEFAULT_CHUNK_SIZE}.
+     */
+    public MySqlBulkInsertOperation()
+    {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize the maximum size, in characters, of the data sent with
+     *            one <code>LOAD DATA</code> statement.
+     */
+    public MySqlBulkInsertOperation(final int chunkSize)
+    {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void loadTable(final IDatabaseConnection connection,
+            final ITable table, final ITableMetaData metaData)
+            throws DatabaseUnitException, SQLException, IOException
+    {
+        final Column[] columns = metaData.getColumns();
+        final String sql = buildLoadStatement(connection, metaData);
+        logger.debug("loadTable: sql={}", sql);
+
+        final Statement statement = connection.getConnection().createStatement();
+        try
+        {
+            final StringBuilder sb = new StringBuilder();
+            int row = 0;
+            Object[] values;
+            while ((values = getRow(table, columns, row)) != null)
+            {
+                for (int i = 0; i < columns.length; i++)
+                {
+                    if (i > 0)
+                    {
+                        sb.append('\t');
+                    }
+                    appendEscapedText(sb,
+                            formatValue(values[i], columns[i].getDataType()));
+                }
+                sb.append('\n');
+                row++;
+
+                if (sb.length() >= chunkSize)
+                {
+                    load(statement, sql, sb);
+                }
+            }
+            load(statement, sql, sb);
+        }
+        finally
+        {
+            statement.close();
+        }
+    }
+
+    /**
+     * Formats booleans as <code>1</code> and <code>0</code>, which
+     * <code>LOAD DATA</code> converts for both numeric and bit columns.
+     */
+    @Override
+    protected String formatBoolean(final Boolean value)
+    {
+        return value ? "1" : "0";
+    }
+
+    String buildLoadStatement(final IDatabaseConnection connection,
+            final ITableMetaData metaData) throws DataSetException
+    {
+        final Column[] columns = metaData.getColumns();
+        final StringBuilder columnList = new StringBuilder();
+        final StringBuilder setList = new StringBuilder();
+        for (int i = 0; i < columns.length; i++)
+        {
+            if (i > 0)
+            {
+                columnList.append(", ");
+            }
+            final String columnName = getQualifiedName(null,
+                    columns[i].getColumnName(), connection);
+            final DataType dataType = columns[i].getDataType();
+            final String conversion;
+            if (isBinary(dataType))
+            {
+                conversion = "unhex(@v" + i + ")";
+            }
+            else if (dataType.getSqlType() == Types.BIT
+                    || dataType.getSqlType() == Types.BOOLEAN)
+            {
+                conversion = "cast(@v" + i + " as unsigned)";
+            }
+            else
+            {
+                columnList.append(columnName);
+                continue;
+            }
+
+            // values needing a conversion go through a user variable
+            columnList.append("@v").append(i);
+            setList.append(setList.length() == 0 ? " set " : ", ");
+            setList.append(columnName).append(" = ").append(conversion);
+        }
+
+        return "load data local infile 'dbunit.tsv' into table "
+                + getQualifiedName(connection.getSchema(),
+                        metaData.getTableName(), connection)
+                + " character set utf8mb4"
+                + " fields terminated by '\\t' escaped by '\\\\'"
+                + " lines terminated by '\\n'"
+                + " (" + columnList + ")" + setList;
+    }
+
+    private void load(final Statement statement, final String sql,
+            final StringBuilder sb) throws SQLException
+    {
+        if (sb.length() == 0)
+        {
+            return;
+        }
+
+        final InputStream in = new ByteArrayInputStream(
+                sb.toString().getBytes(StandardCharsets.UTF_8));
+        setLocalInfileInputStream(statement, in);
+        try
+        {
+            statement.execute(sql);
+        }
+        finally
+        {
+            setLocalInfileInputStream(statement, null);
+        }
+        sb.setLength(0);
+    }
+
+    private void setLocalInfileInputStream(final Statement statement,
+            final InputStream in) throws SQLException
+    {
+        // MySQL Connector/J and MariaDB statements both have this method, but
+        // without a common interface; neither driver is a compile dependency
+        final Statement driverStatement =
+                unwrap(statement, DRIVER_STATEMENT_TYPES);
+        try
+        {
+            final Method method = driverStatement.getClass()
+                    .getMethod(SET_STREAM_METHOD, InputStream.class);
+            method.invoke(driverStatement, in);
+        }
+        catch (final NoSuchMethodException | IllegalAccessException e)
+        {
+            throw new SQLFeatureNotSupportedException("Statement "
+                    + driverStatement.getClass().getName()
+                    + " does not support " + SET_STREAM_METHOD
+                    + "; use the MySQL Connector/J or MariaDB driver", e);
+        }
+        catch (final InvocationTargetException e)
+        {
+            final Throwable cause = e.getCause();
+            if (cause instanceof SQLException)
+            {
+                throw (SQLException) cause;
+            }
+            throw new SQLException(SET_STREAM_METHOD + " failed", cause);
+        }
+    }
+
+    /**
+     * Returns the driver statement behind a statement wrapped by a connection
+     * pool.
+     *
+     * @param statement the statement, possibly a wrapper.
+     * @param typeNames the driver statement types to unwrap to, in order of
+     *            preference; types that cannot be loaded are skipped.
+     * @return the statement of the first type the statement wraps or is, or
+     *         the statement itself if none.
+     * @throws SQLException if unwrapping fails.
+     */
+    static Statement unwrap(final Statement statement,
+            final String... typeNames) throws SQLException
+    {
+        ClassLoader classLoader = statement.getClass().getClassLoader();
+        if (classLoader == null)
+        {
+            classLoader = MySqlBulkInsertOperation.class.getClassLoader();
+        }
+        for (final String typeName : typeNames)
+        {
+            final Class<?> type;
+            try
+            {
+                type = Class.forName(typeName, false, classLoader);
+            }
+            catch (final ClassNotFoundException e)
+            {
+                continue;
+            }
+            if (Statement.class.isAssignableFrom(type)
+                    && statement.isWrapperFor(type))
+            {
+                logger.debug("unwrap() - unwrapping {} to {}",
+                        statement.getClass().getName(), typeName);
+                return (Statement) statement.unwrap(type);
+            }
+        }
+        return statement;
+    }
+}
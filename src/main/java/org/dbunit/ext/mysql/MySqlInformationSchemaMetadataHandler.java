@@ -0,0 +1,160 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.mysql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.dbunit.database.AbstractInformationSchemaMetadataHandler;
+
+/**
+ * Metadata handler for MySQL 5.7 or later answering each table, column, primary key and foreign
+ * key lookup with a single query on {@code information_schema}.
+ * <p>
+ * Like the driver, and {@link MySqlMetadataHandler}, it reports the database of a table as its
+ * catalog and no schema, and matches a searched schema against that catalog. Type names are
+ * those the driver reports, {@code TINYINT(1)} columns included as {@code BIT}. As with the
+ * driver, the {@code COLUMN_SIZE} of a {@code DATE}, {@code TIME}, {@code DATETIME} or
+ * {@code TIMESTAMP} column is the length of its text form, fractional seconds included.
+ *
+ * @since 3.6.0
+ */
+public class MySqlInformationSchemaMetadataHandler
+        extends AbstractInformationSchemaMetadataHandler
+{
+    private static final String TABLES_QUERY = "select t.table_schema, null, t.table_name,"
+            + " case when t.table_type = 'BASE TABLE'"
+            + " then case when t.table_schema in ('mysql', 'performance_schema')"
+            + " then 'SYSTEM TABLE' else 'TABLE' end"
+            + " when t.table_type = 'TEMPORARY' then 'LOCAL_TEMPORARY'"
+            + " else t.table_type end,"
+            + " t.table_comment"
+            + " from information_schema.tables t"
+            + " where t.table_schema like ? and t.table_name like ?"
+            + " order by t.table_schema, t.table_name";
+
+    private static final String COLUMNS_QUERY = "select c.table_schema, null, c.table_name,"
+            + " c.column_name,"
+            + " case when c.column_type like 'tinyint(1)%' then 'BIT'"
+            + " else upper(concat(c.data_type, case when c.column_type like '%unsigned%'"
+            + " then ' unsigned' else '' end)) end,"
+            + " case when c.data_type in ('datetime', 'timestamp')"
+            + " then 19 + " + fractionLength()
+            + " when c.data_type = 'time' then 8 + " + fractionLength()
+            + " when c.data_type = 'date' then 10"
+            + " else coalesce(c.character_maximum_length, c.numeric_precision) end,"
+            + " c.numeric_scale, c.is_nullable, c.column_comment, c.column_default,"
+            + " c.ordinal_position,"
+            + " case when c.extra like '%auto_increment%' then 'YES' else 'NO' end,"
+            + " case when c.extra like '%virtual generated%'"
+            + " or c.extra like '%stored generated%' then 'YES' else 'NO' end"
+            + " from information_schema.columns c"
+            + " where c.table_schema like ? and c.table_name like ?"
+            + " order by c.table_schema, c.table_name, c.ordinal_position";
+
+    private static final String PRIMARY_KEYS_QUERY = "select k.table_schema, null,"
+            + " k.table_name, k.column_name, k.ordinal_position, k.constraint_name"
+            + " from information_schema.key_column_usage k"
+            + " where k.constraint_name = 'PRIMARY'"
+            + " and k.table_schema like ? and k.table_name like ?"
+            + " order by k.table_schema, k.table_name, k.ordinal_position";
+
+    private static final String FOREIGN_KEYS_QUERY = "select k.referenced_table_schema,"
+            + " null, k.referenced_table_name, k.referenced_column_name,"
+            + " k.table_schema, null, k.table_name, k.column_name, k.ordinal_position,"
+            + " r.update_rule, r.delete_rule, k.constraint_name, r.unique_constraint_name"
+            + " from information_schema.key_column_usage k"
+            + " join information_schema.referential_constraints r"
+            + " on r.constraint_schema = k.constraint_schema"
+            + " and r.constraint_name = k.constraint_name"
+            + " and r.table_name = k.table_name"
+            + " where k.referenced_table_name is not null";
+
+    private final MySqlMetadataHandler _matcher = new MySqlMetadataHandler();
+
+    /**
+     * @return the length of the fractional seconds of a temporal column, with their separator.
+     */
+    private static String fractionLength()
+    {
+        return "case when c.datetime_precision > 0 then c.datetime_precision + 1 else 0 end";
+    }
+
+    @Override
+    protected String getTablesQuery()
+    {
+        return TABLES_QUERY;
+    }
+
+    @Override
+    protected String getColumnsQuery()
+    {
+        return COLUMNS_QUERY;
+    }
+
+    @Override
+    protected String getPrimaryKeysQuery()
+    {
+        return PRIMARY_KEYS_QUERY;
+    }
+
+    @Override
+    protected String getImportedKeysQuery()
+    {
+        return FOREIGN_KEYS_QUERY + " and k.table_schema like ? and k.table_name like ?"
+                + " order by k.referenced_table_schema, k.referenced_table_name,"
+                + " k.constraint_name, k.ordinal_position";
+    }
+
+    @Override
+    protected String getExportedKeysQuery()
+    {
+        return FOREIGN_KEYS_QUERY
+                + " and k.referenced_table_schema like ? and k.referenced_table_name like ?"
+                + " order by k.table_schema, k.table_name, k.constraint_name,"
+                + " k.ordinal_position";
+    }
+
+    @Override
+    public boolean matches(final ResultSet columnsResultSet, final String catalog,
+            final String schema, final String table, final String column,
+            final boolean caseSensitive) throws SQLException
+    {
+        return _matcher.matches(columnsResultSet, catalog, schema, table, column,
+                caseSensitive);
+    }
+
+    @Override
+    public boolean matchesColumn(final String searchCatalog, final String actualCatalog,
+            final String searchSchema, final String actualSchema, final String searchTable,
+            final String actualTable, final String searchColumn, final String actualColumn,
+            final boolean caseSensitive)
+    {
+        return _matcher.matchesColumn(searchCatalog, actualCatalog, searchSchema, actualSchema,
+                searchTable, actualTable, searchColumn, actualColumn, caseSensitive);
+    }
+
+    @Override
+    public String getSchema(final ResultSet resultSet) throws SQLException
+    {
+        return _matcher.getSchema(resultSet);
+    }
+}
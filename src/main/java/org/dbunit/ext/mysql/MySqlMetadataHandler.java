@@ -138,6 +138,30 @@ public class MySqlMetadataHandler implements IMetadataHandler {
         return resultSet;
     }
 
+    /**
+     * {@inheritDoc}
+     * Looks up the columns through {@link #getColumns}, which passes the schema name as catalog
+     * name.
+     * @since 3.6.0
+     */
+    public ResultSet getSchemaColumns(DatabaseMetaData databaseMetaData, String schemaName)
+    throws SQLException
+    {
+        return getColumns(databaseMetaData, schemaName, "%");
+    }
+
+    /**
+     * {@inheritDoc}
+     * Looks up the primary keys through {@link #getPrimaryKeys}, which passes the schema name as
+     * catalog name.
+     * @since 3.6.0
+     */
+    public ResultSet getSchemaPrimaryKeys(DatabaseMetaData databaseMetaData, String schemaName)
+    throws SQLException
+    {
+        return getPrimaryKeys(databaseMetaData, schemaName, null);
+    }
+
     /**
      * {@inheritDoc}
      * Mirrors {@link #matches(ResultSet, String, String, String, String, boolean)}'s
@@ -0,0 +1,42 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.mysql;
+
+import org.dbunit.database.statement.DefaultSequenceResetStatementBuilder;
+
+/**
+ * Restarts MySQL and MariaDB <code>AUTO_INCREMENT</code> columns with
+ * <code>alter table T auto_increment = n</code>; MariaDB sequences with the
+ * standard <code>alter sequence S restart with n</code>.
+ *
+ * @since 3.6.0
+ */
+public class MySqlSequenceResetStatementBuilder
+        extends DefaultSequenceResetStatementBuilder
+{
+    @Override
+    public String buildIdentityResetStatement(final String tableName,
+            final String columnName, final long maxValue)
+    {
+        return "alter table " + tableName + " auto_increment = "
+                + (maxValue + 1);
+    }
+}
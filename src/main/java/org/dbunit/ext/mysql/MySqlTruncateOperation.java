@@ -0,0 +1,77 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.mysql;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.dbunit.operation.AbstractFastTruncateOperation;
+import org.dbunit.operation.CompositeOperation;
+import org.dbunit.operation.DatabaseOperation;
+
+/**
+ * Empties the dataset tables with <code>TRUNCATE TABLE</code> while the
+ * session's <code>FOREIGN_KEY_CHECKS</code> is <code>0</code>, so tables
+ * referenced by foreign keys can be truncated, on MySQL and MariaDB. The
+ * session's previous <code>FOREIGN_KEY_CHECKS</code> value is restored
+ * afterwards. Each truncate commits the current transaction. Falls back to
+ * {@link DatabaseOperation#DELETE_ALL} on other databases.
+ *
+ * @since 3.6.0
+ */
+public class MySqlTruncateOperation extends AbstractFastTruncateOperation
+{
+    /** Truncates the dataset tables. */
+    public static final DatabaseOperation TRUNCATE =
+            new MySqlTruncateOperation();
+
+    /** {@link #TRUNCATE} followed by {@link DatabaseOperation#INSERT}. */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new CompositeOperation(TRUNCATE, DatabaseOperation.INSERT);
+
+    @Override
+    protected boolean isSupported(final String productName)
+    {
+        return productName.equals("mysql") || productName.equals("mariadb");
+    }
+
+    @Override
+    protected String getDisableConstraintsStatement()
+    {
+        return "set foreign_key_checks = 0";
+    }
+
+    @Override
+    protected String getRestoreConstraintsStatement(
+            final Connection jdbcConnection) throws SQLException
+    {
+        try (Statement statement = jdbcConnection.createStatement();
+                ResultSet resultSet =
+                        statement.executeQuery("select @@foreign_key_checks"))
+        {
+            final int value = resultSet.next() ? resultSet.getInt(1) : 1;
+            return "set foreign_key_checks = " + value;
+        }
+    }
+}
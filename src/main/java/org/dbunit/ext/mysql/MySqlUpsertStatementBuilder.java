@@ -0,0 +1,64 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.mysql;
+
+import org.dbunit.database.statement.AbstractUpsertStatementBuilder;
+
+/**
+ * Builds MySQL and MariaDB upsert statements of the form
+ * <code>insert into T (...) values (...) on duplicate key update
+ * C = values(C)</code>.
+ * <p>
+ * The <code>values(C)</code> form is used rather than MySQL 8.0.19's row
+ * alias syntax because MariaDB only understands the former.
+ *
+ * @since 3.6.0
+ */
+public class MySqlUpsertStatementBuilder extends AbstractUpsertStatementBuilder
+{
+    @Override
+    public String buildUpsertStatement(final String tableName,
+            final String[] columnNames, final String[] primaryKeyNames)
+    {
+        final StringBuilder sql = new StringBuilder(256);
+        appendInsert(sql, tableName, columnNames);
+        sql.append(" on duplicate key update ");
+
+        String[] updateNames =
+                getNonKeyColumnNames(columnNames, primaryKeyNames);
+        if (updateNames.length == 0)
+        {
+            // only keys: a no-op assignment keeps existing rows untouched
+            updateNames = new String[] {primaryKeyNames[0]};
+        }
+        for (int i = 0; i < updateNames.length; i++)
+        {
+            if (i > 0)
+            {
+                sql.append(", ");
+            }
+            sql.append(updateNames[i]).append(" = values(")
+                    .append(updateNames[i]).append(")");
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.oracle;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.dbunit.operation.AbstractIndexSuspendingOperation;
+import org.dbunit.operation.DatabaseOperation;
+
+/**
+ * Loads the dataset tables with their enabled triggers disabled and their
+ * valid non-unique indexes marked <code>UNUSABLE</code>, then rebuilds the
+ * indexes with <code>ALTER INDEX ... REBUILD</code> and enables the triggers
+ * again. Unique indexes are kept, since DML fails on an unusable unique
+ * index, as are partitioned, domain and LOB indexes. Falls back to the
+ * decorated operation as is on other databases.
+ * <p>
+ * The session must skip unusable indexes, which it does unless
+ * <code>SKIP_UNUSABLE_INDEXES</code> was set to <code>FALSE</code>. Oracle
+ * commits before and after each DDL statement, so the suspend statements
+ * commit the current transaction.
+ *
+ * @since 3.6.0
+ */
+public class OracleIndexSuspendingOperation
+        extends AbstractIndexSuspendingOperation
+{
+    /** {@link DatabaseOperation#INSERT} with indexes and triggers suspended. */
+    public static final DatabaseOperation INSERT =
+            new OracleIndexSuspendingOperation(DatabaseOperation.INSERT);
+
+    /**
+     * {@link DatabaseOperation#CLEAN_INSERT} with indexes and triggers
+     * suspended.
+     */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new OracleIndexSuspendingOperation(DatabaseOperation.CLEAN_INSERT);
+
+    private static final String CURRENT_SCHEMA =
+            "coalesce(?, sys_context('USERENV', 'CURRENT_SCHEMA'))";
+
+    private static final String SELECT_TRIGGERS = "select owner, trigger_name"
+            + " from all_triggers"
+            + " where table_owner = " + CURRENT_SCHEMA
+            + " and base_object_type = 'TABLE' and status = 'ENABLED'"
+            + " and table_name in (%s)"
+            + " order by table_name, trigger_name";
+
+    private static final String SELECT_INDEXES = "select owner, index_name"
+            + " from all_indexes"
+            + " where table_owner = " + CURRENT_SCHEMA
+            + " and uniqueness = 'NONUNIQUE' and status = 'VALID'"
+            + " and partitioned = 'NO'"
+            + " and index_type in ('NORMAL', 'BITMAP',"
+            + " 'FUNCTION-BASED NORMAL', 'FUNCTION-BASED BITMAP')"
+            + " and table_name in (%s)"
+            + " order by table_name, index_name";
+
+    /**
+     * Creates an operation rebuilding the indexes one after the other on the
+     * connection it is executed with.
+     *
+     * @param operation the operation to decorate.
+     */
+    public OracleIndexSuspendingOperation(final DatabaseOperation operation)
+    {
+        super(operation);
+    }
+
+    /**
+     * Creates an operation rebuilding the indexes concurrently, on connections
+     * opened from a data source for each execution.
+     *
+     * @param operation the operation to decorate.
+     * @param dataSource the data source of the rebuild connections.
+     * @param parallelism the maximum number of indexes rebuilt at once.
+     */
+    public OracleIndexSuspendingOperation(final DatabaseOperation operation,
+            final DataSource dataSource, final int parallelism)
+    {
+        super(operation, dataSource, parallelism);
+    }
+
+    @Override
+    protected boolean isSupported(final String productName)
+    {
+        return productName.equals("oracle");
+    }
+
+    @Override
+    protected List<Suspension> getSuspensions(final Connection jdbcConnection,
+            final String schema, final List<String> tableNames)
+            throws SQLException
+    {
+        if (tableNames.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        final List<String> parameters = new ArrayList<>(tableNames.size() + 1);
+        parameters.add(schema);
+        parameters.addAll(tableNames);
+        final String in = String.join(", ",
+                Collections.nCopies(tableNames.size(), "?"));
+
+        final List<Suspension> suspensions = new ArrayList<>();
+        for (final String[] trigger : query(jdbcConnection,
+                String.format(SELECT_TRIGGERS, in), parameters, 2))
+        {
+            final String name = quote(trigger[0]) + "." + quote(trigger[1]);
+            suspensions.add(new Suspension("alter trigger " + name + " disable",
+                    "alter trigger " + name + " enable", false));
+        }
+        for (final String[] index : query(jdbcConnection,
+                String.format(SELECT_INDEXES, in), parameters, 2))
+        {
+            final String name = quote(index[0]) + "." + quote(index[1]);
+            suspensions.add(new Suspension("alter index " + name + " unusable",
+                    "alter index " + name + " rebuild", true));
+        }
+        return suspensions;
+    }
+
+    private static String quote(final String identifier)
+    {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
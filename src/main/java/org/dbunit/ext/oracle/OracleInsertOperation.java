@@ -0,0 +1,221 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.oracle;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.statement.IStatementFactory;
+import org.dbunit.database.statement.PreparedStatementCache;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.operation.DatabaseOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decorates an insert operation so it binds its rows through an
+ * {@link OracleStatementFactory}: as array DML of
+ * {@link #DEFAULT_BATCH_SIZE} rows per round trip, and optionally direct-path
+ * with the <code>APPEND_VALUES</code> hint.
+ * <p>
+ * The decorated operation sees the factory as
+ * {@link DatabaseConfig#PROPERTY_STATEMENT_FACTORY} of a copy of the
+ * connection's config, so other users of the connection's config are not
+ * affected. Use its constants instead of the equivalents on
+ * {@link DatabaseOperation}.
+ *
+ * @since 3.6.0
+ */
+public class OracleInsertOperation extends DatabaseOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(OracleInsertOperation.class);
+
+    /**
+     * Rows per array DML batch of the constants, larger than the default
+     * {@link DatabaseConfig#PROPERTY_BATCH_SIZE} of 100 since Oracle executes
+     * each batch as one call.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /** {@link DatabaseOperation#INSERT} as array DML. */
+    public static final DatabaseOperation INSERT = new OracleInsertOperation(
+            DatabaseOperation.INSERT,
+            new OracleStatementFactory(DEFAULT_BATCH_SIZE, false));
+
+    /** {@link DatabaseOperation#CLEAN_INSERT} as array DML. */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new OracleInsertOperation(DatabaseOperation.CLEAN_INSERT,
+                    new OracleStatementFactory(DEFAULT_BATCH_SIZE, false));
+
+    /** {@link DatabaseOperation#INSERT} as direct-path array DML. */
+    public static final DatabaseOperation APPEND_VALUES_INSERT =
+            new OracleInsertOperation(DatabaseOperation.INSERT,
+                    new OracleStatementFactory(DEFAULT_BATCH_SIZE, true));
+
+    /** {@link DatabaseOperation#CLEAN_INSERT} as direct-path array DML. */
+    public static final DatabaseOperation CLEAN_APPEND_VALUES_INSERT =
+            new OracleInsertOperation(DatabaseOperation.CLEAN_INSERT,
+                    new OracleStatementFactory(DEFAULT_BATCH_SIZE, true));
+
+    private final DatabaseOperation _operation;
+    private final IStatementFactory _statementFactory;
+
+    /**
+     * @param operation the insert operation to decorate.
+     * @param statementFactory the statement factory it uses.
+     */
+    public OracleInsertOperation(final DatabaseOperation operation,
+            final IStatementFactory statementFactory)
+    {
+        _operation = operation;
+        _statementFactory = statementFactory;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // DatabaseOperation class
+
+    @Override
+    public void execute(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        logger.debug("execute(connection={}, dataSet={}) - start", connection,
+                dataSet);
+
+        _operation.execute(new StatementFactoryConnection(connection,
+                _statementFactory), dataSet);
+    }
+
+    /**
+     * Passes a copy of the connection's {@link DatabaseConfig} with the given
+     * statement factory, leaving the shared config alone.
+     */
+    private static class StatementFactoryConnection
+            implements IDatabaseConnection
+    {
+        private final IDatabaseConnection _connection;
+        private final DatabaseConfig _config = new DatabaseConfig();
+
+        StatementFactoryConnection(final IDatabaseConnection connection,
+                final IStatementFactory statementFactory)
+        {
+            _connection = connection;
+            connection.getConfig().copyPropertiesInto(_config);
+            _config.setProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY,
+                    statementFactory);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException
+        {
+            return _connection.getConnection();
+        }
+
+        @Override
+        public String getSchema()
+        {
+            return _connection.getSchema();
+        }
+
+        @Override
+        public void close() throws SQLException
+        {
+            _connection.close();
+        }
+
+        @Override
+        public IDataSet createDataSet() throws SQLException
+        {
+            return _connection.createDataSet();
+        }
+
+        @Override
+        public IDataSet createDataSet(final String[] tableNames)
+                throws SQLException, DataSetException
+        {
+            return _connection.createDataSet(tableNames);
+        }
+
+        @Override
+        public ITable createQueryTable(final String tableName,
+                final String sql) throws DataSetException, SQLException
+        {
+            return _connection.createQueryTable(tableName, sql);
+        }
+
+        @Override
+        public ITable createTable(final String tableName,
+                final PreparedStatement preparedStatement)
+                throws DataSetException, SQLException
+        {
+            return _connection.createTable(tableName, preparedStatement);
+        }
+
+        @Override
+        public ITable createTable(final String tableName)
+                throws DataSetException, SQLException
+        {
+            return _connection.createTable(tableName);
+        }
+
+        @Override
+        public int getRowCount(final String tableName) throws SQLException
+        {
+            return _connection.getRowCount(tableName);
+        }
+
+        @Override
+        public int getRowCount(final String tableName,
+                final String whereClause) throws SQLException
+        {
+            return _connection.getRowCount(tableName, whereClause);
+        }
+
+        @Override
+        public DatabaseConfig getConfig()
+        {
+            return _config;
+        }
+
+        @Override
+        public PreparedStatementCache getPreparedStatementCache()
+        {
+            return _connection.getPreparedStatementCache();
+        }
+
+        @Override
+        @Deprecated
+        public IStatementFactory getStatementFactory()
+        {
+            return (IStatementFactory) _config
+                    .getProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.oracle;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import oracle.jdbc.OracleBlob;
+import oracle.jdbc.OracleClob;
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * {@link IPreparedBatchStatement} sending its rows as Oracle array DML, one
+ * JDBC batch of up to <code>batchSize</code> rows per round trip.
+ * <p>
+ * Values are bound by the columns' {@link DataType}s, so the
+ * {@link OracleDataTypeFactory} types work unchanged, including those binding
+ * through {@link OraclePreparedStatement}. The temporary LOBs the
+ * LOB types create for each value are freed once their batch was executed,
+ * instead of being held until the session ends.
+ *
+ * @since 3.6.0
+ */
+class OraclePreparedBatchStatement implements IPreparedBatchStatement
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(OraclePreparedBatchStatement.class);
+
+    private final PreparedStatement _statement;
+    private final PreparedStatement _binder;
+    private final int _batchSize;
+
+    private final List<java.sql.Blob> _temporaryBlobs = new ArrayList<>();
+    private final List<java.sql.Clob> _temporaryClobs = new ArrayList<>();
+
+    private int _index;
+    private int _rowCount;
+    private int _result;
+
+    /**
+     * @param sql the statement.
+     * @param connection the JDBC connection.
+     * @param batchSize the number of rows executed per batch, or
+     *            <code>0</code> to execute all rows in one batch on
+     *            {@link #executeBatch()}.
+     * @throws SQLException if preparing the statement fails.
+     */
+    OraclePreparedBatchStatement(final String sql, final Connection connection,
+            final int batchSize) throws SQLException
+    {
+        _statement = connection.prepareStatement(sql);
+        // data types such as SDO_GEOMETRY bind through the Oracle extensions
+        final Class<?> binderType = _statement instanceof OraclePreparedStatement
+                ? OraclePreparedStatement.class : PreparedStatement.class;
+        _binder = (PreparedStatement) Proxy.newProxyInstance(
+                OraclePreparedBatchStatement.class.getClassLoader(),
+                new Class<?>[] {binderType}, new Binder());
+        _batchSize = batchSize;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // IPreparedBatchStatement interface
+
+    @Override
+    public void addValue(final Object value, final DataType dataType)
+            throws TypeCastException, SQLException
+    {
+        // Special NULL handling
+        if (value == null || value == ITable.NO_VALUE)
+        {
+            final String sqlTypeName = dataType.getSqlTypeName();
+            if (sqlTypeName == null)
+            {
+                _statement.setNull(++_index, dataType.getSqlType());
+            }
+            else
+            {
+                _statement.setNull(++_index, dataType.getSqlType(),
+                        sqlTypeName);
+            }
+            return;
+        }
+
+        dataType.setSqlValue(value, ++_index, _binder);
+    }
+
+    @Override
+    public void addBatch() throws SQLException
+    {
+        _statement.addBatch();
+        _index = 0;
+        _rowCount++;
+        if (_batchSize > 0 && _rowCount >= _batchSize)
+        {
+            _result += execute();
+        }
+    }
+
+    @Override
+    public int executeBatch() throws SQLException
+    {
+        logger.debug("executeBatch() - start");
+
+        if (_rowCount > 0)
+        {
+            _result += execute();
+        }
+        final int result = _result;
+        _result = 0;
+        return result;
+    }
+
+    @Override
+    public void clearBatch() throws SQLException
+    {
+        logger.debug("clearBatch() - start");
+
+        _statement.clearBatch();
+        _index = 0;
+        _rowCount = 0;
+        _result = 0;
+        freeTemporaryLobs();
+    }
+
+    @Override
+    public void close() throws SQLException
+    {
+        logger.debug("close() - start");
+
+        try
+        {
+            freeTemporaryLobs();
+        }
+        finally
+        {
+            _statement.close();
+        }
+    }
+
+    private int execute() throws SQLException
+    {
+        logger.debug("execute: rows={}", _rowCount);
+
+        final int rowCount = _rowCount;
+        _rowCount = 0;
+        try
+        {
+            final int[] results = _statement.executeBatch();
+            int result = 0;
+            for (final int count : results)
+            {
+                // drivers before 12c report SUCCESS_NO_INFO for each row
+                result += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+            return results.length == 0 ? rowCount : result;
+        }
+        finally
+        {
+            freeTemporaryLobs();
+        }
+    }
+
+    private void freeTemporaryLobs() throws SQLException
+    {
+        try
+        {
+            for (final java.sql.Blob blob : _temporaryBlobs)
+            {
+                blob.free();
+            }
+            for (final java.sql.Clob clob : _temporaryClobs)
+            {
+                clob.free();
+            }
+        }
+        finally
+        {
+            _temporaryBlobs.clear();
+            _temporaryClobs.clear();
+        }
+    }
+
+    /**
+     * Binds to the statement, recording the temporary LOBs bound.
+     */
+    private class Binder implements InvocationHandler
+    {
+        @Override
+        public Object invoke(final Object proxy, final Method method,
+                final Object[] args) throws Throwable
+        {
+            if (args != null && method.getName().startsWith("set"))
+            {
+                for (final Object arg : args)
+                {
+                    if (arg instanceof OracleBlob
+                            && ((OracleBlob) arg).isTemporary())
+                    {
+                        _temporaryBlobs.add((OracleBlob) arg);
+                    }
+                    else if (arg instanceof OracleClob
+                            && ((OracleClob) arg).isTemporary())
+                    {
+                        _temporaryClobs.add((OracleClob) arg);
+                    }
+                }
+            }
+            try
+            {
+                return method.invoke(_statement, args);
+            }
+            catch (final InvocationTargetException e)
+            {
+                throw e.getCause();
+            }
+        }
+    }
+}
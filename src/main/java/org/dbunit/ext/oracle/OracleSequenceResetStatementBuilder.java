@@ -0,0 +1,131 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.oracle;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.statement.DefaultSequenceResetStatementBuilder;
+
+/**
+ * Restarts Oracle 12c identity columns with
+ * <code>alter table T modify (C generated &lt;mode&gt; as identity (start with
+ * limit value))</code>, keeping the column's generation mode,
+ * <code>always</code>, <code>by default</code> or
+ * <code>by default on null</code>, as read from
+ * <code>all_tab_identity_cols</code>. Oracle restarts the column past the
+ * highest value in the table, which is at least the highest value loaded.
+ * A <code>generated always</code> column still rejects explicit values, so
+ * load it with a dataset leaving the column out. Sequences are restarted
+ * with <code>alter sequence S restart start with n</code>, available since
+ * 18c.
+ * <p>
+ * Oracle commits the current transaction before each of these statements.
+ *
+ * @since 3.6.0
+ */
+public class OracleSequenceResetStatementBuilder
+        extends DefaultSequenceResetStatementBuilder
+{
+    private static final String GENERATION_QUERY = "select"
+            + " case when c.default_on_null = 'YES' then 'by default on null'"
+            + " when i.generation_type = 'ALWAYS' then 'always'"
+            + " else 'by default' end"
+            + " from all_tab_identity_cols i"
+            + " join all_tab_columns c on c.owner = i.owner"
+            + " and c.table_name = i.table_name and c.column_name = i.column_name"
+            + " where i.owner = nvl(?, sys_context('USERENV', 'CURRENT_SCHEMA'))"
+            + " and i.table_name = ? and i.column_name = ?";
+
+    /**
+     * Builds the statement without reading the column, always making it
+     * <code>generated by default</code>. This changes the generation mode of
+     * <code>generated always</code> and <code>by default on null</code>
+     * columns; {@link org.dbunit.operation.ResetSequencesOperation} calls
+     * {@link #buildIdentityResetStatement(IDatabaseConnection, String, String, String, String, long)}
+     * instead, which keeps it.
+     */
+    @Override
+    public String buildIdentityResetStatement(final String tableName,
+            final String columnName, final long maxValue)
+    {
+        return buildIdentityResetStatement(tableName, columnName, "by default");
+    }
+
+    @Override
+    public String buildIdentityResetStatement(
+            final IDatabaseConnection connection, final String tableName,
+            final String columnName, final String qualifiedTableName,
+            final String escapedColumnName, final long maxValue)
+            throws SQLException
+    {
+        return buildIdentityResetStatement(qualifiedTableName,
+                escapedColumnName, getGeneration(connection, tableName,
+                        columnName));
+    }
+
+    /**
+     * @param tableName the qualified and escaped name of the table.
+     * @param columnName the escaped name of the column.
+     * @param generation the generation mode of the column, such as
+     *            <code>by default</code>.
+     * @return the statement restarting the column past its highest value.
+     */
+    String buildIdentityResetStatement(final String tableName,
+            final String columnName, final String generation)
+    {
+        return "alter table " + tableName + " modify (" + columnName
+                + " generated " + generation
+                + " as identity (start with limit value))";
+    }
+
+    @Override
+    public String buildSequenceResetStatement(final String sequenceName,
+            final long maxValue)
+    {
+        return "alter sequence " + sequenceName + " restart start with "
+                + (maxValue + 1);
+    }
+
+    private String getGeneration(final IDatabaseConnection connection,
+            final String tableName, final String columnName)
+            throws SQLException
+    {
+        try (PreparedStatement statement = connection.getConnection()
+                .prepareStatement(GENERATION_QUERY))
+        {
+            statement.setString(1, connection.getSchema());
+            statement.setString(2, tableName);
+            statement.setString(3, columnName);
+            try (ResultSet resultSet = statement.executeQuery())
+            {
+                if (!resultSet.next())
+                {
+                    throw new SQLException("Column " + tableName + "."
+                            + columnName + " is not an identity column");
+                }
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
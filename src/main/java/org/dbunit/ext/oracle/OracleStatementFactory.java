@@ -0,0 +1,150 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.oracle;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.database.statement.PreparedStatementFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link PreparedStatementFactory} sending inserts to Oracle as array DML:
+ * each JDBC batch of rows is bound as column arrays and executed in one round
+ * trip. Oracle accepts no multi-row <code>values</code> lists before 23ai, so
+ * {@link DatabaseConfig#FEATURE_MULTI_ROW_INSERTS} is not used for inserts.
+ * <p>
+ * With <code>appendValues</code>, inserts carry the
+ * <code>APPEND_VALUES</code> hint and load direct-path, above the table's
+ * high-water mark and without undo for the table data. Oracle allows no
+ * further access to a table loaded direct-path until the transaction
+ * commits; with auto-commit disabled, each insert statement therefore sends
+ * all its rows in a single batch, and a table must be loaded by one
+ * statement per transaction. Oracle silently loads conventionally instead
+ * when the table has enabled foreign keys or triggers.
+ * <p>
+ * Register it with {@link DatabaseConfig#PROPERTY_STATEMENT_FACTORY}, or use
+ * {@link OracleInsertOperation}.
+ *
+ * @since 3.6.0
+ */
+public class OracleStatementFactory extends PreparedStatementFactory
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(OracleStatementFactory.class);
+
+    private static final String INSERT_INTO = "insert into ";
+
+    private final int _batchSize;
+    private final boolean _appendValues;
+
+    /**
+     * Creates a factory executing batches of
+     * {@link DatabaseConfig#PROPERTY_BATCH_SIZE} rows.
+     */
+    public OracleStatementFactory()
+    {
+        this(0, false);
+    }
+
+    /**
+     * @param batchSize the number of rows per array DML batch, or
+     *            <code>0</code> for {@link DatabaseConfig#PROPERTY_BATCH_SIZE}.
+     * @param appendValues <code>true</code> to insert direct-path with the
+     *            <code>APPEND_VALUES</code> hint.
+     */
+    public OracleStatementFactory(final int batchSize,
+            final boolean appendValues)
+    {
+        _batchSize = batchSize;
+        _appendValues = appendValues;
+    }
+
+    /**
+     * @return the number of rows per array DML batch, or <code>0</code> for
+     *         {@link DatabaseConfig#PROPERTY_BATCH_SIZE}.
+     */
+    public int getBatchSize()
+    {
+        return _batchSize;
+    }
+
+    /**
+     * @return whether inserts are sent with the <code>APPEND_VALUES</code>
+     *         hint.
+     */
+    public boolean isAppendValues()
+    {
+        return _appendValues;
+    }
+
+    @Override
+    public IPreparedBatchStatement createPreparedInsertStatement(
+            final String sql, final int parameterCount,
+            final IDatabaseConnection connection) throws SQLException
+    {
+        int batchSize = _batchSize;
+        if (batchSize <= 0)
+        {
+            batchSize = ((Integer) connection.getConfig()
+                    .getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE))
+                            .intValue();
+        }
+
+        String insertSql = sql;
+        if (_appendValues)
+        {
+            insertSql = addAppendValuesHint(sql);
+            if (!connection.getConnection().getAutoCommit())
+            {
+                // a second direct-path insert would fail with ORA-12838
+                batchSize = 0;
+            }
+        }
+        logger.debug("createPreparedInsertStatement: sql={}, batchSize={}",
+                insertSql, batchSize);
+
+        return new OraclePreparedBatchStatement(insertSql,
+                connection.getConnection(), batchSize);
+    }
+
+    /**
+     * @param sql an <code>insert into</code> statement.
+     * @return the statement with the <code>APPEND_VALUES</code> hint.
+     */
+    static String addAppendValuesHint(final String sql)
+    {
+        if (!sql.toLowerCase(Locale.ENGLISH).startsWith(INSERT_INTO))
+        {
+            throw new IllegalArgumentException(
+                    "Not an insert statement: " + sql);
+        }
+        return "insert /*+ append_values */ into "
+                + sql.substring(INSERT_INTO.length());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.oracle;
+
+import org.dbunit.database.statement.AbstractMergeStatementBuilder;
+
+/**
+ * Builds Oracle <code>MERGE</code> statements using a
+ * <code>(select ? as C, ... from dual) s</code> source row.
+ *
+ * @since 3.6.0
+ */
+public class OracleUpsertStatementBuilder extends AbstractMergeStatementBuilder
+{
+    @Override
+    protected void appendSource(final StringBuilder sql,
+            final String[] columnNames)
+    {
+        sql.append("(select ");
+        for (int i = 0; i < columnNames.length; i++)
+        {
+            if (i > 0)
+            {
+                sql.append(", ");
+            }
+            sql.append("? as ").append(columnNames[i]);
+        }
+        sql.append(" from dual) ").append(SOURCE_ALIAS);
+    }
+
+    /**
+     * Oracle does not accept <code>as</code> before a table alias.
+     */
+    @Override
+    protected String getTargetAliasSeparator()
+    {
+        return " ";
+    }
+}
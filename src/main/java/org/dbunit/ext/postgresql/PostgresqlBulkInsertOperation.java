@@ -0,0 +1,141 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.postgresql;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.operation.AbstractBulkInsertOperation;
+import org.dbunit.operation.CompositeOperation;
+import org.dbunit.operation.DatabaseOperation;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Inserts the dataset with PostgreSQL <code>COPY ... FROM STDIN</code> through
+ * the driver's <code>CopyManager</code>, streaming the rows in the text format
+ * instead of binding one insert per row.
+ * <p>
+ * Requires the PostgreSQL JDBC driver; the JDBC connection must unwrap to
+ * <code>org.postgresql.PGConnection</code>.
+ *
+ * @since 3.6.0
+ */
+public class PostgresqlBulkInsertOperation extends AbstractBulkInsertOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(PostgresqlBulkInsertOperation.class);
+
+    /** Inserts the dataset with <code>COPY</code>. */
+    public static final DatabaseOperation INSERT =
+            new PostgresqlBulkInsertOperation();
+
+    /** {@link DatabaseOperation#DELETE_ALL} followed by {@link #INSERT}. */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new CompositeOperation(DatabaseOperation.DELETE_ALL, INSERT);
+
+    /** Size of the chunks written to the copy stream. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Override
+    protected void loadTable(final IDatabaseConnection connection,
+            final ITable table, final ITableMetaData metaData)
+            throws DatabaseUnitException, SQLException, IOException
+    {
+        final Column[] columns = metaData.getColumns();
+        final String sql = "copy "
+                + getQualifiedName(connection.getSchema(),
+                        metaData.getTableName(), connection)
+                + " (" + getColumnList(columns, connection) + ") from stdin";
+        logger.debug("loadTable: sql={}", sql);
+
+        final PGConnection pgConnection =
+                connection.getConnection().unwrap(PGConnection.class);
+        final CopyIn copyIn = pgConnection.getCopyAPI().copyIn(sql);
+        try
+        {
+            final StringBuilder sb = new StringBuilder();
+            int row = 0;
+            Object[] values;
+            while ((values = getRow(table, columns, row)) != null)
+            {
+                for (int i = 0; i < columns.length; i++)
+                {
+                    if (i > 0)
+                    {
+                        sb.append('\t');
+                    }
+                    appendEscapedText(sb,
+                            formatValue(values[i], columns[i].getDataType()));
+                }
+                sb.append('\n');
+                row++;
+
+                if (sb.length() >= BUFFER_SIZE)
+                {
+                    write(copyIn, sb);
+                }
+            }
+            write(copyIn, sb);
+            copyIn.endCopy();
+        }
+        finally
+        {
+            if (copyIn.isActive())
+            {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Formats binary values as <code>bytea</code> hex input.
+     */
+    @Override
+    protected String formatBinary(final byte[] value)
+    {
+        return "\\x" + toHex(value);
+    }
+
+    private void write(final CopyIn copyIn, final StringBuilder sb)
+            throws SQLException
+    {
+        if (sb.length() > 0)
+        {
+            final byte[] bytes =
+                    sb.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            sb.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.postgresql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.dbunit.operation.AbstractIndexSuspendingOperation;
+import org.dbunit.operation.DatabaseOperation;
+
+/**
+ * Loads the dataset tables with their enabled user triggers disabled and
+ * their plain indexes dropped, then recreates the indexes from the
+ * definitions <code>pg_get_indexdef</code> returned before the load and
+ * enables the triggers again. PostgreSQL cannot mark an index unusable, so
+ * dropping is the only way to stop its maintenance. Indexes backing a primary
+ * key, unique or exclusion constraint are kept, as are the internal triggers
+ * enforcing foreign keys. Falls back to the decorated operation as is on
+ * other databases.
+ * <p>
+ * Dropping an index and altering triggers lock the table exclusively and
+ * require its ownership. DDL is transactional in PostgreSQL: when the
+ * connection is not in auto-commit mode, a failed load leaves the
+ * transaction aborted and the restore statements fail with it, so run the
+ * decorated operation in a {@link org.dbunit.operation.TransactionOperation}
+ * rather than around it.
+ *
+ * @since 3.6.0
+ */
+public class PostgresqlIndexSuspendingOperation
+        extends AbstractIndexSuspendingOperation
+{
+    /** {@link DatabaseOperation#INSERT} with indexes and triggers suspended. */
+    public static final DatabaseOperation INSERT =
+            new PostgresqlIndexSuspendingOperation(DatabaseOperation.INSERT);
+
+    /**
+     * {@link DatabaseOperation#CLEAN_INSERT} with indexes and triggers
+     * suspended.
+     */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new PostgresqlIndexSuspendingOperation(
+                    DatabaseOperation.CLEAN_INSERT);
+
+    private static final String SELECT_TRIGGERS = "select"
+            + " quote_ident(n.nspname) || '.' || quote_ident(c.relname),"
+            + " quote_ident(t.tgname)"
+            + " from pg_trigger t"
+            + " join pg_class c on c.oid = t.tgrelid"
+            + " join pg_namespace n on n.oid = c.relnamespace"
+            + " where n.nspname = coalesce(?, current_schema())"
+            + " and not t.tgisinternal and t.tgenabled <> 'D'"
+            + " and c.relname in (%s)"
+            + " order by c.relname, t.tgname";
+
+    private static final String SELECT_INDEXES = "select"
+            + " quote_ident(n.nspname) || '.' || quote_ident(i.relname),"
+            + " pg_get_indexdef(i.oid)"
+            + " from pg_index x"
+            + " join pg_class i on i.oid = x.indexrelid"
+            + " join pg_class c on c.oid = x.indrelid"
+            + " join pg_namespace n on n.oid = c.relnamespace"
+            + " where n.nspname = coalesce(?, current_schema())"
+            + " and x.indisvalid"
+            + " and not exists (select 1 from pg_constraint k"
+            + " where k.conindid = x.indexrelid)"
+            + " and c.relname in (%s)"
+            + " order by c.relname, i.relname";
+
+    /**
+     * Creates an operation rebuilding the indexes one after the other on the
+     * connection it is executed with.
+     *
+     * @param operation the operation to decorate.
+     */
+    public PostgresqlIndexSuspendingOperation(final DatabaseOperation operation)
+    {
+        super(operation);
+    }
+
+    /**
+     * Creates an operation rebuilding the indexes concurrently, on connections
+     * opened from a data source for each execution.
+     *
+     * @param operation the operation to decorate.
+     * @param dataSource the data source of the rebuild connections.
+     * @param parallelism the maximum number of indexes rebuilt at once.
+     */
+    public PostgresqlIndexSuspendingOperation(final DatabaseOperation operation,
+            final DataSource dataSource, final int parallelism)
+    {
+        super(operation, dataSource, parallelism);
+    }
+
+    @Override
+    protected boolean isSupported(final String productName)
+    {
+        return productName.equals("postgresql");
+    }
+
+    @Override
+    protected List<Suspension> getSuspensions(final Connection jdbcConnection,
+            final String schema, final List<String> tableNames)
+            throws SQLException
+    {
+        if (tableNames.isEmpty())
+        {
+            return Collections.emptyList();
+        }
+
+        final List<String> parameters = new ArrayList<>(tableNames.size() + 1);
+        parameters.add(schema);
+        parameters.addAll(tableNames);
+        final String in = String.join(", ",
+                Collections.nCopies(tableNames.size(), "?"));
+
+        final List<Suspension> suspensions = new ArrayList<>();
+        for (final String[] trigger : query(jdbcConnection,
+                String.format(SELECT_TRIGGERS, in), parameters, 2))
+        {
+            suspensions.add(new Suspension(
+                    "alter table " + trigger[0] + " disable trigger "
+                            + trigger[1],
+                    "alter table " + trigger[0] + " enable trigger "
+                            + trigger[1],
+                    false));
+        }
+        for (final String[] index : query(jdbcConnection,
+                String.format(SELECT_INDEXES, in), parameters, 2))
+        {
+            suspensions.add(
+                    new Suspension("drop index " + index[0], index[1], true));
+        }
+        return suspensions;
+    }
+}
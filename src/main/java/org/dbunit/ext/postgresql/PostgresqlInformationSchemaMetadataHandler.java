@@ -0,0 +1,191 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.postgresql;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import org.dbunit.database.AbstractInformationSchemaMetadataHandler;
+
+/**
+ * Metadata handler for PostgreSQL 9.4 or later answering each table, column, primary key and
+ * foreign key lookup with a single query on {@code pg_catalog}, which avoids the privilege checks
+ * that make the {@code information_schema} views slow on large schemas. Identity columns are
+ * read from PostgreSQL 10 on and generated columns from PostgreSQL 12 on, the versions
+ * introducing them.
+ * <p>
+ * Type names are the {@code pg_type} names the driver reports, such as {@code int4} or
+ * {@code _text}; a column of a domain reports the domain's base type. Tables of
+ * {@code pg_catalog} and {@code information_schema} are reported as {@code SYSTEM TABLE} or
+ * {@code SYSTEM VIEW}.
+ * <p>
+ * {@code COLUMN_SIZE} and {@code DECIMAL_DIGITS} are those of the type modifier, as the driver
+ * reports them for {@code varchar}, {@code bpchar} and {@code numeric}, an unconstrained
+ * {@code numeric} having size 0. For other types they are <code>null</code>, where the driver
+ * reports the precision or display size of the type.
+ *
+ * @since 3.6.0
+ */
+public class PostgresqlInformationSchemaMetadataHandler
+        extends AbstractInformationSchemaMetadataHandler
+{
+    private static final String RELATION_KINDS = "('r', 'p', 'v', 'm', 'f')";
+
+    private static final String TABLES_QUERY = "select null, n.nspname, c.relname,"
+            + " case when n.nspname in ('pg_catalog', 'information_schema')"
+            + " then case when c.relkind = 'v' then 'SYSTEM VIEW' else 'SYSTEM TABLE' end"
+            + " when c.relkind = 'r' then 'TABLE'"
+            + " when c.relkind = 'p' then 'PARTITIONED TABLE'"
+            + " when c.relkind = 'v' then 'VIEW'"
+            + " when c.relkind = 'm' then 'MATERIALIZED VIEW'"
+            + " else 'FOREIGN TABLE' end,"
+            + " d.description"
+            + " from pg_catalog.pg_class c"
+            + " join pg_catalog.pg_namespace n on n.oid = c.relnamespace"
+            + " left join pg_catalog.pg_description d on d.objoid = c.oid"
+            + " and d.objsubid = 0 and d.classoid = 'pg_catalog.pg_class'::regclass"
+            + " where c.relkind in " + RELATION_KINDS
+            + " and n.nspname like ? and c.relname like ?"
+            + " order by n.nspname, c.relname";
+
+    private static final String COLUMNS_QUERY = columnsQuery(true, true);
+
+    private static final String COLUMNS_QUERY_10 = columnsQuery(true, false);
+
+    private static final String COLUMNS_QUERY_9 = columnsQuery(false, false);
+
+    private static final String PRIMARY_KEYS_QUERY = "select null, n.nspname, c.relname,"
+            + " a.attname, k.seq, con.conname"
+            + " from pg_catalog.pg_constraint con"
+            + " join pg_catalog.pg_class c on c.oid = con.conrelid"
+            + " join pg_catalog.pg_namespace n on n.oid = c.relnamespace"
+            + " cross join lateral unnest(con.conkey) with ordinality as k(attnum, seq)"
+            + " join pg_catalog.pg_attribute a on a.attrelid = c.oid and a.attnum = k.attnum"
+            + " where con.contype = 'p' and n.nspname like ? and c.relname like ?"
+            + " order by n.nspname, c.relname, k.seq";
+
+    private static final String FOREIGN_KEYS_QUERY = "select null, pn.nspname, pc.relname,"
+            + " pa.attname, null, fn.nspname, fc.relname, fa.attname, k.seq,"
+            + " " + rule("con.confupdtype") + ", " + rule("con.confdeltype") + ","
+            + " con.conname, pk.conname"
+            + " from pg_catalog.pg_constraint con"
+            + " join pg_catalog.pg_class fc on fc.oid = con.conrelid"
+            + " join pg_catalog.pg_namespace fn on fn.oid = fc.relnamespace"
+            + " join pg_catalog.pg_class pc on pc.oid = con.confrelid"
+            + " join pg_catalog.pg_namespace pn on pn.oid = pc.relnamespace"
+            + " cross join lateral unnest(con.conkey, con.confkey) with ordinality"
+            + " as k(fkattnum, pkattnum, seq)"
+            + " join pg_catalog.pg_attribute fa on fa.attrelid = fc.oid"
+            + " and fa.attnum = k.fkattnum"
+            + " join pg_catalog.pg_attribute pa on pa.attrelid = pc.oid"
+            + " and pa.attnum = k.pkattnum"
+            + " left join pg_catalog.pg_constraint pk on pk.conrelid = con.confrelid"
+            + " and pk.conindid = con.conindid and pk.contype in ('p', 'u')"
+            + " where con.contype = 'f'";
+
+    private static String columnsQuery(final boolean identity, final boolean generated)
+    {
+        return "select null, n.nspname, c.relname,"
+                + " a.attname,"
+                + " case when t.typtype = 'd' then bt.typname else t.typname end,"
+                + " case when a.atttypmod > 4 and t.typname in ('varchar', 'bpchar')"
+                + " then a.atttypmod - 4"
+                + " when t.typname = 'numeric' then case when a.atttypmod > 4"
+                + " then ((a.atttypmod - 4) >> 16) & 65535 else 0 end end,"
+                + " case when a.atttypmod > 4 and t.typname = 'numeric'"
+                + " then (a.atttypmod - 4) & 65535 end,"
+                + " case when a.attnotnull then 'NO' else 'YES' end,"
+                + " d.description, pg_catalog.pg_get_expr(ad.adbin, ad.adrelid), a.attnum,"
+                + " case when " + (identity ? "a.attidentity in ('a', 'd') or " : "")
+                + "pg_catalog.pg_get_expr(ad.adbin, ad.adrelid) like 'nextval(%'"
+                + " then 'YES' else 'NO' end,"
+                + (generated ? " case when a.attgenerated = 's' then 'YES' else 'NO' end"
+                        : " 'NO'")
+                + " from pg_catalog.pg_attribute a"
+                + " join pg_catalog.pg_class c on c.oid = a.attrelid"
+                + " join pg_catalog.pg_namespace n on n.oid = c.relnamespace"
+                + " join pg_catalog.pg_type t on t.oid = a.atttypid"
+                + " left join pg_catalog.pg_type bt on bt.oid = t.typbasetype"
+                + " left join pg_catalog.pg_attrdef ad on ad.adrelid = a.attrelid"
+                + " and ad.adnum = a.attnum"
+                + " left join pg_catalog.pg_description d on d.objoid = a.attrelid"
+                + " and d.objsubid = a.attnum and d.classoid = 'pg_catalog.pg_class'::regclass"
+                + " where a.attnum > 0 and not a.attisdropped and c.relkind in " + RELATION_KINDS
+                + " and n.nspname like ? and c.relname like ?"
+                + " order by n.nspname, c.relname, a.attnum";
+    }
+
+    private static String rule(final String column)
+    {
+        return "case " + column + " when 'c' then 'CASCADE' when 'n' then 'SET NULL'"
+                + " when 'd' then 'SET DEFAULT' when 'r' then 'RESTRICT'"
+                + " else 'NO ACTION' end";
+    }
+
+    @Override
+    protected String getTablesQuery()
+    {
+        return TABLES_QUERY;
+    }
+
+    @Override
+    protected String getColumnsQuery()
+    {
+        return COLUMNS_QUERY;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Before PostgreSQL 12 no column is reported as generated, and before PostgreSQL 10 only
+     * columns defaulting to a sequence are reported as auto-increment.
+     */
+    @Override
+    protected String getColumnsQuery(final DatabaseMetaData metaData) throws SQLException
+    {
+        final int majorVersion = metaData.getDatabaseMajorVersion();
+        if (majorVersion >= 12)
+        {
+            return COLUMNS_QUERY;
+        }
+        return majorVersion >= 10 ? COLUMNS_QUERY_10 : COLUMNS_QUERY_9;
+    }
+
+    @Override
+    protected String getPrimaryKeysQuery()
+    {
+        return PRIMARY_KEYS_QUERY;
+    }
+
+    @Override
+    protected String getImportedKeysQuery()
+    {
+        return FOREIGN_KEYS_QUERY + " and fn.nspname like ? and fc.relname like ?"
+                + " order by pn.nspname, pc.relname, con.conname, k.seq";
+    }
+
+    @Override
+    protected String getExportedKeysQuery()
+    {
+        return FOREIGN_KEYS_QUERY + " and pn.nspname like ? and pc.relname like ?"
+                + " order by fn.nspname, fc.relname, con.conname, k.seq";
+    }
+}
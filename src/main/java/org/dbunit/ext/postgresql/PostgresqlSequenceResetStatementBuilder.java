@@ -0,0 +1,60 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.postgresql;
+
+import org.dbunit.database.statement.DefaultSequenceResetStatementBuilder;
+
+/**
+ * Restarts PostgreSQL <code>serial</code> and identity columns with
+ * <code>setval</code> on the sequence found by
+ * <code>pg_get_serial_sequence</code>, wrapped in a <code>do</code> block so
+ * that it returns no result set and can be batched.
+ *
+ * @since 3.6.0
+ */
+public class PostgresqlSequenceResetStatementBuilder
+        extends DefaultSequenceResetStatementBuilder
+{
+    @Override
+    public String buildIdentityResetStatement(final String tableName,
+            final String columnName, final long maxValue)
+    {
+        return "do $$begin perform setval(pg_get_serial_sequence("
+                + toLiteral(tableName) + ", "
+                + toLiteral(unquote(columnName)) + "), " + maxValue
+                + "); end$$";
+    }
+
+    /**
+     * pg_get_serial_sequence takes the column name as is, not as an
+     * identifier.
+     */
+    private static String unquote(final String columnName)
+    {
+        if (columnName.length() > 1 && columnName.startsWith("\"")
+                && columnName.endsWith("\""))
+        {
+            return columnName.substring(1, columnName.length() - 1)
+                    .replace("\"\"", "\"");
+        }
+        return columnName;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.postgresql;
+
+import org.dbunit.database.statement.PreparedStatementFactory;
+
+/**
+ * {@link PreparedStatementFactory} sizing multi-row inserts and deletes for
+ * PostgreSQL, whose protocol accepts up to 65535 parameters per statement
+ * (PgJDBC 42.4.0 and later), and listing composite keys of multi-row deletes
+ * as row values.
+ *
+ * @since 3.6.0
+ */
+public class PostgresqlStatementFactory extends PreparedStatementFactory
+{
+    private static final int MAX_PARAMETER_COUNT = 65535;
+
+    @Override
+    protected int getMaxParameterCount()
+    {
+        return MAX_PARAMETER_COUNT;
+    }
+
+    @Override
+    protected boolean isRowValueListSupported()
+    {
+        return true;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.postgresql;
+
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbunit.operation.AbstractFastTruncateOperation;
+import org.dbunit.operation.CompositeOperation;
+import org.dbunit.operation.DatabaseOperation;
+
+/**
+ * Empties the dataset tables with a single
+ * <code>TRUNCATE TABLE a, b, ...</code> statement. PostgreSQL accepts
+ * truncating tables referenced by foreign keys when the referencing tables
+ * are truncated by the same statement, so no setting needs to be toggled;
+ * <code>session_replication_role</code> would not help, as it only disables
+ * triggers, not the check <code>TRUNCATE</code> makes. Tables outside the
+ * dataset that reference a dataset table make the statement fail, unless the
+ * operation is created with <code>cascade</code>, which truncates them too.
+ * Unlike on most databases, the truncate is transactional. Falls back to
+ * {@link DatabaseOperation#DELETE_ALL} on other databases.
+ *
+ * @since 3.6.0
+ */
+public class PostgresqlTruncateOperation extends AbstractFastTruncateOperation
+{
+    /** Truncates the dataset tables. */
+    public static final DatabaseOperation TRUNCATE =
+            new PostgresqlTruncateOperation(false);
+
+    /** {@link #TRUNCATE} followed by {@link DatabaseOperation#INSERT}. */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new CompositeOperation(TRUNCATE, DatabaseOperation.INSERT);
+
+    private final boolean cascade;
+
+    /**
+     * @param cascade whether to also truncate the tables outside the dataset
+     *            referencing the dataset tables.
+     */
+    public PostgresqlTruncateOperation(final boolean cascade)
+    {
+        this.cascade = cascade;
+    }
+
+    @Override
+    protected boolean isSupported(final String productName)
+    {
+        return productName.equals("postgresql");
+    }
+
+    @Override
+    protected String getDisableConstraintsStatement()
+    {
+        return null;
+    }
+
+    @Override
+    protected String getRestoreConstraintsStatement(
+            final Connection jdbcConnection)
+    {
+        return null;
+    }
+
+    @Override
+    protected List<String> getTruncateStatements(final List<String> tableNames)
+    {
+        return Collections.singletonList("truncate table "
+                + String.join(", ", tableNames) + (cascade ? " cascade" : ""));
+    }
+}
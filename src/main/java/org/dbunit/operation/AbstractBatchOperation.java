@@ -22,11 +22,19 @@
 package org.dbunit.operation;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
 
 import org.dbunit.DatabaseUnitException;
 import org.dbunit.database.DatabaseConfig;
 import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.IRowFailureHandler;
+import org.dbunit.database.OperationDataCache;
+import org.dbunit.database.OperationStatistics;
 import org.dbunit.database.statement.IPreparedBatchStatement;
 import org.dbunit.database.statement.IStatementFactory;
 import org.dbunit.dataset.Column;
@@ -129,10 +137,57 @@ public abstract class AbstractBatchOperation extends AbstractOperation
         return true;
     }
 
+    /**
+     * Returns the mapping of the operation data columns not to bind for the
+     * given ignore mapping. By default the ignore mapping itself, for
+     * operation data listing the columns of the table in order.
+     */
+    BitSet getBindMapping(BitSet ignoreMapping)
+    {
+        return ignoreMapping;
+    }
+
     abstract OperationData getOperationData(ITableMetaData metaData,
             BitSet ignoreMapping, IDatabaseConnection connection)
             throws DataSetException;
 
+    /**
+     * Returns operation specific state, besides the table metadata and ignore
+     * mapping, that the SQL built by
+     * {@link #getOperationData(ITableMetaData, BitSet, IDatabaseConnection)}
+     * depends on, for keying the {@link OperationDataCache}.
+     *
+     * @return <code>null</code> by default.
+     */
+    Object getOperationDataDiscriminator(IDatabaseConnection connection)
+    {
+        return null;
+    }
+
+    /**
+     * Returns the operation data from the
+     * {@link DatabaseConfig#PROPERTY_OPERATION_DATA_CACHE} of the connection,
+     * building it with
+     * {@link #getOperationData(ITableMetaData, BitSet, IDatabaseConnection)} if
+     * no cache is configured or it holds no entry yet.
+     */
+    final OperationData getCachedOperationData(final ITableMetaData metaData,
+            final BitSet ignoreMapping, final IDatabaseConnection connection)
+            throws DataSetException
+    {
+        final OperationDataCache cache = (OperationDataCache) connection
+                .getConfig()
+                .getProperty(DatabaseConfig.PROPERTY_OPERATION_DATA_CACHE);
+        if (cache == null)
+        {
+            return getOperationData(metaData, ignoreMapping, connection);
+        }
+        return cache.getOperationData(getClass(),
+                getOperationDataDiscriminator(connection), metaData,
+                ignoreMapping, connection,
+                () -> getOperationData(metaData, ignoreMapping, connection));
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // DatabaseOperation class
 
@@ -143,11 +198,34 @@ public abstract class AbstractBatchOperation extends AbstractOperation
         logger.debug("execute(connection={}, dataSet={}) - start", connection,
                 dataSet);
 
+        CommitControl commits = CommitControl.begin(connection);
+        try
+        {
+            execute(connection, dataSet, commits);
+        } catch (DatabaseUnitException | SQLException | RuntimeException
+                | Error e)
+        {
+            commits.abort(e);
+            throw e;
+        }
+        commits.end();
+    }
+
+    /**
+     * Executes this operation within the transactions controlled by the given
+     * commit control, which the caller begins and ends.
+     */
+    void execute(IDatabaseConnection connection, IDataSet dataSet,
+            CommitControl commits) throws DatabaseUnitException, SQLException
+    {
         DatabaseConfig databaseConfig = connection.getConfig();
         IStatementFactory factory = (IStatementFactory) databaseConfig
                 .getProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY);
         boolean allowEmptyFields = connection.getConfig()
                 .getFeature(DatabaseConfig.FEATURE_ALLOW_EMPTY_FIELDS);
+        OperationStatistics statistics = (OperationStatistics) databaseConfig
+                .getProperty(DatabaseConfig.PROPERTY_OPERATION_STATISTICS);
+        boolean groupRows = isGroupingRowsByIgnoreMapping(databaseConfig);
 
         // for each table
         ITableIterator iterator = iterator(dataSet);
@@ -166,15 +244,26 @@ public abstract class AbstractBatchOperation extends AbstractOperation
 
             ITableMetaData metaData =
                     getOperationMetaData(connection, table.getTableMetaData());
+
+            // streaming tables cannot be read out of order
+            if (groupRows && isRandomAccess(table))
+            {
+                executeGroupedRows(connection, factory, table, metaData,
+                        allowEmptyFields, statistics, commits);
+                continue;
+            }
+
             BitSet ignoreMapping = null;
+            BitSet bindMapping = null;
             OperationData operationData = null;
             IPreparedBatchStatement statement = null;
+            int rowCount = 0;
 
             try
             {
                 // For each row
                 int start = _reverseRowOrder ? table.getRowCount() - 1 : 0;
-                int increment = _reverseRowOrder ? -1 : 1;
+                final int increment = _reverseRowOrder ? -1 : 1;
 
                 try
                 {
@@ -198,47 +287,26 @@ public abstract class AbstractBatchOperation extends AbstractOperation
                             }
 
                             ignoreMapping = getIgnoreMapping(table, row);
-                            operationData = getOperationData(metaData,
+                            bindMapping = getBindMapping(ignoreMapping);
+                            operationData = getCachedOperationData(metaData,
                                     ignoreMapping, connection);
-                            statement = factory.createPreparedBatchStatement(
-                                    operationData.getSql(), connection);
-                        }
-
-                        // for each column
-                        Column[] columns = operationData.getColumns();
-                        for (int j = 0; j < columns.length; j++)
-                        {
-                            // Bind value only if not in ignore mapping
-                            if (!ignoreMapping.get(j))
+                            statement = createPreparedBatchStatement(factory,
+                                    operationData, bindMapping, connection);
+                            final int firstRow = row;
+                            statement = isolateFailures(statement,
+                                    connection, tableName, operationData,
+                                    bindMapping,
+                                    k -> firstRow + increment * k);
+                            statement = commits.decorate(statement);
+                            if (statistics != null)
                             {
-                                Column column = columns[j];
-                                String columnName = column.getColumnName();
-                                try
-                                {
-                                    DataType dataType = column.getDataType();
-                                    Object value =
-                                            table.getValue(row, columnName);
-
-                                    if ("".equals(value) && !allowEmptyFields)
-                                    {
-                                        handleColumnHasNoValue(tableName,
-                                                columnName);
-                                    }
-
-                                    statement.addValue(value, dataType);
-                                } catch (TypeCastException e)
-                                {
-                                    final String msg =
-                                            "Error casting value for table '"
-                                                    + tableName
-                                                    + "' and column '"
-                                                    + columnName + "'";
-                                    logger.error("execute: {}", msg);
-                                    throw new TypeCastException(msg, e);
-                                }
+                                statistics.addPreparedStatement(tableName);
                             }
                         }
-                        statement.addBatch();
+
+                        addBatch(statement, operationData, bindMapping,
+                                table, row, allowEmptyFields);
+                        rowCount++;
                     }
                 } catch (RowOutOfBoundsException e)
                 {
@@ -262,7 +330,198 @@ public abstract class AbstractBatchOperation extends AbstractOperation
                     statement.close();
                 }
             }
+            if (statistics != null)
+            {
+                statistics.addRowCount(tableName, rowCount);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the rows of a table are grouped by ignore mapping before
+     * being executed, so that each distinct statement is prepared only once.
+     * Only operations whose rows may be executed in any order should return
+     * <code>true</code>.
+     */
+    boolean isGroupingRowsByIgnoreMapping(DatabaseConfig config)
+    {
+        return false;
+    }
+
+    /**
+     * Creates the statement executing the rows of the given operation data.
+     */
+    IPreparedBatchStatement createPreparedBatchStatement(
+            IStatementFactory factory, OperationData operationData,
+            BitSet ignoreMapping, IDatabaseConnection connection)
+            throws SQLException
+    {
+        return factory.createPreparedBatchStatement(operationData.getSql(),
+                connection);
+    }
+
+    /**
+     * Decorates the statement to isolate the rows the database rejects when
+     * {@link DatabaseConfig#PROPERTY_ROW_FAILURE_HANDLER} is set.
+     *
+     * @param rowIndexes
+     *            Maps the n-th row added to the statement to its row index.
+     */
+    private IPreparedBatchStatement isolateFailures(
+            IPreparedBatchStatement statement, IDatabaseConnection connection,
+            String tableName, OperationData operationData,
+            BitSet ignoreMapping, IntUnaryOperator rowIndexes)
+            throws SQLException
+    {
+        DatabaseConfig config = connection.getConfig();
+        IRowFailureHandler handler = (IRowFailureHandler) config
+                .getProperty(DatabaseConfig.PROPERTY_ROW_FAILURE_HANDLER);
+        if (handler == null)
+        {
+            return statement;
+        }
+
+        Column[] columns = operationData.getColumns();
+        List<Column> boundColumns = new ArrayList<>(columns.length);
+        for (int i = 0; i < columns.length; i++)
+        {
+            if (!ignoreMapping.get(i))
+            {
+                boundColumns.add(columns[i]);
+            }
+        }
+        Integer batchSize = (Integer) config
+                .getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE);
+        return new FailureIsolatingBatchStatement(statement,
+                connection.getConnection(), tableName,
+                boundColumns.toArray(new Column[0]), rowIndexes, handler,
+                batchSize.intValue());
+    }
+
+    private static boolean isRandomAccess(ITable table)
+    {
+        try
+        {
+            table.getRowCount();
+            return true;
+        } catch (UnsupportedOperationException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Executes the rows of the table grouped by ignore mapping, in order of
+     * first appearance, with one statement per group.
+     */
+    private void executeGroupedRows(IDatabaseConnection connection,
+            IStatementFactory factory, ITable table, ITableMetaData metaData,
+            boolean allowEmptyFields, OperationStatistics statistics,
+            CommitControl commits)
+            throws DatabaseUnitException, SQLException
+    {
+        String tableName = table.getTableMetaData().getTableName();
+
+        Map<BitSet, List<Integer>> groups = new LinkedHashMap<>();
+        int rowCount = table.getRowCount();
+        for (int i = 0; i < rowCount; i++)
+        {
+            int row = _reverseRowOrder ? rowCount - 1 - i : i;
+            groups.computeIfAbsent(getIgnoreMapping(table, row),
+                    k -> new ArrayList<>()).add(row);
+        }
+        logger.debug("executeGroupedRows: table='{}', rows={}, statements={}",
+                tableName, rowCount, groups.size());
+
+        IPreparedBatchStatement statement = null;
+        try
+        {
+            for (Map.Entry<BitSet, List<Integer>> group : groups.entrySet())
+            {
+                BitSet ignoreMapping = group.getKey();
+                BitSet bindMapping = getBindMapping(ignoreMapping);
+                OperationData operationData =
+                        getCachedOperationData(metaData, ignoreMapping, connection);
+                statement = createPreparedBatchStatement(factory,
+                        operationData, bindMapping, connection);
+                final List<Integer> rows = group.getValue();
+                statement = isolateFailures(statement, connection, tableName,
+                        operationData, bindMapping, k -> rows.get(k));
+                statement = commits.decorate(statement);
+                if (statistics != null)
+                {
+                    statistics.addPreparedStatement(tableName);
+                }
+
+                for (Integer row : rows)
+                {
+                    addBatch(statement, operationData, bindMapping, table,
+                            row.intValue(), allowEmptyFields);
+                }
+                statement.executeBatch();
+                statement.clearBatch();
+                statement.close();
+                statement = null;
+            }
+        } catch (SQLException e)
+        {
+            final String msg =
+                    "Exception processing table name='" + tableName + "'";
+            throw new DatabaseUnitException(msg, e);
+        } finally
+        {
+            if (statement != null)
+            {
+                statement.close();
+            }
+        }
+        if (statistics != null)
+        {
+            statistics.addRowCount(tableName, rowCount);
+        }
+    }
+
+    /**
+     * Binds the values of one row, except the ignored columns, and adds them
+     * to the batch of the statement.
+     */
+    private void addBatch(IPreparedBatchStatement statement,
+            OperationData operationData, BitSet ignoreMapping, ITable table,
+            int row, boolean allowEmptyFields)
+            throws DataSetException, SQLException
+    {
+        String tableName = table.getTableMetaData().getTableName();
+
+        // for each column
+        Column[] columns = operationData.getColumns();
+        for (int j = 0; j < columns.length; j++)
+        {
+            // Bind value only if not in ignore mapping
+            if (!ignoreMapping.get(j))
+            {
+                Column column = columns[j];
+                String columnName = column.getColumnName();
+                try
+                {
+                    DataType dataType = column.getDataType();
+                    Object value = table.getValue(row, columnName);
+
+                    if ("".equals(value) && !allowEmptyFields)
+                    {
+                        handleColumnHasNoValue(tableName, columnName);
+                    }
+
+                    statement.addValue(value, dataType);
+                } catch (TypeCastException e)
+                {
+                    final String msg = "Error casting value for table '"
+                            + tableName + "' and column '" + columnName + "'";
+                    logger.error("execute: {}", msg);
+                    throw new TypeCastException(msg, e);
+                }
+            }
         }
+        statement.addBatch();
     }
 
     /**
@@ -0,0 +1,494 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.operation;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultTableMetaData;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.RowOutOfBoundsException;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.dbunit.dataset.stream.IDataSetProducer;
+import org.dbunit.dataset.stream.StreamingDataSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base implementation of operations inserting the dataset contents through a
+ * database's native bulk load path instead of bound insert statements. Each
+ * table is read row by row and handed to {@link #loadTable}, so a
+ * {@link StreamingDataSet} never needs to be held in memory; see
+ * {@link #execute(IDatabaseConnection, IDataSetProducer)}.
+ * <p>
+ * Values are converted with the {@link DataType} of their database column.
+ * As with {@link InsertOperation}, columns without a value
+ * ({@link ITable#NO_VALUE}) are left out of the load so the database applies
+ * their default. Consecutive rows leaving out the same columns are loaded
+ * together, so a sparse dataset takes one load per change of those columns.
+ * <p>
+ * Like {@link InsertOperation}, subclasses can be composed with other
+ * operations, for example
+ * <code>new CompositeOperation(DatabaseOperation.DELETE_ALL, bulkInsert)</code>.
+ *
+ * @since 3.6.0
+ */
+public abstract class AbstractBulkInsertOperation extends AbstractOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(AbstractBulkInsertOperation.class);
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Default constructor.
+     */
+    protected AbstractBulkInsertOperation()
+    {
+    }
+
+    /**
+     * Loads the contents of a producer, consuming it as a stream.
+     *
+     * @param connection the database connection.
+     * @param producer the producer of the tables to load.
+     * @throws DatabaseUnitException if a DbUnit-specific error occurs.
+     * @throws SQLException if a database access error occurs.
+     */
+    public void execute(final IDatabaseConnection connection,
+            final IDataSetProducer producer)
+            throws DatabaseUnitException, SQLException
+    {
+        execute(connection, new StreamingDataSet(producer));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // DatabaseOperation class
+
+    @Override
+    public void execute(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        logger.debug("execute(connection={}, dataSet={}) - start", connection,
+                dataSet);
+
+        // for each table
+        final ITableIterator iterator = dataSet.iterator();
+        while (iterator.next())
+        {
+            final ITable table = iterator.getTable();
+
+            final String tableName = table.getTableMetaData().getTableName();
+            logger.trace("execute: processing table='{}'", tableName);
+
+            // Do not process empty table
+            if (AbstractBatchOperation.isEmpty(table))
+            {
+                continue;
+            }
+
+            try
+            {
+                final long start = System.currentTimeMillis();
+                int row = 0;
+                while (row >= 0)
+                {
+                    final RowGroupTable rows = new RowGroupTable(table, row);
+                    if (rows.getTableMetaData().getColumns().length == 0)
+                    {
+                        logger.warn("execute: skipping rows of table='{}'"
+                                + " without any value, from row {}",
+                                tableName, row);
+                        rows.skipRows();
+                    }
+                    else
+                    {
+                        final ITableMetaData metaData = getOperationMetaData(
+                                connection, rows.getTableMetaData());
+                        loadTable(connection, rows, metaData);
+                    }
+                    row = rows.getNextRow();
+                }
+                logger.debug("execute: loaded table='{}' in {} ms", tableName,
+                        System.currentTimeMillis() - start);
+            }
+            catch (final SQLException | IOException e)
+            {
+                final String msg =
+                        "Exception processing table name='" + tableName + "'";
+                throw new DatabaseUnitException(msg, e);
+            }
+        }
+    }
+
+    /**
+     * Loads all rows of a table.
+     *
+     * @param connection the database connection.
+     * @param table the table to load, with the columns having a value in all
+     *            of its rows; may only be readable forward once.
+     * @param metaData the table metadata, with the database's column types,
+     *            of the columns to load.
+     * @throws DatabaseUnitException if reading the table fails.
+     * @throws SQLException if the database rejects the load.
+     * @throws IOException if streaming the data fails.
+     */
+    protected abstract void loadTable(IDatabaseConnection connection,
+            ITable table, ITableMetaData metaData)
+            throws DatabaseUnitException, SQLException, IOException;
+
+    /**
+     * Reads one row of a table.
+     *
+     * @param table the table to read.
+     * @param columns the columns to read.
+     * @param row the row index.
+     * @return the values of the row, or <code>null</code> past the last row.
+     * @throws DataSetException if reading the table fails.
+     */
+    protected Object[] getRow(final ITable table, final Column[] columns,
+            final int row) throws DataSetException
+    {
+        final Object[] values = new Object[columns.length];
+        try
+        {
+            for (int i = 0; i < columns.length; i++)
+            {
+                values[i] = table.getValue(row, columns[i].getColumnName());
+            }
+        }
+        catch (final RowOutOfBoundsException e)
+        {
+            // end of table
+            return null;
+        }
+        return values;
+    }
+
+    /**
+     * Returns the escaped names of the columns, comma separated.
+     *
+     * @param columns the columns.
+     * @param connection the database connection.
+     * @return the column list.
+     */
+    protected String getColumnList(final Column[] columns,
+            final IDatabaseConnection connection)
+    {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < columns.length; i++)
+        {
+            if (i > 0)
+            {
+                sb.append(", ");
+            }
+            sb.append(getQualifiedName(null, columns[i].getColumnName(),
+                    connection));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Converts a value to its text form for the bulk load, after casting it
+     * with the column's {@link DataType}.
+     *
+     * @param value the value.
+     * @param dataType the data type of the column.
+     * @return the text, or <code>null</code> for <code>NULL</code>.
+     * @throws TypeCastException if the value cannot be cast.
+     */
+    protected String formatValue(final Object value, final DataType dataType)
+            throws TypeCastException
+    {
+        if (value == null)
+        {
+            return null;
+        }
+
+        final Object castValue = dataType.typeCast(value);
+        if (castValue == null)
+        {
+            return null;
+        }
+        if (castValue instanceof byte[])
+        {
+            return formatBinary((byte[]) castValue);
+        }
+        if (castValue instanceof Boolean)
+        {
+            return formatBoolean((Boolean) castValue);
+        }
+        if (castValue instanceof BigDecimal)
+        {
+            return ((BigDecimal) castValue).toPlainString();
+        }
+        return castValue.toString();
+    }
+
+    /**
+     * @param value the binary value.
+     * @return its text form, lowercase hexadecimal digits by default.
+     */
+    protected String formatBinary(final byte[] value)
+    {
+        return toHex(value);
+    }
+
+    /**
+     * @param value the boolean value.
+     * @return its text form, <code>true</code> or <code>false</code> by
+     *         default.
+     */
+    protected String formatBoolean(final Boolean value)
+    {
+        return value.toString();
+    }
+
+    /**
+     * @param dataType a data type.
+     * @return whether values of the type are binary.
+     */
+    protected static boolean isBinary(final DataType dataType)
+    {
+        switch (dataType.getSqlType())
+        {
+        case Types.BINARY:
+        case Types.VARBINARY:
+        case Types.LONGVARBINARY:
+        case Types.BLOB:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * @param value the bytes.
+     * @return the bytes as lowercase hexadecimal digits.
+     */
+    protected static String toHex(final byte[] value)
+    {
+        final char[] chars = new char[value.length * 2];
+        for (int i = 0; i < value.length; i++)
+        {
+            chars[i * 2] = HEX_DIGITS[(value[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX_DIGITS[value[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Appends a value in the tab-separated text format shared by PostgreSQL
+     * <code>COPY</code> and MySQL <code>LOAD DATA</code>: <code>\N</code> for
+     * <code>NULL</code>, and backslash escapes for backslash, tab, newline and
+     * carriage return.
+     *
+     * @param sb the buffer to append to.
+     * @param text the text form of the value, or <code>null</code>.
+     */
+    protected static void appendEscapedText(final StringBuilder sb,
+            final String text)
+    {
+        if (text == null)
+        {
+            sb.append("\\N");
+            return;
+        }
+        for (int i = 0; i < text.length(); i++)
+        {
+            final char c = text.charAt(i);
+            switch (c)
+            {
+            case '\\':
+                sb.append("\\\\");
+                break;
+            case '\t':
+                sb.append("\\t");
+                break;
+            case '\n':
+                sb.append("\\n");
+                break;
+            case '\r':
+                sb.append("\\r");
+                break;
+            default:
+                sb.append(c);
+            }
+        }
+    }
+
+    /**
+     * The consecutive rows of a table, starting at a given row, that leave out
+     * the same columns as that row. Only the columns with a value are listed
+     * in its metadata; the rows end before the first row leaving out other
+     * columns, see {@link #getNextRow()}.
+     */
+    private static class RowGroupTable implements ITable
+    {
+        private final ITable _table;
+        private final Column[] _columns;
+        private final BitSet _ignoreMapping;
+        private final ITableMetaData _metaData;
+        private final int _start;
+
+        /** Number of rows found to belong to the group. */
+        private int _rowCount;
+        /** Row after the group, -1 at the end of the table. */
+        private int _nextRow = -1;
+        private boolean _complete;
+
+        RowGroupTable(final ITable table, final int start)
+                throws DataSetException
+        {
+            _table = table;
+            _columns = table.getTableMetaData().getColumns();
+            _ignoreMapping = getIgnoreMapping(start);
+            _start = start;
+
+            final List<Column> columns = new ArrayList<>(_columns.length);
+            for (int i = 0; i < _columns.length; i++)
+            {
+                if (!_ignoreMapping.get(i))
+                {
+                    columns.add(_columns[i]);
+                }
+            }
+            _metaData = new DefaultTableMetaData(
+                    table.getTableMetaData().getTableName(),
+                    columns.toArray(new Column[0]));
+        }
+
+        /**
+         * @return the first row of the table after this group, or -1 if the
+         *         group reaches the end of the table.
+         */
+        int getNextRow()
+        {
+            if (!_complete)
+            {
+                throw new IllegalStateException("Rows of table '"
+                        + _metaData.getTableName() + "' not read to the end");
+            }
+            return _nextRow;
+        }
+
+        /**
+         * Reads past the rows of the group without loading them.
+         */
+        void skipRows() throws DataSetException
+        {
+            while (!_complete)
+            {
+                findRow(_rowCount);
+            }
+        }
+
+        @Override
+        public ITableMetaData getTableMetaData()
+        {
+            return _metaData;
+        }
+
+        @Override
+        public int getRowCount()
+        {
+            // the group's end is only known once read
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object getValue(final int row, final String column)
+                throws DataSetException
+        {
+            while (row >= _rowCount && !_complete)
+            {
+                findRow(_rowCount);
+            }
+            if (row < 0 || row >= _rowCount)
+            {
+                throw new RowOutOfBoundsException(row + " > " + _rowCount);
+            }
+            return _table.getValue(_start + row, column);
+        }
+
+        private void findRow(final int row) throws DataSetException
+        {
+            if (row == 0)
+            {
+                // the first row defines the group
+                _rowCount = 1;
+                return;
+            }
+
+            final BitSet ignoreMapping;
+            try
+            {
+                ignoreMapping = getIgnoreMapping(_start + row);
+            }
+            catch (final RowOutOfBoundsException e)
+            {
+                _complete = true;
+                return;
+            }
+            if (ignoreMapping.equals(_ignoreMapping))
+            {
+                _rowCount++;
+            }
+            else
+            {
+                _nextRow = _start + row;
+                _complete = true;
+            }
+        }
+
+        private BitSet getIgnoreMapping(final int row) throws DataSetException
+        {
+            final BitSet ignoreMapping = new BitSet();
+            for (int i = 0; i < _columns.length; i++)
+            {
+                final Object value = InsertOperation
+                        .getValueOrNoValueIfMissing(_table, row, _columns[i]);
+                if (InsertOperation.wouldIgnore(_columns[i], value))
+                {
+                    ignoreMapping.set(i);
+                }
+            }
+            return ignoreMapping;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.operation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.statement.IBatchStatement;
+import org.dbunit.database.statement.IStatementFactory;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITableIterator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base implementation of operations emptying the dataset tables with
+ * <code>TRUNCATE TABLE</code> while foreign key enforcement is on hold, for
+ * databases where {@link TruncateTableOperation} fails on tables referenced by
+ * foreign keys. The statement suspending the enforcement is run first, then
+ * the truncate statements in one batch, in reverse dataset order, and the
+ * previous enforcement state is restored in all cases, even when a truncate
+ * fails.
+ * <p>
+ * When the connection is not to the database the subclass is written for,
+ * judging by its product name, the operation falls back to
+ * {@link DatabaseOperation#DELETE_ALL}.
+ * <p>
+ * Truncating is usually not transactional and may commit the current
+ * transaction; see the subclasses for the database specifics.
+ *
+ * @since 3.6.0
+ */
+public abstract class AbstractFastTruncateOperation extends AbstractOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(AbstractFastTruncateOperation.class);
+
+    /**
+     * Default constructor.
+     */
+    protected AbstractFastTruncateOperation()
+    {
+    }
+
+    /**
+     * Returns whether the database is the one this operation is written for.
+     *
+     * @param productName the database product name, lowercase.
+     * @return <code>true</code> to truncate, <code>false</code> to fall back to
+     *         {@link DatabaseOperation#DELETE_ALL}.
+     */
+    protected abstract boolean isSupported(String productName);
+
+    /**
+     * Returns the statement putting foreign key enforcement on hold.
+     *
+     * @return the SQL statement, or <code>null</code> when not needed.
+     */
+    protected abstract String getDisableConstraintsStatement();
+
+    /**
+     * Returns the statement restoring the current foreign key enforcement
+     * state. Called before {@link #getDisableConstraintsStatement()} is run.
+     *
+     * @param jdbcConnection the JDBC connection, to read the current state.
+     * @return the SQL statement.
+     * @throws SQLException if reading the current state fails.
+     */
+    protected abstract String getRestoreConstraintsStatement(
+            Connection jdbcConnection) throws SQLException;
+
+    /**
+     * Returns the statements truncating the tables, one per table by default.
+     *
+     * @param tableNames the qualified and escaped table names, in truncate
+     *            order.
+     * @return the SQL statements.
+     */
+    protected List<String> getTruncateStatements(final List<String> tableNames)
+    {
+        final List<String> statements = new ArrayList<>(tableNames.size());
+        for (final String tableName : tableNames)
+        {
+            statements.add("truncate table " + tableName);
+        }
+        return statements;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // DatabaseOperation class
+
+    @Override
+    public void execute(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        logger.debug("execute(connection={}, dataSet={}) - start", connection,
+                dataSet);
+
+        final Connection jdbcConnection = connection.getConnection();
+        final String productName =
+                jdbcConnection.getMetaData().getDatabaseProductName();
+        if (productName == null
+                || !isSupported(productName.toLowerCase(Locale.ENGLISH)))
+        {
+            logger.debug("execute: database '{}' not supported, using DELETE_ALL",
+                    productName);
+            DatabaseOperation.DELETE_ALL.execute(connection, dataSet);
+            return;
+        }
+
+        final List<String> tableNames = getTableNames(connection, dataSet);
+        if (tableNames.isEmpty())
+        {
+            return;
+        }
+
+        final String disableSql = getDisableConstraintsStatement();
+        final String restoreSql = disableSql == null ? null
+                : getRestoreConstraintsStatement(jdbcConnection);
+        if (disableSql != null)
+        {
+            executeStatement(jdbcConnection, disableSql);
+        }
+        try
+        {
+            truncate(connection, tableNames);
+        }
+        catch (SQLException | RuntimeException | Error e)
+        {
+            restoreConstraints(jdbcConnection, restoreSql, e);
+            throw e;
+        }
+        restoreConstraints(jdbcConnection, restoreSql, null);
+    }
+
+    /**
+     * Returns the qualified names of the dataset tables, once each, in reverse
+     * order of seeing them.
+     */
+    private List<String> getTableNames(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        final IDataSet databaseDataSet = connection.createDataSet();
+        final Deque<String> tableNames = new ArrayDeque<>();
+        final Set<String> tablesSeen = new HashSet<>();
+        final ITableIterator iterator = dataSet.iterator();
+        while (iterator.next())
+        {
+            final String tableName =
+                    iterator.getTableMetaData().getTableName();
+            if (tablesSeen.add(tableName))
+            {
+                tableNames.push(tableName);
+            }
+        }
+
+        final List<String> qualifiedNames = new ArrayList<>(tableNames.size());
+        for (final String tableName : tableNames)
+        {
+            // Use database table name. Required to support case sensitive database.
+            final String databaseTableName = databaseDataSet
+                    .getTableMetaData(tableName).getTableName();
+            qualifiedNames.add(getQualifiedName(connection.getSchema(),
+                    databaseTableName, connection));
+        }
+        return Collections.unmodifiableList(qualifiedNames);
+    }
+
+    private void truncate(final IDatabaseConnection connection,
+            final List<String> tableNames) throws SQLException
+    {
+        final IStatementFactory statementFactory =
+                (IStatementFactory) connection.getConfig()
+                        .getProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY);
+        final IBatchStatement statement =
+                statementFactory.createBatchStatement(connection);
+        try
+        {
+            for (final String sql : getTruncateStatements(tableNames))
+            {
+                statement.addBatch(sql);
+                logger.debug("Added SQL: {}", sql);
+            }
+            statement.executeBatch();
+            statement.clearBatch();
+        }
+        finally
+        {
+            statement.close();
+        }
+    }
+
+    /**
+     * Restores the constraints, attaching a failure to the given exception as
+     * suppressed instead of letting it hide the truncate failure.
+     */
+    private void restoreConstraints(final Connection jdbcConnection,
+            final String restoreSql, final Throwable failure)
+            throws SQLException
+    {
+        if (restoreSql == null)
+        {
+            return;
+        }
+
+        try
+        {
+            executeStatement(jdbcConnection, restoreSql);
+        }
+        catch (final SQLException e)
+        {
+            if (failure == null)
+            {
+                throw e;
+            }
+            failure.addSuppressed(e);
+        }
+    }
+
+    private void executeStatement(final Connection jdbcConnection,
+            final String sql) throws SQLException
+    {
+        logger.debug("executeStatement: sql={}", sql);
+        try (Statement statement = jdbcConnection.createStatement())
+        {
+            statement.execute(sql);
+        }
+    }
+}
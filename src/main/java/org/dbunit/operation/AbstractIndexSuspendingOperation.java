@@ -0,0 +1,523 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.operation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.OperationStatistics;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.util.SQLHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base implementation of decorators loading the dataset tables while their
+ * indexes and triggers are suspended, so that the database does not maintain
+ * the indexes row by row nor fire the triggers. The subclass reads the
+ * indexes and triggers of the dataset tables from the catalog and returns a
+ * {@link Suspension} for each; the suspend statements are run in order, then
+ * the decorated operation, then the restore statements: the index rebuilds
+ * first, in parallel when a {@link DataSource} is given, then the others in
+ * reverse order.
+ * <p>
+ * The schema is restored even when the decorated operation or a suspend
+ * statement fails, in which case the failures of the restore statements are
+ * added as suppressed to the original failure. Every restore statement is run
+ * even when an earlier one fails.
+ * <p>
+ * When {@link DatabaseConfig#PROPERTY_OPERATION_STATISTICS} is set, the time
+ * spent loading and rebuilding is reported as the stages
+ * {@link #STAGE_LOAD} and {@link #STAGE_REBUILD}.
+ * <p>
+ * Index rebuilds on other connections only see committed rows, so they run on
+ * the connection of the execution when it is not in auto-commit mode. When
+ * the connection is not to the database the subclass is written for, judging
+ * by its product name, the decorated operation is executed as is.
+ *
+ * @since 3.6.0
+ */
+public abstract class AbstractIndexSuspendingOperation extends AbstractOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(AbstractIndexSuspendingOperation.class);
+
+    /** The statistics stage of executing the decorated operation. */
+    public static final String STAGE_LOAD = "load";
+
+    /** The statistics stage of restoring the indexes and triggers. */
+    public static final String STAGE_REBUILD = "rebuild";
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final DatabaseOperation _operation;
+
+    private final DataSource _dataSource;
+
+    private final int _parallelism;
+
+    /**
+     * Creates an operation rebuilding the indexes one after the other on the
+     * connection it is executed with.
+     *
+     * @param operation the operation to decorate.
+     */
+    protected AbstractIndexSuspendingOperation(final DatabaseOperation operation)
+    {
+        this(operation, null, 1);
+    }
+
+    /**
+     * Creates an operation rebuilding the indexes concurrently, on connections
+     * opened from a data source for each execution.
+     *
+     * @param operation the operation to decorate.
+     * @param dataSource the data source of the rebuild connections, or
+     *            <code>null</code> to rebuild on the execution connection.
+     * @param parallelism the maximum number of indexes rebuilt at once.
+     */
+    protected AbstractIndexSuspendingOperation(final DatabaseOperation operation,
+            final DataSource dataSource, final int parallelism)
+    {
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException(
+                    "The parameter 'parallelism' must be positive");
+        }
+        _operation = operation;
+        _dataSource = dataSource;
+        _parallelism = parallelism;
+    }
+
+    /**
+     * @return the decorated operation.
+     */
+    DatabaseOperation getOperation()
+    {
+        return _operation;
+    }
+
+    /**
+     * Returns whether the database is the one this operation is written for.
+     *
+     * @param productName the database product name, lowercase.
+     * @return <code>true</code> to suspend the indexes and triggers,
+     *         <code>false</code> to execute the decorated operation as is.
+     */
+    protected abstract boolean isSupported(String productName);
+
+    /**
+     * Reads the indexes and triggers of the tables to suspend from the
+     * catalog.
+     *
+     * @param jdbcConnection the JDBC connection.
+     * @param schema the schema of the tables, <code>null</code> for the
+     *            current one.
+     * @param tableNames the table names, as the database reports them.
+     * @return the suspensions, in suspend order.
+     * @throws SQLException if reading the catalog fails.
+     */
+    protected abstract List<Suspension> getSuspensions(Connection jdbcConnection,
+            String schema, List<String> tableNames) throws SQLException;
+
+    /**
+     * Runs a catalog query and returns its rows.
+     *
+     * @param jdbcConnection the JDBC connection.
+     * @param sql the query.
+     * @param parameters the string parameters of the query, in order.
+     * @param columnCount the number of columns to read, as strings.
+     * @return the rows.
+     * @throws SQLException if the query fails.
+     */
+    protected static List<String[]> query(final Connection jdbcConnection,
+            final String sql, final List<String> parameters,
+            final int columnCount) throws SQLException
+    {
+        logger.debug("query: {} {}", sql, parameters);
+
+        final List<String[]> rows = new ArrayList<>();
+        final PreparedStatement statement = jdbcConnection.prepareStatement(sql);
+        ResultSet resultSet = null;
+        try
+        {
+            for (int i = 0; i < parameters.size(); i++)
+            {
+                statement.setString(i + 1, parameters.get(i));
+            }
+            resultSet = statement.executeQuery();
+            while (resultSet.next())
+            {
+                final String[] row = new String[columnCount];
+                for (int i = 0; i < columnCount; i++)
+                {
+                    row[i] = resultSet.getString(i + 1);
+                }
+                rows.add(row);
+            }
+        }
+        finally
+        {
+            SQLHelper.close(resultSet, statement);
+        }
+        return rows;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // DatabaseOperation class
+
+    @Override
+    public void execute(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        logger.debug("execute(connection={}, dataSet={}) - start", connection,
+                dataSet);
+
+        final Connection jdbcConnection = connection.getConnection();
+        final String productName =
+                jdbcConnection.getMetaData().getDatabaseProductName();
+        if (productName == null || !isSupported(
+                productName.toLowerCase(Locale.ENGLISH)))
+        {
+            logger.debug("execute: database '{}' is not supported,"
+                    + " executing the operation as is", productName);
+            _operation.execute(connection, dataSet);
+            return;
+        }
+
+        final List<Suspension> suspensions = getSuspensions(jdbcConnection,
+                connection.getSchema(), getTableNames(connection, dataSet));
+        final OperationStatistics statistics = (OperationStatistics) connection
+                .getConfig()
+                .getProperty(DatabaseConfig.PROPERTY_OPERATION_STATISTICS);
+
+        final List<Suspension> applied = new ArrayList<>(suspensions.size());
+        try
+        {
+            for (final Suspension suspension : suspensions)
+            {
+                executeStatement(jdbcConnection, suspension._suspendSql);
+                applied.add(suspension);
+            }
+
+            final long start = System.nanoTime();
+            _operation.execute(connection, dataSet);
+            report(statistics, STAGE_LOAD, System.nanoTime() - start);
+        }
+        catch (DatabaseUnitException | SQLException | RuntimeException
+                | Error e)
+        {
+            restore(jdbcConnection, applied, statistics, e);
+            throw e;
+        }
+        restore(jdbcConnection, applied, statistics, null);
+    }
+
+    /**
+     * Returns the names of the dataset tables, once each, as the database
+     * reports them.
+     */
+    private List<String> getTableNames(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        final IDataSet databaseDataSet = connection.createDataSet();
+        final Set<String> tableNames = new LinkedHashSet<>();
+        final ITableIterator iterator = dataSet.iterator();
+        while (iterator.next())
+        {
+            // Use database table name. Required to support case sensitive database.
+            tableNames.add(databaseDataSet.getTableMetaData(
+                    iterator.getTableMetaData().getTableName()).getTableName());
+        }
+        return new ArrayList<>(tableNames);
+    }
+
+    /**
+     * Runs the restore statements of the applied suspensions, index rebuilds
+     * first, collecting the failures.
+     */
+    private void restore(final Connection jdbcConnection,
+            final List<Suspension> applied,
+            final OperationStatistics statistics, final Throwable failure)
+            throws SQLException
+    {
+        final long start = System.nanoTime();
+        final List<String> rebuilds = new ArrayList<>();
+        final List<String> others = new ArrayList<>();
+        for (final Suspension suspension : applied)
+        {
+            if (suspension._rebuild)
+            {
+                rebuilds.add(suspension._restoreSql);
+            }
+            else
+            {
+                others.add(suspension._restoreSql);
+            }
+        }
+        Collections.reverse(others);
+
+        final List<SQLException> failures = new ArrayList<>();
+        if (_dataSource != null && _parallelism > 1 && rebuilds.size() > 1
+                && jdbcConnection.getAutoCommit())
+        {
+            rebuildConcurrently(rebuilds, failures);
+        }
+        else
+        {
+            executeStatements(jdbcConnection, rebuilds, failures);
+        }
+        executeStatements(jdbcConnection, others, failures);
+        report(statistics, STAGE_REBUILD, System.nanoTime() - start);
+        logger.debug("restore: {} indexes rebuilt, {} other objects restored,"
+                + " {} failures", rebuilds.size(), others.size(),
+                failures.size());
+
+        if (failures.isEmpty())
+        {
+            return;
+        }
+        if (failure != null)
+        {
+            for (final SQLException e : failures)
+            {
+                failure.addSuppressed(e);
+            }
+            return;
+        }
+        final SQLException first = failures.get(0);
+        for (int i = 1; i < failures.size(); i++)
+        {
+            first.addSuppressed(failures.get(i));
+        }
+        throw first;
+    }
+
+    private void rebuildConcurrently(final List<String> rebuilds,
+            final List<SQLException> failures)
+    {
+        final Queue<String> queue = new ConcurrentLinkedQueue<>(rebuilds);
+        final int workers = Math.min(_parallelism, rebuilds.size());
+        final ExecutorService executor =
+                Executors.newFixedThreadPool(workers, runnable -> {
+                    final Thread thread = new Thread(runnable,
+                            "dbunit-rebuild-" + THREAD_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try
+        {
+            final List<Future<List<SQLException>>> results =
+                    new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++)
+            {
+                results.add(executor.submit(() -> rebuild(queue)));
+            }
+            for (final Future<List<SQLException>> result : results)
+            {
+                try
+                {
+                    failures.addAll(result.get());
+                }
+                catch (final ExecutionException e)
+                {
+                    failures.add(new SQLException("Rebuilding indexes failed",
+                            e.getCause()));
+                }
+                catch (final InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    failures.add(new SQLException(
+                            "Interrupted while rebuilding indexes", e));
+                    return;
+                }
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs on a worker: executes rebuild statements taken from the queue on
+     * its own connection until the queue is empty.
+     */
+    private List<SQLException> rebuild(final Queue<String> queue)
+    {
+        final List<SQLException> failures = new ArrayList<>();
+        try (Connection connection = _dataSource.getConnection())
+        {
+            for (String sql = queue.poll(); sql != null; sql = queue.poll())
+            {
+                try
+                {
+                    executeStatement(connection, sql);
+                }
+                catch (final SQLException e)
+                {
+                    failures.add(e);
+                }
+            }
+        }
+        catch (final SQLException e)
+        {
+            failures.add(e);
+        }
+        return failures;
+    }
+
+    private static void executeStatements(final Connection jdbcConnection,
+            final List<String> statements, final List<SQLException> failures)
+    {
+        for (final String sql : statements)
+        {
+            try
+            {
+                executeStatement(jdbcConnection, sql);
+            }
+            catch (final SQLException e)
+            {
+                failures.add(e);
+            }
+        }
+    }
+
+    private static void executeStatement(final Connection jdbcConnection,
+            final String sql) throws SQLException
+    {
+        logger.debug("executeStatement: {}", sql);
+
+        final Statement statement = jdbcConnection.createStatement();
+        try
+        {
+            statement.execute(sql);
+        }
+        finally
+        {
+            SQLHelper.close(statement);
+        }
+    }
+
+    private static void report(final OperationStatistics statistics,
+            final String stage, final long nanos)
+    {
+        logger.debug("report: stage '{}' took {} ms", stage,
+                nanos / 1000000);
+        if (statistics != null)
+        {
+            statistics.addStageTime(stage, 0, nanos);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getName()).append("[");
+        sb.append("_operation=").append(_operation);
+        sb.append(", _parallelism=").append(_parallelism);
+        sb.append("]");
+        return sb.toString();
+    }
+
+    /**
+     * An index or trigger put out of service for the load, with the
+     * statements doing and undoing it.
+     */
+    protected static final class Suspension
+    {
+        private final String _suspendSql;
+
+        private final String _restoreSql;
+
+        private final boolean _rebuild;
+
+        /**
+         * @param suspendSql the statement suspending the object.
+         * @param restoreSql the statement restoring it.
+         * @param rebuild whether restoring rebuilds an index, which may run
+         *            concurrently with the other rebuilds.
+         */
+        public Suspension(final String suspendSql, final String restoreSql,
+                final boolean rebuild)
+        {
+            _suspendSql = suspendSql;
+            _restoreSql = restoreSql;
+            _rebuild = rebuild;
+        }
+
+        /**
+         * @return the statement suspending the object.
+         */
+        public String getSuspendSql()
+        {
+            return _suspendSql;
+        }
+
+        /**
+         * @return the statement restoring the object.
+         */
+        public String getRestoreSql()
+        {
+            return _restoreSql;
+        }
+
+        /**
+         * @return whether restoring rebuilds an index.
+         */
+        public boolean isRebuild()
+        {
+            return _rebuild;
+        }
+
+        @Override
+        public String toString()
+        {
+            return _suspendSql + " / " + _restoreSql;
+        }
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.operation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.CachedTable;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.NoPrimaryKeyException;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Refreshes the dataset contents in two phases per table. First the primary
+ * keys of the dataset rows are looked up in the database, up to
+ * {@link DatabaseConfig#PROPERTY_BATCH_SIZE} keys per query. Then the rows
+ * whose key was found are written by {@link UpdateOperation} and all others by
+ * {@link InsertOperation}, both batched through the configured
+ * {@link org.dbunit.database.statement.IStatementFactory}. Used by
+ * {@link RefreshOperation} when {@link DatabaseConfig#FEATURE_BATCHED_REFRESH}
+ * is enabled.
+ * <p>
+ * The outcome is the same as the row-by-row update-else-insert: inserts run
+ * before updates, so a key repeated in the dataset is inserted once and then
+ * updated by its later occurrences, and a row with a <code>null</code> key is
+ * always inserted. Key values read back from the database are matched in Java
+ * using the columns' {@link DataType}s, ignoring trailing blanks of character
+ * values; keys the database only considers equal under its collation (for
+ * example case-insensitively) are not matched and are inserted.
+ *
+ * @since 3.6.0
+ */
+class BatchedRefreshOperation extends AbstractOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(BatchedRefreshOperation.class);
+
+    private final InsertOperation _insertOperation;
+    private final UpdateOperation _updateOperation;
+
+    BatchedRefreshOperation(final InsertOperation insertOperation,
+            final UpdateOperation updateOperation)
+    {
+        _insertOperation = insertOperation;
+        _updateOperation = updateOperation;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // DatabaseOperation class
+
+    @Override
+    public void execute(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        logger.debug("execute(connection={}, dataSet={}) - start", connection,
+                dataSet);
+
+        final CommitControl commits = CommitControl.begin(connection);
+        try
+        {
+            execute(connection, dataSet, commits);
+        }
+        catch (DatabaseUnitException | SQLException | RuntimeException
+                | Error e)
+        {
+            commits.abort(e);
+            throw e;
+        }
+        commits.end();
+    }
+
+    /**
+     * Refreshes the tables within the transactions controlled by the given
+     * commit control.
+     */
+    private void execute(final IDatabaseConnection connection,
+            final IDataSet dataSet, final CommitControl commits)
+            throws DatabaseUnitException, SQLException
+    {
+        final int batchSize = ((Integer) connection.getConfig()
+                .getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE)).intValue();
+
+        // for each table
+        final ITableIterator iterator = dataSet.iterator();
+        while (iterator.next())
+        {
+            ITable table = iterator.getTable();
+
+            final String tableName = table.getTableMetaData().getTableName();
+            logger.trace("execute: processing table='{}'", tableName);
+
+            // Do not process empty table
+            if (AbstractBatchOperation.isEmpty(table))
+            {
+                continue;
+            }
+
+            table = getRandomAccessTable(table);
+            final ITableMetaData metaData =
+                    getOperationMetaData(connection, table.getTableMetaData());
+            final Column[] primaryKeys = metaData.getPrimaryKeys();
+
+            // cannot match existing rows if no primary key
+            if (primaryKeys.length == 0)
+            {
+                throw new NoPrimaryKeyException(tableName);
+            }
+
+            final Object[][] keys = getKeys(table, primaryKeys);
+            final Set<Object[]> existingKeys;
+            try
+            {
+                existingKeys = selectExistingKeys(connection, metaData, keys,
+                        batchSize);
+            }
+            catch (final SQLException e)
+            {
+                final String msg =
+                        "Exception processing table name='" + tableName + "'";
+                throw new DatabaseUnitException(msg, e);
+            }
+
+            // partition rows, keeping the dataset order within each part
+            final List<Integer> insertRows = new ArrayList<>();
+            final List<Integer> updateRows = new ArrayList<>();
+            for (int row = 0; row < keys.length; row++)
+            {
+                final Object[] key = keys[row];
+                if (key != null && existingKeys.contains(key))
+                {
+                    updateRows.add(row);
+                }
+                else
+                {
+                    insertRows.add(row);
+                    if (key != null)
+                    {
+                        // later rows with the same key update this one
+                        existingKeys.add(key);
+                    }
+                }
+            }
+            logger.debug("execute: table='{}', rows to insert={}, rows to update={}",
+                    tableName, insertRows.size(), updateRows.size());
+
+            if (!insertRows.isEmpty())
+            {
+                _insertOperation.execute(connection, new DefaultDataSet(
+                        new RowSubsetTable(table, insertRows)), commits);
+            }
+
+            // nothing to update if columns are all primary keys
+            if (!updateRows.isEmpty()
+                    && metaData.getColumns().length > primaryKeys.length)
+            {
+                _updateOperation.execute(connection, new DefaultDataSet(
+                        new RowSubsetTable(table, updateRows)), commits);
+            }
+        }
+    }
+
+    /**
+     * Streaming tables can only be read once and forward, so they are cached
+     * to be partitioned.
+     */
+    static ITable getRandomAccessTable(final ITable table)
+            throws DataSetException
+    {
+        try
+        {
+            table.getRowCount();
+            return table;
+        }
+        catch (final UnsupportedOperationException e)
+        {
+            return new CachedTable(table);
+        }
+    }
+
+    /**
+     * Returns the typecast primary key values of every row, with
+     * <code>null</code> for a row missing any key value.
+     */
+    private Object[][] getKeys(final ITable table, final Column[] primaryKeys)
+            throws DataSetException
+    {
+        final Object[][] keys = new Object[table.getRowCount()][];
+        for (int row = 0; row < keys.length; row++)
+        {
+            Object[] key = new Object[primaryKeys.length];
+            for (int i = 0; i < primaryKeys.length; i++)
+            {
+                final Object value = table.getValue(row,
+                        primaryKeys[i].getColumnName());
+                if (value == null || value == ITable.NO_VALUE)
+                {
+                    // cannot match any existing row
+                    key = null;
+                    break;
+                }
+                key[i] = normalize(primaryKeys[i].getDataType(), value);
+            }
+            keys[row] = key;
+        }
+        return keys;
+    }
+
+    private Set<Object[]> selectExistingKeys(
+            final IDatabaseConnection connection, final ITableMetaData metaData,
+            final Object[][] keys, final int batchSize)
+            throws DataSetException, SQLException
+    {
+        final Column[] primaryKeys = metaData.getPrimaryKeys();
+        final Comparator<Object[]> comparator = new KeyComparator(primaryKeys);
+        final Set<Object[]> existingKeys = new TreeSet<>(comparator);
+
+        // probe each distinct key once
+        final Set<Object[]> distinctKeys = new TreeSet<>(comparator);
+        for (int i = 0; i < keys.length; i++)
+        {
+            if (keys[i] != null)
+            {
+                distinctKeys.add(keys[i]);
+            }
+        }
+        final List<Object[]> probeKeys = new ArrayList<>(distinctKeys);
+
+        final Connection jdbcConnection = connection.getConnection();
+        PreparedStatement statement = null;
+        int statementKeyCount = -1;
+        try
+        {
+            for (int start = 0; start < probeKeys.size(); start += batchSize)
+            {
+                final int keyCount =
+                        Math.min(batchSize, probeKeys.size() - start);
+                if (keyCount != statementKeyCount)
+                {
+                    if (statement != null)
+                    {
+                        statement.close();
+                    }
+                    statement = jdbcConnection.prepareStatement(
+                            getSelectKeysSql(metaData, keyCount, connection));
+                    statementKeyCount = keyCount;
+                }
+
+                int index = 1;
+                for (int i = start; i < start + keyCount; i++)
+                {
+                    final Object[] key = probeKeys.get(i);
+                    for (int j = 0; j < primaryKeys.length; j++)
+                    {
+                        primaryKeys[j].getDataType().setSqlValue(key[j],
+                                index++, statement);
+                    }
+                }
+
+                final ResultSet resultSet = statement.executeQuery();
+                try
+                {
+                    while (resultSet.next())
+                    {
+                        final Object[] key = new Object[primaryKeys.length];
+                        for (int j = 0; j < primaryKeys.length; j++)
+                        {
+                            final DataType dataType =
+                                    primaryKeys[j].getDataType();
+                            key[j] = normalize(dataType,
+                                    dataType.getSqlValue(j + 1, resultSet));
+                        }
+                        existingKeys.add(key);
+                    }
+                }
+                finally
+                {
+                    resultSet.close();
+                }
+            }
+        }
+        finally
+        {
+            if (statement != null)
+            {
+                statement.close();
+            }
+        }
+        return existingKeys;
+    }
+
+    /**
+     * Builds <code>select PK from T where PK in (?, ...)</code>, or
+     * <code>where (PK1 = ? and PK2 = ?) or ...</code> for a composite key.
+     */
+    private String getSelectKeysSql(final ITableMetaData metaData, final int keyCount,
+            final IDatabaseConnection connection) throws DataSetException
+    {
+        final Column[] primaryKeys = metaData.getPrimaryKeys();
+        final String[] keyNames = new String[primaryKeys.length];
+        for (int i = 0; i < primaryKeys.length; i++)
+        {
+            keyNames[i] = getQualifiedName(null,
+                    primaryKeys[i].getColumnName(), connection);
+        }
+
+        final StringBuilder sqlBuffer = new StringBuilder(128);
+        sqlBuffer.append("select ");
+        for (int i = 0; i < keyNames.length; i++)
+        {
+            if (i > 0)
+            {
+                sqlBuffer.append(", ");
+            }
+            sqlBuffer.append(keyNames[i]);
+        }
+        sqlBuffer.append(" from ");
+        sqlBuffer.append(getQualifiedName(connection.getSchema(),
+                metaData.getTableName(), connection));
+        sqlBuffer.append(" where ");
+
+        if (keyNames.length == 1)
+        {
+            sqlBuffer.append(keyNames[0]).append(" in (");
+            for (int i = 0; i < keyCount; i++)
+            {
+                if (i > 0)
+                {
+                    sqlBuffer.append(", ");
+                }
+                sqlBuffer.append("?");
+            }
+            sqlBuffer.append(")");
+            return sqlBuffer.toString();
+        }
+
+        for (int i = 0; i < keyCount; i++)
+        {
+            if (i > 0)
+            {
+                sqlBuffer.append(" or ");
+            }
+            sqlBuffer.append("(");
+            for (int j = 0; j < keyNames.length; j++)
+            {
+                if (j > 0)
+                {
+                    sqlBuffer.append(" and ");
+                }
+                sqlBuffer.append(keyNames[j]).append(" = ?");
+            }
+            sqlBuffer.append(")");
+        }
+        return sqlBuffer.toString();
+    }
+
+    static Object normalize(final DataType dataType, final Object value)
+            throws TypeCastException
+    {
+        final Object castValue = dataType.typeCast(value);
+        if (castValue instanceof String)
+        {
+            // CHAR keys come back blank-padded
+            final String string = (String) castValue;
+            int end = string.length();
+            while (end > 0 && string.charAt(end - 1) == ' ')
+            {
+                end--;
+            }
+            return string.substring(0, end);
+        }
+        return castValue;
+    }
+
+    /**
+     * Orders primary key values column by column using each column's
+     * {@link DataType}.
+     */
+    private static class KeyComparator implements Comparator<Object[]>
+    {
+        private final Column[] _primaryKeys;
+
+        KeyComparator(final Column[] primaryKeys)
+        {
+            _primaryKeys = primaryKeys;
+        }
+
+        @Override
+        public int compare(final Object[] key1, final Object[] key2)
+        {
+            for (int i = 0; i < _primaryKeys.length; i++)
+            {
+                try
+                {
+                    final int result = _primaryKeys[i].getDataType()
+                            .compare(key1[i], key2[i]);
+                    if (result != 0)
+                    {
+                        return result;
+                    }
+                }
+                catch (final TypeCastException e)
+                {
+                    // values are already typecast, so this cannot happen
+                    throw new IllegalStateException(e);
+                }
+            }
+            return 0;
+        }
+    }
+}
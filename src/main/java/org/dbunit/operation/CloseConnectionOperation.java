@@ -58,6 +58,14 @@ public class CloseConnectionOperation extends DatabaseOperation
         _operation = operation;
     }
 
+    /**
+     * @return the decorated operation.
+     */
+    DatabaseOperation getOperation()
+    {
+        return _operation;
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // DatabaseOperation class
 
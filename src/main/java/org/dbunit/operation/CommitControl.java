@@ -0,0 +1,300 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.operation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Controls the transactions of one operation execution, as configured by
+ * {@link DatabaseConfig#FEATURE_SUSPEND_AUTO_COMMIT},
+ * {@link DatabaseConfig#PROPERTY_COMMIT_INTERVAL_ROWS} and
+ * {@link DatabaseConfig#PROPERTY_COMMIT_INTERVAL_BATCHES}.
+ * <p>
+ * {@link #begin(IDatabaseConnection)} switches auto-commit off when configured
+ * to; {@link #end()} commits the rest and {@link #abort(Throwable)} rolls it
+ * back, both restoring auto-commit. The statements returned by
+ * {@link #decorate(IPreparedBatchStatement)} commit whenever the rows or
+ * batches executed since the last commit reach their interval, counting
+ * across tables and statements. A batch is
+ * {@link DatabaseConfig#PROPERTY_BATCH_SIZE} rows, or fewer when a statement
+ * is executed before reaching it. Intervals only commit while auto-commit is
+ * suspended by this class: a connection in auto-commit mode commits every
+ * statement anyway, and a connection already out of auto-commit mode belongs
+ * to a transaction of the caller, such as that of a
+ * {@link TransactionOperation} or {@link DeferredConstraintsOperation}, which
+ * must not be committed in parts.
+ *
+ * @since 3.6.0
+ */
+final class CommitControl
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(CommitControl.class);
+
+    private final Connection _connection;
+
+    private final boolean _restoreAutoCommit;
+
+    private final int _rowInterval;
+
+    private final int _batchInterval;
+
+    private final int _batchSize;
+
+    private int _rows;
+
+    private int _batches;
+
+    private int _pendingRows;
+
+    private int _commitCount;
+
+    private CommitControl(final Connection connection,
+            final boolean restoreAutoCommit, final int rowInterval, final int batchInterval,
+            final int batchSize)
+    {
+        _connection = connection;
+        _restoreAutoCommit = restoreAutoCommit;
+        _rowInterval = rowInterval;
+        _batchInterval = batchInterval;
+        _batchSize = batchSize;
+    }
+
+    /**
+     * Starts controlling the transactions of an execution on the connection,
+     * switching auto-commit off if configured to.
+     */
+    static CommitControl begin(final IDatabaseConnection connection)
+            throws SQLException
+    {
+        final DatabaseConfig config = connection.getConfig();
+        final Connection jdbcConnection = connection.getConnection();
+        final int rowInterval = ((Integer) config
+                .getProperty(DatabaseConfig.PROPERTY_COMMIT_INTERVAL_ROWS))
+                        .intValue();
+        final int batchInterval = ((Integer) config
+                .getProperty(DatabaseConfig.PROPERTY_COMMIT_INTERVAL_BATCHES))
+                        .intValue();
+        final int batchSize = ((Integer) config
+                .getProperty(DatabaseConfig.PROPERTY_BATCH_SIZE)).intValue();
+
+        final boolean suspendAutoCommit =
+                config.getFeature(DatabaseConfig.FEATURE_SUSPEND_AUTO_COMMIT);
+        if (!suspendAutoCommit && rowInterval <= 0 && batchInterval <= 0)
+        {
+            // nothing to control, leave the connection alone
+            return new CommitControl(jdbcConnection, false, 0, 0, 1);
+        }
+
+        boolean restoreAutoCommit = false;
+        if (suspendAutoCommit && jdbcConnection.getAutoCommit())
+        {
+            logger.debug("begin: suspending auto-commit");
+            jdbcConnection.setAutoCommit(false);
+            restoreAutoCommit = true;
+        }
+        return new CommitControl(jdbcConnection, restoreAutoCommit,
+                rowInterval, batchInterval, Math.max(1, batchSize));
+    }
+
+    /**
+     * Returns the statement committing at the configured intervals, or the
+     * given statement itself when there is none or nothing to commit.
+     */
+    IPreparedBatchStatement decorate(final IPreparedBatchStatement statement)
+    {
+        if (!_restoreAutoCommit || (_rowInterval <= 0 && _batchInterval <= 0))
+        {
+            return statement;
+        }
+        return new CommittingStatement(statement);
+    }
+
+    /**
+     * Counts rows executed without a decorated statement, as one batch, and
+     * commits if an interval is reached.
+     */
+    void rowsExecuted(final int rows) throws SQLException
+    {
+        _rows += rows;
+        _batches++;
+        _pendingRows = 0;
+        commitIfDue();
+    }
+
+    /**
+     * Ends a successful execution: commits the remaining rows and restores
+     * auto-commit if it was suspended.
+     */
+    void end() throws SQLException
+    {
+        if (_restoreAutoCommit)
+        {
+            try
+            {
+                commit();
+            }
+            finally
+            {
+                _connection.setAutoCommit(true);
+            }
+        }
+        logger.debug("end: {} interval commits", _commitCount);
+    }
+
+    /**
+     * Ends a failed execution: rolls back the rows since the last commit and
+     * restores auto-commit if it was suspended. Failures doing so are added
+     * as suppressed to the given failure.
+     */
+    void abort(final Throwable failure)
+    {
+        if (!_restoreAutoCommit)
+        {
+            return;
+        }
+
+        try
+        {
+            _connection.rollback();
+        }
+        catch (final SQLException e)
+        {
+            failure.addSuppressed(e);
+        }
+        try
+        {
+            _connection.setAutoCommit(true);
+        }
+        catch (final SQLException e)
+        {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Returns the number of commits issued because an interval was reached.
+     */
+    int getCommitCount()
+    {
+        return _commitCount;
+    }
+
+    private boolean isDue()
+    {
+        return (_rowInterval > 0 && _rows >= _rowInterval)
+                || (_batchInterval > 0 && _batches >= _batchInterval);
+    }
+
+    private void commitIfDue() throws SQLException
+    {
+        if (_restoreAutoCommit && isDue())
+        {
+            logger.debug("commitIfDue: committing {} rows in {} batches",
+                    _rows, _batches);
+            commit();
+            _commitCount++;
+        }
+    }
+
+    private void commit() throws SQLException
+    {
+        _connection.commit();
+        _rows = 0;
+        _batches = 0;
+    }
+
+    /**
+     * Executes its pending rows and commits when an interval is reached.
+     */
+    private class CommittingStatement implements IPreparedBatchStatement
+    {
+        private final IPreparedBatchStatement _statement;
+
+        CommittingStatement(final IPreparedBatchStatement statement)
+        {
+            _statement = statement;
+        }
+
+        @Override
+        public void addValue(final Object value, final DataType dataType)
+                throws TypeCastException, SQLException
+        {
+            _statement.addValue(value, dataType);
+        }
+
+        @Override
+        public void addBatch() throws SQLException
+        {
+            _statement.addBatch();
+            _rows++;
+            if (++_pendingRows >= _batchSize)
+            {
+                _batches++;
+                _pendingRows = 0;
+            }
+            if (isDue())
+            {
+                _statement.executeBatch();
+                _statement.clearBatch();
+                _pendingRows = 0;
+                commitIfDue();
+            }
+        }
+
+        @Override
+        public int executeBatch() throws SQLException
+        {
+            final int result = _statement.executeBatch();
+            if (_pendingRows > 0)
+            {
+                _batches++;
+                _pendingRows = 0;
+            }
+            commitIfDue();
+            return result;
+        }
+
+        @Override
+        public void clearBatch() throws SQLException
+        {
+            _statement.clearBatch();
+        }
+
+        @Override
+        public void close() throws SQLException
+        {
+            _statement.close();
+        }
+    }
+}
@@ -80,6 +80,13 @@ public abstract class DatabaseOperation
      */
     public static final DatabaseOperation CLEAN_INSERT = new CompositeOperation(
             DELETE_ALL, INSERT);
+    /**
+     * Brings the dataset's tables to the dataset's rows, like
+     * {@link #CLEAN_INSERT}, writing only the rows that differ.
+     * @see SyncOperation
+     * @since 3.6.0
+     */
+    public static final DatabaseOperation SYNC = new SyncOperation();
 
     /**
      * Wraps the given operation so it runs within its own transaction.
@@ -0,0 +1,206 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.operation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseSequenceFilter;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.FilteredDataSet;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.util.SQLHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decorates an operation and executes it in a single transaction, like
+ * {@link TransactionOperation}, with foreign key checks put off so the tables
+ * can be written in dataset order, without sorting them with
+ * {@link DatabaseSequenceFilter} first. Cyclic schemas load in a single pass,
+ * and the foreign key metadata of the schema is not read.
+ * <ul>
+ * <li><b>PostgreSQL, Oracle</b>: issues <code>SET CONSTRAINTS ALL
+ * DEFERRED</code> at the start of the transaction, so the constraints are
+ * checked when it commits. Only constraints declared <code>DEFERRABLE</code>
+ * are deferred; the others are still checked per statement.</li>
+ * <li><b>H2</b>, which has no deferrable constraints: disables referential
+ * integrity with <code>SET REFERENTIAL_INTEGRITY FALSE</code> around the
+ * transaction. The setting is database-wide, requires admin rights, and the
+ * rows written meanwhile are not checked at all.</li>
+ * <li>Other databases: executes the operation on the dataset sorted by
+ * {@link DatabaseSequenceFilter}, which requires a random access dataset.</li>
+ * </ul>
+ * As with {@link TransactionOperation}, the connection must be in auto-commit
+ * mode.
+ *
+ * @since 3.6.0
+ */
+public class DeferredConstraintsOperation extends DatabaseOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(DeferredConstraintsOperation.class);
+
+    /** {@link DatabaseOperation#INSERT} with deferred constraints. */
+    public static final DatabaseOperation INSERT =
+            new DeferredConstraintsOperation(DatabaseOperation.INSERT);
+
+    /** {@link DatabaseOperation#CLEAN_INSERT} with deferred constraints. */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new DeferredConstraintsOperation(DatabaseOperation.CLEAN_INSERT);
+
+    private final DatabaseOperation _operation;
+
+    /**
+     * Creates a DeferredConstraintsOperation that decorates the specified
+     * operation.
+     *
+     * @param operation the operation to decorate.
+     */
+    public DeferredConstraintsOperation(final DatabaseOperation operation)
+    {
+        _operation = operation;
+    }
+
+    /**
+     * @return the decorated operation.
+     */
+    DatabaseOperation getOperation()
+    {
+        return _operation;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // DatabaseOperation class
+
+    @Override
+    public void execute(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        logger.debug("execute(connection={}, dataSet={}) - start", connection,
+                dataSet);
+
+        final Connection jdbcConnection = connection.getConnection();
+        final String productName =
+                jdbcConnection.getMetaData().getDatabaseProductName();
+        final String product = productName == null ? ""
+                : productName.toLowerCase(Locale.ENGLISH);
+
+        if (product.contains("postgresql") || product.contains("oracle"))
+        {
+            new TransactionOperation(new DeferringOperation(_operation))
+                    .execute(connection, dataSet);
+        }
+        else if (product.equals("h2"))
+        {
+            executeStatement(jdbcConnection, "set referential_integrity false");
+            try
+            {
+                new TransactionOperation(_operation).execute(connection,
+                        dataSet);
+            }
+            catch (DatabaseUnitException | SQLException | RuntimeException
+                    | Error e)
+            {
+                restoreReferentialIntegrity(jdbcConnection, e);
+                throw e;
+            }
+            restoreReferentialIntegrity(jdbcConnection, null);
+        }
+        else
+        {
+            logger.debug("execute: database '{}' cannot defer constraints,"
+                    + " sorting the tables", productName);
+            new TransactionOperation(_operation).execute(connection,
+                    new FilteredDataSet(new DatabaseSequenceFilter(connection),
+                            dataSet));
+        }
+    }
+
+    /**
+     * Switches H2 referential integrity back on, attaching a failure to the
+     * given exception as suppressed instead of letting it hide the load
+     * failure.
+     */
+    private static void restoreReferentialIntegrity(
+            final Connection jdbcConnection, final Throwable failure)
+            throws SQLException
+    {
+        try
+        {
+            executeStatement(jdbcConnection, "set referential_integrity true");
+        }
+        catch (final SQLException e)
+        {
+            if (failure == null)
+            {
+                throw e;
+            }
+            failure.addSuppressed(e);
+        }
+    }
+
+    private static void executeStatement(final Connection jdbcConnection,
+            final String sql) throws SQLException
+    {
+        logger.debug("executeStatement: {}", sql);
+
+        final Statement statement = jdbcConnection.createStatement();
+        try
+        {
+            statement.execute(sql);
+        }
+        finally
+        {
+            SQLHelper.close(statement);
+        }
+    }
+
+    /**
+     * Defers the constraints at the start of the transaction, then executes
+     * the decorated operation.
+     */
+    private static class DeferringOperation extends DatabaseOperation
+    {
+        private final DatabaseOperation _operation;
+
+        DeferringOperation(final DatabaseOperation operation)
+        {
+            _operation = operation;
+        }
+
+        @Override
+        public void execute(final IDatabaseConnection connection,
+                final IDataSet dataSet)
+                throws DatabaseUnitException, SQLException
+        {
+            executeStatement(connection.getConnection(),
+                    "set constraints all deferred");
+            _operation.execute(connection, dataSet);
+        }
+    }
+}
@@ -24,10 +24,13 @@ package org.dbunit.operation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.SQLException;
 import java.util.BitSet;
 
 import org.dbunit.DatabaseUnitException;
 import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.database.statement.IStatementFactory;
 import org.dbunit.dataset.Column;
 import org.dbunit.dataset.DataSetException;
 import org.dbunit.dataset.IDataSet;
@@ -106,4 +109,16 @@ public class DeleteOperation extends AbstractBatchOperation
         return new OperationData(sqlBuffer.toString(), primaryKeys);
     }
 
+    @Override
+    IPreparedBatchStatement createPreparedBatchStatement(
+            IStatementFactory factory, OperationData operationData,
+            BitSet ignoreMapping, IDatabaseConnection connection)
+            throws SQLException
+    {
+        int parameterCount = operationData.getColumns().length
+                - ignoreMapping.cardinality();
+        return factory.createPreparedDeleteStatement(operationData.getSql(),
+                parameterCount, connection);
+    }
+
 }
@@ -0,0 +1,368 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.operation;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import org.dbunit.database.IRowFailureHandler;
+import org.dbunit.database.RowFailure;
+import org.dbunit.database.RowFailureException;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decorates the statement of a table and executes its rows in batches of
+ * <code>batchSize</code> inside a savepoint, isolating the rows the database
+ * rejects for an {@link IRowFailureHandler}.
+ * <p>
+ * The rows of the current batch are kept until it is executed. When it fails,
+ * it is rolled back to its savepoint and executed again in parts: if the
+ * {@link BatchUpdateException} tells which rows failed, the other rows are
+ * executed together and the suspects one by one, otherwise the batch is split
+ * in halves, recursively. A row failing on its own is reported to the handler.
+ * Without auto-commit the caller's transaction is used; with auto-commit, it
+ * is suspended for each batch, which is committed once executed.
+ *
+ * @since 3.6.0
+ */
+class FailureIsolatingBatchStatement implements IPreparedBatchStatement
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(FailureIsolatingBatchStatement.class);
+
+    private final IPreparedBatchStatement _statement;
+    private final Connection _connection;
+    private final String _tableName;
+    private final Column[] _columns;
+    private final IntUnaryOperator _rowIndexes;
+    private final IRowFailureHandler _handler;
+    private final int _batchSize;
+
+    private final List<Row> _rows = new ArrayList<>();
+    private Row _row;
+    private int _rowCount;
+    private int _result;
+
+    /**
+     * @param statement the statement executing the rows.
+     * @param connection the JDBC connection of the statement.
+     * @param tableName the name of the table, for reporting.
+     * @param columns the bound columns, in bind order, for reporting.
+     * @param rowIndexes maps the n-th row added to its dataset row index.
+     * @param handler decides on rejected rows.
+     * @param batchSize the number of rows executed at once.
+     */
+    FailureIsolatingBatchStatement(final IPreparedBatchStatement statement,
+            final Connection connection, final String tableName,
+            final Column[] columns, final IntUnaryOperator rowIndexes,
+            final IRowFailureHandler handler, final int batchSize)
+    {
+        _statement = statement;
+        _connection = connection;
+        _tableName = tableName;
+        _columns = columns;
+        _rowIndexes = rowIndexes;
+        _handler = handler;
+        _batchSize = Math.max(1, batchSize);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // IPreparedBatchStatement interface
+
+    /**
+     * Casts the value right away, so that conversion errors surface for the
+     * row being added, and keeps it until the batch is executed.
+     */
+    @Override
+    public void addValue(final Object value, final DataType dataType)
+            throws TypeCastException, SQLException
+    {
+        if (_row == null)
+        {
+            _row = new Row(_rowCount, _columns.length);
+        }
+        final Object castValue = value == null || value == ITable.NO_VALUE
+                ? value : dataType.typeCast(value);
+        _row.add(castValue, dataType);
+    }
+
+    @Override
+    public void addBatch() throws SQLException
+    {
+        if (_row == null)
+        {
+            _row = new Row(_rowCount, 0);
+        }
+        _rows.add(_row);
+        _row = null;
+        _rowCount++;
+        if (_rows.size() >= _batchSize)
+        {
+            flush();
+        }
+    }
+
+    @Override
+    public int executeBatch() throws SQLException
+    {
+        flush();
+        return _result;
+    }
+
+    @Override
+    public void clearBatch() throws SQLException
+    {
+        _rows.clear();
+        _row = null;
+        _statement.clearBatch();
+    }
+
+    @Override
+    public void close() throws SQLException
+    {
+        _statement.close();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+
+    private void flush() throws SQLException
+    {
+        if (_rows.isEmpty())
+        {
+            return;
+        }
+
+        final boolean autoCommit = _connection.getAutoCommit();
+        if (autoCommit)
+        {
+            _connection.setAutoCommit(false);
+        }
+        try
+        {
+            final Savepoint savepoint = _connection.setSavepoint();
+            try
+            {
+                execute(_rows);
+            }
+            catch (final SQLException | RuntimeException e)
+            {
+                _connection.rollback(savepoint);
+                throw e;
+            }
+            release(savepoint);
+            if (autoCommit)
+            {
+                _connection.commit();
+            }
+        }
+        finally
+        {
+            _rows.clear();
+            if (autoCommit)
+            {
+                _connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Executes the given rows inside their own savepoint, isolating the
+     * failing ones if the database rejects them.
+     */
+    private void execute(final List<Row> rows) throws SQLException
+    {
+        if (rows.isEmpty())
+        {
+            return;
+        }
+
+        final Savepoint savepoint = _connection.setSavepoint();
+        try
+        {
+            for (final Row row : rows)
+            {
+                for (int i = 0; i < row._size; i++)
+                {
+                    bind(row._values[i], row._dataTypes[i]);
+                }
+                _statement.addBatch();
+            }
+            _statement.executeBatch();
+            _statement.clearBatch();
+        }
+        catch (final SQLException e)
+        {
+            _connection.rollback(savepoint);
+            _statement.clearBatch();
+            isolate(rows, e);
+            return;
+        }
+        release(savepoint);
+        _result += rows.size();
+    }
+
+    private void bind(final Object value, final DataType dataType)
+            throws SQLException
+    {
+        try
+        {
+            _statement.addValue(value, dataType);
+        }
+        catch (final TypeCastException e)
+        {
+            // already cast once, but the driver binding may still refuse it
+            throw new SQLException("Error binding value '" + value
+                    + "' as " + dataType, e);
+        }
+    }
+
+    private void isolate(final List<Row> rows, final SQLException e)
+            throws SQLException
+    {
+        if (rows.size() == 1)
+        {
+            report(rows.get(0), e);
+            return;
+        }
+
+        final int[] updateCounts = e instanceof BatchUpdateException
+                ? ((BatchUpdateException) e).getUpdateCounts() : null;
+        if (updateCounts != null && updateCounts.length == rows.size())
+        {
+            // the driver went on after the failures and marked them
+            final List<Row> accepted = new ArrayList<>();
+            final List<Row> suspects = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++)
+            {
+                (updateCounts[i] == Statement.EXECUTE_FAILED ? suspects
+                        : accepted).add(rows.get(i));
+            }
+            if (!suspects.isEmpty() && !accepted.isEmpty())
+            {
+                logger.debug("isolate: table='{}', {} of {} rows failed",
+                        _tableName, suspects.size(), rows.size());
+                execute(accepted);
+                for (final Row suspect : suspects)
+                {
+                    execute(Collections.singletonList(suspect));
+                }
+                return;
+            }
+        }
+        else if (updateCounts != null && updateCounts.length > 0
+                && updateCounts.length < rows.size())
+        {
+            // the driver stopped at the first failure
+            final int failed = updateCounts.length;
+            logger.debug("isolate: table='{}', row {} of {} failed",
+                    _tableName, failed, rows.size());
+            execute(rows.subList(0, failed));
+            execute(rows.subList(failed, failed + 1));
+            execute(rows.subList(failed + 1, rows.size()));
+            return;
+        }
+
+        final int middle = rows.size() / 2;
+        logger.debug("isolate: table='{}', bisecting {} rows", _tableName,
+                rows.size());
+        execute(rows.subList(0, middle));
+        execute(rows.subList(middle, rows.size()));
+    }
+
+    private void report(final Row row, final SQLException e)
+            throws RowFailureException
+    {
+        final Object[] values = new Object[row._size];
+        System.arraycopy(row._values, 0, values, 0, row._size);
+        final Column[] columns = new Column[row._size];
+        System.arraycopy(_columns, 0, columns, 0, Math.min(row._size, _columns.length));
+        final RowFailure failure = new RowFailure(_tableName,
+                _rowIndexes.applyAsInt(row._ordinal), columns, values, e);
+        if (!_handler.handleRowFailure(failure))
+        {
+            throw new RowFailureException(failure);
+        }
+    }
+
+    private void release(final Savepoint savepoint)
+    {
+        try
+        {
+            _connection.releaseSavepoint(savepoint);
+        }
+        catch (final SQLException e)
+        {
+            // the savepoint is discarded with the transaction anyway
+            logger.debug("release: releasing the savepoint failed", e);
+        }
+    }
+
+    /**
+     * The values of one row, kept until its batch is executed.
+     */
+    private static final class Row
+    {
+        private final int _ordinal;
+        private Object[] _values;
+        private DataType[] _dataTypes;
+        private int _size;
+
+        Row(final int ordinal, final int capacity)
+        {
+            _ordinal = ordinal;
+            _values = new Object[capacity];
+            _dataTypes = new DataType[capacity];
+        }
+
+        void add(final Object value, final DataType dataType)
+        {
+            if (_size == _values.length)
+            {
+                final int capacity = Math.max(4, _size * 2);
+                final Object[] values = new Object[capacity];
+                System.arraycopy(_values, 0, values, 0, _size);
+                _values = values;
+                final DataType[] dataTypes = new DataType[capacity];
+                System.arraycopy(_dataTypes, 0, dataTypes, 0, _size);
+                _dataTypes = dataTypes;
+            }
+            _values[_size] = value;
+            _dataTypes[_size] = dataType;
+            _size++;
+        }
+    }
+}
@@ -24,13 +24,17 @@ package org.dbunit.operation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.dbunit.database.DatabaseConfig;
 import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.database.statement.IStatementFactory;
 import org.dbunit.dataset.Column;
 import org.dbunit.dataset.DataSetException;
 import org.dbunit.dataset.ITable;
 import org.dbunit.dataset.ITableMetaData;
 import org.dbunit.dataset.NoSuchColumnException;
 
+import java.sql.SQLException;
 import java.util.BitSet;
 
 /**
@@ -108,6 +112,24 @@ public class InsertOperation extends AbstractBatchOperation
         return new OperationData(sqlBuffer.toString(), columns);
     }
 
+    @Override
+    boolean isGroupingRowsByIgnoreMapping(DatabaseConfig config)
+    {
+        return config.getFeature(DatabaseConfig.FEATURE_GROUP_INSERT_ROWS);
+    }
+
+    @Override
+    IPreparedBatchStatement createPreparedBatchStatement(
+            IStatementFactory factory, OperationData operationData,
+            BitSet ignoreMapping, IDatabaseConnection connection)
+            throws SQLException
+    {
+        int parameterCount = operationData.getColumns().length
+                - ignoreMapping.cardinality();
+        return factory.createPreparedInsertStatement(operationData.getSql(),
+                parameterCount, connection);
+    }
+
     protected BitSet getIgnoreMapping(ITable table, int row) throws DataSetException
     {
         if (logger.isDebugEnabled())
@@ -183,7 +205,7 @@ public class InsertOperation extends AbstractBatchOperation
      * @throws DataSetException
      *             if the value cannot be retrieved for any other reason.
      */
-    private static Object getValueOrNoValueIfMissing(final ITable table,
+    static Object getValueOrNoValueIfMissing(final ITable table,
             final int row, final Column column) throws DataSetException
     {
         try
@@ -211,7 +233,7 @@ public class InsertOperation extends AbstractBatchOperation
      *            The row's value for that column.
      * @return {@code true} if the column would be omitted from the insert.
      */
-    private static boolean wouldIgnore(final Column column, final Object value)
+    static boolean wouldIgnore(final Column column, final Object value)
     {
         return value == ITable.NO_VALUE || (value == null
                 && column.isNotNullable() && column.hasDefaultValue());
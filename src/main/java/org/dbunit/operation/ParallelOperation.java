@@ -0,0 +1,531 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.operation;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.CachingConnectionProvider;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.DatabaseConnection;
+import org.dbunit.database.DatabaseSequenceFilter;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.OperationStatistics;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decorates an operation and executes it for several tables at once, each on
+ * its own connection.
+ * <p>
+ * The dataset's tables are grouped into foreign key dependency levels with
+ * {@link DatabaseSequenceFilter#getDependencyLevels}: a table only depends on
+ * tables of earlier levels. The levels are run one after another, and the
+ * tables of one level concurrently, at most <code>parallelism</code> at a time.
+ * For {@link DeleteOperation}, {@link DeleteAllOperation} and
+ * {@link TruncateTableOperation} the levels are run in reverse. For
+ * {@link UpdateOperation}, which only changes rows that already exist, all
+ * tables form a single level. The decorated operation is recognized through
+ * decorators such as {@link TransactionOperation}. The
+ * connection passed to {@link #execute} only resolves the dependencies; its
+ * {@link DatabaseConfig} is copied into the worker connections, so a
+ * configured {@link DatabaseConfig#PROPERTY_OPERATION_STATISTICS} receives the
+ * time spent on each table.
+ * <p>
+ * Worker connections come either from a {@link DataSource}, opened for each
+ * execution and closed afterwards, or from a connection factory, cached in one
+ * {@link CachingConnectionProvider} per worker and reused by later executions
+ * until {@link #close()}.
+ * <p>
+ * <b>Consistency.</b> There is no transaction spanning the tables: each table
+ * is written by the decorated operation on its worker connection and kept as
+ * that connection commits it, with auto-commit usually right away. Decorate a
+ * {@link TransactionOperation} to make each table all-or-nothing. When a
+ * table fails, the tables of its level already running still complete, the
+ * remaining levels are not started, and the first failure is thrown with the
+ * others attached as suppressed. With <code>failFast</code>, the tables of
+ * the level not yet started are skipped as well. The tables of earlier
+ * levels and the completed tables of the failed level stay written, so the
+ * database is left partially loaded; run a clean-up such as a parallel
+ * {@link DatabaseOperation#DELETE_ALL} before retrying.
+ * <p>
+ * A {@link CompositeOperation} such as {@link DatabaseOperation#CLEAN_INSERT}
+ * cannot be decorated, since its steps need opposite table orders; compose
+ * parallel operations instead:
+ *
+ * <pre>
+ * new CompositeOperation(new ParallelOperation(DatabaseOperation.DELETE_ALL, dataSource, 4),
+ *         new ParallelOperation(DatabaseOperation.INSERT, dataSource, 4));
+ * </pre>
+ *
+ * The dataset must be random access, as for {@link DatabaseSequenceFilter}.
+ *
+ * @since 3.6.0
+ */
+public class ParallelOperation extends DatabaseOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(ParallelOperation.class);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final DatabaseOperation _operation;
+
+    private final int _parallelism;
+
+    private final DataSource _dataSource;
+
+    private final Callable<IDatabaseConnection> _connectionFactory;
+
+    private final CachingConnectionProvider[] _connectionProviders;
+
+    private final boolean _failFast;
+
+    /**
+     * Creates a ParallelOperation opening its worker connections from a data
+     * source, with the schema of the connection it is executed with.
+     *
+     * @param operation the operation to execute for each table.
+     * @param dataSource the data source of the worker connections.
+     * @param parallelism the maximum number of tables written at once.
+     */
+    public ParallelOperation(final DatabaseOperation operation,
+            final DataSource dataSource, final int parallelism)
+    {
+        this(operation, dataSource, null, parallelism, false);
+    }
+
+    /**
+     * Creates a ParallelOperation opening its worker connections from a data
+     * source, with the schema of the connection it is executed with.
+     *
+     * @param operation the operation to execute for each table.
+     * @param dataSource the data source of the worker connections.
+     * @param parallelism the maximum number of tables written at once.
+     * @param failFast whether to skip the tables not yet started once a table
+     *            failed, instead of writing them and collecting all failures.
+     */
+    public ParallelOperation(final DatabaseOperation operation,
+            final DataSource dataSource, final int parallelism,
+            final boolean failFast)
+    {
+        this(operation, dataSource, null, parallelism, failFast);
+    }
+
+    /**
+     * Creates a ParallelOperation caching its worker connections, one
+     * {@link CachingConnectionProvider} per worker, until {@link #close()}.
+     *
+     * @param operation the operation to execute for each table.
+     * @param connectionFactory creates a worker connection when a worker has
+     *            no live one.
+     * @param parallelism the maximum number of tables written at once.
+     */
+    public ParallelOperation(final DatabaseOperation operation,
+            final Callable<IDatabaseConnection> connectionFactory,
+            final int parallelism)
+    {
+        this(operation, null, connectionFactory, parallelism, false);
+    }
+
+    /**
+     * Creates a ParallelOperation caching its worker connections, one
+     * {@link CachingConnectionProvider} per worker, until {@link #close()}.
+     *
+     * @param operation the operation to execute for each table.
+     * @param connectionFactory creates a worker connection when a worker has
+     *            no live one.
+     * @param parallelism the maximum number of tables written at once.
+     * @param failFast whether to skip the tables not yet started once a table
+     *            failed, instead of writing them and collecting all failures.
+     */
+    public ParallelOperation(final DatabaseOperation operation,
+            final Callable<IDatabaseConnection> connectionFactory,
+            final int parallelism, final boolean failFast)
+    {
+        this(operation, null, connectionFactory, parallelism, failFast);
+    }
+
+    private ParallelOperation(final DatabaseOperation operation,
+            final DataSource dataSource,
+            final Callable<IDatabaseConnection> connectionFactory,
+            final int parallelism, final boolean failFast)
+    {
+        if (unwrap(operation) instanceof CompositeOperation)
+        {
+            throw new IllegalArgumentException("The parameter 'operation'"
+                    + " must not be a CompositeOperation, compose"
+                    + " ParallelOperations instead");
+        }
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException(
+                    "The parameter 'parallelism' must be positive");
+        }
+        _operation = operation;
+        _dataSource = dataSource;
+        _connectionFactory = connectionFactory;
+        _parallelism = parallelism;
+        _failFast = failFast;
+        _connectionProviders = connectionFactory == null ? null
+                : new CachingConnectionProvider[parallelism];
+        if (_connectionProviders != null)
+        {
+            for (int i = 0; i < parallelism; i++)
+            {
+                _connectionProviders[i] = new CachingConnectionProvider();
+            }
+        }
+    }
+
+    /**
+     * Closes the cached worker connections, if any. A later execution
+     * creates new ones.
+     *
+     * @throws SQLException if closing a connection fails.
+     */
+    public void close() throws SQLException
+    {
+        if (_connectionProviders == null)
+        {
+            return;
+        }
+
+        SQLException failure = null;
+        for (final CachingConnectionProvider provider : _connectionProviders)
+        {
+            try
+            {
+                provider.close();
+            }
+            catch (final SQLException e)
+            {
+                if (failure == null)
+                {
+                    failure = e;
+                }
+                else
+                {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null)
+        {
+            throw failure;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // DatabaseOperation class
+
+    @Override
+    public void execute(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        logger.debug("execute(connection={}, dataSet={}) - start", connection,
+                dataSet);
+
+        final String[][] levels = unwrap(_operation) instanceof UpdateOperation
+                ? new String[][] {dataSet.getTableNames()}
+                : DatabaseSequenceFilter.getDependencyLevels(connection,
+                        dataSet.getTableNames());
+        int workerCount = 0;
+        for (final String[] level : levels)
+        {
+            workerCount = Math.max(workerCount, level.length);
+        }
+        workerCount = Math.min(workerCount, _parallelism);
+        if (workerCount == 0)
+        {
+            return;
+        }
+
+        final List<IDatabaseConnection> openedConnections = new ArrayList<>();
+        final BlockingQueue<IDatabaseConnection> workerConnections =
+                new ArrayBlockingQueue<>(workerCount);
+        final ExecutorService executor =
+                Executors.newFixedThreadPool(workerCount, runnable -> {
+                    final Thread thread = new Thread(runnable,
+                            "dbunit-parallel-" + THREAD_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try
+        {
+            for (int i = 0; i < workerCount; i++)
+            {
+                final IDatabaseConnection workerConnection =
+                        getWorkerConnection(connection, i);
+                openedConnections.add(workerConnection);
+                workerConnections.add(workerConnection);
+            }
+
+            final boolean reverse = isReverseOrder();
+            for (int i = 0; i < levels.length; i++)
+            {
+                final String[] level = levels[reverse ? levels.length - 1 - i : i];
+                executeLevel(executor, workerConnections, dataSet, level);
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+            if (_dataSource != null)
+            {
+                for (final IDatabaseConnection workerConnection : openedConnections)
+                {
+                    closeQuietly(workerConnection);
+                }
+            }
+        }
+    }
+
+    private void executeLevel(final ExecutorService executor,
+            final BlockingQueue<IDatabaseConnection> workerConnections,
+            final IDataSet dataSet, final String[] tableNames)
+            throws DatabaseUnitException, SQLException
+    {
+        logger.debug("executeLevel(tableNames={}) - start", (Object) tableNames);
+
+        final AtomicBoolean failed = new AtomicBoolean();
+        final List<Future<Void>> futures = new ArrayList<>(tableNames.length);
+        for (final String tableName : tableNames)
+        {
+            final ITable table = dataSet.getTable(tableName);
+            futures.add(executor.submit(() -> {
+                if (_failFast && failed.get())
+                {
+                    logger.debug("executeLevel: skipping table='{}'",
+                            tableName);
+                    return null;
+                }
+                final IDatabaseConnection workerConnection =
+                        workerConnections.take();
+                try
+                {
+                    executeTable(workerConnection, table);
+                }
+                catch (DatabaseUnitException | SQLException | RuntimeException
+                        | Error e)
+                {
+                    failed.set(true);
+                    throw e;
+                }
+                finally
+                {
+                    workerConnections.add(workerConnection);
+                }
+                return null;
+            }));
+        }
+
+        Throwable failure = null;
+        for (final Future<Void> future : futures)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (final ExecutionException e)
+            {
+                if (failure == null)
+                {
+                    failure = e.getCause();
+                }
+                else
+                {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+            catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new DatabaseUnitException(
+                        "Interrupted while waiting for the tables to be written",
+                        e);
+            }
+        }
+
+        if (failure instanceof DatabaseUnitException)
+        {
+            throw (DatabaseUnitException) failure;
+        }
+        if (failure instanceof SQLException)
+        {
+            throw (SQLException) failure;
+        }
+        if (failure instanceof RuntimeException)
+        {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error)
+        {
+            throw (Error) failure;
+        }
+        if (failure != null)
+        {
+            throw new DatabaseUnitException(failure);
+        }
+    }
+
+    private void executeTable(final IDatabaseConnection workerConnection,
+            final ITable table) throws DatabaseUnitException, SQLException
+    {
+        final String tableName = table.getTableMetaData().getTableName();
+        final long start = System.currentTimeMillis();
+
+        _operation.execute(workerConnection, new DefaultDataSet(table));
+
+        final long elapsed = System.currentTimeMillis() - start;
+        logger.debug("executeTable: table='{}' written in {} ms", tableName,
+                elapsed);
+        final OperationStatistics statistics =
+                (OperationStatistics) workerConnection.getConfig().getProperty(
+                        DatabaseConfig.PROPERTY_OPERATION_STATISTICS);
+        if (statistics != null)
+        {
+            statistics.addElapsedTime(tableName, elapsed);
+        }
+    }
+
+    private IDatabaseConnection getWorkerConnection(
+            final IDatabaseConnection connection, final int worker)
+            throws DatabaseUnitException, SQLException
+    {
+        final IDatabaseConnection workerConnection;
+        if (_dataSource != null)
+        {
+            workerConnection = new DatabaseConnection(
+                    _dataSource.getConnection(), connection.getSchema());
+        }
+        else
+        {
+            try
+            {
+                workerConnection = _connectionProviders[worker]
+                        .getConnection(_connectionFactory);
+            }
+            catch (DatabaseUnitException | SQLException | RuntimeException e)
+            {
+                throw e;
+            }
+            catch (final Exception e)
+            {
+                throw new DatabaseUnitException(
+                        "Exception creating a worker connection", e);
+            }
+        }
+        connection.getConfig().copyPropertiesInto(workerConnection.getConfig());
+        return workerConnection;
+    }
+
+    private boolean isReverseOrder()
+    {
+        final DatabaseOperation operation = unwrap(_operation);
+        return operation instanceof DeleteAllOperation
+                || operation instanceof DeleteOperation;
+    }
+
+    /**
+     * Returns the operation decorated by the given one, through any number of
+     * {@link TransactionOperation}, {@link DeferredConstraintsOperation},
+     * {@link CloseConnectionOperation} and
+     * {@link AbstractIndexSuspendingOperation} decorators.
+     *
+     * @param operation the operation, possibly decorated.
+     * @return the innermost operation.
+     */
+    static DatabaseOperation unwrap(final DatabaseOperation operation)
+    {
+        DatabaseOperation unwrapped = operation;
+        while (true)
+        {
+            if (unwrapped instanceof TransactionOperation)
+            {
+                unwrapped = ((TransactionOperation) unwrapped).getOperation();
+            }
+            else if (unwrapped instanceof DeferredConstraintsOperation)
+            {
+                unwrapped = ((DeferredConstraintsOperation) unwrapped)
+                        .getOperation();
+            }
+            else if (unwrapped instanceof CloseConnectionOperation)
+            {
+                unwrapped = ((CloseConnectionOperation) unwrapped)
+                        .getOperation();
+            }
+            else if (unwrapped instanceof AbstractIndexSuspendingOperation)
+            {
+                unwrapped = ((AbstractIndexSuspendingOperation) unwrapped)
+                        .getOperation();
+            }
+            else
+            {
+                return unwrapped;
+            }
+        }
+    }
+
+    private void closeQuietly(final IDatabaseConnection workerConnection)
+    {
+        try
+        {
+            workerConnection.close();
+        }
+        catch (final SQLException e)
+        {
+            logger.warn("closeQuietly() - exception while closing a worker"
+                    + " connection", e);
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getName()).append("[");
+        sb.append("_operation=").append(_operation);
+        sb.append(", _parallelism=").append(_parallelism);
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,618 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.operation;
+
+import java.sql.SQLException;
+import java.util.BitSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.OperationStatistics;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.database.statement.IStatementFactory;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.RowOutOfBoundsException;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Inserts the dataset contents like {@link DatabaseOperation#INSERT}, with
+ * reading the dataset, converting its values and writing them to the database
+ * overlapping in a pipeline of three stages:
+ * <ol>
+ * <li><b>read</b>: one thread iterates the dataset, for example parsing a
+ * {@link org.dbunit.dataset.stream.StreamingDataSet}, and collects the rows
+ * into chunks of <code>chunkSize</code> rows.</li>
+ * <li><b>convert</b>: <code>converterThreads</code> threads cast the values
+ * of each chunk to the data types of the database columns.</li>
+ * <li><b>write</b>: the calling thread binds the converted values and
+ * executes the batches on the connection, in dataset order.</li>
+ * </ol>
+ * At most <code>queueCapacity</code> chunks are read ahead of the writer, so
+ * a fast reader waits for a slow database instead of holding the whole
+ * dataset in memory.
+ * <p>
+ * Each stage reports the rows it processed and the time it was busy to the
+ * {@link DatabaseConfig#PROPERTY_OPERATION_STATISTICS}, if configured, under
+ * {@link #STAGE_READ}, {@link #STAGE_CONVERT} and {@link #STAGE_WRITE}. The
+ * stage with the lowest {@link OperationStatistics#getStageThroughput
+ * throughput} is the bottleneck; the convert stage reports the busy time of
+ * all its threads combined.
+ * <p>
+ * Only the writer uses the connection. Table metadata is resolved by the
+ * writer when it reaches a table, and the chunks of that table are converted
+ * once it did, so the first chunks of each table are converted while the
+ * writer waits.
+ *
+ * @since 3.6.0
+ */
+public class PipelinedInsertOperation extends InsertOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(PipelinedInsertOperation.class);
+
+    /** The stage name of reading the dataset. */
+    public static final String STAGE_READ = "read";
+
+    /** The stage name of casting the values. */
+    public static final String STAGE_CONVERT = "convert";
+
+    /** The stage name of binding and executing the statements. */
+    public static final String STAGE_WRITE = "write";
+
+    /** The number of converter threads used by the default constructor. */
+    public static final int DEFAULT_CONVERTER_THREADS = 2;
+
+    /** The number of rows per chunk used by the default constructor. */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    /** The number of chunks read ahead used by the default constructor. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final int _converterThreads;
+
+    private final int _chunkSize;
+
+    private final int _queueCapacity;
+
+    /**
+     * Creates a pipelined insert with {@value #DEFAULT_CONVERTER_THREADS}
+     * converter threads, {@value #DEFAULT_CHUNK_SIZE} rows per chunk and
+     * {@value #DEFAULT_QUEUE_CAPACITY} chunks read ahead.
+     */
+    public PipelinedInsertOperation()
+    {
+        this(DEFAULT_CONVERTER_THREADS, DEFAULT_CHUNK_SIZE,
+                DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param converterThreads the number of threads casting values.
+     * @param chunkSize the number of rows handed from stage to stage at once.
+     * @param queueCapacity the maximum number of chunks read ahead of the
+     *            writer.
+     */
+    public PipelinedInsertOperation(final int converterThreads,
+            final int chunkSize, final int queueCapacity)
+    {
+        if (converterThreads < 1 || chunkSize < 1 || queueCapacity < 1)
+        {
+            throw new IllegalArgumentException("The parameters"
+                    + " 'converterThreads', 'chunkSize' and 'queueCapacity'"
+                    + " must be positive");
+        }
+        _converterThreads = converterThreads;
+        _chunkSize = chunkSize;
+        _queueCapacity = queueCapacity;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // DatabaseOperation class
+
+    @Override
+    public void execute(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        logger.debug("execute(connection={}, dataSet={}) - start", connection,
+                dataSet);
+
+        final ExecutorService reader = Executors.newSingleThreadExecutor(
+                createThreadFactory("dbunit-pipeline-read-"));
+        final ExecutorService converters = Executors.newFixedThreadPool(
+                _converterThreads,
+                createThreadFactory("dbunit-pipeline-convert-"));
+        try
+        {
+            final Pipeline pipeline = new Pipeline(connection, converters);
+            reader.submit(() -> {
+                pipeline.read(dataSet);
+                return null;
+            });
+            final CommitControl commits = CommitControl.begin(connection);
+            try
+            {
+                pipeline.write(commits);
+            }
+            catch (DatabaseUnitException | SQLException | RuntimeException
+                    | Error e)
+            {
+                commits.abort(e);
+                throw e;
+            }
+            commits.end();
+            pipeline.report();
+        }
+        finally
+        {
+            reader.shutdownNow();
+            converters.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory createThreadFactory(final String prefix)
+    {
+        return runnable -> {
+            final Thread thread = new Thread(runnable,
+                    prefix + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * The state of one execution.
+     */
+    private class Pipeline
+    {
+        private final IDatabaseConnection _connection;
+
+        private final ExecutorService _converters;
+
+        private final BlockingQueue<Future<Chunk>> _queue =
+                new ArrayBlockingQueue<>(_queueCapacity);
+
+        private final boolean _allowEmptyFields;
+
+        private final Stage _read = new Stage(STAGE_READ);
+
+        private final Stage _convert = new Stage(STAGE_CONVERT);
+
+        private final Stage _write = new Stage(STAGE_WRITE);
+
+        Pipeline(final IDatabaseConnection connection,
+                final ExecutorService converters)
+        {
+            _connection = connection;
+            _converters = converters;
+            _allowEmptyFields = connection.getConfig()
+                    .getFeature(DatabaseConfig.FEATURE_ALLOW_EMPTY_FIELDS);
+        }
+
+        /**
+         * Runs on the reader thread: queues a header per table, followed by
+         * the conversions of its chunks, and finally {@link Chunk#END}. A
+         * failure is queued in place of the next chunk.
+         */
+        void read(final IDataSet dataSet) throws InterruptedException
+        {
+            try
+            {
+                long start = System.nanoTime();
+                final ITableIterator iterator = iterator(dataSet);
+                while (iterator.next())
+                {
+                    final ITable table = iterator.getTable();
+                    if (isEmpty(table))
+                    {
+                        continue;
+                    }
+
+                    final Header header = new Header(table.getTableMetaData());
+                    start = put(CompletableFuture.completedFuture(
+                            new Chunk(header, 0)), start);
+                    final Column[] columns = header._dataSetMetaData.getColumns();
+                    Chunk chunk = new Chunk(header, _chunkSize);
+                    for (int row = 0;; row++)
+                    {
+                        final Object[] values = new Object[columns.length];
+                        try
+                        {
+                            for (int j = 0; j < columns.length; j++)
+                            {
+                                values[j] = getValueOrNoValueIfMissing(table,
+                                        row, columns[j]);
+                            }
+                        }
+                        catch (final RowOutOfBoundsException e)
+                        {
+                            // end of table
+                            break;
+                        }
+
+                        final BitSet ignoreMapping = new BitSet();
+                        for (int j = 0; j < columns.length; j++)
+                        {
+                            if (wouldIgnore(columns[j], values[j]))
+                            {
+                                ignoreMapping.set(j);
+                            }
+                        }
+                        chunk.add(values, ignoreMapping);
+                        if (chunk.isFull())
+                        {
+                            start = put(submit(chunk), start);
+                            chunk = new Chunk(header, _chunkSize);
+                        }
+                    }
+                    if (chunk._size > 0)
+                    {
+                        start = put(submit(chunk), start);
+                    }
+                }
+                _read.add(0, System.nanoTime() - start);
+                _queue.put(CompletableFuture.completedFuture(Chunk.END));
+            }
+            catch (final InterruptedException e)
+            {
+                throw e;
+            }
+            catch (final Throwable e)
+            {
+                final CompletableFuture<Chunk> failure = new CompletableFuture<>();
+                failure.completeExceptionally(e);
+                _queue.put(failure);
+            }
+        }
+
+        private Future<Chunk> submit(final Chunk chunk)
+        {
+            _read.add(chunk._size, 0);
+            return _converters.submit(() -> convert(chunk));
+        }
+
+        /**
+         * Queues the given chunk, not counting the time waiting for the
+         * writer as busy time of the reader.
+         *
+         * @return The time reading continues.
+         */
+        private long put(final Future<Chunk> chunk, final long start)
+                throws InterruptedException
+        {
+            _read.add(0, System.nanoTime() - start);
+            _queue.put(chunk);
+            return System.nanoTime();
+        }
+
+        /**
+         * Runs on a converter thread once the writer resolved the table
+         * metadata.
+         */
+        private Chunk convert(final Chunk chunk) throws Exception
+        {
+            final ITableMetaData metaData = chunk._header._metaData.get();
+            final long start = System.nanoTime();
+
+            final String tableName = metaData.getTableName();
+            final Column[] columns = metaData.getColumns();
+            for (int i = 0; i < chunk._size; i++)
+            {
+                final Object[] values = chunk._values[i];
+                final BitSet ignoreMapping = chunk._ignoreMappings[i];
+                for (int j = 0; j < columns.length; j++)
+                {
+                    final Object value = values[j];
+                    if (ignoreMapping.get(j) || value == null)
+                    {
+                        continue;
+                    }
+                    if ("".equals(value) && !_allowEmptyFields)
+                    {
+                        handleColumnHasNoValue(tableName,
+                                columns[j].getColumnName());
+                    }
+                    try
+                    {
+                        values[j] = columns[j].getDataType().typeCast(value);
+                    }
+                    catch (final TypeCastException e)
+                    {
+                        final String msg = "Error casting value for table '"
+                                + tableName + "' and column '"
+                                + columns[j].getColumnName() + "'";
+                        logger.error("execute: {}", msg);
+                        throw new TypeCastException(msg, e);
+                    }
+                }
+            }
+
+            _convert.add(chunk._size, System.nanoTime() - start);
+            return chunk;
+        }
+
+        /**
+         * Runs on the calling thread: resolves the metadata of each table and
+         * binds and executes the converted rows.
+         */
+        void write(final CommitControl commits)
+                throws DatabaseUnitException, SQLException
+        {
+            final DatabaseConfig config = _connection.getConfig();
+            final IStatementFactory factory = (IStatementFactory) config
+                    .getProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY);
+            final OperationStatistics statistics = (OperationStatistics) config
+                    .getProperty(DatabaseConfig.PROPERTY_OPERATION_STATISTICS);
+
+            String tableName = null;
+            ITableMetaData metaData = null;
+            BitSet ignoreMapping = null;
+            OperationData operationData = null;
+            IPreparedBatchStatement statement = null;
+            try
+            {
+                for (Chunk chunk = take(); chunk != Chunk.END; chunk = take())
+                {
+                    final long start = System.nanoTime();
+                    if (chunk._values == null)
+                    {
+                        if (statement != null)
+                        {
+                            statement.executeBatch();
+                            statement.clearBatch();
+                            statement.close();
+                            statement = null;
+                        }
+                        final ITableMetaData dataSetMetaData =
+                                chunk._header._dataSetMetaData;
+                        tableName = dataSetMetaData.getTableName();
+                        ignoreMapping = null;
+                        try
+                        {
+                            metaData = getOperationMetaData(_connection,
+                                    dataSetMetaData);
+                        }
+                        catch (DatabaseUnitException | SQLException
+                                | RuntimeException e)
+                        {
+                            chunk._header._metaData.completeExceptionally(e);
+                            throw e;
+                        }
+                        chunk._header._metaData.complete(metaData);
+                        _write.add(0, System.nanoTime() - start);
+                        continue;
+                    }
+
+                    for (int i = 0; i < chunk._size; i++)
+                    {
+                        if (ignoreMapping == null
+                                || !ignoreMapping.equals(chunk._ignoreMappings[i]))
+                        {
+                            if (statement != null)
+                            {
+                                statement.executeBatch();
+                                statement.clearBatch();
+                                statement.close();
+                                statement = null;
+                            }
+                            ignoreMapping = chunk._ignoreMappings[i];
+                            operationData = getCachedOperationData(metaData,
+                                    ignoreMapping, _connection);
+                            statement = commits.decorate(
+                                    createPreparedBatchStatement(factory,
+                                            operationData, ignoreMapping,
+                                            _connection));
+                            if (statistics != null)
+                            {
+                                statistics.addPreparedStatement(tableName);
+                            }
+                        }
+
+                        final Object[] values = chunk._values[i];
+                        final Column[] columns = operationData.getColumns();
+                        for (int j = 0; j < columns.length; j++)
+                        {
+                            if (!ignoreMapping.get(j))
+                            {
+                                final DataType dataType = columns[j].getDataType();
+                                statement.addValue(values[j], dataType);
+                            }
+                        }
+                        statement.addBatch();
+                    }
+                    _write.add(chunk._size, System.nanoTime() - start);
+                }
+
+                if (statement != null)
+                {
+                    final long start = System.nanoTime();
+                    statement.executeBatch();
+                    statement.clearBatch();
+                    _write.add(0, System.nanoTime() - start);
+                }
+            }
+            catch (final SQLException e)
+            {
+                final String msg =
+                        "Exception processing table name='" + tableName + "'";
+                throw new DatabaseUnitException(msg, e);
+            }
+            finally
+            {
+                if (statement != null)
+                {
+                    statement.close();
+                }
+            }
+        }
+
+        private Chunk take() throws DatabaseUnitException, SQLException
+        {
+            try
+            {
+                return _queue.take().get();
+            }
+            catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new DatabaseUnitException(
+                        "Interrupted while waiting for the dataset rows", e);
+            }
+            catch (final ExecutionException e)
+            {
+                final Throwable cause = e.getCause();
+                if (cause instanceof DatabaseUnitException)
+                {
+                    throw (DatabaseUnitException) cause;
+                }
+                if (cause instanceof SQLException)
+                {
+                    throw (SQLException) cause;
+                }
+                if (cause instanceof RuntimeException)
+                {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error)
+                {
+                    throw (Error) cause;
+                }
+                throw new DatabaseUnitException(cause);
+            }
+        }
+
+        void report()
+        {
+            final OperationStatistics statistics =
+                    (OperationStatistics) _connection.getConfig().getProperty(
+                            DatabaseConfig.PROPERTY_OPERATION_STATISTICS);
+            for (final Stage stage : new Stage[] {_read, _convert, _write})
+            {
+                logger.debug("execute: stage '{}' processed {} rows in {} ms",
+                        stage._name, stage._rows.get(),
+                        TimeUnit.NANOSECONDS.toMillis(stage._nanos.get()));
+                if (statistics != null)
+                {
+                    statistics.addStageTime(stage._name, stage._rows.get(),
+                            stage._nanos.get());
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the start of a table and carries its metadata from the writer to
+     * the converters.
+     */
+    private static final class Header
+    {
+        private final ITableMetaData _dataSetMetaData;
+
+        private final CompletableFuture<ITableMetaData> _metaData =
+                new CompletableFuture<>();
+
+        Header(final ITableMetaData dataSetMetaData)
+        {
+            _dataSetMetaData = dataSetMetaData;
+        }
+    }
+
+    /**
+     * Rows of one table handed from stage to stage; without rows, the start
+     * of a table.
+     */
+    private static final class Chunk
+    {
+        static final Chunk END = new Chunk(null, 0);
+
+        private final Header _header;
+
+        private final Object[][] _values;
+
+        private final BitSet[] _ignoreMappings;
+
+        private int _size;
+
+        Chunk(final Header header, final int capacity)
+        {
+            _header = header;
+            _values = capacity == 0 ? null : new Object[capacity][];
+            _ignoreMappings = capacity == 0 ? null : new BitSet[capacity];
+        }
+
+        void add(final Object[] values, final BitSet ignoreMapping)
+        {
+            _values[_size] = values;
+            _ignoreMappings[_size] = ignoreMapping;
+            _size++;
+        }
+
+        boolean isFull()
+        {
+            return _size == _values.length;
+        }
+    }
+
+    /**
+     * Counters of one stage, added to by its threads.
+     */
+    private static final class Stage
+    {
+        private final String _name;
+
+        private final AtomicLong _rows = new AtomicLong();
+
+        private final AtomicLong _nanos = new AtomicLong();
+
+        Stage(final String name)
+        {
+            _name = name;
+        }
+
+        void add(final long rows, final long nanos)
+        {
+            _rows.addAndGet(rows);
+            _nanos.addAndGet(nanos);
+        }
+    }
+}
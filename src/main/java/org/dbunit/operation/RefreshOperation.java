@@ -25,7 +25,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
 import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.OperationDataCache;
 import org.dbunit.database.statement.IPreparedBatchStatement;
 import org.dbunit.database.statement.SimplePreparedStatement;
 import org.dbunit.dataset.Column;
@@ -48,6 +50,13 @@ import java.util.BitSet;
  * means that data of existing rows is updated and non-existing row get
  * inserted. Any rows which exist in the database but not in dataset stay
  * unaffected.
+ * <p>
+ * When {@link DatabaseConfig#PROPERTY_UPSERT_STATEMENT_BUILDER} is configured,
+ * each table is refreshed with batched vendor upsert statements instead (see
+ * the <code>org.dbunit.ext</code> packages for the available builders).
+ * Otherwise, when {@link DatabaseConfig#FEATURE_BATCHED_REFRESH} is enabled,
+ * the existing rows are looked up one batch of primary keys at a time and then
+ * written with batched updates and inserts.
  *
  * @author Manuel Laflamme
  * @version $Revision$
@@ -63,11 +72,16 @@ public class RefreshOperation extends AbstractOperation
 
     private final InsertOperation _insertOperation;
     private final UpdateOperation _updateOperation;
+    private final UpsertOperation _upsertOperation;
+    private final BatchedRefreshOperation _batchedRefreshOperation;
 
     RefreshOperation()
     {
         _insertOperation = (InsertOperation)DatabaseOperation.INSERT;
         _updateOperation = (UpdateOperation)DatabaseOperation.UPDATE;
+        _upsertOperation = new UpsertOperation();
+        _batchedRefreshOperation = new BatchedRefreshOperation(
+                _insertOperation, _updateOperation);
     }
 
     private boolean isEmpty(ITable table) throws DataSetException
@@ -82,7 +96,45 @@ public class RefreshOperation extends AbstractOperation
             throws DatabaseUnitException, SQLException
     {
         logger.debug("execute(connection={}, dataSet) - start", connection);
-        
+
+        // a vendor upsert statement refreshes each row in a single batched
+        // round trip; without one, fall back to update-else-insert per row
+        if (connection.getConfig().getProperty(
+                DatabaseConfig.PROPERTY_UPSERT_STATEMENT_BUILDER) != null)
+        {
+            _upsertOperation.execute(connection, dataSet);
+            return;
+        }
+
+        // otherwise look up existing keys per batch instead of per row
+        if (connection.getConfig().getFeature(
+                DatabaseConfig.FEATURE_BATCHED_REFRESH))
+        {
+            _batchedRefreshOperation.execute(connection, dataSet);
+            return;
+        }
+
+        CommitControl commits = CommitControl.begin(connection);
+        try
+        {
+            executeRows(connection, dataSet, commits);
+        }
+        catch (DatabaseUnitException | SQLException | RuntimeException
+                | Error e)
+        {
+            commits.abort(e);
+            throw e;
+        }
+        commits.end();
+    }
+
+    /**
+     * Refreshes the tables row by row, probing each row with an update or a
+     * count before inserting it.
+     */
+    private void executeRows(IDatabaseConnection connection, IDataSet dataSet,
+            CommitControl commits) throws DatabaseUnitException, SQLException
+    {
         // for each table
         ITableIterator iterator = dataSet.iterator();
         while (iterator.next())
@@ -115,6 +167,7 @@ public class RefreshOperation extends AbstractOperation
                     {
                         insertRowOperation.execute(table, i);
                     }
+                    commits.rowsExecuted(1);
                 }
             }
             catch (RowOutOfBoundsException e)
@@ -291,7 +344,7 @@ public class RefreshOperation extends AbstractOperation
                 }
 
                 _ignoreMapping = _insertOperation.getIgnoreMapping(table, row);
-                _operationData = _insertOperation.getOperationData(_metaData,
+                _operationData = _insertOperation.getCachedOperationData(_metaData,
                         _ignoreMapping, _connection);
                 _statement = new SimplePreparedStatement(_operationData.getSql(),
                         _connection.getConnection());
@@ -312,7 +365,7 @@ public class RefreshOperation extends AbstractOperation
                 throws DataSetException, SQLException
         {
             // setup update statement
-            _operationData = _updateOperation.getOperationData(
+            _operationData = _updateOperation.getCachedOperationData(
                     metaData, null, connection);
             _statement = new SimplePreparedStatement(_operationData.getSql(),
                     connection.getConnection());
@@ -337,7 +390,14 @@ public class RefreshOperation extends AbstractOperation
                 throws DataSetException, SQLException
         {
             // setup select count statement
-            _operationData = getSelectCountData(metaData, connection);
+            final OperationDataCache cache = (OperationDataCache) connection
+                    .getConfig()
+                    .getProperty(DatabaseConfig.PROPERTY_OPERATION_DATA_CACHE);
+            _operationData = cache == null
+                    ? getSelectCountData(metaData, connection)
+                    : cache.getOperationData(RowExistOperation.class, null,
+                            metaData, null, connection,
+                            () -> getSelectCountData(metaData, connection));
             _countStatement = connection.getConnection().prepareStatement(
                     _operationData.getSql());
         }
@@ -0,0 +1,273 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.operation;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.statement.DefaultSequenceResetStatementBuilder;
+import org.dbunit.database.statement.IBatchStatement;
+import org.dbunit.database.statement.ISequenceResetStatementBuilder;
+import org.dbunit.database.statement.IStatementFactory;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.RowOutOfBoundsException;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.dbunit.dataset.stream.StreamingDataSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Restarts the identity columns and sequences of the dataset tables past the
+ * highest key value of the dataset, so that rows inserted by the code under
+ * test do not collide with the loaded rows. Run it after the load, for
+ * example as {@link #CLEAN_INSERT}, or composed with another operation in a
+ * {@link CompositeOperation}.
+ * <p>
+ * The highest values are taken from the dataset rows, without querying the
+ * database. Identity columns are the columns the database reports as
+ * auto-increment; columns filled from a named sequence, for example by a
+ * trigger, are configured with their sequence name. The statements of all
+ * tables, built by the configured
+ * {@link DatabaseConfig#PROPERTY_SEQUENCE_RESET_STATEMENT_BUILDER}, are sent
+ * in one {@link IBatchStatement}.
+ * <p>
+ * The dataset is read again after the load it follows, so it cannot be a
+ * {@link StreamingDataSet}, which can be read only once; load a streamed
+ * dataset into a {@link org.dbunit.dataset.CachedDataSet} first.
+ *
+ * @since 3.6.0
+ */
+public class ResetSequencesOperation extends AbstractOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(ResetSequencesOperation.class);
+
+    /** {@link DatabaseOperation#INSERT} followed by the restart. */
+    public static final DatabaseOperation INSERT = new CompositeOperation(
+            DatabaseOperation.INSERT, new ResetSequencesOperation());
+
+    /** {@link DatabaseOperation#CLEAN_INSERT} followed by the restart. */
+    public static final DatabaseOperation CLEAN_INSERT =
+            new CompositeOperation(DatabaseOperation.CLEAN_INSERT,
+                    new ResetSequencesOperation());
+
+    private final Map<String, String> _sequenceNames;
+
+    /**
+     * Creates an operation restarting the identity columns.
+     */
+    public ResetSequencesOperation()
+    {
+        this(Collections.<String, String> emptyMap());
+    }
+
+    /**
+     * Creates an operation restarting the identity columns and the given
+     * sequences.
+     *
+     * @param sequenceNames the sequence names, by
+     *            <code>TABLE.COLUMN</code> of the column filled from the
+     *            sequence, case-insensitive.
+     */
+    public ResetSequencesOperation(final Map<String, String> sequenceNames)
+    {
+        _sequenceNames = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        _sequenceNames.putAll(sequenceNames);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // DatabaseOperation class
+
+    @Override
+    public void execute(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        logger.debug("execute(connection={}, dataSet={}) - start", connection,
+                dataSet);
+
+        if (dataSet instanceof StreamingDataSet)
+        {
+            throw new DatabaseUnitException("A StreamingDataSet can be read"
+                    + " only once, so the sequences cannot be reset after"
+                    + " loading it; use a CachedDataSet instead");
+        }
+
+        final DatabaseConfig config = connection.getConfig();
+        ISequenceResetStatementBuilder builder =
+                (ISequenceResetStatementBuilder) config.getProperty(
+                        DatabaseConfig.PROPERTY_SEQUENCE_RESET_STATEMENT_BUILDER);
+        if (builder == null)
+        {
+            builder = new DefaultSequenceResetStatementBuilder();
+        }
+
+        final List<String> statements = getStatements(connection, dataSet,
+                builder);
+        if (statements.isEmpty())
+        {
+            return;
+        }
+
+        final IStatementFactory statementFactory =
+                (IStatementFactory) config.getProperty(
+                        DatabaseConfig.PROPERTY_STATEMENT_FACTORY);
+        final IBatchStatement statement =
+                statementFactory.createBatchStatement(connection);
+        try
+        {
+            for (final String sql : statements)
+            {
+                logger.debug("execute: sql={}", sql);
+                statement.addBatch(sql);
+            }
+            statement.executeBatch();
+            statement.clearBatch();
+        }
+        finally
+        {
+            statement.close();
+        }
+    }
+
+    private List<String> getStatements(final IDatabaseConnection connection,
+            final IDataSet dataSet,
+            final ISequenceResetStatementBuilder builder)
+            throws DatabaseUnitException, SQLException
+    {
+        // the highest value per identity column or sequence, in dataset order;
+        // identities by table and column name, unescaped and escaped
+        final Map<List<String>, Long> identities = new LinkedHashMap<>();
+        final Map<String, Long> sequences = new LinkedHashMap<>();
+
+        final ITableIterator iterator = dataSet.iterator();
+        while (iterator.next())
+        {
+            final ITable table = iterator.getTable();
+            if (AbstractBatchOperation.isEmpty(table))
+            {
+                continue;
+            }
+
+            final ITableMetaData metaData =
+                    getOperationMetaData(connection, table.getTableMetaData());
+            final String tableName = metaData.getTableName();
+            final String qualifiedTableName = getQualifiedName(
+                    connection.getSchema(), tableName, connection);
+            for (final Column column : metaData.getColumns())
+            {
+                final String columnName = column.getColumnName();
+                final String sequenceName =
+                        _sequenceNames.get(tableName + "." + columnName);
+                if (sequenceName == null
+                        && column.getAutoIncrement() != Column.AutoIncrement.YES)
+                {
+                    continue;
+                }
+
+                final Long maxValue = getMaxValue(table, column);
+                if (maxValue == null)
+                {
+                    continue;
+                }
+                if (sequenceName != null)
+                {
+                    sequences.merge(sequenceName, maxValue, Math::max);
+                }
+                else
+                {
+                    identities.merge(Arrays.asList(tableName, columnName,
+                            qualifiedTableName,
+                            getQualifiedName(null, columnName, connection)),
+                            maxValue, Math::max);
+                }
+            }
+        }
+
+        final List<String> statements = new ArrayList<>();
+        for (final Map.Entry<List<String>, Long> entry : identities
+                .entrySet())
+        {
+            final List<String> names = entry.getKey();
+            statements.add(builder.buildIdentityResetStatement(connection,
+                    names.get(0), names.get(1), names.get(2), names.get(3),
+                    entry.getValue()));
+        }
+        for (final Map.Entry<String, Long> entry : sequences.entrySet())
+        {
+            statements.add(builder.buildSequenceResetStatement(entry.getKey(),
+                    entry.getValue()));
+        }
+        return statements;
+    }
+
+    /**
+     * @return the highest value of the column, or <code>null</code> if the
+     *         table has none.
+     */
+    private Long getMaxValue(final ITable table, final Column column)
+            throws DataSetException
+    {
+        Long maxValue = null;
+        try
+        {
+            for (int row = 0;; row++)
+            {
+                final Object value = table.getValue(row, column.getColumnName());
+                if (value == null || value == ITable.NO_VALUE)
+                {
+                    continue;
+                }
+                final Object castValue = column.getDataType().typeCast(value);
+                if (!(castValue instanceof Number))
+                {
+                    throw new TypeCastException(value, column.getDataType());
+                }
+                final long longValue = ((Number) castValue).longValue();
+                if (maxValue == null || longValue > maxValue.longValue())
+                {
+                    maxValue = longValue;
+                }
+            }
+        }
+        catch (final RowOutOfBoundsException e)
+        {
+            // end of table
+        }
+        return maxValue;
+    }
+}
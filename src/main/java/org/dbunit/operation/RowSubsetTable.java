@@ -0,0 +1,66 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.operation;
+
+import java.util.List;
+
+import org.dbunit.dataset.AbstractTable;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableMetaData;
+
+/**
+ * Exposes a subset of the rows of a table, in the given order.
+ *
+ * @since 3.6.0
+ */
+class RowSubsetTable extends AbstractTable
+{
+    private final ITable _table;
+    private final List<Integer> _rows;
+
+    RowSubsetTable(final ITable table, final List<Integer> rows)
+    {
+        _table = table;
+        _rows = rows;
+    }
+
+    @Override
+    public ITableMetaData getTableMetaData()
+    {
+        return _table.getTableMetaData();
+    }
+
+    @Override
+    public int getRowCount()
+    {
+        return _rows.size();
+    }
+
+    @Override
+    public Object getValue(final int row, final String column)
+            throws DataSetException
+    {
+        assertValidRowIndex(row);
+        return _table.getValue(_rows.get(row).intValue(), column);
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.operation;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.DefaultTableMetaData;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.ITableIterator;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.RowOutOfBoundsException;
+import org.dbunit.dataset.datatype.DataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Brings the dataset tables to the dataset contents, like
+ * {@link DatabaseOperation#CLEAN_INSERT}, but only writes the rows that
+ * differ. The current contents of each table are read through
+ * {@link IDatabaseConnection#createTable(String)}, so with the configured
+ * {@link org.dbunit.database.IResultSetTableFactory}, and matched to the
+ * dataset rows by primary key in a hash map. Then database rows missing from
+ * the dataset are deleted with {@link DeleteOperation}, in reverse table
+ * order, and the changed and missing dataset rows are written with
+ * {@link UpdateOperation} and {@link InsertOperation}, in table order. When a
+ * test only dirtied a few rows, the next setup only writes those rows back.
+ * <p>
+ * Only the columns of the dataset are compared and written; a change to
+ * another column of a row is not reverted. Values are compared using the
+ * columns' {@link DataType}s, ignoring trailing blanks of character values,
+ * and {@link ITable#NO_VALUE} is compared as <code>NULL</code>. As with
+ * {@link DatabaseOperation#REFRESH}, a row with a <code>null</code> key is
+ * inserted and a key repeated in the dataset is inserted once and updated by
+ * its later occurrences. Tables without a primary key cannot be matched and
+ * are deleted and inserted as a whole.
+ * <p>
+ * The tables are read before anything is written, so the dataset must fit in
+ * memory along with the current contents of its tables.
+ *
+ * @since 3.6.0
+ */
+public class SyncOperation extends AbstractOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(SyncOperation.class);
+
+    private final InsertOperation _insertOperation;
+    private final UpdateOperation _updateOperation;
+    private final DeleteOperation _deleteOperation;
+    private final DeleteAllOperation _deleteAllOperation;
+
+    SyncOperation()
+    {
+        _insertOperation = new InsertOperation();
+        _updateOperation = new UpdateOperation();
+        _deleteOperation = new DeleteOperation();
+        _deleteAllOperation = new DeleteAllOperation();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // DatabaseOperation class
+
+    @Override
+    public void execute(final IDatabaseConnection connection,
+            final IDataSet dataSet) throws DatabaseUnitException, SQLException
+    {
+        logger.debug("execute(connection={}, dataSet={}) - start", connection,
+                dataSet);
+
+        // compare every table before writing any
+        final List<TableDelta> deltas = new ArrayList<>();
+        final ITableIterator iterator = dataSet.iterator();
+        while (iterator.next())
+        {
+            final ITable table =
+                    BatchedRefreshOperation.getRandomAccessTable(iterator.getTable());
+            final String tableName = table.getTableMetaData().getTableName();
+            logger.trace("execute: processing table='{}'", tableName);
+
+            final ITableMetaData metaData =
+                    getOperationMetaData(connection, table.getTableMetaData());
+            try
+            {
+                deltas.add(compare(connection, table, metaData));
+            }
+            catch (final SQLException e)
+            {
+                final String msg =
+                        "Exception processing table name='" + tableName + "'";
+                throw new DatabaseUnitException(msg, e);
+            }
+        }
+
+        // delete children before their parents
+        for (int i = deltas.size() - 1; i >= 0; i--)
+        {
+            final TableDelta delta = deltas.get(i);
+            if (delta._deleteAll)
+            {
+                _deleteAllOperation.execute(connection,
+                        new DefaultDataSet(delta._table));
+            }
+            else if (delta._deletedRows.getRowCount() > 0)
+            {
+                _deleteOperation.execute(connection,
+                        new DefaultDataSet(delta._deletedRows));
+            }
+        }
+
+        for (final TableDelta delta : deltas)
+        {
+            if (!delta._insertRows.isEmpty())
+            {
+                _insertOperation.execute(connection, new DefaultDataSet(
+                        new RowSubsetTable(delta._table, delta._insertRows)));
+            }
+            if (!delta._updateRows.isEmpty())
+            {
+                _updateOperation.execute(connection, new DefaultDataSet(
+                        new RowSubsetTable(delta._table, delta._updateRows)));
+            }
+        }
+    }
+
+    private TableDelta compare(final IDatabaseConnection connection,
+            final ITable table, final ITableMetaData metaData)
+            throws DataSetException, SQLException
+    {
+        final String tableName = metaData.getTableName();
+        final Column[] primaryKeys = metaData.getPrimaryKeys();
+        final int rowCount = table.getRowCount();
+
+        // cannot match existing rows if no primary key
+        if (primaryKeys.length == 0)
+        {
+            logger.debug("compare: table='{}' has no primary key, replacing"
+                    + " all rows", tableName);
+            final List<Integer> allRows = new ArrayList<>(rowCount);
+            for (int row = 0; row < rowCount; row++)
+            {
+                allRows.add(row);
+            }
+            return new TableDelta(table, true, null, allRows,
+                    new ArrayList<Integer>());
+        }
+
+        // dataset rows by key, first occurrence of each key
+        final Map<List<Object>, Integer> datasetRows = new HashMap<>();
+        final List<Integer> insertRows = new ArrayList<>();
+        final List<Integer> updateRows = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++)
+        {
+            final List<Object> key = getKey(table, row, primaryKeys);
+            if (key == null)
+            {
+                insertRows.add(row);
+            }
+            else if (datasetRows.containsKey(key))
+            {
+                // later rows with the same key update the first one
+                updateRows.add(row);
+            }
+            else
+            {
+                datasetRows.put(key, row);
+            }
+        }
+
+        final Column[] valueColumns = getValueColumns(metaData);
+        final DefaultTable deletedRows = new DefaultTable(
+                new DefaultTableMetaData(tableName, primaryKeys, primaryKeys));
+        final Set<Integer> matchedRows = new HashSet<>();
+        final List<Integer> changedRows = new ArrayList<>();
+        final ITable databaseTable = connection.createTable(tableName);
+        for (int databaseRow = 0;; databaseRow++)
+        {
+            final List<Object> key;
+            try
+            {
+                key = getKey(databaseTable, databaseRow, primaryKeys);
+            }
+            catch (final RowOutOfBoundsException e)
+            {
+                // end of table
+                break;
+            }
+
+            final Integer row = key == null ? null : datasetRows.get(key);
+            if (row == null)
+            {
+                final Object[] keyValues = new Object[primaryKeys.length];
+                for (int i = 0; i < primaryKeys.length; i++)
+                {
+                    keyValues[i] = databaseTable.getValue(databaseRow,
+                            primaryKeys[i].getColumnName());
+                }
+                deletedRows.addRow(keyValues);
+            }
+            else
+            {
+                matchedRows.add(row);
+                if (isChanged(table, row, databaseTable, databaseRow,
+                        valueColumns))
+                {
+                    changedRows.add(row);
+                }
+            }
+        }
+
+        // keep the dataset order
+        for (int row = 0; row < rowCount; row++)
+        {
+            final List<Object> key = getKey(table, row, primaryKeys);
+            if (key != null && datasetRows.get(key).intValue() == row
+                    && !matchedRows.contains(row))
+            {
+                insertRows.add(row);
+            }
+        }
+        insertRows.sort(null);
+        // nothing to update if columns are all primary keys
+        if (valueColumns.length > 0)
+        {
+            changedRows.addAll(updateRows);
+        }
+
+        logger.debug("compare: table='{}', rows to delete={}, to insert={},"
+                + " to update={}", tableName, deletedRows.getRowCount(),
+                insertRows.size(), changedRows.size());
+        return new TableDelta(table, false, deletedRows, insertRows,
+                changedRows);
+    }
+
+    /**
+     * Returns the columns that are not primary keys.
+     */
+    private Column[] getValueColumns(final ITableMetaData metaData)
+            throws DataSetException
+    {
+        final Set<String> keyNames = new HashSet<>();
+        for (final Column primaryKey : metaData.getPrimaryKeys())
+        {
+            keyNames.add(primaryKey.getColumnName());
+        }
+
+        final List<Column> valueColumns = new ArrayList<>();
+        for (final Column column : metaData.getColumns())
+        {
+            if (!keyNames.contains(column.getColumnName()))
+            {
+                valueColumns.add(column);
+            }
+        }
+        return valueColumns.toArray(new Column[0]);
+    }
+
+    private boolean isChanged(final ITable table, final int row,
+            final ITable databaseTable, final int databaseRow,
+            final Column[] valueColumns) throws DataSetException
+    {
+        for (final Column column : valueColumns)
+        {
+            final String columnName = column.getColumnName();
+            Object value = table.getValue(row, columnName);
+            if (value == ITable.NO_VALUE)
+            {
+                value = null;
+            }
+            final DataType dataType = column.getDataType();
+            final Object databaseValue = BatchedRefreshOperation.normalize(
+                    dataType, databaseTable.getValue(databaseRow, columnName));
+            if (dataType.compare(BatchedRefreshOperation.normalize(dataType,
+                    value), databaseValue) != 0)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the typecast primary key values of a row, hashable, or
+     * <code>null</code> if any key value is missing.
+     */
+    private List<Object> getKey(final ITable table, final int row,
+            final Column[] primaryKeys) throws DataSetException
+    {
+        final Object[] key = new Object[primaryKeys.length];
+        for (int i = 0; i < primaryKeys.length; i++)
+        {
+            final Object value =
+                    table.getValue(row, primaryKeys[i].getColumnName());
+            if (value == null || value == ITable.NO_VALUE)
+            {
+                // cannot match any other row
+                return null;
+            }
+            key[i] = toHashable(BatchedRefreshOperation
+                    .normalize(primaryKeys[i].getDataType(), value));
+        }
+        return Arrays.asList(key);
+    }
+
+    private static Object toHashable(final Object value)
+    {
+        // arrays only hash by identity
+        if (value instanceof byte[])
+        {
+            return ByteBuffer.wrap((byte[]) value);
+        }
+        return value;
+    }
+
+    /**
+     * The rows to write to one table.
+     */
+    private static class TableDelta
+    {
+        private final ITable _table;
+        private final boolean _deleteAll;
+        private final ITable _deletedRows;
+        private final List<Integer> _insertRows;
+        private final List<Integer> _updateRows;
+
+        TableDelta(final ITable table, final boolean deleteAll,
+                final ITable deletedRows, final List<Integer> insertRows,
+                final List<Integer> updateRows)
+        {
+            _table = table;
+            _deleteAll = deleteAll;
+            _deletedRows = deletedRows;
+            _insertRows = insertRows;
+            _updateRows = updateRows;
+        }
+    }
+}
@@ -57,6 +57,14 @@ public class TransactionOperation extends DatabaseOperation
         _operation = operation;
     }
 
+    /**
+     * @return the decorated operation.
+     */
+    DatabaseOperation getOperation()
+    {
+        return _operation;
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // DatabaseOperation class
 
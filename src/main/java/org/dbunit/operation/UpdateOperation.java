@@ -21,14 +21,19 @@
 
 package org.dbunit.operation;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
 
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
 import org.dbunit.database.IDatabaseConnection;
 import org.dbunit.dataset.Column;
 import org.dbunit.dataset.Columns;
 import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
 import org.dbunit.dataset.ITableMetaData;
 import org.dbunit.dataset.NoPrimaryKeyException;
 import org.slf4j.Logger;
@@ -37,7 +42,12 @@ import org.slf4j.LoggerFactory;
 /**
  * Updates the database from the dataset contents. This operation assumes that
  * table data already exists in the database and fails if this is not the case.
-
+ * <p>
+ * With {@link DatabaseConfig#FEATURE_GROUP_UPDATE_ROWS} enabled, the columns a
+ * row does not supply are left unchanged, and the rows of a table are grouped
+ * by the set of columns they update, so each distinct statement is prepared
+ * once and executed as one batch.
+ *
  * @author Manuel Laflamme
  * @version $Revision$
  * @since Feb 19, 2002
@@ -50,13 +60,83 @@ public class UpdateOperation extends AbstractBatchOperation
      */
     private static final Logger logger = LoggerFactory.getLogger(UpdateOperation.class);
 
+    /**
+     * The operation executed instead when
+     * {@link DatabaseConfig#FEATURE_GROUP_UPDATE_ROWS} is enabled.
+     */
+    private static final UpdateOperation GROUPING = new UpdateOperation(true);
+
+    private final boolean _groupRows;
+
     UpdateOperation()
     {
+        this(false);
+    }
+
+    private UpdateOperation(final boolean groupRows)
+    {
+        _groupRows = groupRows;
     }
 
     ////////////////////////////////////////////////////////////////////////////
     // AbstractBatchOperation class
 
+    @Override
+    void execute(final IDatabaseConnection connection, final IDataSet dataSet,
+            final CommitControl commits)
+            throws DatabaseUnitException, SQLException
+    {
+        if (!_groupRows && connection.getConfig()
+                .getFeature(DatabaseConfig.FEATURE_GROUP_UPDATE_ROWS))
+        {
+            GROUPING.execute(connection, dataSet, commits);
+            return;
+        }
+        super.execute(connection, dataSet, commits);
+    }
+
+    @Override
+    BitSet getIgnoreMapping(final ITable table, final int row)
+            throws DataSetException
+    {
+        final BitSet ignoreMapping = new BitSet();
+        if (_groupRows)
+        {
+            final Column[] columns = table.getTableMetaData().getColumns();
+            for (int i = 0; i < columns.length; i++)
+            {
+                if (InsertOperation.getValueOrNoValueIfMissing(table, row,
+                        columns[i]) == ITable.NO_VALUE)
+                {
+                    ignoreMapping.set(i);
+                }
+            }
+        }
+        return ignoreMapping;
+    }
+
+    @Override
+    boolean equalsIgnoreMapping(final BitSet ignoreMapping, final ITable table,
+            final int row) throws DataSetException
+    {
+        return ignoreMapping.equals(getIgnoreMapping(table, row));
+    }
+
+    @Override
+    boolean isGroupingRowsByIgnoreMapping(final DatabaseConfig config)
+    {
+        return _groupRows;
+    }
+
+    /**
+     * The operation data only lists the bound columns, so none is skipped.
+     */
+    @Override
+    BitSet getBindMapping(final BitSet ignoreMapping)
+    {
+        return new BitSet();
+    }
+
     public OperationData getOperationData(ITableMetaData metaData, BitSet ignoreMapping, IDatabaseConnection connection) throws DataSetException
     {
         if(logger.isDebugEnabled())
@@ -86,8 +166,9 @@ public class UpdateOperation extends AbstractBatchOperation
         {
             Column column = columns[i];
 
-            // set if not primary key
-            if (Columns.getColumn(column.getColumnName(), primaryKeys) == null)
+            // set if not primary key and supplied
+            if (Columns.getColumn(column.getColumnName(), primaryKeys) == null
+                    && (ignoreMapping == null || !ignoreMapping.get(i)))
             {
                 if (!firstSet)
                 {
@@ -104,6 +185,16 @@ public class UpdateOperation extends AbstractBatchOperation
             }
         }
 
+        // nothing to set, keep the statement valid
+        if (firstSet)
+        {
+            String columnName = getQualifiedName(null,
+                    primaryKeys[0].getColumnName(), connection);
+            sqlBuffer.append(columnName);
+            sqlBuffer.append(" = ");
+            sqlBuffer.append(columnName);
+        }
+
         // where
         sqlBuffer.append(" where ");
         for (int i = 0; i < primaryKeys.length; i++)
@@ -0,0 +1,171 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.operation;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.database.statement.IStatementFactory;
+import org.dbunit.database.statement.IUpsertStatementBuilder;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DataSetException;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.NoPrimaryKeyException;
+import org.dbunit.dataset.NoSuchColumnException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Refreshes the dataset contents with one vendor upsert statement per table
+ * and column set, built by the connection's configured
+ * {@link IUpsertStatementBuilder}. Used by {@link RefreshOperation} when
+ * {@link DatabaseConfig#PROPERTY_UPSERT_STATEMENT_BUILDER} is set.
+ * <p>
+ * Columns are omitted from the statement exactly as {@link InsertOperation}
+ * omits them, so a column the row does not supply keeps its current value on
+ * update instead of being set to <code>NULL</code>. A row that omits one of
+ * its primary key columns cannot match an existing row and is inserted, the
+ * same outcome as the row-by-row refresh. Rows are executed in dataset order
+ * even with {@link DatabaseConfig#FEATURE_GROUP_INSERT_ROWS}, so that of
+ * several rows with the same key the last one wins, as with the row-by-row
+ * refresh.
+ *
+ * @since 3.6.0
+ */
+class UpsertOperation extends InsertOperation
+{
+    /**
+     * Logger for this class
+     */
+    private static final Logger logger =
+            LoggerFactory.getLogger(UpsertOperation.class);
+
+    UpsertOperation()
+    {
+    }
+
+    @Override
+    public OperationData getOperationData(final ITableMetaData metaData,
+            final BitSet ignoreMapping, final IDatabaseConnection connection)
+            throws DataSetException
+    {
+        logger.debug(
+                "getOperationData(metaData={}, ignoreMapping={}, connection={}) - start",
+                metaData, ignoreMapping, connection);
+
+        final Column[] columns = metaData.getColumns();
+        final Column[] primaryKeys = metaData.getPrimaryKeys();
+        final String tableName = metaData.getTableName();
+
+        // cannot match existing rows if no primary key
+        if (primaryKeys.length == 0)
+        {
+            throw new NoPrimaryKeyException(tableName);
+        }
+
+        final String[] primaryKeyNames = new String[primaryKeys.length];
+        for (int i = 0; i < primaryKeys.length; i++)
+        {
+            final String keyName = primaryKeys[i].getColumnName();
+            final int index = indexOf(columns, keyName);
+            if (index < 0)
+            {
+                throw new NoSuchColumnException(tableName, keyName);
+            }
+            if (ignoreMapping.get(index))
+            {
+                // without its key value the row can only be inserted
+                return super.getOperationData(metaData, ignoreMapping,
+                        connection);
+            }
+            primaryKeyNames[i] = getQualifiedName(null, keyName, connection);
+        }
+
+        final List<String> columnNames = new ArrayList<>(columns.length);
+        for (int i = 0; i < columns.length; i++)
+        {
+            if (!ignoreMapping.get(i))
+            {
+                columnNames.add(getQualifiedName(null,
+                        columns[i].getColumnName(), connection));
+            }
+        }
+
+        final IUpsertStatementBuilder builder =
+                (IUpsertStatementBuilder) connection.getConfig().getProperty(
+                        DatabaseConfig.PROPERTY_UPSERT_STATEMENT_BUILDER);
+        final String sql = builder.buildUpsertStatement(
+                getQualifiedName(connection.getSchema(), tableName, connection),
+                columnNames.toArray(new String[0]), primaryKeyNames);
+        return new OperationData(sql, columns);
+    }
+
+    /**
+     * The statement depends on the configured builder.
+     */
+    @Override
+    Object getOperationDataDiscriminator(final IDatabaseConnection connection)
+    {
+        return connection.getConfig().getProperty(
+                DatabaseConfig.PROPERTY_UPSERT_STATEMENT_BUILDER);
+    }
+
+    /**
+     * Rows with the same key must be executed in dataset order.
+     */
+    @Override
+    boolean isGroupingRowsByIgnoreMapping(final DatabaseConfig config)
+    {
+        return false;
+    }
+
+    /**
+     * Upsert statements are not plain single-row inserts, so they are never
+     * turned into multi-row inserts.
+     */
+    @Override
+    IPreparedBatchStatement createPreparedBatchStatement(
+            final IStatementFactory factory, final OperationData operationData,
+            final BitSet ignoreMapping, final IDatabaseConnection connection)
+            throws SQLException
+    {
+        return factory.createPreparedBatchStatement(operationData.getSql(),
+                connection);
+    }
+
+    private static int indexOf(final Column[] columns, final String columnName)
+    {
+        for (int i = 0; i < columns.length; i++)
+        {
+            if (columns[i].getColumnName().equalsIgnoreCase(columnName))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -30,6 +30,7 @@ import org.dbunit.database.rowcount.RowCounter;
 import org.dbunit.dataset.datatype.DataType;
 import org.dbunit.dataset.datatype.DataTypeException;
 import org.dbunit.dataset.datatype.IDataTypeFactory;
+import org.dbunit.ext.h2.H2UpsertStatementBuilder;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -286,4 +287,42 @@ class DatabaseConfigTest
                 .isInstanceOf(QueryPerTableRowCounter.class);
     }
 
+    @Test
+    void testGetProperty_upsertStatementBuilderDefault_isNull() throws Exception
+    {
+        final DatabaseConfig config = new DatabaseConfig();
+
+        assertThat(config.getProperty(DatabaseConfig.PROPERTY_UPSERT_STATEMENT_BUILDER))
+                .as("REFRESH must keep its row-by-row behavior unless an upsert builder"
+                        + " is configured.")
+                .isNull();
+    }
+
+    @Test
+    void testSetPropertiesByString_upsertStatementBuilderClassName_instantiatesThatBuilder()
+            throws Exception
+    {
+        final DatabaseConfig config = new DatabaseConfig();
+        final Properties stringProperties = new Properties();
+        stringProperties.setProperty("upsertStatementBuilder",
+                H2UpsertStatementBuilder.class.getName());
+
+        config.setPropertiesByString(stringProperties);
+
+        assertThat(config.getProperty(DatabaseConfig.PROPERTY_UPSERT_STATEMENT_BUILDER))
+                .as("The builder is configurable by class name like any other"
+                        + " object-valued property.")
+                .isInstanceOf(H2UpsertStatementBuilder.class);
+    }
+
+    @Test
+    void testGetFeature_batchedRefreshDefault_isFalse() throws Exception
+    {
+        final DatabaseConfig config = new DatabaseConfig();
+
+        assertThat(config.getFeature(DatabaseConfig.FEATURE_BATCHED_REFRESH))
+                .as("REFRESH must keep probing row by row unless batching is"
+                        + " enabled.")
+                .isFalse();
+    }
 }
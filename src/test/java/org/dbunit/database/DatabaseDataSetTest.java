@@ -24,6 +24,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -35,10 +38,17 @@ import static org.mockito.Mockito.when;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
 
+import org.dbunit.dataset.Columns;
 import org.dbunit.dataset.ITableMetaData;
 import org.dbunit.dataset.NoSuchTableException;
+import org.dbunit.ext.mysql.MySqlDataTypeFactory;
+import org.dbunit.ext.mysql.MySqlMetadataHandler;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -57,6 +67,12 @@ class DatabaseDataSetTest
 {
     private static final String TABLE_NAME = "TEST_TABLE";
     private static final String SCHEMA_NAME = "PUBLIC";
+    private static final String[] COLUMN_LABELS = {"TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME",
+            "COLUMN_NAME", "DATA_TYPE", "TYPE_NAME", "COLUMN_SIZE", "BUFFER_LENGTH",
+            "DECIMAL_DIGITS", "NUM_PREC_RADIX", "NULLABLE", "REMARKS", "COLUMN_DEF",
+            "SQL_DATA_TYPE", "SQL_DATETIME_SUB", "CHAR_OCTET_LENGTH", "ORDINAL_POSITION",
+            "IS_NULLABLE", "SCOPE_CATALOG", "SCOPE_SCHEMA", "SCOPE_TABLE", "SOURCE_DATA_TYPE",
+            "IS_AUTOINCREMENT", "IS_GENERATEDCOLUMN"};
 
     private IDatabaseConnection connection;
     private IMetadataHandler metadataHandlerSpy;
@@ -118,6 +134,120 @@ class DatabaseDataSetTest
                 .isThrownBy(() -> dataSet.getTableMetaData("UNKNOWN_TABLE"));
     }
 
+    @Test
+    void testGetTableMetaData_withPrefetchMetadata_looksUpSchemaOnce()
+            throws Exception
+    {
+        createKeyOrderTable();
+        // H2 requires a table name, answer with a catalog query instead
+        doAnswer(invocation -> connection.getConnection().createStatement()
+                .executeQuery("SELECT K.TABLE_CATALOG, K.TABLE_SCHEMA,"
+                        + " K.TABLE_NAME, K.COLUMN_NAME, K.ORDINAL_POSITION"
+                        + " FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE K"
+                        + " JOIN INFORMATION_SCHEMA.TABLE_CONSTRAINTS T"
+                        + " ON T.CONSTRAINT_SCHEMA = K.CONSTRAINT_SCHEMA"
+                        + " AND T.CONSTRAINT_NAME = K.CONSTRAINT_NAME"
+                        + " WHERE T.CONSTRAINT_TYPE = 'PRIMARY KEY'"
+                        + " AND K.TABLE_SCHEMA = '" + SCHEMA_NAME + "'"))
+                .when(metadataHandlerSpy)
+                .getSchemaPrimaryKeys(any(DatabaseMetaData.class), anyString());
+        connection.getConfig()
+                .setFeature(DatabaseConfig.FEATURE_PREFETCH_METADATA, true);
+        final DatabaseDataSet dataSet = new DatabaseDataSet(connection, true);
+
+        final ITableMetaData metaData = dataSet.getTableMetaData("KEY_ORDER");
+
+        assertThat(Columns.getColumnNames(metaData.getColumns()))
+                .as("Columns in table order.").containsExactly("A", "B", "C");
+        assertThat(Columns.getColumnNames(metaData.getPrimaryKeys()))
+                .as("Primary key in key order.").containsExactly("B", "A");
+        assertThat(dataSet.getTableMetaData(TABLE_NAME).getPrimaryKeys())
+                .as("Primary key of the other table.").hasSize(1);
+        verify(metadataHandlerSpy, times(1)).getSchemaColumns(
+                any(DatabaseMetaData.class), anyString());
+        verify(metadataHandlerSpy, never()).getColumns(
+                any(DatabaseMetaData.class), anyString(), anyString());
+        verify(metadataHandlerSpy, never()).getPrimaryKeys(
+                any(DatabaseMetaData.class), anyString(), anyString());
+        assertThat(dataSet.getMetadataLookupTime()).as("Lookup time.")
+                .isNotNegative();
+    }
+
+    @Test
+    void testGetTableMetaData_withPrefetchMetadataAndRejectedKeyLookup_looksUpKeysPerTable()
+            throws Exception
+    {
+        createKeyOrderTable();
+        doThrow(new SQLException("table name required")).when(metadataHandlerSpy)
+                .getSchemaPrimaryKeys(any(DatabaseMetaData.class), anyString());
+        connection.getConfig()
+                .setFeature(DatabaseConfig.FEATURE_PREFETCH_METADATA, true);
+        final DatabaseDataSet dataSet = new DatabaseDataSet(connection, true);
+
+        final ITableMetaData metaData = dataSet.getTableMetaData("KEY_ORDER");
+
+        assertThat(Columns.getColumnNames(metaData.getPrimaryKeys()))
+                .as("Primary key looked up for the table.")
+                .containsExactly("B", "A");
+        verify(metadataHandlerSpy, times(1)).getPrimaryKeys(
+                any(DatabaseMetaData.class), anyString(), eq("KEY_ORDER"));
+        verify(metadataHandlerSpy, never()).getColumns(
+                any(DatabaseMetaData.class), anyString(), anyString());
+    }
+
+    @Test
+    void testGetTableMetaData_withPrefetchMetadataOnMySql_matchesRowsByCatalog()
+            throws Exception
+    {
+        final String[] tableLabels =
+                {"TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME", "TABLE_TYPE", "REMARKS"};
+        final String[] keyLabels = {"TABLE_CAT", "TABLE_SCHEM", "TABLE_NAME", "COLUMN_NAME",
+                "KEY_SEQ", "PK_NAME"};
+        // MySQL reports the database in the catalog column and no schema
+        final DatabaseMetaData databaseMetaData = mock(DatabaseMetaData.class);
+        when(databaseMetaData.getDatabaseProductName()).thenReturn("MySQL");
+        when(databaseMetaData.getTables(eq("dbunit"), eq(null), eq("%"), any()))
+                .thenReturn(InMemoryMetadataResultSet.create(tableLabels, Arrays.asList(
+                        new Object[] {"dbunit", null, "ORDERS", "TABLE", null},
+                        new Object[] {"dbunit", null, "CREATED_LATER", "TABLE", null})));
+        when(databaseMetaData.getColumns("dbunit", null, "%", "%")).thenReturn(
+                InMemoryMetadataResultSet.create(COLUMN_LABELS, Collections.singletonList(
+                        mySqlColumn("ORDERS", "ID"))));
+        when(databaseMetaData.getColumns("dbunit", null, "CREATED_LATER", "%")).thenReturn(
+                InMemoryMetadataResultSet.create(COLUMN_LABELS, Collections.singletonList(
+                        mySqlColumn("CREATED_LATER", "NAME"))));
+        when(databaseMetaData.getPrimaryKeys("dbunit", null, null)).thenReturn(
+                InMemoryMetadataResultSet.create(keyLabels, Collections.singletonList(
+                        new Object[] {"dbunit", null, "ORDERS", "ID", 1, "PRIMARY"})));
+        when(databaseMetaData.getPrimaryKeys("dbunit", null, "CREATED_LATER")).thenReturn(
+                InMemoryMetadataResultSet.create(keyLabels, Collections.<Object[]>emptyList()));
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.getMetaData()).thenReturn(databaseMetaData);
+
+        final DatabaseConfig config = new DatabaseConfig();
+        config.setProperty(DatabaseConfig.PROPERTY_METADATA_HANDLER, new MySqlMetadataHandler());
+        config.setProperty(DatabaseConfig.PROPERTY_DATATYPE_FACTORY, new MySqlDataTypeFactory());
+        config.setFeature(DatabaseConfig.FEATURE_PREFETCH_METADATA, true);
+        final IDatabaseConnection mockedConnection = mock(IDatabaseConnection.class);
+        when(mockedConnection.getConnection()).thenReturn(jdbcConnection);
+        when(mockedConnection.getConfig()).thenReturn(config);
+        when(mockedConnection.getSchema()).thenReturn("dbunit");
+
+        final DatabaseDataSet dataSet = new DatabaseDataSet(mockedConnection, true);
+
+        final ITableMetaData orders = dataSet.getTableMetaData("ORDERS");
+        assertThat(Columns.getColumnNames(orders.getColumns()))
+                .as("Prefetched columns.").containsExactly("ID");
+        assertThat(Columns.getColumnNames(orders.getPrimaryKeys()))
+                .as("Prefetched primary key.").containsExactly("ID");
+        verify(databaseMetaData, never()).getColumns("dbunit", null, "ORDERS", "%");
+
+        final ITableMetaData createdLater = dataSet.getTableMetaData("CREATED_LATER");
+        assertThat(Columns.getColumnNames(createdLater.getColumns()))
+                .as("Columns of a table the prefetch did not return, looked up on their own.")
+                .containsExactly("NAME");
+    }
+
     @Test
     void testInitialize_withDebugLoggingEnabled_queriesDatabaseInfoBeforeCreatingResultSet()
             throws Exception
@@ -164,4 +294,20 @@ class DatabaseDataSetTest
             dataSetLogger.setLevel(originalLevel);
         }
     }
+
+    private static Object[] mySqlColumn(final String tableName, final String columnName)
+    {
+        return new Object[] {"dbunit", null, tableName, columnName, Types.INTEGER, "INT", 10,
+                null, 0, 10, DatabaseMetaData.columnNullable, null, null, null, null, null, 1,
+                "YES", null, null, null, null, "NO", "NO"};
+    }
+
+    private void createKeyOrderTable() throws Exception
+    {
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute("CREATE TABLE KEY_ORDER (A INTEGER, B INTEGER,"
+                    + " C VARCHAR(10), PRIMARY KEY (B, A))");
+        }
+    }
 }
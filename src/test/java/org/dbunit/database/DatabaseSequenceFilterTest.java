@@ -24,6 +24,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -32,10 +35,12 @@ import static org.mockito.Mockito.when;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
 import java.util.List;
 
+import org.dbunit.ext.h2.H2InformationSchemaMetadataHandler;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.LoggerFactory;
@@ -109,6 +114,86 @@ class DatabaseSequenceFilterTest
         verify(spyMetaData, times(1)).getExportedKeys(any(), any(), eq("C"));
     }
 
+    @Test
+    void testSort_prefetchMetadataEnabled_fetchesForeignKeysOncePerSchema() throws Exception
+    {
+        final Connection realConnection = InMemoryDatabaseConnection.create().getConnection();
+        final Statement stmt = realConnection.createStatement();
+        stmt.execute("CREATE TABLE A (ID INT PRIMARY KEY)");
+        stmt.execute("CREATE TABLE B (ID INT PRIMARY KEY, A_ID INT REFERENCES A(ID))");
+        stmt.execute("CREATE TABLE C (ID INT PRIMARY KEY, B_ID INT REFERENCES B(ID))");
+        stmt.close();
+
+        final DatabaseMetaData spyMetaData = spy(realConnection.getMetaData());
+        final Connection spyConnection = spy(realConnection);
+        when(spyConnection.getMetaData()).thenReturn(spyMetaData);
+        connection = new DatabaseConnection(spyConnection);
+        connection.getConfig().setProperty(DatabaseConfig.FEATURE_PREFETCH_METADATA, true);
+        final H2InformationSchemaMetadataHandler handler =
+                spy(new H2InformationSchemaMetadataHandler());
+        connection.getConfig().setProperty(DatabaseConfig.PROPERTY_METADATA_HANDLER, handler);
+
+        final String[] sorted = DatabaseSequenceFilter.sortTableNames(connection,
+                new String[] {"C", "B", "A"});
+
+        assertThat(sorted).as("Parents must precede their dependents.")
+                .containsExactly("A", "B", "C");
+        verify(handler, times(1)).getSchemaImportedKeys(any(), any());
+        verify(handler, times(1)).getSchemaExportedKeys(any(), any());
+        verify(handler, never()).getImportedKeys(any(), any(), eq("A"));
+        verify(handler, never()).getExportedKeys(any(), any(), eq("A"));
+    }
+
+    @Test
+    void testSort_prefetchMetadataWithDefaultHandler_looksUpKeysPerTable() throws Exception
+    {
+        final Connection realConnection = InMemoryDatabaseConnection.create().getConnection();
+        final Statement stmt = realConnection.createStatement();
+        stmt.execute("CREATE TABLE A (ID INT PRIMARY KEY)");
+        stmt.execute("CREATE TABLE B (ID INT PRIMARY KEY, A_ID INT REFERENCES A(ID))");
+        stmt.close();
+
+        // JDBC leaves a null table name undefined, so the default handler never passes one
+        final DatabaseMetaData spyMetaData = spy(realConnection.getMetaData());
+        final Connection spyConnection = spy(realConnection);
+        when(spyConnection.getMetaData()).thenReturn(spyMetaData);
+        connection = new DatabaseConnection(spyConnection);
+        connection.getConfig().setProperty(DatabaseConfig.FEATURE_PREFETCH_METADATA, true);
+
+        final String[] sorted = DatabaseSequenceFilter.sortTableNames(connection,
+                new String[] {"B", "A"});
+
+        assertThat(sorted).as("Parents must precede their dependents.")
+                .containsExactly("A", "B");
+        verify(spyMetaData, never()).getImportedKeys(any(), any(), isNull());
+        verify(spyMetaData, times(1)).getImportedKeys(any(), any(), eq("A"));
+        verify(spyMetaData, times(1)).getImportedKeys(any(), any(), eq("B"));
+    }
+
+    @Test
+    void testSort_prefetchMetadataRejectedByHandler_fallsBackToPerTableLookups() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        final Statement stmt = connection.getConnection().createStatement();
+        stmt.execute("CREATE TABLE A (ID INT PRIMARY KEY)");
+        stmt.execute("CREATE TABLE B (ID INT PRIMARY KEY, A_ID INT REFERENCES A(ID))");
+        stmt.close();
+        connection.getConfig().setProperty(DatabaseConfig.FEATURE_PREFETCH_METADATA, true);
+        final H2InformationSchemaMetadataHandler handler =
+                spy(new H2InformationSchemaMetadataHandler());
+        doThrow(new SQLException("rejected")).when(handler)
+                .getSchemaImportedKeys(any(), any());
+        connection.getConfig().setProperty(DatabaseConfig.PROPERTY_METADATA_HANDLER, handler);
+
+        final String[] sorted = DatabaseSequenceFilter.sortTableNames(connection,
+                new String[] {"B", "A"});
+
+        assertThat(sorted).as("Parents must precede their dependents.")
+                .containsExactly("A", "B");
+        verify(handler, times(1)).getImportedKeys(any(), any(), eq("A"));
+        verify(handler, times(1)).getImportedKeys(any(), any(), eq("B"));
+    }
+
     @Test
     void testSort_diamondDependencies_returnsValidTopologicalOrder() throws Exception
     {
@@ -340,4 +425,25 @@ class DatabaseSequenceFilterTest
         }
     }
 
+    @Test
+    void testGetDependencyLevels_diamondDependencies_groupsIndependentTables()
+            throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        final Statement stmt = connection.getConnection().createStatement();
+        stmt.execute("CREATE TABLE A (ID INT PRIMARY KEY)");
+        stmt.execute("CREATE TABLE B (ID INT PRIMARY KEY, A_ID INT REFERENCES A(ID))");
+        stmt.execute("CREATE TABLE C (ID INT PRIMARY KEY, A_ID INT REFERENCES A(ID))");
+        stmt.execute("CREATE TABLE D (ID INT PRIMARY KEY, B_ID INT REFERENCES B(ID), "
+                + "C_ID INT REFERENCES C(ID))");
+        stmt.execute("CREATE TABLE E (ID INT PRIMARY KEY)");
+        stmt.close();
+
+        final String[][] levels = DatabaseSequenceFilter.getDependencyLevels(connection,
+                new String[] {"D", "C", "B", "A", "E"});
+
+        assertThat(levels)
+                .as("Tables grouped after the last level they depend on.")
+                .isDeepEqualTo(new String[][] {{"A", "E"}, {"C", "B"}, {"D"}});
+    }
 }
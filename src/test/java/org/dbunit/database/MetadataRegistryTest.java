@@ -0,0 +1,200 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import org.dbunit.dataset.Columns;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.ext.h2.H2InformationSchemaMetadataHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MetadataRegistry} and {@link SharedMetadataHandler} against
+ * a real H2 in-memory database.
+ *
+ * @since 3.6.0
+ */
+class MetadataRegistryTest
+{
+    private IDatabaseConnection connection;
+
+    private MetadataRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create("PUBLIC");
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute("CREATE TABLE PARENT (ID INT PRIMARY KEY)");
+            stmt.execute("CREATE TABLE CHILD (ID INT PRIMARY KEY,"
+                    + " PARENT_ID INT REFERENCES PARENT(ID))");
+            stmt.execute("CREATE TABLE OTHER (ID INT PRIMARY KEY)");
+        }
+        registry = MetadataRegistry.forConnection(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+        registry.remove();
+    }
+
+    @Test
+    void testForSchema_secondConnection_answersLookupsFromRegistry() throws Exception
+    {
+        readMetadata(connection);
+        final long misses = registry.getMissCount();
+
+        final IDatabaseConnection second = new DatabaseConnection(
+                DriverManager.getConnection(registry.getUrl()), "PUBLIC");
+        try
+        {
+            readMetadata(second);
+        }
+        finally
+        {
+            second.close();
+        }
+
+        assertThat(misses).as("Lookups of the first connection.").isPositive();
+        assertThat(registry.getMissCount()).as("No lookup by the second connection.")
+                .isEqualTo(misses);
+        assertThat(registry.getHitRate()).as("Hit rate.").isPositive();
+        assertThat(registry.getEstimatedSize()).as("Estimated size.").isPositive();
+    }
+
+    @Test
+    void testForSchema_otherUserOrHandler_returnsOtherRegistry() throws Exception
+    {
+        final String url = registry.getUrl();
+        final String user = registry.getUserName();
+
+        assertThat(MetadataRegistry.forSchema(url, user, "PUBLIC",
+                DefaultMetadataHandler.class)).as("Same key.").isSameAs(registry);
+        assertThat(MetadataRegistry.forSchema(url, "OTHER", "PUBLIC",
+                DefaultMetadataHandler.class)).as("Other user.").isNotSameAs(registry);
+        assertThat(MetadataRegistry.forSchema(url, user, "PUBLIC",
+                H2InformationSchemaMetadataHandler.class)).as("Other handler.")
+                        .isNotSameAs(registry);
+    }
+
+    @Test
+    void testRemove_afterLookups_recreatesEmptyRegistry() throws Exception
+    {
+        readMetadata(connection);
+
+        registry.remove();
+        final MetadataRegistry recreated = MetadataRegistry.forConnection(connection);
+
+        assertThat(registry.getEntryCount()).as("Lookups of the removed registry.").isZero();
+        assertThat(recreated).as("Registry after removal.").isNotSameAs(registry);
+        assertThat(recreated.getEntryCount()).as("Lookups of the new registry.").isZero();
+        recreated.remove();
+    }
+
+    @Test
+    void testClear_removesEveryRegistry() throws Exception
+    {
+        final MetadataRegistry other = MetadataRegistry.forSchema(registry.getUrl(), "OTHER",
+                "PUBLIC", DefaultMetadataHandler.class);
+
+        MetadataRegistry.clear();
+
+        assertThat(MetadataRegistry.forSchema(registry.getUrl(), "OTHER", "PUBLIC",
+                DefaultMetadataHandler.class)).as("Other registry after clear.")
+                        .isNotSameAs(other);
+        assertThat(MetadataRegistry.forConnection(connection)).as("Registry after clear.")
+                .isNotSameAs(registry);
+    }
+
+    @Test
+    void testInvalidate_table_discardsItsAndReferencingLookupsOnly() throws Exception
+    {
+        readMetadata(connection);
+        final int entries = registry.getEntryCount();
+
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute("ALTER TABLE PARENT ADD COLUMN NAME VARCHAR(10)");
+        }
+        registry.invalidate("parent");
+        final int remaining = registry.getEntryCount();
+        final IDatabaseConnection second = new DatabaseConnection(
+                DriverManager.getConnection(registry.getUrl()), "PUBLIC");
+        final ITableMetaData parent;
+        try
+        {
+            second.getConfig().setProperty(DatabaseConfig.PROPERTY_METADATA_HANDLER,
+                    new SharedMetadataHandler(new DefaultMetadataHandler()));
+            parent = second.createDataSet().getTableMetaData("PARENT");
+            parent.getColumns();
+        }
+        finally
+        {
+            second.close();
+        }
+
+        assertThat(registry.getInvalidationCount()).as("Invalidations.").isEqualTo(1);
+        assertThat(entries - remaining).as("Lookups discarded.").isPositive();
+        assertThat(remaining).as("Lookups of OTHER kept.").isPositive();
+        assertThat(Columns.getColumnNames(parent.getColumns())).as("Columns after DDL.")
+                .containsExactly("ID", "NAME");
+    }
+
+    @Test
+    void testInvalidateAll_discardsAllLookups() throws Exception
+    {
+        readMetadata(connection);
+
+        registry.invalidateAll();
+
+        assertThat(registry.getEntryCount()).as("Lookups held.").isZero();
+        assertThat(registry.getEstimatedSize()).as("Estimated size.").isZero();
+    }
+
+    /**
+     * Reads the metadata of all tables through a shared handler and orders
+     * them by foreign keys.
+     */
+    private void readMetadata(final IDatabaseConnection databaseConnection) throws Exception
+    {
+        databaseConnection.getConfig().setProperty(DatabaseConfig.PROPERTY_METADATA_HANDLER,
+                new SharedMetadataHandler(new DefaultMetadataHandler()));
+        final IDataSet dataSet = databaseConnection.createDataSet();
+        for (final String tableName : dataSet.getTableNames())
+        {
+            dataSet.getTableMetaData(tableName).getPrimaryKeys();
+        }
+
+        assertThat(new DatabaseSequenceFilter(databaseConnection).getTableNames(dataSet))
+                .as("Tables ordered by foreign keys.")
+                .containsSubsequence("PARENT", "CHILD");
+    }
+}
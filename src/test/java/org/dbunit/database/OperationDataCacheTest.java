@@ -0,0 +1,173 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.BitSet;
+
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.DefaultTableMetaData;
+import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.operation.DatabaseOperation;
+import org.dbunit.operation.DeleteOperation;
+import org.dbunit.operation.InsertOperation;
+import org.dbunit.operation.UpdateOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link OperationDataCache}.
+ *
+ * @since 3.6.0
+ */
+class OperationDataCacheTest
+{
+    private static final Column ID = new Column("ID", DataType.INTEGER);
+    private static final Column NAME = new Column("NAME", DataType.VARCHAR);
+
+    private IDatabaseConnection connection;
+
+    private final OperationDataCache cache = new OperationDataCache(2);
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_OPERATION_DATA_CACHE, cache);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+    }
+
+    @Test
+    void testConstructor_withZeroSize_throwsIllegalArgumentException()
+    {
+        assertThatThrownBy(() -> new OperationDataCache(0))
+                .as("a cache must hold at least one entry.")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testGetOperationData_withEqualMetaData_returnsSameInstance()
+            throws Exception
+    {
+        final String first = cache.getOperationData(InsertOperation.class,
+                null, createMetaData(), new BitSet(), connection,
+                () -> new String("insert"));
+        final String second = cache.getOperationData(InsertOperation.class,
+                null, createMetaData(), new BitSet(), connection,
+                () -> new String("other"));
+
+        assertThat(second).as("cached instance reused.").isSameAs(first);
+        assertThat(cache.getMissCount()).as("misses.").isEqualTo(1);
+        assertThat(cache.getHitCount()).as("hits.").isEqualTo(1);
+    }
+
+    @Test
+    void testGetOperationData_withDifferentKeys_buildsSeparateEntries()
+            throws Exception
+    {
+        final BitSet ignoreName = new BitSet();
+        ignoreName.set(1);
+
+        final String insert = cache.getOperationData(InsertOperation.class,
+                null, createMetaData(), new BitSet(), connection,
+                () -> "insert");
+        final String insertWithoutName = cache.getOperationData(
+                InsertOperation.class, null, createMetaData(), ignoreName,
+                connection, () -> "insert without name");
+        final String delete = cache.getOperationData(DeleteOperation.class,
+                null, createMetaData(), new BitSet(), connection,
+                () -> "delete");
+
+        assertThat(insertWithoutName).as("ignore mapping part of the key.")
+                .isEqualTo("insert without name");
+        assertThat(delete).as("operation type part of the key.")
+                .isEqualTo("delete");
+        assertThat(insert).as("first entry unaffected.").isEqualTo("insert");
+        assertThat(cache.getSize()).as("least recently used entry dropped.")
+                .isEqualTo(2);
+        assertThat(cache.getMissCount()).as("misses.").isEqualTo(3);
+    }
+
+    @Test
+    void testGetOperationData_withOtherEscapePattern_buildsNewEntry()
+            throws Exception
+    {
+        cache.getOperationData(UpdateOperation.class, null, createMetaData(),
+                null, connection, () -> "update");
+        connection.getConfig().setProperty(DatabaseConfig.PROPERTY_ESCAPE_PATTERN,
+                "\"?\"");
+
+        final String escaped = cache.getOperationData(UpdateOperation.class,
+                null, createMetaData(), null, connection,
+                () -> "escaped update");
+
+        assertThat(escaped).as("escape pattern part of the key.")
+                .isEqualTo("escaped update");
+        assertThat(cache.getHitCount()).as("hits.").isZero();
+    }
+
+    @Test
+    void testExecute_cleanInsertTwice_reusesOperationData() throws Exception
+    {
+        try (Statement statement = connection.getConnection().createStatement())
+        {
+            statement.execute(
+                    "CREATE TABLE TEST_ODC (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+        }
+        final DefaultTable table = new DefaultTable(createMetaData());
+        table.addRow(new Object[] {1, "one"});
+        table.addRow(new Object[] {2, "two"});
+
+        DatabaseOperation.CLEAN_INSERT.execute(connection, new DefaultDataSet(table));
+        DatabaseOperation.CLEAN_INSERT.execute(connection, new DefaultDataSet(table));
+        DatabaseOperation.REFRESH.execute(connection, new DefaultDataSet(table));
+        DatabaseOperation.REFRESH.execute(connection, new DefaultDataSet(table));
+
+        assertThat(cache.getHitCount()).as("second executions served from the cache.")
+                .isEqualTo(2);
+        try (Statement statement = connection.getConnection().createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM TEST_ODC"))
+        {
+            resultSet.next();
+            assertThat(resultSet.getInt(1)).as("rows inserted.").isEqualTo(2);
+        }
+    }
+
+    private static ITableMetaData createMetaData()
+    {
+        return new DefaultTableMetaData("TEST_ODC", new Column[] {ID, NAME},
+                new Column[] {ID});
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link OperationStatistics}.
+ *
+ * @since 3.6.0
+ */
+class OperationStatisticsTest
+{
+    @Test
+    void testAddPreparedStatement_forTwoTables_countsPerTableAndInTotal()
+    {
+        final OperationStatistics statistics = new OperationStatistics();
+
+        statistics.addPreparedStatement("B");
+        statistics.addPreparedStatement("A");
+        statistics.addPreparedStatement("B");
+
+        assertThat(statistics.getPreparedStatementCount("A"))
+                .as("Count of table A.").isEqualTo(1);
+        assertThat(statistics.getPreparedStatementCount("B"))
+                .as("Count of table B.").isEqualTo(2);
+        assertThat(statistics.getPreparedStatementCount())
+                .as("Total count.").isEqualTo(3);
+        assertThat(statistics.getTableNames()).as("Sorted table names.")
+                .containsExactly("A", "B");
+    }
+
+    @Test
+    void testGetPreparedStatementCount_forUnreportedTable_isZero()
+    {
+        final OperationStatistics statistics = new OperationStatistics();
+
+        assertThat(statistics.getPreparedStatementCount("X"))
+                .as("Nothing reported for the table.").isZero();
+    }
+
+    @Test
+    void testAddElapsedTime_twiceForTable_sumsTime()
+    {
+        final OperationStatistics statistics = new OperationStatistics();
+
+        statistics.addElapsedTime("A", 5);
+        statistics.addElapsedTime("A", 7);
+
+        assertThat(statistics.getElapsedTime("A")).as("Time of table A.")
+                .isEqualTo(12);
+        assertThat(statistics.getElapsedTime("B"))
+                .as("Nothing reported for table B.").isZero();
+    }
+
+    @Test
+    void testAddRowCount_withElapsedTime_computesThroughput()
+    {
+        final OperationStatistics statistics = new OperationStatistics();
+
+        statistics.addRowCount("A", 300);
+        statistics.addRowCount("A", 100);
+        statistics.addElapsedTime("A", 500);
+        statistics.addRowCount("B", 10);
+
+        assertThat(statistics.getRowCount("A")).as("Rows of table A.")
+                .isEqualTo(400);
+        assertThat(statistics.getThroughput("A"))
+                .as("Rows per second of table A.").isEqualTo(800.0);
+        assertThat(statistics.getThroughput("B"))
+                .as("No time reported for table B.").isZero();
+        assertThat(statistics.getRowCount("C"))
+                .as("Nothing reported for table C.").isZero();
+    }
+
+    @Test
+    void testAddStageTime_twiceForStage_sumsRowsAndTime()
+    {
+        final OperationStatistics statistics = new OperationStatistics();
+
+        statistics.addStageTime("write", 100, 200_000_000L);
+        statistics.addStageTime("write", 300, 300_000_000L);
+
+        assertThat(statistics.getStageRowCount("write")).as("Rows of the stage.")
+                .isEqualTo(400);
+        assertThat(statistics.getStageTime("write")).as("Busy time of the stage.")
+                .isEqualTo(500);
+        assertThat(statistics.getStageThroughput("write"))
+                .as("Rows per second of busy time.").isEqualTo(800.0);
+        assertThat(statistics.getStageThroughput("read"))
+                .as("Nothing reported for stage read.").isZero();
+    }
+
+    @Test
+    void testClear_afterReports_discardsEverything()
+    {
+        final OperationStatistics statistics = new OperationStatistics();
+        statistics.addPreparedStatement("A");
+
+        statistics.clear();
+
+        assertThat(statistics.getPreparedStatementCount())
+                .as("Total count after clear.").isZero();
+        assertThat(statistics.getTableNames()).as("Tables after clear.")
+                .isEmpty();
+    }
+
+    @Test
+    void testAddPreparedStatement_fromConcurrentThreads_losesNoUpdate()
+            throws Exception
+    {
+        final OperationStatistics statistics = new OperationStatistics();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++)
+        {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 1000; j++)
+                {
+                    statistics.addPreparedStatement("T" + (j % 3));
+                }
+            }));
+        }
+
+        for (final Thread thread : threads)
+        {
+            thread.start();
+        }
+        for (final Thread thread : threads)
+        {
+            thread.join();
+        }
+
+        assertThat(statistics.getPreparedStatementCount())
+                .as("Every increment is kept.").isEqualTo(4000);
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.sql.Statement;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.dbunit.dataset.Columns;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITableMetaData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link PersistentMetadataHandler} against a real H2 in-memory
+ * database.
+ *
+ * @since 3.6.0
+ */
+class PersistentMetadataHandlerTest
+{
+    @TempDir
+    File directory;
+
+    private IDatabaseConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create("PUBLIC");
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute("CREATE TABLE PARENT (ID INT PRIMARY KEY)");
+            stmt.execute("CREATE TABLE CHILD (ID INT, SEQ INT,"
+                    + " PARENT_ID INT REFERENCES PARENT(ID),"
+                    + " PRIMARY KEY (SEQ, ID))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+    }
+
+    @Test
+    void testFlush_thenNewHandler_answersLookupsFromFile() throws Exception
+    {
+        final PersistentMetadataHandler cold = createHandler("1");
+        final String[] coldOrder = readMetadata(cold);
+        cold.flush();
+
+        final PersistentMetadataHandler warm = createHandler("1");
+        final String[] warmOrder = readMetadata(warm);
+
+        assertThat(cold.getMissCount()).as("Lookups of the cold start.")
+                .isPositive();
+        assertThat(directory.listFiles()).as("One file for the schema.")
+                .hasSize(1);
+        assertThat(warm.getMissCount()).as("No lookup on the warm start.")
+                .isZero();
+        assertThat(warm.getHitCount()).as("Lookups answered from the file.")
+                .isPositive();
+        assertThat(warmOrder).as("Same table order.").containsExactly(coldOrder);
+    }
+
+    @Test
+    void testLoad_withChangedFingerprint_discardsFile() throws Exception
+    {
+        final PersistentMetadataHandler cold = createHandler("1");
+        readMetadata(cold);
+        cold.flush();
+
+        final PersistentMetadataHandler changed = createHandler("2");
+        readMetadata(changed);
+
+        assertThat(changed.getStaleCount()).as("Stale file.").isEqualTo(1);
+        assertThat(changed.getMissCount()).as("Lookups done again.")
+                .isPositive();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testLoad_withDisallowedClass_ignoresFile() throws Exception
+    {
+        final PersistentMetadataHandler cold = createHandler("1");
+        readMetadata(cold);
+        cold.close();
+        final File file = directory.listFiles()[0];
+        final HashMap<String, Object> results;
+        try (ObjectInputStream in = new ObjectInputStream(
+                Files.newInputStream(file.toPath())))
+        {
+            in.readObject();
+            results = (HashMap<String, Object>) in.readObject();
+        }
+        results.put("unexpected", new Date());
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                Files.newOutputStream(file.toPath())))
+        {
+            out.writeObject("1");
+            out.writeObject(results);
+        }
+
+        final PersistentMetadataHandler warm = createHandler("1");
+        readMetadata(warm);
+
+        assertThat(warm.getMissCount()).as("Lookups done again.")
+                .isPositive();
+    }
+
+    @Test
+    void testLookup_withUnusedCacheFile_deletesFile() throws Exception
+    {
+        final File unused = new File(directory, "dbunit-metadata-unused.ser");
+        final File recent = new File(directory, "dbunit-metadata-recent.ser");
+        final File other = new File(directory, "other.ser");
+        for (final File file : new File[] {unused, recent, other})
+        {
+            Files.write(file.toPath(), new byte[0]);
+        }
+        final long old = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(8);
+        assertThat(unused.setLastModified(old)).as("Aged file.").isTrue();
+        assertThat(other.setLastModified(old)).as("Aged file.").isTrue();
+        final PersistentMetadataHandler handler = new PersistentMetadataHandler(
+                new DefaultMetadataHandler(), directory,
+                PersistentMetadataHandler.Fingerprint.version("1"), 7);
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_METADATA_HANDLER, handler);
+
+        readMetadata(handler);
+
+        assertThat(unused).as("Unused cache file deleted.").doesNotExist();
+        assertThat(recent).as("Recent cache file kept.").exists();
+        assertThat(other).as("File of someone else kept.").exists();
+        handler.close();
+    }
+
+    @Test
+    void testQueryFingerprint_returnsFirstColumnOfFirstRow() throws Exception
+    {
+        final String fingerprint = PersistentMetadataHandler.Fingerprint
+                .query("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES"
+                        + " WHERE TABLE_SCHEMA = ?")
+                .getFingerprint(connection.getConnection(), "PUBLIC");
+
+        assertThat(fingerprint).as("Tables of the schema.").isEqualTo("2");
+    }
+
+    private PersistentMetadataHandler createHandler(final String version)
+    {
+        final PersistentMetadataHandler handler = new PersistentMetadataHandler(
+                new DefaultMetadataHandler(), directory,
+                PersistentMetadataHandler.Fingerprint.version(version));
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_METADATA_HANDLER, handler);
+        return handler;
+    }
+
+    /**
+     * Reads the metadata of both tables and orders them by foreign keys.
+     *
+     * @return The ordered table names.
+     */
+    private String[] readMetadata(final PersistentMetadataHandler handler)
+            throws Exception
+    {
+        final IDataSet dataSet = connection.createDataSet();
+        final ITableMetaData child = dataSet.getTableMetaData("CHILD");
+
+        assertThat(Columns.getColumnNames(child.getColumns()))
+                .as("Columns of CHILD.")
+                .containsExactly("ID", "SEQ", "PARENT_ID");
+        assertThat(Columns.getColumnNames(child.getPrimaryKeys()))
+                .as("Primary key of CHILD in key order.")
+                .containsExactly("SEQ", "ID");
+
+        return new DatabaseSequenceFilter(connection).getTableNames(dataSet);
+    }
+}
@@ -22,14 +22,24 @@
 package org.dbunit.database.search;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.Statement;
 
 import org.dbunit.TurkishDefaultLocale;
+import org.dbunit.database.DatabaseConfig;
 import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.IMetadataHandler;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.ext.h2.H2InformationSchemaMetadataHandler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -40,7 +50,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
  * {@code normalizeToStoredCase(IDatabaseConnection, String[])}, invoked via
  * reflection since driving it through a public entry point would require
  * mocking the whole {@link DepthFirstSearch}/callback machinery for no
- * benefit - the method's own contract is narrow and self-contained.
+ * benefit - the method's own contract is narrow and self-contained - and for
+ * searches taking a {@link ForeignKeyGraph}, against an in-memory H2 database.
  *
  * @since 3.4.0
  */
@@ -96,6 +107,28 @@ class TablesDependencyHelperTest
                 .isSameAs(tableNames);
     }
 
+    @Test
+    void testGetDependentTables_withForeignKeyGraph_takesKeysFromGraph() throws Exception
+    {
+        final IDatabaseConnection h2Connection = InMemoryDatabaseConnection.create("PUBLIC");
+        try (Statement stmt = h2Connection.getConnection().createStatement())
+        {
+            stmt.execute("CREATE TABLE A (ID INT PRIMARY KEY)");
+            stmt.execute("CREATE TABLE B (ID INT PRIMARY KEY, A_ID INT REFERENCES A(ID))");
+        }
+        final IMetadataHandler handler = spy(new H2InformationSchemaMetadataHandler());
+        h2Connection.getConfig().setProperty(DatabaseConfig.PROPERTY_METADATA_HANDLER, handler);
+        final ForeignKeyGraph foreignKeyGraph = ForeignKeyGraph.load(h2Connection);
+
+        final String[] tables = TablesDependencyHelper.getDependentTables(h2Connection,
+                new String[] {"B"}, foreignKeyGraph);
+
+        assertThat(tables).as("B and the table its foreign key references.")
+                .containsExactly("A", "B");
+        verify(handler, never()).getImportedKeys(any(), any(), anyString());
+        h2Connection.close();
+    }
+
     private static String[] invokeNormalizeToStoredCase(
             final IDatabaseConnection connection, final String[] tableNames)
             throws Exception
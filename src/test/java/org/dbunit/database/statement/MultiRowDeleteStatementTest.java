@@ -0,0 +1,162 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.operation.DatabaseOperation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MultiRowDeleteStatement}.
+ *
+ * @since 3.6.0
+ */
+class MultiRowDeleteStatementTest extends AbstractStatementTest
+{
+    private static final String SQL =
+            "delete from TEST_MRD where ID = ? and SUB = ?";
+
+    @Override
+    protected String createTestTableDdl()
+    {
+        return "CREATE TABLE TEST_MRD (ID INTEGER, SUB INTEGER,"
+                + " PRIMARY KEY (ID, SUB));"
+                + " INSERT INTO TEST_MRD VALUES (1, 1), (1, 2), (2, 1), (3, 1),"
+                + " (4, 1), (5, 1)";
+    }
+
+    @Test
+    void testGetSql_withSingleKeyColumn_listsKeys()
+    {
+        final MultiRowDeleteStatement statement = new MultiRowDeleteStatement(
+                "delete from TEST_MRD where ID = ?", 3, false, conn);
+
+        assertThat(statement.getSql(3)).as("multi-row delete statement.")
+                .isEqualTo("delete from TEST_MRD where ID in (?, ?, ?)");
+    }
+
+    @Test
+    void testGetSql_withRowValueLists_listsKeyRows()
+    {
+        final MultiRowDeleteStatement statement =
+                new MultiRowDeleteStatement(SQL, 2, true, conn);
+
+        assertThat(statement.getSql(2)).as("multi-row delete statement.")
+                .isEqualTo("delete from TEST_MRD where (ID, SUB) in"
+                        + " ((?, ?), (?, ?))");
+    }
+
+    @Test
+    void testGetSql_withoutRowValueLists_joinsConditionsWithOr()
+    {
+        final MultiRowDeleteStatement statement =
+                new MultiRowDeleteStatement(SQL, 2, false, conn);
+
+        assertThat(statement.getSql(2)).as("multi-row delete statement.")
+                .isEqualTo("delete from TEST_MRD where (ID = ? and SUB = ?)"
+                        + " or (ID = ? and SUB = ?)");
+    }
+
+    @Test
+    void testConstructor_withoutKeyConditions_throwsIllegalArgumentException()
+    {
+        final Throwable thrown = catchThrowable(() -> new MultiRowDeleteStatement(
+                "delete from TEST_MRD", 3, false, conn));
+
+        assertThat(thrown).as("only single-row deletes can be expanded.")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testExecuteBatch_withRowsNotMultipleOfRowsPerStatement_deletesAllRows()
+            throws Exception
+    {
+        for (final boolean rowValueLists : new boolean[] {true, false})
+        {
+            final MultiRowDeleteStatement statement = new MultiRowDeleteStatement(
+                    SQL, 2, rowValueLists, conn);
+            final int[][] keys = rowValueLists
+                    ? new int[][] {{1, 2}, {2, 1}, {9, 9}}
+                    : new int[][] {{3, 1}, {4, 1}};
+            for (final int[] key : keys)
+            {
+                statement.addValue(Integer.valueOf(key[0]), DataType.INTEGER);
+                statement.addValue(Integer.valueOf(key[1]), DataType.INTEGER);
+                statement.addBatch();
+            }
+
+            final int result = statement.executeBatch();
+            statement.clearBatch();
+            statement.close();
+
+            assertThat(result).as("rows deleted.").isEqualTo(2);
+        }
+        assertThat(readRows()).as("remaining rows.").containsExactly("1,1",
+                "5,1");
+    }
+
+    @Test
+    void testDelete_withMultiRowDeletesEnabled_deletesDatasetRows()
+            throws Exception
+    {
+        dbConn.getConfig().setFeature(DatabaseConfig.FEATURE_MULTI_ROW_DELETES,
+                true);
+        dbConn.getConfig().setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE, 2);
+        final DefaultTable table = new DefaultTable("TEST_MRD",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("SUB", DataType.INTEGER)});
+        table.addRow(new Object[] {"1", "2"});
+        table.addRow(new Object[] {"2", "1"});
+        table.addRow(new Object[] {"4", "1"});
+
+        DatabaseOperation.DELETE.execute(dbConn, new DefaultDataSet(table));
+
+        assertThat(readRows()).as("remaining rows.").containsExactly("1,1",
+                "3,1", "5,1");
+    }
+
+    private List<String> readRows() throws Exception
+    {
+        final List<String> rows = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery(
+                        "SELECT ID, SUB FROM TEST_MRD ORDER BY ID, SUB"))
+        {
+            while (rs.next())
+            {
+                rows.add(rs.getInt(1) + "," + rs.getInt(2));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.database.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.operation.DatabaseOperation;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MultiRowInsertStatement}.
+ *
+ * @since 3.6.0
+ */
+class MultiRowInsertStatementTest extends AbstractStatementTest
+{
+    private static final String SQL =
+            "insert into TEST_MRI (ID, NAME) values (?, ?)";
+
+    @Override
+    protected String createTestTableDdl()
+    {
+        return "CREATE TABLE TEST_MRI (ID INTEGER PRIMARY KEY, NAME VARCHAR(50))";
+    }
+
+    @Test
+    void testGetSql_withThreeRows_repeatsValuesRow()
+    {
+        final MultiRowInsertStatement statement =
+                new MultiRowInsertStatement(SQL, 3, conn);
+
+        assertThat(statement.getSql(3)).as("multi-row insert statement.")
+                .isEqualTo("insert into TEST_MRI (ID, NAME) values"
+                        + " (?, ?), (?, ?), (?, ?)");
+    }
+
+    @Test
+    void testConstructor_withoutValuesList_throwsIllegalArgumentException()
+    {
+        final Throwable thrown = catchThrowable(() -> new MultiRowInsertStatement(
+                "insert into TEST_MRI select * from OTHER", 3, conn));
+
+        assertThat(thrown).as("only single-row inserts can be expanded.")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testExecuteBatch_withRowsNotMultipleOfRowsPerStatement_insertsAllRows()
+            throws Exception
+    {
+        final MultiRowInsertStatement statement =
+                new MultiRowInsertStatement(SQL, 2, conn);
+        for (int i = 1; i <= 5; i++)
+        {
+            statement.addValue(Integer.valueOf(i), DataType.INTEGER);
+            statement.addValue(i == 3 ? null : "name" + i, DataType.VARCHAR);
+            statement.addBatch();
+        }
+
+        final int result = statement.executeBatch();
+        statement.clearBatch();
+        statement.close();
+
+        assertThat(result).as("update count of all statements.").isEqualTo(5);
+        assertThat(readRows()).as("inserted rows.").containsExactly("1,name1",
+                "2,name2", "3,null", "4,name4", "5,name5");
+    }
+
+    @Test
+    void testExecuteBatch_calledTwice_reusesRemainderStatement() throws Exception
+    {
+        final MultiRowInsertStatement statement =
+                new MultiRowInsertStatement(SQL, 4, conn);
+        statement.addValue("1", DataType.INTEGER);
+        statement.addValue("a", DataType.VARCHAR);
+        statement.addBatch();
+        final int first = statement.executeBatch();
+        statement.addValue("2", DataType.INTEGER);
+        statement.addValue("b", DataType.VARCHAR);
+        statement.addBatch();
+        final int second = statement.executeBatch();
+        statement.close();
+
+        assertThat(first + second).as("update counts.").isEqualTo(2);
+        assertThat(readRows()).as("inserted rows.").containsExactly("1,a",
+                "2,b");
+    }
+
+    @Test
+    void testInsert_withMultiRowInsertsEnabled_insertsAllRows() throws Exception
+    {
+        dbConn.getConfig().setFeature(DatabaseConfig.FEATURE_MULTI_ROW_INSERTS,
+                true);
+        dbConn.getConfig().setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE, 2);
+        final DefaultTable table = new DefaultTable("TEST_MRI",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR)});
+        table.addRow(new Object[] {"1", "a"});
+        table.addRow(new Object[] {"2", "b"});
+        table.addRow(new Object[] {"3", "c"});
+
+        DatabaseOperation.INSERT.execute(dbConn, new DefaultDataSet(table));
+
+        assertThat(readRows()).as("inserted rows.").containsExactly("1,a",
+                "2,b", "3,c");
+    }
+
+    private List<String> readRows() throws Exception
+    {
+        final List<String> rows = new ArrayList<>();
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery(
+                        "SELECT ID, NAME FROM TEST_MRI ORDER BY ID"))
+        {
+            while (rs.next())
+            {
+                rows.add(rs.getInt(1) + "," + rs.getString(2));
+            }
+        }
+        return rows;
+    }
+}
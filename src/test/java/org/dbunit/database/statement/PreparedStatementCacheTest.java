@@ -0,0 +1,163 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.database.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PreparedStatementCache}.
+ */
+class PreparedStatementCacheTest extends AbstractStatementTest
+{
+    private static final String INSERT_SQL = "insert into TEST_PSC (ID, NAME) values (?, ?)";
+    private static final String UPDATE_SQL = "update TEST_PSC set NAME = ? where ID = ?";
+    private static final String DELETE_SQL = "delete from TEST_PSC where ID = ?";
+
+    @Override
+    protected String createTestTableDdl()
+    {
+        return "CREATE TABLE TEST_PSC (ID INTEGER, NAME VARCHAR(50))";
+    }
+
+    @Test
+    void testConstructor_withZeroSize_throwsIllegalArgumentException()
+    {
+        assertThatThrownBy(() -> new PreparedStatementCache(0))
+                .as("a cache must hold at least one statement.")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testLease_afterRelease_reusesStatementAndCountsHit() throws Exception
+    {
+        final PreparedStatementCache cache = new PreparedStatementCache(2);
+
+        final PreparedStatement first = cache.lease(conn, INSERT_SQL);
+        first.setInt(1, 1);
+        first.setString(2, "a");
+        first.executeUpdate();
+        cache.release(conn, INSERT_SQL, first);
+        final PreparedStatement second = cache.lease(conn, INSERT_SQL);
+
+        assertThat(second).as("statement reused.").isSameAs(first);
+        assertThat(cache.getMissCount(INSERT_SQL)).as("misses of the sql.").isEqualTo(1);
+        assertThat(cache.getHitCount(INSERT_SQL)).as("hits of the sql.").isEqualTo(1);
+        assertThat(cache.getHitCount(UPDATE_SQL)).as("hits of another sql.").isZero();
+        assertThat(cache.getSize()).as("leased statements are not cached.").isZero();
+        cache.release(conn, INSERT_SQL, second);
+        cache.invalidate();
+    }
+
+    @Test
+    void testLease_whileLeased_preparesSecondStatement() throws Exception
+    {
+        final PreparedStatementCache cache = new PreparedStatementCache(2);
+
+        final PreparedStatement first = cache.lease(conn, INSERT_SQL);
+        final PreparedStatement second = cache.lease(conn, INSERT_SQL);
+        cache.release(conn, INSERT_SQL, first);
+        cache.release(conn, INSERT_SQL, second);
+
+        assertThat(second).as("leases are exclusive.").isNotSameAs(first);
+        assertThat(cache.getMissCount()).as("total misses.").isEqualTo(2);
+        assertThat(second.isClosed()).as("surplus statement closed on release.").isTrue();
+        assertThat(first.isClosed()).as("first statement kept.").isFalse();
+        cache.invalidate();
+    }
+
+    @Test
+    void testRelease_beyondMaxSize_closesLeastRecentlyUsed() throws Exception
+    {
+        final PreparedStatementCache cache = new PreparedStatementCache(2);
+
+        final PreparedStatement insert = cache.lease(conn, INSERT_SQL);
+        final PreparedStatement update = cache.lease(conn, UPDATE_SQL);
+        final PreparedStatement delete = cache.lease(conn, DELETE_SQL);
+        cache.release(conn, INSERT_SQL, insert);
+        cache.release(conn, UPDATE_SQL, update);
+        cache.release(conn, INSERT_SQL, cache.lease(conn, INSERT_SQL));
+        cache.release(conn, DELETE_SQL, delete);
+
+        assertThat(cache.getSize()).as("cache size.").isEqualTo(2);
+        assertThat(update.isClosed()).as("least recently used statement closed.").isTrue();
+        assertThat(insert.isClosed()).as("recently used statement kept.").isFalse();
+        assertThat(delete.isClosed()).as("last released statement kept.").isFalse();
+        cache.invalidate();
+        assertThat(insert.isClosed()).as("statements closed on invalidate.").isTrue();
+        assertThat(cache.getSize()).as("cache size after invalidate.").isZero();
+    }
+
+    @Test
+    void testLease_beyondMaxSize_dropsLeastRecentlyLeasedCounters() throws Exception
+    {
+        final PreparedStatementCache cache = new PreparedStatementCache(2);
+
+        cache.release(conn, INSERT_SQL, cache.lease(conn, INSERT_SQL));
+        cache.release(conn, UPDATE_SQL, cache.lease(conn, UPDATE_SQL));
+        cache.release(conn, INSERT_SQL, cache.lease(conn, INSERT_SQL));
+        cache.release(conn, DELETE_SQL, cache.lease(conn, DELETE_SQL));
+
+        assertThat(cache.getMissCount(UPDATE_SQL)).as("counters of the least recently leased sql dropped.")
+                .isZero();
+        assertThat(cache.getHitCount(INSERT_SQL)).as("counters of a recently leased sql kept.")
+                .isEqualTo(1);
+        assertThat(cache.getMissCount(DELETE_SQL)).as("counters of the last leased sql kept.")
+                .isEqualTo(1);
+        assertThat(cache.getMissCount()).as("total misses unaffected.").isEqualTo(3);
+        cache.invalidate();
+    }
+
+    @Test
+    void testLease_withOtherConnection_invalidatesCachedStatements() throws Exception
+    {
+        final PreparedStatementCache cache = new PreparedStatementCache(2);
+        final PreparedStatement statement = cache.lease(conn, INSERT_SQL);
+        cache.release(conn, INSERT_SQL, statement);
+
+        final IDatabaseConnection otherDbConn = InMemoryDatabaseConnection.create();
+        try
+        {
+            final Connection other = otherDbConn.getConnection();
+            other.createStatement().execute(createTestTableDdl());
+
+            final PreparedStatement otherStatement = cache.lease(other, INSERT_SQL);
+
+            assertThat(otherStatement).as("new statement for the other connection.")
+                    .isNotSameAs(statement);
+            assertThat(statement.isClosed()).as("statement of the previous connection closed.")
+                    .isTrue();
+            cache.release(conn, INSERT_SQL, otherStatement);
+            assertThat(otherStatement.isClosed())
+                    .as("statement released for a foreign connection closed.").isTrue();
+        } finally
+        {
+            otherDbConn.close();
+        }
+    }
+}
@@ -22,7 +22,10 @@ package org.dbunit.database.statement;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.sql.PreparedStatement;
+
 import org.dbunit.database.DatabaseConfig;
+import org.dbunit.dataset.datatype.DataType;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -126,4 +129,147 @@ class PreparedStatementFactoryTest extends AbstractStatementTest
         assertThat(statement).as("uses default batch size config.").isNotNull();
         statement.close();
     }
+
+    @Test
+    void testCreatePreparedInsertStatement_withMultiRowInsertsDisabled_returnsAutomaticWrapper()
+            throws Exception
+    {
+        final PreparedStatementFactory factory = new PreparedStatementFactory();
+        final String sql = "insert into TEST_PSF (ID, NAME) values (?, ?)";
+
+        final IPreparedBatchStatement statement =
+                factory.createPreparedInsertStatement(sql, 2, dbConn);
+
+        assertThat(statement).as("JDBC batching by default.")
+                .isInstanceOf(AutomaticPreparedBatchStatement.class);
+        statement.close();
+    }
+
+    @Test
+    void testCreatePreparedInsertStatement_withMultiRowInsertsEnabled_limitsRowsByBatchSize()
+            throws Exception
+    {
+        dbConn.getConfig().setFeature(DatabaseConfig.FEATURE_MULTI_ROW_INSERTS, true);
+        dbConn.getConfig().setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE, 50);
+        final PreparedStatementFactory factory = new PreparedStatementFactory();
+        final String sql = "insert into TEST_PSF (ID, NAME) values (?, ?)";
+
+        final IPreparedBatchStatement statement =
+                factory.createPreparedInsertStatement(sql, 2, dbConn);
+
+        assertThat(statement).as("multi-row insert statement.")
+                .isInstanceOf(MultiRowInsertStatement.class);
+        assertThat(((MultiRowInsertStatement) statement).getRowsPerStatement())
+                .as("rows per statement bounded by the batch size.").isEqualTo(50);
+        statement.close();
+    }
+
+    @Test
+    void testCreatePreparedInsertStatement_withMultiRowInsertsEnabled_limitsRowsByParameterCount()
+            throws Exception
+    {
+        dbConn.getConfig().setFeature(DatabaseConfig.FEATURE_MULTI_ROW_INSERTS, true);
+        dbConn.getConfig().setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE, 5000);
+        final PreparedStatementFactory factory = new PreparedStatementFactory();
+        final String sql = "insert into TEST_PSF (ID, NAME) values (?, ?)";
+
+        final IPreparedBatchStatement statement =
+                factory.createPreparedInsertStatement(sql, 2, dbConn);
+
+        assertThat(((MultiRowInsertStatement) statement).getRowsPerStatement())
+                .as("rows per statement bounded by the parameter limit.")
+                .isEqualTo(PreparedStatementFactory.DEFAULT_MAX_PARAMETER_COUNT / 2);
+        statement.close();
+    }
+
+    @Test
+    void testCreatePreparedInsertStatement_withRowExceedingHalfTheParameterLimit_returnsAutomaticWrapper()
+            throws Exception
+    {
+        dbConn.getConfig().setFeature(DatabaseConfig.FEATURE_MULTI_ROW_INSERTS, true);
+        final PreparedStatementFactory factory = new PreparedStatementFactory();
+        final String sql = "insert into TEST_PSF (ID, NAME) values (?, ?)";
+
+        final IPreparedBatchStatement statement =
+                factory.createPreparedInsertStatement(sql, 600, dbConn);
+
+        assertThat(statement).as("a single row per statement gains nothing.")
+                .isInstanceOf(AutomaticPreparedBatchStatement.class);
+        statement.close();
+    }
+
+    @Test
+    void testCreatePreparedDeleteStatement_withMultiRowDeletesDisabled_returnsAutomaticWrapper()
+            throws Exception
+    {
+        final PreparedStatementFactory factory = new PreparedStatementFactory();
+        final String sql = "delete from TEST_PSF where ID = ?";
+
+        final IPreparedBatchStatement statement =
+                factory.createPreparedDeleteStatement(sql, 1, dbConn);
+
+        assertThat(statement).as("JDBC batching by default.")
+                .isInstanceOf(AutomaticPreparedBatchStatement.class);
+        statement.close();
+    }
+
+    @Test
+    void testCreatePreparedDeleteStatement_withMultiRowDeletesEnabled_limitsRowsByParameterCount()
+            throws Exception
+    {
+        dbConn.getConfig().setFeature(DatabaseConfig.FEATURE_MULTI_ROW_DELETES, true);
+        dbConn.getConfig().setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE, 5000);
+        final PreparedStatementFactory factory = new PreparedStatementFactory();
+        final String sql = "delete from TEST_PSF where ID = ? and NAME = ?";
+
+        final IPreparedBatchStatement statement =
+                factory.createPreparedDeleteStatement(sql, 2, dbConn);
+
+        assertThat(statement).as("multi-row delete statement.")
+                .isInstanceOf(MultiRowDeleteStatement.class);
+        assertThat(((MultiRowDeleteStatement) statement).getRowsPerStatement())
+                .as("rows per statement bounded by the parameter limit.")
+                .isEqualTo(PreparedStatementFactory.DEFAULT_MAX_PARAMETER_COUNT / 2);
+        statement.close();
+    }
+
+    @Test
+    void testCreatePreparedBatchStatement_withStatementCache_reusesStatement()
+            throws Exception
+    {
+        dbConn.getConfig().setProperty(DatabaseConfig.PROPERTY_PREPARED_STATEMENT_CACHE_SIZE, 10);
+        final PreparedStatementFactory factory = new PreparedStatementFactory();
+        final String sql = "INSERT INTO TEST_PSF VALUES (?, ?)";
+
+        factory.createPreparedBatchStatement(sql, dbConn).close();
+        final IPreparedBatchStatement statement =
+                factory.createPreparedBatchStatement(sql, dbConn);
+        statement.addValue(1, DataType.INTEGER);
+        statement.addValue("Alpha", DataType.VARCHAR);
+        statement.addBatch();
+        statement.executeBatch();
+        statement.close();
+
+        final PreparedStatementCache cache = dbConn.getPreparedStatementCache();
+        assertThat(cache.getMissCount(sql)).as("statement prepared once.").isEqualTo(1);
+        assertThat(cache.getHitCount(sql)).as("statement reused.").isEqualTo(1);
+        assertThat(dbConn.getRowCount("TEST_PSF")).as("row inserted through reused statement.")
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testClose_withStatementCache_closesCachedStatements() throws Exception
+    {
+        dbConn.getConfig().setProperty(DatabaseConfig.PROPERTY_PREPARED_STATEMENT_CACHE_SIZE, 10);
+        final PreparedStatementCache cache = dbConn.getPreparedStatementCache();
+        final String sql = "INSERT INTO TEST_PSF VALUES (?, ?)";
+        final PreparedStatement statement = cache.lease(conn, sql);
+        cache.release(conn, sql, statement);
+
+        dbConn.close();
+
+        assertThat(statement.isClosed()).as("cached statement closed with the connection.")
+                .isTrue();
+        assertThat(cache.getSize()).as("cache emptied.").isZero();
+    }
 }
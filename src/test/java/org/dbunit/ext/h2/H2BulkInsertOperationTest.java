@@ -0,0 +1,229 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.h2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.xml.FlatXmlProducer;
+import org.dbunit.dataset.xml.XmlProducer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.InputSource;
+
+/**
+ * Tests for {@link H2BulkInsertOperation} against a real H2 in-memory database.
+ *
+ * @since 3.6.0
+ */
+class H2BulkInsertOperationTest
+{
+    private IDatabaseConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute("CREATE TABLE T (ID INT PRIMARY KEY, NAME VARCHAR(50),"
+                    + " FLAG BOOLEAN, AMOUNT DECIMAL(10, 2))");
+            stmt.execute("CREATE TABLE B (ID INT PRIMARY KEY, DATA VARBINARY(10))");
+            stmt.execute("CREATE TABLE D (ID INT PRIMARY KEY,"
+                    + " NAME VARCHAR(50) DEFAULT 'default')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+    }
+
+    @Test
+    void testExecute_withSpecialValues_loadsRowsUnchanged() throws Exception
+    {
+        final DefaultTable table = createTable();
+        table.addRow(new Object[] {"1", "a, \"quoted\"\nvalue", "true", "1.50"});
+        table.addRow(new Object[] {"2", "", "false", "0"});
+        table.addRow(new Object[] {"3", null, null, null});
+
+        H2BulkInsertOperation.INSERT.execute(connection,
+                new DefaultDataSet(table));
+
+        assertThat(readRows("SELECT * FROM T ORDER BY ID"))
+                .as("Delimiters, quotes and line breaks kept, empty string"
+                        + " distinct from NULL.")
+                .containsExactly("1|a, \"quoted\"\nvalue|TRUE|1.50",
+                        "2||FALSE|0.00", "3|null|null|null");
+    }
+
+    @Test
+    void testExecute_cleanInsert_replacesExistingRows() throws Exception
+    {
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute("INSERT INTO T VALUES (9, 'old', TRUE, 1)");
+        }
+        final DefaultTable table = createTable();
+        table.addRow(new Object[] {"1", "new", "true", "2"});
+
+        H2BulkInsertOperation.CLEAN_INSERT.execute(connection,
+                new DefaultDataSet(table));
+
+        assertThat(readRows("SELECT ID, NAME FROM T ORDER BY ID"))
+                .as("Existing rows deleted before the bulk insert.")
+                .containsExactly("1|new");
+    }
+
+    @Test
+    void testExecute_withProducer_loadsStreamedRows() throws Exception
+    {
+        final String xml = "<dataset>"
+                + "<T ID='1' NAME='one' FLAG='true' AMOUNT='1'/>"
+                + "<T ID='2' NAME='two' FLAG='false' AMOUNT='2'/>"
+                + "</dataset>";
+
+        new H2BulkInsertOperation().execute(connection,
+                new FlatXmlProducer(new InputSource(new StringReader(xml))));
+
+        assertThat(readRows("SELECT ID, NAME FROM T ORDER BY ID"))
+                .as("Rows read from the producer loaded.")
+                .containsExactly("1|one", "2|two");
+    }
+
+    @Test
+    void testExecute_withBinaryColumn_fallsBackToInsert() throws Exception
+    {
+        final DefaultTable table = new DefaultTable("B",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("DATA", DataType.VARBINARY)});
+        table.addRow(new Object[] {"1", new byte[] {1, 2, (byte) 0xff}});
+
+        H2BulkInsertOperation.INSERT.execute(connection,
+                new DefaultDataSet(table));
+
+        assertThat(readRows("SELECT ID, RAWTOHEX(DATA) FROM B"))
+                .as("Binary table loaded with regular inserts.")
+                .containsExactly("1|0102ff");
+    }
+
+    @Test
+    void testExecute_withNoValueColumns_leavesColumnsToDefault()
+            throws Exception
+    {
+        final DefaultTable table = new DefaultTable("D",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR)});
+        table.addRow(new Object[] {"1", ITable.NO_VALUE});
+        table.addRow(new Object[] {"2", ITable.NO_VALUE});
+        table.addRow(new Object[] {"3", "three"});
+        table.addRow(new Object[] {"4", null});
+        table.addRow(new Object[] {"5", ITable.NO_VALUE});
+
+        H2BulkInsertOperation.INSERT.execute(connection,
+                new DefaultDataSet(table));
+
+        assertThat(readRows("SELECT * FROM D ORDER BY ID"))
+                .as("Columns without a value get their default, NULL kept.")
+                .containsExactly("1|default", "2|default", "3|three",
+                        "4|null", "5|default");
+    }
+
+    @Test
+    void testExecute_withProducerAndNoValueColumns_loadsStreamedRows()
+            throws Exception
+    {
+        final String xml = "<dataset><table name='D'>"
+                + "<column>ID</column><column>NAME</column>"
+                + "<row><value>1</value><none/></row>"
+                + "<row><value>2</value><value>two</value></row>"
+                + "<row><value>3</value><none/></row>"
+                + "</table></dataset>";
+
+        new H2BulkInsertOperation().execute(connection,
+                new XmlProducer(new InputSource(new StringReader(xml))));
+
+        assertThat(readRows("SELECT * FROM D ORDER BY ID"))
+                .as("Streamed rows loaded in groups of the same columns.")
+                .containsExactly("1|default", "2|two", "3|default");
+    }
+
+    @Test
+    void testIsRemote_withServerUrls_isTrue()
+    {
+        assertThat(H2BulkInsertOperation.isRemote("jdbc:h2:tcp://host/~/db"))
+                .as("TCP server.").isTrue();
+        assertThat(H2BulkInsertOperation.isRemote("JDBC:H2:SSL://host/db"))
+                .as("SSL server, any case.").isTrue();
+        assertThat(H2BulkInsertOperation.isRemote("jdbc:h2:mem:test"))
+                .as("In-memory.").isFalse();
+        assertThat(H2BulkInsertOperation.isRemote("jdbc:h2:file:./db"))
+                .as("Embedded file.").isFalse();
+    }
+
+    private DefaultTable createTable()
+    {
+        return new DefaultTable("T",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR),
+                        new Column("FLAG", DataType.BOOLEAN),
+                        new Column("AMOUNT", DataType.DECIMAL)});
+    }
+
+    private List<String> readRows(final String sql) throws Exception
+    {
+        final List<String> rows = new ArrayList<>();
+        try (Statement stmt = connection.getConnection().createStatement();
+                ResultSet rs = stmt.executeQuery(sql))
+        {
+            final int columnCount = rs.getMetaData().getColumnCount();
+            while (rs.next())
+            {
+                final StringBuilder sb = new StringBuilder();
+                for (int i = 1; i <= columnCount; i++)
+                {
+                    if (i > 1)
+                    {
+                        sb.append('|');
+                    }
+                    sb.append(rs.getString(i));
+                }
+                rows.add(sb.toString());
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.h2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.DatabaseSequenceFilter;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.IMetadataHandler;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.dataset.Columns;
+import org.dbunit.dataset.IDataSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link H2InformationSchemaMetadataHandler}, comparing its lookups with those of the
+ * driver-backed {@link H2MetadataHandler} on a real H2 in-memory database.
+ *
+ * @since 3.6.0
+ */
+class H2InformationSchemaMetadataHandlerTest
+{
+    /**
+     * The <code>getColumns</code> columns dbunit reads.
+     */
+    private static final int[] COLUMN_INDEXES = {1, 2, 3, 4, 5, 6, 11, 12, 13, 17, 18, 23, 24};
+
+    private static final int[] PRIMARY_KEY_INDEXES = {2, 3, 4, 5, 6};
+
+    private static final int[] FOREIGN_KEY_INDEXES = {2, 3, 4, 6, 7, 8, 9, 10, 11, 12, 13, 14};
+
+    private final H2InformationSchemaMetadataHandler handler =
+            new H2InformationSchemaMetadataHandler();
+
+    private final H2MetadataHandler driverHandler = new H2MetadataHandler();
+
+    private IDatabaseConnection connection;
+
+    private DatabaseMetaData metaData;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create("PUBLIC");
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute("CREATE TABLE PARENT (ID INT GENERATED BY DEFAULT AS IDENTITY,"
+                    + " CODE VARCHAR(20) DEFAULT 'x' NOT NULL, PRIMARY KEY (CODE, ID))");
+            stmt.execute("CREATE TABLE A_B (ID BIGINT PRIMARY KEY, AMOUNT DECIMAL(10, 2),"
+                    + " CREATED TIMESTAMP, ACTIVE BOOLEAN, TAGS INTEGER ARRAY,"
+                    + " DOUBLED BIGINT GENERATED ALWAYS AS (ID * 2),"
+                    + " PARENT_CODE VARCHAR(20), PARENT_ID INT,"
+                    + " FOREIGN KEY (PARENT_CODE, PARENT_ID) REFERENCES PARENT (CODE, ID)"
+                    + " ON DELETE CASCADE)");
+            stmt.execute("CREATE TABLE AXB (ID INT, A_B_ID BIGINT REFERENCES A_B (ID))");
+            stmt.execute("COMMENT ON COLUMN A_B.AMOUNT IS 'The amount'");
+        }
+        metaData = connection.getConnection().getMetaData();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+    }
+
+    @Test
+    void testGetColumns_eachTable_equalsDriverColumns() throws Exception
+    {
+        for (final String table : new String[] {"PARENT", "A_B", "AXB"})
+        {
+            assertThat(read(handler.getColumns(metaData, "PUBLIC", table), COLUMN_INDEXES))
+                    .as("Columns of " + table + ".")
+                    .isEqualTo(read(driverHandler.getColumns(metaData, "PUBLIC",
+                            table.replace("_", "\\_")), COLUMN_INDEXES))
+                    .isNotEmpty();
+        }
+    }
+
+    @Test
+    void testGetPrimaryKeys_compositeKey_equalsDriverKeys() throws Exception
+    {
+        assertThat(read(handler.getPrimaryKeys(metaData, "PUBLIC", "PARENT"),
+                PRIMARY_KEY_INDEXES))
+                .as("Primary key of PARENT.")
+                .isEqualTo(read(driverHandler.getPrimaryKeys(metaData, "PUBLIC", "PARENT"),
+                        PRIMARY_KEY_INDEXES));
+    }
+
+    @Test
+    void testGetSchemaPrimaryKeys_returnsKeysOfAllTables() throws Exception
+    {
+        assertThat(read(handler.getSchemaPrimaryKeys(metaData, "PUBLIC"), new int[] {3, 4}))
+                .as("Primary keys of the schema.")
+                .containsExactly("A_B|ID", "PARENT|CODE", "PARENT|ID");
+    }
+
+    @Test
+    void testGetImportedAndExportedKeys_equalDriverKeys() throws Exception
+    {
+        assertThat(read(handler.getImportedKeys(metaData, "PUBLIC", "A_B"),
+                FOREIGN_KEY_INDEXES))
+                .as("Imported keys of A_B.")
+                .isEqualTo(read(metaData.getImportedKeys(null, "PUBLIC", "A_B"),
+                        FOREIGN_KEY_INDEXES))
+                .hasSize(2);
+        assertThat(read(handler.getExportedKeys(metaData, "PUBLIC", "A_B"),
+                FOREIGN_KEY_INDEXES))
+                .as("Exported keys of A_B.")
+                .isEqualTo(read(metaData.getExportedKeys(null, "PUBLIC", "A_B"),
+                        FOREIGN_KEY_INDEXES))
+                .hasSize(1);
+    }
+
+    @Test
+    void testGetTables_unscoped_excludesInformationSchema() throws Exception
+    {
+        assertThat(read(handler.getTables(metaData, null, new String[] {"TABLE"}),
+                new int[] {2, 3}))
+                .as("Tables of all schemas.")
+                .containsExactly("PUBLIC|AXB", "PUBLIC|A_B", "PUBLIC|PARENT");
+    }
+
+    @Test
+    void testTableExists_withUnderscore_matchesOnlyItself() throws Exception
+    {
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute("DROP TABLE AXB");
+        }
+
+        assertThat(handler.tableExists(metaData, "PUBLIC", "A_B")).as("A_B exists.").isTrue();
+        assertThat(handler.tableExists(metaData, "PUBLIC", "AXB")).as("AXB dropped.")
+                .isFalse();
+    }
+
+    @Test
+    void testCreateDataSet_withPrefetch_readsMetadataAndOrdersTables() throws Exception
+    {
+        connection.getConfig().setProperty(DatabaseConfig.PROPERTY_METADATA_HANDLER, handler);
+        connection.getConfig().setFeature(DatabaseConfig.FEATURE_PREFETCH_METADATA, true);
+
+        final IDataSet dataSet = connection.createDataSet();
+
+        assertThat(Columns.getColumnNames(dataSet.getTableMetaData("PARENT").getPrimaryKeys()))
+                .as("Primary key of PARENT in key order.")
+                .containsExactly("CODE", "ID");
+        assertThat(new DatabaseSequenceFilter(connection).getTableNames(dataSet))
+                .as("Tables ordered by foreign keys.")
+                .containsExactly("PARENT", "A_B", "AXB");
+    }
+
+    /**
+     * Reads the given columns of every row, joined by <code>|</code>.
+     */
+    private static List<String> read(final ResultSet resultSet, final int[] indexes)
+            throws Exception
+    {
+        final List<String> rows = new ArrayList<>();
+        try
+        {
+            while (resultSet.next())
+            {
+                final StringBuilder row = new StringBuilder();
+                for (final int index : indexes)
+                {
+                    row.append(row.length() == 0 ? "" : "|").append(resultSet.getString(index));
+                }
+                rows.add(row.toString());
+            }
+        }
+        finally
+        {
+            resultSet.close();
+        }
+        return rows;
+    }
+}
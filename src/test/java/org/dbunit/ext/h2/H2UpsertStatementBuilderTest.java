@@ -0,0 +1,139 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.h2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.operation.DatabaseOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link H2UpsertStatementBuilder}, including a
+ * {@link DatabaseOperation#REFRESH} run against a real H2 in-memory database.
+ *
+ * @since 3.6.0
+ */
+class H2UpsertStatementBuilderTest
+{
+    private final H2UpsertStatementBuilder builder = new H2UpsertStatementBuilder();
+
+    private IDatabaseConnection connection;
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        if (connection != null)
+        {
+            connection.close();
+        }
+    }
+
+    @Test
+    void testBuildUpsertStatement_withKeyAndValueColumns_returnsMergeKeyStatement()
+    {
+        final String actual = builder.buildUpsertStatement("S.T",
+                new String[] {"ID", "NAME"}, new String[] {"ID"});
+
+        assertThat(actual).as("H2 merge statement.")
+                .isEqualTo("merge into S.T (ID, NAME) key (ID) values (?, ?)");
+    }
+
+    @Test
+    void testRefresh_withUpsertBuilderConfigured_updatesExistingAndInsertsNewRows()
+            throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        final Statement stmt = connection.getConnection().createStatement();
+        stmt.execute("CREATE TABLE T (ID INT PRIMARY KEY, NAME VARCHAR(20), AMOUNT INT)");
+        stmt.execute("INSERT INTO T VALUES (1, 'old', 5)");
+        stmt.execute("INSERT INTO T VALUES (3, 'untouched', 7)");
+        stmt.close();
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_UPSERT_STATEMENT_BUILDER, builder);
+
+        final DefaultTable table = new DefaultTable("T",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR),
+                        new Column("AMOUNT", DataType.INTEGER)});
+        table.addRow(new Object[] {"1", "new", "10"});
+        table.addRow(new Object[] {"2", "two", "20"});
+
+        DatabaseOperation.REFRESH.execute(connection, new DefaultDataSet(table));
+
+        assertThat(readRows()).as("Existing row updated, new row inserted,"
+                + " row absent from the dataset left alone.")
+                .containsExactly("1,new,10", "2,two,20", "3,untouched,7");
+    }
+
+    @Test
+    void testRefresh_withGroupedRowsAndRepeatedKey_lastRowWins() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        final Statement stmt = connection.getConnection().createStatement();
+        stmt.execute("CREATE TABLE T (ID INT PRIMARY KEY, NAME VARCHAR(20), AMOUNT INT)");
+        stmt.close();
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_UPSERT_STATEMENT_BUILDER, builder);
+        connection.getConfig().setFeature(DatabaseConfig.FEATURE_GROUP_INSERT_ROWS, true);
+
+        final DefaultTable table = new DefaultTable("T",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR),
+                        new Column("AMOUNT", DataType.INTEGER)});
+        table.addRow(new Object[] {"2", "two", ITable.NO_VALUE});
+        table.addRow(new Object[] {"1", "first", "10"});
+        table.addRow(new Object[] {"1", "last", ITable.NO_VALUE});
+
+        DatabaseOperation.REFRESH.execute(connection, new DefaultDataSet(table));
+
+        assertThat(readRows()).as("Rows executed in dataset order.")
+                .containsExactly("1,last,10", "2,two,0");
+    }
+
+    private List<String> readRows() throws Exception
+    {
+        final List<String> rows = new ArrayList<>();
+        try (Statement stmt = connection.getConnection().createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT * FROM T ORDER BY ID"))
+        {
+            while (rs.next())
+            {
+                rows.add(rs.getInt(1) + "," + rs.getString(2) + "," + rs.getInt(3));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.hsqldb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.ITable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link HsqldbTruncateOperation} against a real HSQLDB in-memory
+ * database.
+ *
+ * @since 3.6.0
+ */
+class HsqldbTruncateOperationTest
+{
+    private IDatabaseConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = new HsqldbConnection(DriverManager.getConnection(
+                "jdbc:hsqldb:mem:truncate", "sa", ""), "PUBLIC");
+        execute("CREATE TABLE PARENT (ID INT PRIMARY KEY)");
+        execute("CREATE TABLE CHILD (ID INT PRIMARY KEY,"
+                + " PARENT_ID INT REFERENCES PARENT(ID))");
+        execute("INSERT INTO PARENT VALUES (1)");
+        execute("INSERT INTO CHILD VALUES (1, 1)");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        execute("DROP SCHEMA PUBLIC CASCADE");
+        connection.close();
+    }
+
+    @Test
+    void testExecute_withReferencedTable_truncatesWithoutCheck()
+            throws Exception
+    {
+        HsqldbTruncateOperation.TRUNCATE.execute(connection,
+                new DefaultDataSet(new ITable[] {new DefaultTable("PARENT"),
+                        new DefaultTable("CHILD")}));
+
+        assertThat(count("PARENT") + count("CHILD"))
+                .as("Both tables emptied.").isZero();
+        assertThatThrownBy(() -> execute("INSERT INTO CHILD VALUES (2, 9)"))
+                .as("Foreign keys still enforced.")
+                .isInstanceOf(SQLException.class);
+    }
+
+    private void execute(final String sql) throws Exception
+    {
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute(sql);
+        }
+    }
+
+    private int count(final String tableName) throws Exception
+    {
+        try (Statement stmt = connection.getConnection().createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + tableName))
+        {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.hsqldb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.operation.DatabaseOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HsqldbUpsertStatementBuilder}, including a
+ * {@link DatabaseOperation#REFRESH} run against a real HSQLDB in-memory
+ * database.
+ *
+ * @since 3.6.0
+ */
+class HsqldbUpsertStatementBuilderTest
+{
+    private final HsqldbUpsertStatementBuilder builder =
+            new HsqldbUpsertStatementBuilder();
+
+    private IDatabaseConnection connection;
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        if (connection != null)
+        {
+            connection.getConnection().createStatement().execute("SHUTDOWN");
+            connection.close();
+        }
+    }
+
+    @Test
+    void testBuildUpsertStatement_withKeyAndValueColumns_returnsMergeStatement()
+    {
+        final String actual = builder.buildUpsertStatement("S.T",
+                new String[] {"ID", "NAME"}, new String[] {"ID"});
+
+        assertThat(actual).as("HSQLDB merge statement.")
+                .isEqualTo("merge into S.T as t using (values (?, ?)) as s (ID, NAME)"
+                        + " on (t.ID = s.ID)"
+                        + " when matched then update set NAME = s.NAME"
+                        + " when not matched then insert (ID, NAME) values (s.ID, s.NAME)");
+    }
+
+    @Test
+    void testBuildUpsertStatement_withOnlyKeyColumns_omitsUpdateClause()
+    {
+        final String actual = builder.buildUpsertStatement("T",
+                new String[] {"A", "B"}, new String[] {"A", "B"});
+
+        assertThat(actual).as("Nothing to update when every column is a key.")
+                .isEqualTo("merge into T as t using (values (?, ?)) as s (A, B)"
+                        + " on (t.A = s.A and t.B = s.B)"
+                        + " when not matched then insert (A, B) values (s.A, s.B)");
+    }
+
+    @Test
+    void testRefresh_withUpsertBuilderConfigured_updatesExistingAndInsertsNewRows()
+            throws Exception
+    {
+        connection = new HsqldbConnection(
+                DriverManager.getConnection("jdbc:hsqldb:mem:upsert", "sa", ""),
+                "PUBLIC");
+        final Statement stmt = connection.getConnection().createStatement();
+        stmt.execute("CREATE TABLE T (ID INT PRIMARY KEY, NAME VARCHAR(20),"
+                + " AMOUNT INT DEFAULT 99)");
+        stmt.execute("INSERT INTO T VALUES (1, 'old', 5)");
+        stmt.close();
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_UPSERT_STATEMENT_BUILDER, builder);
+
+        final DefaultTable table = new DefaultTable("T",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR),
+                        new Column("AMOUNT", DataType.INTEGER)});
+        table.addRow(new Object[] {"1", "new", ITable.NO_VALUE});
+        table.addRow(new Object[] {"2", "two", "20"});
+        table.addRow(new Object[] {"3", "three", ITable.NO_VALUE});
+
+        DatabaseOperation.REFRESH.execute(connection, new DefaultDataSet(table));
+
+        assertThat(readRows()).as("Omitted columns keep their value on update"
+                + " and take their default on insert.")
+                .containsExactly("1,new,5", "2,two,20", "3,three,99");
+    }
+
+    private List<String> readRows() throws Exception
+    {
+        final List<String> rows = new ArrayList<>();
+        try (Statement stmt = connection.getConnection().createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT * FROM T ORDER BY ID"))
+        {
+            while (rs.next())
+            {
+                rows.add(rs.getInt(1) + "," + rs.getString(2) + "," + rs.getInt(3));
+            }
+        }
+        return rows;
+    }
+}
@@ -37,7 +37,6 @@ import org.dbunit.dataset.LowerCaseDataSet;
 import org.dbunit.dataset.filter.IColumnFilter;
 import org.dbunit.dataset.xml.FlatXmlDataSetBuilder;
 import org.dbunit.dataset.xml.XmlDataSet;
-import org.dbunit.operation.DatabaseOperation;
 import org.dbunit.testutil.TestUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
@@ -180,10 +179,8 @@ class InsertIdentityOperationIT extends AbstractDatabaseIT
             final IDataSet dataSet = _connection.createDataSet();
             final ITable table = dataSet.getTable("IDENTITY_TABLE");
 
-            InsertIdentityOperation op =
-                    new InsertIdentityOperation(DatabaseOperation.INSERT);
-            boolean hasIdentityColumn =
-                    op.hasIdentityColumn(table.getTableMetaData(), _connection);
+            boolean hasIdentityColumn = InsertIdentityOperation
+                    .hasIdentityColumn(table.getTableMetaData(), _connection);
             assertThat(hasIdentityColumn).as("Identity column recognized")
                     .isFalse();
 
@@ -191,9 +188,8 @@ class InsertIdentityOperationIT extends AbstractDatabaseIT
             // default identityColumnFilter
             _connection.getConfig().setProperty(
                     DatabaseConfig.PROPERTY_IDENTITY_COLUMN_FILTER, null);
-            op = new InsertIdentityOperation(DatabaseOperation.INSERT);
-            hasIdentityColumn =
-                    op.hasIdentityColumn(table.getTableMetaData(), _connection);
+            hasIdentityColumn = InsertIdentityOperation
+                    .hasIdentityColumn(table.getTableMetaData(), _connection);
             assertThat(hasIdentityColumn).as("Identity column not recognized")
                     .isTrue();
         } finally
@@ -0,0 +1,226 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.mssql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MsSqlBulkInsertOperation} and
+ * {@link MsSqlBulkRecord}, with a mocked driver.
+ *
+ * @since 3.6.0
+ */
+class MsSqlBulkInsertOperationTest
+{
+    private MockDatabaseConnection connection;
+
+    private Connection jdbcConnection;
+
+    private PreparedStatement statement;
+
+    /**
+     * Stands in for the driver's <code>ISQLServerBulkRecord</code>.
+     */
+    public interface BulkRecord
+    {
+        Set<Integer> getColumnOrdinals();
+
+        String getColumnName(int column);
+
+        int getColumnType(int column);
+
+        boolean next() throws SQLException;
+
+        Object[] getRowData() throws SQLException;
+
+        void setTimestampWithTimezoneFormat(String format);
+
+        boolean isAutoIncrement(int column);
+
+        DateTimeFormatter getColumnDateTimeFormatter(int column);
+
+        String getUnknownProperty();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        statement = mock(PreparedStatement.class);
+        jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.prepareStatement(anyString()))
+                .thenReturn(statement);
+
+        connection = new MockDatabaseConnection();
+        connection.setupConnection(jdbcConnection);
+    }
+
+    @Test
+    void testExecute_withIdentityColumn_togglesIdentityInsertInOneStatement()
+            throws Exception
+    {
+        final DefaultTable table = createTable("int identity");
+        table.addRow(new Object[] {"1", "a"});
+        table.addRow(new Object[] {"2", null});
+        table.addRow(new Object[] {"3", "c"});
+        connection.setupDataSet(createTable("int identity"));
+
+        MsSqlBulkInsertOperation.INSERT.execute(connection,
+                new DefaultDataSet(table));
+
+        verify(jdbcConnection).prepareStatement(
+                "set identity_insert T on; insert into T (ID, NAME)"
+                        + " values (?, ?), (?, ?), (?, ?);"
+                        + " set identity_insert T off");
+        verify(statement, times(1)).executeUpdate();
+        verify(statement).setInt(3, 2);
+        verify(statement).setNull(4, Types.VARCHAR);
+        verify(statement).close();
+    }
+
+    @Test
+    void testExecute_withoutIdentityColumn_insertsWithoutToggles()
+            throws Exception
+    {
+        final DefaultTable table = createTable("int");
+        table.addRow(new Object[] {"1", "a"});
+        connection.setupDataSet(createTable("int"));
+
+        MsSqlBulkInsertOperation.INSERT.execute(connection,
+                new DefaultDataSet(table));
+
+        verify(jdbcConnection)
+                .prepareStatement("insert into T (ID, NAME) values (?, ?)");
+        verify(statement).executeUpdate();
+    }
+
+    @Test
+    void testExecute_withSmallBatchSize_splitsStatements() throws Exception
+    {
+        final DefaultTable table = createTable("int identity");
+        table.addRow(new Object[] {"1", "a"});
+        table.addRow(new Object[] {"2", "b"});
+        table.addRow(new Object[] {"3", "c"});
+        connection.setupDataSet(createTable("int identity"));
+        connection.getConfig().setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE,
+                2);
+
+        MsSqlBulkInsertOperation.INSERT.execute(connection,
+                new DefaultDataSet(table));
+
+        verify(jdbcConnection).prepareStatement(
+                "set identity_insert T on; insert into T (ID, NAME)"
+                        + " values (?, ?), (?, ?); set identity_insert T off");
+        verify(jdbcConnection).prepareStatement(
+                "set identity_insert T on; insert into T (ID, NAME)"
+                        + " values (?, ?); set identity_insert T off");
+        verify(statement, times(2)).executeUpdate();
+    }
+
+    @Test
+    void testExecute_bulkCopyWithoutDriver_fails() throws Exception
+    {
+        final DefaultTable table = createTable("int identity");
+        table.addRow(new Object[] {"1", "a"});
+        connection.setupDataSet(createTable("int identity"));
+
+        assertThatThrownBy(() -> MsSqlBulkInsertOperation.BULK_COPY
+                .execute(connection, new DefaultDataSet(table)))
+                        .as("The driver is not on the test classpath.")
+                        .isInstanceOf(DatabaseUnitException.class)
+                        .hasMessageContaining("SQLServerBulkCopy");
+        verify(jdbcConnection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void testBulkRecord_readsCastRowsAndNullForNoValue() throws Exception
+    {
+        final DefaultTable table = createTable("int identity");
+        table.addRow(new Object[] {"7", ITable.NO_VALUE});
+        final Column[] columns = table.getTableMetaData().getColumns();
+        final BulkRecord record = (BulkRecord) new MsSqlBulkRecord(table,
+                columns, new int[] {Types.INTEGER, Types.NVARCHAR},
+                new int[] {10, 20}, new int[] {0, 0})
+                        .newProxy(BulkRecord.class);
+
+        record.setTimestampWithTimezoneFormat("ignored");
+
+        assertThat(record.getColumnOrdinals()).containsExactly(1, 2);
+        assertThat(record.getColumnName(2)).isEqualTo("NAME");
+        assertThat(record.getColumnType(2)).isEqualTo(Types.NVARCHAR);
+        assertThat(record.next()).isTrue();
+        assertThat(record.getRowData()).as("Cast value, NO_VALUE as NULL.")
+                .containsExactly(7, null);
+        assertThat(record.next()).isFalse();
+    }
+
+    @Test
+    void testBulkRecord_optionalMethods_returnNeutralDefaults() throws Exception
+    {
+        final DefaultTable table = createTable("int identity");
+        final BulkRecord record = (BulkRecord) new MsSqlBulkRecord(table,
+                table.getTableMetaData().getColumns(),
+                new int[] {Types.INTEGER, Types.NVARCHAR}, new int[] {10, 20},
+                new int[] {0, 0}).newProxy(BulkRecord.class);
+
+        assertThat(record.isAutoIncrement(1)).as("Identity values supplied.")
+                .isFalse();
+        assertThat(record.getColumnDateTimeFormatter(1))
+                .as("Driver's default format.").isNull();
+        assertThatThrownBy(record::getUnknownProperty)
+                .as("Unknown methods still fail.")
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessage("getUnknownProperty");
+    }
+
+    private DefaultTable createTable(final String idTypeName)
+    {
+        return new DefaultTable("T",
+                new Column[] {
+                        new Column("ID", DataType.INTEGER, idTypeName,
+                                Column.NO_NULLS),
+                        new Column("NAME", DataType.VARCHAR)});
+    }
+}
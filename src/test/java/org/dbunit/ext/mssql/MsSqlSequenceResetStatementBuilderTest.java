@@ -0,0 +1,45 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.mssql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MsSqlSequenceResetStatementBuilder}.
+ *
+ * @since 3.6.0
+ */
+class MsSqlSequenceResetStatementBuilderTest
+{
+    private final MsSqlSequenceResetStatementBuilder builder = new MsSqlSequenceResetStatementBuilder();
+
+    @Test
+    void testBuildIdentityResetStatement_reseedsToMax()
+    {
+        final String actual =
+                builder.buildIdentityResetStatement("dbo.O'Brien", "ID", 41);
+
+        assertThat(actual).as("Reseed value is the current identity.")
+                .isEqualTo("dbcc checkident ('dbo.O''Brien', reseed, 41)");
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.mssql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.database.statement.MultiRowInsertStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MsSqlStatementFactory}.
+ *
+ * @since 3.6.0
+ */
+class MsSqlStatementFactoryTest
+{
+    private IDatabaseConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        connection.getConfig().setFeature(DatabaseConfig.FEATURE_MULTI_ROW_INSERTS,
+                true);
+        connection.getConfig().setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE,
+                5000);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+    }
+
+    @Test
+    void testCreatePreparedInsertStatement_withLargeBatchSize_limitsRowsToThousand()
+            throws Exception
+    {
+        final IPreparedBatchStatement statement = new MsSqlStatementFactory()
+                .createPreparedInsertStatement("insert into T (A) values (?)",
+                        1, connection);
+
+        assertThat(((MultiRowInsertStatement) statement).getRowsPerStatement())
+                .as("SQL Server accepts at most 1000 rows per values list.").isEqualTo(1000);
+        statement.close();
+    }
+
+    @Test
+    void testCreatePreparedInsertStatement_withThreeParametersPerRow_limitsParametersToTwoThousand()
+            throws Exception
+    {
+        final IPreparedBatchStatement statement = new MsSqlStatementFactory()
+                .createPreparedInsertStatement("insert into T (A) values (?)",
+                        3, connection);
+
+        assertThat(((MultiRowInsertStatement) statement).getRowsPerStatement())
+                .as("Two thousand parameters at most.").isEqualTo(666);
+        statement.close();
+    }
+}
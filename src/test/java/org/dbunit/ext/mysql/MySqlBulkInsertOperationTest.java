@@ -0,0 +1,164 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.mysql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.datatype.DataType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MySqlBulkInsertOperation}, with a mocked driver
+ * statement.
+ *
+ * @since 3.6.0
+ */
+class MySqlBulkInsertOperationTest
+{
+    private static final String EXPECTED_SQL = "load data local infile"
+            + " 'dbunit.tsv' into table T character set utf8mb4"
+            + " fields terminated by '\\t' escaped by '\\\\'"
+            + " lines terminated by '\\n' (ID, NAME, @v2, @v3)"
+            + " set FLAG = cast(@v2 as unsigned), DATA = unhex(@v3)";
+
+    private final List<String> loaded = new ArrayList<>();
+
+    private MockDatabaseConnection connection;
+
+    private LocalInfileStatement statement;
+
+    /**
+     * Stands in for the Connector/J and MariaDB statements.
+     */
+    public abstract static class LocalInfileStatement implements Statement
+    {
+        public abstract void setLocalInfileInputStream(InputStream stream);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        statement = mock(LocalInfileStatement.class);
+        doAnswer(invocation -> {
+            final InputStream stream = invocation.getArgument(0);
+            if (stream != null)
+            {
+                final byte[] bytes = new byte[stream.available()];
+                stream.read(bytes);
+                loaded.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+            return null;
+        }).when(statement).setLocalInfileInputStream(any());
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.createStatement()).thenReturn(statement);
+
+        connection = new MockDatabaseConnection();
+        connection.setupConnection(jdbcConnection);
+        connection.setupDataSet(createTable());
+    }
+
+    @Test
+    void testExecute_withValues_loadsEscapedTextRows() throws Exception
+    {
+        final DefaultTable table = createTable();
+        table.addRow(new Object[] {"1", "line\nbreak", "true",
+                new byte[] {(byte) 0xab}});
+        table.addRow(new Object[] {"2", null, "false", null});
+
+        MySqlBulkInsertOperation.INSERT.execute(connection,
+                new DefaultDataSet(table));
+
+        verify(statement).execute(EXPECTED_SQL);
+        verify(statement).close();
+        assertThat(loaded).as("One chunk, booleans as 1/0, hex binary.")
+                .containsExactly("1\tline\\nbreak\t1\tab\n2\t\\N\t0\t\\N\n");
+    }
+
+    @Test
+    void testExecute_withSmallChunkSize_loadsInSeveralStatements()
+            throws Exception
+    {
+        final DefaultTable table = createTable();
+        table.addRow(new Object[] {"1", "a", "true", null});
+        table.addRow(new Object[] {"2", "b", "true", null});
+
+        new MySqlBulkInsertOperation(1).execute(connection,
+                new DefaultDataSet(table));
+
+        verify(statement, times(2)).execute(EXPECTED_SQL);
+        assertThat(loaded).as("One chunk per row.")
+                .containsExactly("1\ta\t1\t\\N\n", "2\tb\t1\t\\N\n");
+    }
+
+    @Test
+    void testUnwrap_withPooledStatement_returnsDriverStatement()
+            throws Exception
+    {
+        final Statement pooled = mock(Statement.class);
+        when(pooled.isWrapperFor(LocalInfileStatement.class)).thenReturn(true);
+        when(pooled.unwrap(LocalInfileStatement.class)).thenReturn(statement);
+
+        assertThat(MySqlBulkInsertOperation.unwrap(pooled,
+                "com.example.MissingStatement",
+                LocalInfileStatement.class.getName()))
+                        .as("Driver statement behind the pool.")
+                        .isSameAs(statement);
+    }
+
+    @Test
+    void testUnwrap_withoutDriverStatement_returnsStatement() throws Exception
+    {
+        final Statement other = mock(Statement.class);
+
+        assertThat(MySqlBulkInsertOperation.unwrap(other,
+                LocalInfileStatement.class.getName()))
+                        .as("Statement wrapping no driver statement.")
+                        .isSameAs(other);
+    }
+
+    private DefaultTable createTable()
+    {
+        return new DefaultTable("T",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR),
+                        new Column("FLAG", DataType.BIT),
+                        new Column("DATA", DataType.VARBINARY)});
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.mysql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MySqlInformationSchemaMetadataHandler}, mocking the catalog query: the
+ * rows are shaped like the driver's, with the database reported as the catalog.
+ *
+ * @since 3.6.0
+ */
+class MySqlInformationSchemaMetadataHandlerTest
+{
+    private final MySqlInformationSchemaMetadataHandler handler =
+            new MySqlInformationSchemaMetadataHandler();
+
+    private DatabaseMetaData metaData;
+
+    private PreparedStatement statement;
+
+    @BeforeEach
+    void setUp() throws SQLException
+    {
+        final Connection connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        metaData = mock(DatabaseMetaData.class);
+        when(metaData.getConnection()).thenReturn(connection);
+        when(metaData.getSearchStringEscape()).thenReturn("\\");
+        when(metaData.getURL()).thenReturn("jdbc:mysql://localhost/shop");
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+    }
+
+    @Test
+    void testGetColumns_unsignedColumn_reportsDriverTypeAndCatalogAsSchema() throws SQLException
+    {
+        final ResultSet typeInfo = mockRowsResultSet(row("INT UNSIGNED", Types.INTEGER));
+        when(metaData.getTypeInfo()).thenReturn(typeInfo);
+        final ResultSet columns = mockRowsResultSet(row("shop", null, "order_item", "qty",
+                "INT UNSIGNED", 10L, 0L, "NO", "", null, 1L, "YES", "NO"));
+        when(statement.executeQuery()).thenReturn(columns);
+
+        final ResultSet resultSet = handler.getColumns(metaData, "shop", "order_item");
+
+        verify(statement).setString(1, "shop");
+        verify(statement).setString(2, "order\\_item");
+        assertThat(resultSet.next()).as("one column.").isTrue();
+        assertThat(resultSet.getInt(5)).as("DATA_TYPE.").isEqualTo(Types.INTEGER);
+        assertThat(resultSet.getString(6)).as("TYPE_NAME.").isEqualTo("INT UNSIGNED");
+        assertThat(resultSet.getInt(11)).as("NULLABLE.")
+                .isEqualTo(DatabaseMetaData.columnNoNulls);
+        assertThat(resultSet.getString(23)).as("IS_AUTOINCREMENT.").isEqualTo("YES");
+        assertThat(handler.getSchema(resultSet)).as("catalog used as schema.")
+                .isEqualTo("shop");
+        assertThat(handler.matches(resultSet, null, "shop", "order_item", "qty", false))
+                .as("searched schema matches the catalog.").isTrue();
+        assertThat(resultSet.next()).as("no second column.").isFalse();
+        verify(statement).close();
+    }
+
+    @Test
+    void testGetImportedKeys_cascadeRule_reportsJdbcRule() throws SQLException
+    {
+        final ResultSet keys = mockRowsResultSet(row("shop", null, "orders", "id", "shop", null,
+                "order_item", "order_id", 1L, "NO ACTION", "CASCADE", "fk_item_order",
+                "PRIMARY"));
+        when(statement.executeQuery()).thenReturn(keys);
+
+        final ResultSet resultSet = handler.getImportedKeys(metaData, "shop", "order_item");
+
+        assertThat(resultSet.next()).as("one key column.").isTrue();
+        assertThat(resultSet.getString(3)).as("PKTABLE_NAME.").isEqualTo("orders");
+        assertThat(resultSet.getInt(10)).as("UPDATE_RULE.")
+                .isEqualTo(DatabaseMetaData.importedKeyNoAction);
+        assertThat(resultSet.getInt(11)).as("DELETE_RULE.")
+                .isEqualTo(DatabaseMetaData.importedKeyCascade);
+        assertThat(resultSet.getInt(14)).as("DEFERRABILITY.")
+                .isEqualTo(DatabaseMetaData.importedKeyNotDeferrable);
+    }
+
+    @Test
+    void testGetTables_withTableType_keepsOnlyThatType() throws SQLException
+    {
+        final ResultSet tables = mockRowsResultSet(
+                row("shop", null, "orders", "TABLE", ""),
+                row("shop", null, "order_view", "VIEW", ""));
+        when(statement.executeQuery()).thenReturn(tables);
+
+        final ResultSet resultSet = handler.getTables(metaData, null, new String[] {"TABLE"});
+
+        verify(statement).setString(1, "%");
+        assertThat(resultSet.next()).as("the table.").isTrue();
+        assertThat(resultSet.getString(3)).as("TABLE_NAME.").isEqualTo("orders");
+        assertThat(resultSet.next()).as("no view.").isFalse();
+    }
+
+    private static Object[] row(final Object... values)
+    {
+        return values;
+    }
+
+    /**
+     * Mocks a {@link ResultSet} over the given rows, driven by {@code next()},
+     * {@code getObject(int)}, {@code getString(int)} and {@code getInt(int)}.
+     */
+    private static ResultSet mockRowsResultSet(final Object[]... rows) throws SQLException
+    {
+        final ResultSet resultSet = mock(ResultSet.class);
+        final AtomicInteger cursor = new AtomicInteger(-1);
+        when(resultSet.next()).thenAnswer(invocation -> cursor.incrementAndGet() < rows.length);
+        when(resultSet.getObject(anyInt())).thenAnswer(invocation -> {
+            final int columnIndex = invocation.getArgument(0);
+            return rows[cursor.get()][columnIndex - 1];
+        });
+        when(resultSet.getString(anyInt())).thenAnswer(invocation -> {
+            final int columnIndex = invocation.getArgument(0);
+            final Object value = rows[cursor.get()][columnIndex - 1];
+            return value == null ? null : String.valueOf(value);
+        });
+        when(resultSet.getInt(anyInt())).thenAnswer(invocation -> {
+            final int columnIndex = invocation.getArgument(0);
+            return ((Number) rows[cursor.get()][columnIndex - 1]).intValue();
+        });
+        return resultSet;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.mysql;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.database.statement.IBatchStatement;
+import org.dbunit.database.statement.MockStatementFactory;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+/**
+ * Unit tests for {@link MySqlTruncateOperation} using mock objects.
+ *
+ * @since 3.6.0
+ */
+class MySqlTruncateOperationTest
+{
+    private IDataSet dataSet;
+
+    private Statement statement;
+
+    private MockDatabaseConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        dataSet = new DefaultDataSet(new ITable[] {new DefaultTable("PARENT"),
+                new DefaultTable("CHILD")});
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(1);
+        statement = mock(Statement.class);
+        when(statement.executeQuery("select @@foreign_key_checks"))
+                .thenReturn(resultSet);
+        final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn("MariaDB");
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.getMetaData()).thenReturn(metaData);
+        when(jdbcConnection.createStatement()).thenReturn(statement);
+
+        connection = new MockDatabaseConnection();
+        connection.setupConnection(jdbcConnection);
+        connection.setupDataSet(dataSet);
+        connection.setupSchema("schema");
+    }
+
+    @Test
+    void testExecute_withTables_truncatesWithForeignKeyChecksDisabled()
+            throws Exception
+    {
+        final MockStatementFactory factory = MockStatementFactory.forSingleBatch(
+                "truncate table schema.CHILD", "truncate table schema.PARENT");
+        connection.setupStatementFactory(factory);
+
+        MySqlTruncateOperation.TRUNCATE.execute(connection, dataSet);
+
+        factory.getBatchStatement().verify();
+        final InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).execute("set foreign_key_checks = 0");
+        inOrder.verify(statement).execute("set foreign_key_checks = 1");
+    }
+
+    @Test
+    void testExecute_whenTruncateFails_restoresForeignKeyChecks()
+            throws Exception
+    {
+        final IBatchStatement batchStatement = mock(IBatchStatement.class);
+        doThrow(new SQLException("locked")).when(batchStatement).executeBatch();
+        final MockStatementFactory factory = new MockStatementFactory();
+        factory.setupStatement(batchStatement);
+        connection.setupStatementFactory(factory);
+
+        assertThatThrownBy(() -> MySqlTruncateOperation.TRUNCATE
+                .execute(connection, dataSet))
+                .as("Truncate failure reported.")
+                .isInstanceOf(SQLException.class).hasMessage("locked");
+
+        final InOrder inOrder = inOrder(statement);
+        inOrder.verify(statement).execute("set foreign_key_checks = 0");
+        inOrder.verify(statement).execute("set foreign_key_checks = 1");
+    }
+}
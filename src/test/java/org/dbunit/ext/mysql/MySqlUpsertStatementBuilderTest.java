@@ -0,0 +1,57 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.mysql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MySqlUpsertStatementBuilder}.
+ *
+ * @since 3.6.0
+ */
+class MySqlUpsertStatementBuilderTest
+{
+    private final MySqlUpsertStatementBuilder builder = new MySqlUpsertStatementBuilder();
+
+    @Test
+    void testBuildUpsertStatement_withKeyAndValueColumns_returnsOnDuplicateKeyUpdate()
+    {
+        final String actual = builder.buildUpsertStatement("S.T",
+                new String[] {"ID", "NAME", "AMOUNT"}, new String[] {"ID"});
+
+        assertThat(actual).as("MySQL upsert statement.")
+                .isEqualTo("insert into S.T (ID, NAME, AMOUNT) values (?, ?, ?)"
+                        + " on duplicate key update NAME = values(NAME), AMOUNT = values(AMOUNT)");
+    }
+
+    @Test
+    void testBuildUpsertStatement_withOnlyKeyColumns_assignsFirstKeyToItself()
+    {
+        final String actual = builder.buildUpsertStatement("T",
+                new String[] {"A", "B"}, new String[] {"A", "B"});
+
+        assertThat(actual).as("A no-op assignment keeps existing rows untouched.")
+                .isEqualTo("insert into T (A, B) values (?, ?) on duplicate key update A = values(A)");
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.oracle;
+
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.operation.DatabaseOperation;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+/**
+ * Unit tests for {@link OracleIndexSuspendingOperation} using mock objects.
+ *
+ * @since 3.6.0
+ */
+class OracleIndexSuspendingOperationTest
+{
+    @Test
+    void testExecute_onOracle_marksIndexesUnusableAndRebuildsThem()
+            throws Exception
+    {
+        final IDataSet dataSet = new DefaultDataSet(new DefaultTable("ORDERS"));
+        final Statement statement = mock(Statement.class);
+        final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn("Oracle");
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.getMetaData()).thenReturn(metaData);
+        when(jdbcConnection.getAutoCommit()).thenReturn(true);
+        when(jdbcConnection.createStatement()).thenReturn(statement);
+        final PreparedStatement triggers = createQuery("APP", "ORDERS_BI");
+        when(jdbcConnection.prepareStatement(contains("all_triggers")))
+                .thenReturn(triggers);
+        final PreparedStatement indexes = createQuery("APP", "ORDERS_DATE");
+        when(jdbcConnection.prepareStatement(contains("all_indexes")))
+                .thenReturn(indexes);
+        final MockDatabaseConnection connection = new MockDatabaseConnection();
+        connection.setupConnection(jdbcConnection);
+        connection.setupDataSet(dataSet);
+        connection.setupSchema("APP");
+        final DatabaseOperation operation = mock(DatabaseOperation.class);
+
+        new OracleIndexSuspendingOperation(operation).execute(connection,
+                dataSet);
+
+        final InOrder inOrder = inOrder(statement, operation);
+        inOrder.verify(statement)
+                .execute("alter trigger \"APP\".\"ORDERS_BI\" disable");
+        inOrder.verify(statement)
+                .execute("alter index \"APP\".\"ORDERS_DATE\" unusable");
+        inOrder.verify(operation).execute(connection, dataSet);
+        inOrder.verify(statement)
+                .execute("alter index \"APP\".\"ORDERS_DATE\" rebuild");
+        inOrder.verify(statement)
+                .execute("alter trigger \"APP\".\"ORDERS_BI\" enable");
+        verify(indexes).setString(1, "APP");
+        verify(indexes).setString(2, "ORDERS");
+    }
+
+    private static PreparedStatement createQuery(final String... row)
+            throws SQLException
+    {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        for (int i = 0; i < row.length; i++)
+        {
+            when(resultSet.getString(i + 1)).thenReturn(row[i]);
+        }
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        return statement;
+    }
+}
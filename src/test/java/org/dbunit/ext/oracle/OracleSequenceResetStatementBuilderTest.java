@@ -0,0 +1,121 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.oracle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.dbunit.database.IDatabaseConnection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link OracleSequenceResetStatementBuilder}.
+ *
+ * @since 3.6.0
+ */
+class OracleSequenceResetStatementBuilderTest
+{
+    private final OracleSequenceResetStatementBuilder builder = new OracleSequenceResetStatementBuilder();
+
+    @Test
+    void testBuildIdentityResetStatement_alwaysColumn_keepsGenerationMode()
+            throws Exception
+    {
+        final IDatabaseConnection connection = mockGeneration("always");
+
+        assertThat(builder.buildIdentityResetStatement(connection, "T", "ID",
+                "S.T", "ID", 41))
+                        .isEqualTo("alter table S.T modify (ID generated always"
+                                + " as identity (start with limit value))");
+        final PreparedStatement statement =
+                connection.getConnection().prepareStatement("");
+        verify(statement).setString(1, "S");
+        verify(statement).setString(2, "T");
+        verify(statement).setString(3, "ID");
+    }
+
+    @Test
+    void testBuildIdentityResetStatement_defaultOnNullColumn_keepsGenerationMode()
+            throws Exception
+    {
+        assertThat(builder.buildIdentityResetStatement(
+                mockGeneration("by default on null"), "T", "ID", "S.T", "ID", 41))
+                        .isEqualTo("alter table S.T modify (ID generated by"
+                                + " default on null as identity"
+                                + " (start with limit value))");
+    }
+
+    @Test
+    void testBuildIdentityResetStatement_notIdentityColumn_fails()
+            throws Exception
+    {
+        final IDatabaseConnection connection = mockGeneration(null);
+
+        assertThatThrownBy(() -> builder.buildIdentityResetStatement(connection,
+                "T", "NAME", "S.T", "NAME", 41))
+                        .isInstanceOf(SQLException.class)
+                        .hasMessageContaining("T.NAME");
+    }
+
+    @Test
+    void testBuildIdentityResetStatement_withoutConnection_generatesByDefault()
+    {
+        assertThat(builder.buildIdentityResetStatement("S.T", "ID", 41))
+                .isEqualTo("alter table S.T modify (ID generated by default"
+                        + " as identity (start with limit value))");
+    }
+
+    @Test
+    void testBuildSequenceResetStatement_restartsStartWith()
+    {
+        assertThat(builder.buildSequenceResetStatement("S.SEQ", 41))
+                .isEqualTo("alter sequence S.SEQ restart start with 42");
+    }
+
+    /**
+     * Mocks a connection to schema <code>S</code> whose generation mode query
+     * returns the given mode, or no row for <code>null</code>.
+     */
+    private static IDatabaseConnection mockGeneration(final String generation)
+            throws SQLException
+    {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(generation != null);
+        when(resultSet.getString(1)).thenReturn(generation);
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.prepareStatement(anyString())).thenReturn(statement);
+        final IDatabaseConnection connection = mock(IDatabaseConnection.class);
+        when(connection.getConnection()).thenReturn(jdbcConnection);
+        when(connection.getSchema()).thenReturn("S");
+        return connection;
+    }
+}
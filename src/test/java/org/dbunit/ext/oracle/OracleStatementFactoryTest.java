@@ -0,0 +1,223 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.oracle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.operation.DatabaseOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import oracle.jdbc.OracleBlob;
+import oracle.jdbc.OraclePreparedStatement;
+
+/**
+ * Unit tests for {@link OracleStatementFactory},
+ * {@link OraclePreparedBatchStatement} and {@link OracleInsertOperation},
+ * with a mocked driver.
+ *
+ * @since 3.6.0
+ */
+class OracleStatementFactoryTest
+{
+    private static final String SQL = "insert into T (A) values (?)";
+
+    private MockDatabaseConnection connection;
+
+    private Connection jdbcConnection;
+
+    private PreparedStatement statement;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        statement = mock(PreparedStatement.class);
+        when(statement.executeBatch()).thenReturn(new int[] {1, 1});
+        jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.prepareStatement(anyString()))
+                .thenReturn(statement);
+        when(jdbcConnection.getAutoCommit()).thenReturn(true);
+
+        connection = new MockDatabaseConnection();
+        connection.setupConnection(jdbcConnection);
+    }
+
+    @Test
+    void testCreatePreparedInsertStatement_withBatchSize_executesArraysOfBatchSize()
+            throws Exception
+    {
+        final IPreparedBatchStatement batch = new OracleStatementFactory(2,
+                false).createPreparedInsertStatement(SQL, 1, connection);
+        addRows(batch, 5);
+        batch.executeBatch();
+        batch.close();
+
+        verify(jdbcConnection).prepareStatement(SQL);
+        verify(statement, times(5)).addBatch();
+        verify(statement, times(3)).executeBatch();
+        verify(statement).close();
+    }
+
+    @Test
+    void testCreatePreparedInsertStatement_appendValuesWithoutAutoCommit_executesOneArray()
+            throws Exception
+    {
+        when(jdbcConnection.getAutoCommit()).thenReturn(false);
+
+        final IPreparedBatchStatement batch = new OracleStatementFactory(2,
+                true).createPreparedInsertStatement(SQL, 1, connection);
+        addRows(batch, 5);
+        batch.executeBatch();
+
+        verify(jdbcConnection).prepareStatement(
+                "insert /*+ append_values */ into T (A) values (?)");
+        verify(statement, times(1)).executeBatch();
+    }
+
+    @Test
+    void testCreatePreparedInsertStatement_appendValuesWithAutoCommit_executesArraysOfBatchSize()
+            throws Exception
+    {
+        final IPreparedBatchStatement batch = new OracleStatementFactory(2,
+                true).createPreparedInsertStatement(SQL, 1, connection);
+        addRows(batch, 3);
+        batch.executeBatch();
+
+        verify(statement, times(2)).executeBatch();
+    }
+
+    @Test
+    void testExecuteBatch_withTemporaryLob_freesLobAfterExecution()
+            throws Exception
+    {
+        final OracleBlob temporary = mock(OracleBlob.class);
+        when(temporary.isTemporary()).thenReturn(true);
+        final OracleBlob permanent = mock(OracleBlob.class);
+        final DataType dataType = mock(DataType.class);
+        doAnswer(invocation -> {
+            final PreparedStatement binder = invocation.getArgument(2);
+            binder.setObject(invocation.getArgument(1),
+                    invocation.getArgument(0));
+            return null;
+        }).when(dataType).setSqlValue(any(), anyInt(), any());
+
+        final IPreparedBatchStatement batch = new OracleStatementFactory()
+                .createPreparedInsertStatement(SQL, 1, connection);
+        batch.addValue(temporary, dataType);
+        batch.addBatch();
+        batch.addValue(permanent, dataType);
+        batch.addBatch();
+
+        verify(statement).setObject(1, temporary);
+        verify(temporary, never()).free();
+        batch.executeBatch();
+        verify(temporary).free();
+        verify(permanent, never()).free();
+    }
+
+    @Test
+    void testExecuteBatch_withSdoGeometry_bindsThroughOracleStatement()
+            throws Exception
+    {
+        final OraclePreparedStatement oracleStatement =
+                mock(OraclePreparedStatement.class);
+        when(oracleStatement.executeBatch()).thenReturn(new int[] {1});
+        when(jdbcConnection.prepareStatement(anyString()))
+                .thenReturn(oracleStatement);
+        final OracleSdoGeometry geometry = new OracleSdoGeometry(
+                new BigDecimal(2001), null, null, null, null);
+
+        final IPreparedBatchStatement batch = new OracleStatementFactory()
+                .createPreparedInsertStatement(SQL, 1, connection);
+        batch.addValue(geometry,
+                OracleDataTypeFactory.ORACLE_SDO_GEOMETRY_TYPE);
+        batch.addBatch();
+        batch.executeBatch();
+
+        verify(oracleStatement).setORAData(1, geometry);
+        verify(oracleStatement).executeBatch();
+    }
+
+    @Test
+    void testExecute_decoratedOperation_usesFactoryWithoutChangingSharedConfig()
+            throws Exception
+    {
+        final DatabaseConfig config = connection.getConfig();
+        final Object original =
+                config.getProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY);
+        final OracleStatementFactory factory = new OracleStatementFactory();
+        final AtomicReference<Object> used = new AtomicReference<>();
+        final AtomicReference<Object> shared = new AtomicReference<>();
+        final DatabaseOperation operation = mock(DatabaseOperation.class);
+        doAnswer(invocation -> {
+            final IDatabaseConnection decorated = invocation.getArgument(0);
+            used.set(decorated.getConfig().getProperty(
+                    DatabaseConfig.PROPERTY_STATEMENT_FACTORY));
+            shared.set(config.getProperty(
+                    DatabaseConfig.PROPERTY_STATEMENT_FACTORY));
+            return null;
+        }).when(operation).execute(any(), any());
+
+        final IDataSet dataSet = new DefaultDataSet();
+        new OracleInsertOperation(operation, factory).execute(connection,
+                dataSet);
+
+        verify(operation).execute(any(), eq(dataSet));
+        assertThat(used.get()).as("Factory during the operation.")
+                .isSameAs(factory);
+        assertThat(shared.get()).as("Shared config during the operation.")
+                .isSameAs(original);
+        assertThat(config.getProperty(DatabaseConfig.PROPERTY_STATEMENT_FACTORY))
+                .as("Shared config afterwards.").isSameAs(original);
+    }
+
+    private void addRows(final IPreparedBatchStatement batch, final int rows)
+            throws Exception
+    {
+        for (int i = 0; i < rows; i++)
+        {
+            batch.addValue(i, DataType.INTEGER);
+            batch.addBatch();
+        }
+    }
+}
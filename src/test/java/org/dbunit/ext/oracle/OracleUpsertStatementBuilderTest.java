@@ -0,0 +1,62 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.oracle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link OracleUpsertStatementBuilder}.
+ *
+ * @since 3.6.0
+ */
+class OracleUpsertStatementBuilderTest
+{
+    private final OracleUpsertStatementBuilder builder = new OracleUpsertStatementBuilder();
+
+    @Test
+    void testBuildUpsertStatement_withKeyAndValueColumns_returnsMergeFromDual()
+    {
+        final String actual = builder.buildUpsertStatement("S.T",
+                new String[] {"ID", "NAME", "AMOUNT"}, new String[] {"ID"});
+
+        assertThat(actual).as("Oracle upsert statement.")
+                .isEqualTo("merge into S.T t using (select ? as ID, ? as NAME, ? as AMOUNT from dual) s"
+                        + " on (t.ID = s.ID)"
+                        + " when matched then update set NAME = s.NAME, AMOUNT = s.AMOUNT"
+                        + " when not matched then insert (ID, NAME, AMOUNT)"
+                        + " values (s.ID, s.NAME, s.AMOUNT)");
+    }
+
+    @Test
+    void testBuildUpsertStatement_withOnlyKeyColumns_omitsUpdateClause()
+    {
+        final String actual = builder.buildUpsertStatement("T",
+                new String[] {"A", "B"}, new String[] {"A", "B"});
+
+        assertThat(actual).as("Nothing to update when every column is a key.")
+                .isEqualTo("merge into T t using (select ? as A, ? as B from dual) s"
+                        + " on (t.A = s.A and t.B = s.B)"
+                        + " when not matched then insert (A, B) values (s.A, s.B)");
+    }
+}
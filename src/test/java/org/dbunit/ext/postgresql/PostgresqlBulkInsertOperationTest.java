@@ -0,0 +1,131 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.postgresql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.datatype.DataType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Unit tests for {@link PostgresqlBulkInsertOperation}, with a mocked
+ * <code>CopyManager</code>.
+ *
+ * @since 3.6.0
+ */
+class PostgresqlBulkInsertOperationTest
+{
+    private final ByteArrayOutputStream copied = new ByteArrayOutputStream();
+
+    private MockDatabaseConnection connection;
+
+    private CopyManager copyManager;
+
+    private CopyIn copyIn;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        copyIn = mock(CopyIn.class);
+        doAnswer(invocation -> {
+            copied.write((byte[]) invocation.getArgument(0),
+                    (Integer) invocation.getArgument(1),
+                    (Integer) invocation.getArgument(2));
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+        copyManager = mock(CopyManager.class);
+        when(copyManager.copyIn(any(String.class))).thenReturn(copyIn);
+        final PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+
+        connection = new MockDatabaseConnection();
+        connection.setupConnection(jdbcConnection);
+        connection.setupSchema("schema");
+        connection.setupDataSet(createTable());
+    }
+
+    @Test
+    void testExecute_withValues_copiesEscapedTextRows() throws Exception
+    {
+        final DefaultTable table = createTable();
+        table.addRow(new Object[] {"1", "tab\there\\", new byte[] {1, 2}});
+        table.addRow(new Object[] {"2", null, null});
+
+        PostgresqlBulkInsertOperation.INSERT.execute(connection,
+                new DefaultDataSet(table));
+
+        verify(copyManager).copyIn(
+                "copy schema.T (ID, NAME, DATA) from stdin");
+        verify(copyIn).endCopy();
+        assertThat(new String(copied.toByteArray(), StandardCharsets.UTF_8))
+                .as("Text format with escapes, \\N for NULL, hex bytea.")
+                .isEqualTo("1\ttab\\there\\\\\t\\\\x0102\n2\t\\N\t\\N\n");
+    }
+
+    @Test
+    void testExecute_whenCopyFails_cancelsCopy() throws Exception
+    {
+        doThrow(new SQLException("bad row")).when(copyIn).endCopy();
+        when(copyIn.isActive()).thenReturn(true);
+        final DefaultTable table = createTable();
+        table.addRow(new Object[] {"1", "a", null});
+
+        assertThatThrownBy(() -> PostgresqlBulkInsertOperation.INSERT
+                .execute(connection, new DefaultDataSet(table)))
+                .as("Failure reported with the table name.")
+                .isInstanceOf(DatabaseUnitException.class)
+                .hasMessageContaining("T");
+        verify(copyIn).cancelCopy();
+    }
+
+    private DefaultTable createTable()
+    {
+        return new DefaultTable("T",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR),
+                        new Column("DATA", DataType.VARBINARY)});
+    }
+}
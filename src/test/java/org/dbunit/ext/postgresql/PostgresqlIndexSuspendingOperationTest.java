@@ -0,0 +1,183 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.postgresql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.database.OperationStatistics;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.operation.AbstractIndexSuspendingOperation;
+import org.dbunit.operation.DatabaseOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+/**
+ * Unit tests for {@link PostgresqlIndexSuspendingOperation} using mock
+ * objects.
+ *
+ * @since 3.6.0
+ */
+class PostgresqlIndexSuspendingOperationTest
+{
+    private IDataSet dataSet;
+
+    private Statement statement;
+
+    private DatabaseOperation operation;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        dataSet = new DefaultDataSet(new ITable[] {new DefaultTable("PARENT"),
+                new DefaultTable("CHILD")});
+        statement = mock(Statement.class);
+        operation = mock(DatabaseOperation.class);
+    }
+
+    @Test
+    void testExecute_onPostgresql_suspendsAroundLoadAndRestores()
+            throws Exception
+    {
+        final MockDatabaseConnection connection = createConnection("PostgreSQL");
+
+        new PostgresqlIndexSuspendingOperation(operation).execute(connection,
+                dataSet);
+
+        final InOrder inOrder = inOrder(statement, operation);
+        inOrder.verify(statement).execute(
+                "alter table public.\"CHILD\" disable trigger audit");
+        inOrder.verify(statement).execute("drop index public.child_idx");
+        inOrder.verify(operation).execute(connection, dataSet);
+        inOrder.verify(statement).execute(
+                "CREATE INDEX child_idx ON public.\"CHILD\" USING btree (x)");
+        inOrder.verify(statement).execute(
+                "alter table public.\"CHILD\" enable trigger audit");
+    }
+
+    @Test
+    void testExecute_whenLoadFails_restoresAndRethrows() throws Exception
+    {
+        final MockDatabaseConnection connection = createConnection("PostgreSQL");
+        final SQLException failure = new SQLException("load failed");
+        doThrow(failure).when(operation).execute(connection, dataSet);
+        final SQLException restoreFailure = new SQLException("restore failed");
+        when(statement.execute(contains("enable trigger")))
+                .thenThrow(restoreFailure);
+
+        assertThatThrownBy(() -> new PostgresqlIndexSuspendingOperation(
+                operation).execute(connection, dataSet))
+                .as("load failure.").isSameAs(failure);
+
+        assertThat(failure.getSuppressed()).as("restore failures.")
+                .containsExactly(restoreFailure);
+        verify(statement).execute(
+                "CREATE INDEX child_idx ON public.\"CHILD\" USING btree (x)");
+    }
+
+    @Test
+    void testExecute_withStatistics_reportsLoadAndRebuild() throws Exception
+    {
+        final MockDatabaseConnection connection = createConnection("PostgreSQL");
+        final OperationStatistics statistics = new OperationStatistics();
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_OPERATION_STATISTICS, statistics);
+
+        new PostgresqlIndexSuspendingOperation(operation).execute(connection,
+                dataSet);
+
+        assertThat(statistics.getStageNames()).as("stages.").containsExactly(
+                AbstractIndexSuspendingOperation.STAGE_LOAD,
+                AbstractIndexSuspendingOperation.STAGE_REBUILD);
+    }
+
+    @Test
+    void testExecute_onOtherDatabase_executesOperationAsIs() throws Exception
+    {
+        final MockDatabaseConnection connection = createConnection("H2");
+
+        new PostgresqlIndexSuspendingOperation(operation).execute(connection,
+                dataSet);
+
+        verify(operation).execute(connection, dataSet);
+        verify(statement, never()).execute(any(String.class));
+    }
+
+    private MockDatabaseConnection createConnection(final String productName)
+            throws Exception
+    {
+        final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn(productName);
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.getMetaData()).thenReturn(metaData);
+        when(jdbcConnection.getAutoCommit()).thenReturn(true);
+        when(jdbcConnection.createStatement()).thenReturn(statement);
+        final PreparedStatement triggers = createQuery(
+                "public.\"CHILD\"", "audit");
+        when(jdbcConnection.prepareStatement(contains("pg_trigger")))
+                .thenReturn(triggers);
+        final PreparedStatement indexes = createQuery("public.child_idx",
+                "CREATE INDEX child_idx ON public.\"CHILD\" USING btree (x)");
+        when(jdbcConnection.prepareStatement(contains("pg_index")))
+                .thenReturn(indexes);
+
+        final MockDatabaseConnection connection = new MockDatabaseConnection();
+        connection.setupConnection(jdbcConnection);
+        connection.setupDataSet(dataSet);
+        connection.setupSchema("public");
+        return connection;
+    }
+
+    private static PreparedStatement createQuery(final String... row)
+            throws SQLException
+    {
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        for (int i = 0; i < row.length; i++)
+        {
+            when(resultSet.getString(i + 1)).thenReturn(row[i]);
+        }
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        return statement;
+    }
+}
@@ -0,0 +1,148 @@
+package org.dbunit.ext.postgresql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.dbunit.DatabaseEnvironment;
+import org.dbunit.database.DefaultMetadataHandler;
+import org.dbunit.database.IDatabaseConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Compares the lookups of {@link PostgresqlInformationSchemaMetadataHandler} with those of the
+ * driver-backed {@link DefaultMetadataHandler} on a live PostgreSQL schema.
+ */
+@EnabledIfSystemProperty(named = "dbunit.profile", matches = "postgresql")
+class PostgresqlInformationSchemaMetadataHandlerIT
+{
+    private static final String SCHEMA = "catalog_lookup";
+
+    /**
+     * The <code>getColumns</code> columns dbunit reads.
+     */
+    private static final int[] COLUMN_INDEXES = {2, 3, 4, 5, 6, 11, 12, 13, 17, 18, 23, 24};
+
+    private static final int[] FOREIGN_KEY_INDEXES = {2, 3, 4, 6, 7, 8, 9, 10, 11, 12, 13};
+
+    private final PostgresqlInformationSchemaMetadataHandler handler =
+            new PostgresqlInformationSchemaMetadataHandler();
+
+    private IDatabaseConnection _connection;
+
+    private DatabaseMetaData _metaData;
+
+    @BeforeEach
+    protected void setUp() throws Exception
+    {
+        _connection = DatabaseEnvironment.getInstance().getConnection();
+        final Statement statement = _connection.getConnection().createStatement();
+        statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE;");
+        statement.execute("CREATE SCHEMA " + SCHEMA + ";");
+        statement.execute("CREATE TABLE " + SCHEMA + ".parent"
+                + "(id INTEGER GENERATED BY DEFAULT AS IDENTITY, code VARCHAR(20) NOT NULL"
+                + " DEFAULT 'x', PRIMARY KEY (code, id));");
+        statement.execute("CREATE TABLE " + SCHEMA + ".child"
+                + "(id BIGINT PRIMARY KEY, amount NUMERIC(10, 2), total NUMERIC,"
+                + " tags TEXT[], ref UUID,"
+                + " doubled BIGINT GENERATED ALWAYS AS (id * 2) STORED,"
+                + " parent_code VARCHAR(20), parent_id INTEGER,"
+                + " FOREIGN KEY (parent_code, parent_id) REFERENCES " + SCHEMA
+                + ".parent (code, id) ON DELETE CASCADE);");
+        statement.execute("COMMENT ON COLUMN " + SCHEMA + ".child.amount IS 'The amount';");
+        statement.close();
+        _metaData = _connection.getConnection().getMetaData();
+    }
+
+    @AfterEach
+    protected void tearDown() throws Exception
+    {
+        if (!Objects.isNull(_connection))
+        {
+            final Statement statement = _connection.getConnection().createStatement();
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE;");
+            statement.close();
+            _connection.close();
+            _connection = null;
+        }
+    }
+
+    @Test
+    void testGetColumns_eachTable_equalsDriverColumns() throws Exception
+    {
+        for (final String table : new String[] {"parent", "child"})
+        {
+            assertThat(read(handler.getColumns(_metaData, SCHEMA, table), COLUMN_INDEXES))
+                    .as("Columns of " + table + ".")
+                    .isEqualTo(read(new DefaultMetadataHandler().getColumns(_metaData, SCHEMA,
+                            table), COLUMN_INDEXES))
+                    .isNotEmpty();
+        }
+    }
+
+    @Test
+    void testGetColumns_numericColumns_equalsDriverSizes() throws Exception
+    {
+        final int[] sizeIndexes = {4, 7, 9};
+        assertThat(read(handler.getColumns(_metaData, SCHEMA, "child"), sizeIndexes))
+                .as("Sizes of child.")
+                .contains("amount|10|2", "total|0|null")
+                .containsAll(read(_metaData.getColumns(null, SCHEMA, "child", "amount"),
+                        sizeIndexes))
+                .containsAll(read(_metaData.getColumns(null, SCHEMA, "child", "total"),
+                        sizeIndexes));
+    }
+
+    @Test
+    void testGetSchemaPrimaryKeys_returnsKeysOfAllTablesInKeyOrder() throws Exception
+    {
+        assertThat(read(handler.getSchemaPrimaryKeys(_metaData, SCHEMA), new int[] {3, 4, 5}))
+                .as("Primary keys of the schema.")
+                .containsExactly("child|id|1", "parent|code|1", "parent|id|2");
+    }
+
+    @Test
+    void testGetImportedKeys_equalsDriverKeys() throws Exception
+    {
+        assertThat(read(handler.getImportedKeys(_metaData, SCHEMA, "child"),
+                FOREIGN_KEY_INDEXES))
+                .as("Imported keys of child.")
+                .isEqualTo(read(_metaData.getImportedKeys(null, SCHEMA, "child"),
+                        FOREIGN_KEY_INDEXES))
+                .hasSize(2);
+    }
+
+    /**
+     * Reads the given columns of every row, joined by <code>|</code>.
+     */
+    private static List<String> read(final ResultSet resultSet, final int[] indexes)
+            throws Exception
+    {
+        final List<String> rows = new ArrayList<>();
+        try
+        {
+            while (resultSet.next())
+            {
+                final StringBuilder row = new StringBuilder();
+                for (final int index : indexes)
+                {
+                    row.append(row.length() == 0 ? "" : "|").append(resultSet.getString(index));
+                }
+                rows.add(row.toString());
+            }
+        }
+        finally
+        {
+            resultSet.close();
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.ext.postgresql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PostgresqlInformationSchemaMetadataHandler} without a database.
+ *
+ * @since 3.6.0
+ */
+class PostgresqlInformationSchemaMetadataHandlerTest
+{
+    private final PostgresqlInformationSchemaMetadataHandler handler =
+            new PostgresqlInformationSchemaMetadataHandler();
+
+    @Test
+    void testGetColumnsQuery_postgresql12_readsIdentityAndGeneratedColumns() throws SQLException
+    {
+        final String sql = handler.getColumnsQuery(mockVersion(12));
+
+        assertThat(sql).as("Identity columns.").contains("a.attidentity");
+        assertThat(sql).as("Generated columns.").contains("a.attgenerated");
+    }
+
+    @Test
+    void testGetColumnsQuery_postgresql10_readsIdentityColumnsOnly() throws SQLException
+    {
+        final String sql = handler.getColumnsQuery(mockVersion(10));
+
+        assertThat(sql).as("Identity columns.").contains("a.attidentity");
+        assertThat(sql).as("No generated columns.").doesNotContain("attgenerated");
+    }
+
+    @Test
+    void testGetColumnsQuery_postgresql9_readsNeitherColumn() throws SQLException
+    {
+        final String sql = handler.getColumnsQuery(mockVersion(9));
+
+        assertThat(sql).as("No identity columns.").doesNotContain("attidentity");
+        assertThat(sql).as("No generated columns.").doesNotContain("attgenerated");
+        assertThat(sql).as("Sequence defaults still auto-increment.").contains("nextval(");
+    }
+
+    private static DatabaseMetaData mockVersion(final int majorVersion) throws SQLException
+    {
+        final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseMajorVersion()).thenReturn(majorVersion);
+        return metaData;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.postgresql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.database.statement.MultiRowInsertStatement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PostgresqlStatementFactory}.
+ *
+ * @since 3.6.0
+ */
+class PostgresqlStatementFactoryTest
+{
+    private IDatabaseConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        connection.getConfig().setFeature(DatabaseConfig.FEATURE_MULTI_ROW_INSERTS,
+                true);
+        connection.getConfig().setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE,
+                100000);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+    }
+
+    @Test
+    void testCreatePreparedInsertStatement_withLargeBatchSize_limitsParametersTo65535()
+            throws Exception
+    {
+        final IPreparedBatchStatement statement = new PostgresqlStatementFactory()
+                .createPreparedInsertStatement("insert into T (A) values (?)",
+                        10, connection);
+
+        assertThat(((MultiRowInsertStatement) statement).getRowsPerStatement())
+                .as("65535 parameters at most.").isEqualTo(6553);
+        statement.close();
+    }
+}
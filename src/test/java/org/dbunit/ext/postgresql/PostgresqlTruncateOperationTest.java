@@ -0,0 +1,110 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.postgresql;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+
+import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.database.statement.MockStatementFactory;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PostgresqlTruncateOperation} using mock objects.
+ *
+ * @since 3.6.0
+ */
+class PostgresqlTruncateOperationTest
+{
+    private IDataSet dataSet;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        dataSet = new DefaultDataSet(new ITable[] {new DefaultTable("PARENT"),
+                new DefaultTable("CHILD")});
+    }
+
+    @Test
+    void testExecute_onPostgresql_truncatesAllTablesInOneStatement()
+            throws Exception
+    {
+        final MockStatementFactory factory = MockStatementFactory
+                .forSingleBatch("truncate table schema.CHILD, schema.PARENT");
+        final MockDatabaseConnection connection =
+                createConnection("PostgreSQL", factory);
+
+        PostgresqlTruncateOperation.TRUNCATE.execute(connection, dataSet);
+
+        factory.getBatchStatement().verify();
+    }
+
+    @Test
+    void testExecute_withCascade_appendsCascade() throws Exception
+    {
+        final MockStatementFactory factory = MockStatementFactory.forSingleBatch(
+                "truncate table schema.CHILD, schema.PARENT cascade");
+        final MockDatabaseConnection connection =
+                createConnection("PostgreSQL", factory);
+
+        new PostgresqlTruncateOperation(true).execute(connection, dataSet);
+
+        factory.getBatchStatement().verify();
+    }
+
+    @Test
+    void testExecute_onOtherDatabase_fallsBackToDeleteAll() throws Exception
+    {
+        final MockStatementFactory factory = MockStatementFactory.forSingleBatch(
+                "delete from schema.CHILD", "delete from schema.PARENT");
+        final MockDatabaseConnection connection =
+                createConnection("Oracle", factory);
+
+        PostgresqlTruncateOperation.TRUNCATE.execute(connection, dataSet);
+
+        factory.getBatchStatement().verify();
+    }
+
+    private MockDatabaseConnection createConnection(final String productName,
+            final MockStatementFactory factory) throws Exception
+    {
+        final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn(productName);
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.getMetaData()).thenReturn(metaData);
+
+        final MockDatabaseConnection connection = new MockDatabaseConnection();
+        connection.setupConnection(jdbcConnection);
+        connection.setupDataSet(dataSet);
+        connection.setupSchema("schema");
+        connection.setupStatementFactory(factory);
+        return connection;
+    }
+}
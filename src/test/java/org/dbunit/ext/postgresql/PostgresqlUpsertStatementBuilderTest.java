@@ -0,0 +1,58 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.ext.postgresql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PostgresqlUpsertStatementBuilder}.
+ *
+ * @since 3.6.0
+ */
+class PostgresqlUpsertStatementBuilderTest
+{
+    private final PostgresqlUpsertStatementBuilder builder = new PostgresqlUpsertStatementBuilder();
+
+    @Test
+    void testBuildUpsertStatement_withKeyAndValueColumns_returnsOnConflictUpdate()
+    {
+        final String actual = builder.buildUpsertStatement("S.T",
+                new String[] {"ID", "NAME", "AMOUNT"}, new String[] {"ID"});
+
+        assertThat(actual).as("PostgreSQL upsert statement.")
+                .isEqualTo("insert into S.T (ID, NAME, AMOUNT) values (?, ?, ?)"
+                        + " on conflict (ID)"
+                        + " do update set NAME = excluded.NAME, AMOUNT = excluded.AMOUNT");
+    }
+
+    @Test
+    void testBuildUpsertStatement_withOnlyKeyColumns_returnsOnConflictDoNothing()
+    {
+        final String actual = builder.buildUpsertStatement("T",
+                new String[] {"A", "B"}, new String[] {"A", "B"});
+
+        assertThat(actual).as("Existing rows are left untouched.")
+                .isEqualTo("insert into T (A, B) values (?, ?) on conflict (A, B) do nothing");
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.NoPrimaryKeyException;
+import org.dbunit.dataset.datatype.DataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BatchedRefreshOperation}, run through
+ * {@link DatabaseOperation#REFRESH} against a real H2 in-memory database.
+ *
+ * @since 3.6.0
+ */
+class BatchedRefreshOperationTest
+{
+    private IDatabaseConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        final DatabaseConfig config = connection.getConfig();
+        config.setFeature(DatabaseConfig.FEATURE_BATCHED_REFRESH, true);
+        // smaller than the number of keys, so the lookup takes several queries
+        config.setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+    }
+
+    @Test
+    void testExecute_withExistingAndNewRows_updatesExistingAndInsertsNew()
+            throws Exception
+    {
+        execute("CREATE TABLE T (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+        execute("INSERT INTO T VALUES (1, 'old1')");
+        execute("INSERT INTO T VALUES (3, 'old3')");
+        execute("INSERT INTO T VALUES (5, 'untouched')");
+
+        final DefaultTable table = new DefaultTable("T",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR)});
+        table.addRow(new Object[] {"1", "new1"});
+        table.addRow(new Object[] {"2", "new2"});
+        table.addRow(new Object[] {"3", "new3"});
+        table.addRow(new Object[] {"4", "new4"});
+
+        DatabaseOperation.REFRESH.execute(connection, new DefaultDataSet(table));
+
+        assertThat(readRows("SELECT ID, NAME FROM T ORDER BY ID"))
+                .as("Existing rows updated, new rows inserted, rows absent from"
+                        + " the dataset left alone.")
+                .containsExactly("1,new1", "2,new2", "3,new3", "4,new4",
+                        "5,untouched");
+    }
+
+    @Test
+    void testExecute_withKeyRepeatedInDataset_insertsFirstAndUpdatesWithLater()
+            throws Exception
+    {
+        execute("CREATE TABLE T (ID INT PRIMARY KEY, NAME VARCHAR(20))");
+
+        final DefaultTable table = new DefaultTable("T",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR)});
+        table.addRow(new Object[] {"1", "first"});
+        table.addRow(new Object[] {"1", "second"});
+
+        DatabaseOperation.REFRESH.execute(connection, new DefaultDataSet(table));
+
+        assertThat(readRows("SELECT ID, NAME FROM T ORDER BY ID"))
+                .as("Same outcome as the row-by-row refresh: the last row wins.")
+                .containsExactly("1,second");
+    }
+
+    @Test
+    void testExecute_withCompositeCharKeyOnlyColumns_insertsOnlyMissingRows()
+            throws Exception
+    {
+        execute("CREATE TABLE K (CODE CHAR(5), NR INT, PRIMARY KEY (CODE, NR))");
+        execute("INSERT INTO K VALUES ('A', 1)");
+
+        final DefaultTable table = new DefaultTable("K",
+                new Column[] {new Column("CODE", DataType.CHAR),
+                        new Column("NR", DataType.INTEGER)});
+        table.addRow(new Object[] {"A", "1"});
+        table.addRow(new Object[] {"A", "2"});
+        table.addRow(new Object[] {"B", "1"});
+
+        DatabaseOperation.REFRESH.execute(connection, new DefaultDataSet(table));
+
+        assertThat(readRows("SELECT TRIM(CODE), NR FROM K ORDER BY CODE, NR"))
+                .as("The blank-padded existing key is matched and not inserted"
+                        + " again.")
+                .containsExactly("A,1", "A,2", "B,1");
+    }
+
+    @Test
+    void testExecute_withoutPrimaryKey_throwsNoPrimaryKeyException()
+            throws Exception
+    {
+        execute("CREATE TABLE N (ID INT, NAME VARCHAR(20))");
+
+        final DefaultTable table = new DefaultTable("N",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR)});
+        table.addRow(new Object[] {"1", "a"});
+
+        final Throwable thrown = catchThrowable(() -> DatabaseOperation.REFRESH
+                .execute(connection, new DefaultDataSet(table)));
+
+        assertThat(thrown).as("Existing rows cannot be matched without a key.")
+                .isInstanceOf(NoPrimaryKeyException.class);
+    }
+
+    private void execute(final String sql) throws Exception
+    {
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute(sql);
+        }
+    }
+
+    private List<String> readRows(final String sql) throws Exception
+    {
+        final List<String> rows = new ArrayList<>();
+        try (Statement stmt = connection.getConnection().createStatement();
+                ResultSet rs = stmt.executeQuery(sql))
+        {
+            while (rs.next())
+            {
+                rows.add(rs.getString(1) + "," + rs.getString(2));
+            }
+        }
+        return rows;
+    }
+}
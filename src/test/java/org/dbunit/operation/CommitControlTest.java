@@ -0,0 +1,266 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.database.statement.IPreparedBatchStatement;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.datatype.DataType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+/**
+ * Tests for {@link CommitControl}.
+ *
+ * @since 3.6.0
+ */
+class CommitControlTest
+{
+    private Connection jdbcConnection;
+
+    private MockDatabaseConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.getAutoCommit()).thenReturn(true);
+        connection = new MockDatabaseConnection();
+        connection.setupConnection(jdbcConnection);
+        connection.getConfig()
+                .setFeature(DatabaseConfig.FEATURE_SUSPEND_AUTO_COMMIT, true);
+    }
+
+    @Test
+    void testDecorate_withRowInterval_commitsEveryIntervalRows()
+            throws Exception
+    {
+        connection.getConfig()
+                .setProperty(DatabaseConfig.PROPERTY_COMMIT_INTERVAL_ROWS, 3);
+        final IPreparedBatchStatement statement =
+                mock(IPreparedBatchStatement.class);
+
+        final CommitControl commits = CommitControl.begin(connection);
+        final IPreparedBatchStatement decorated = commits.decorate(statement);
+        for (int i = 0; i < 7; i++)
+        {
+            decorated.addBatch();
+        }
+        decorated.executeBatch();
+        commits.end();
+
+        assertThat(commits.getCommitCount()).as("interval commits.")
+                .isEqualTo(2);
+        verify(statement, times(3)).executeBatch();
+        final InOrder inOrder = inOrder(jdbcConnection);
+        inOrder.verify(jdbcConnection).setAutoCommit(false);
+        inOrder.verify(jdbcConnection, times(3)).commit();
+        inOrder.verify(jdbcConnection).setAutoCommit(true);
+    }
+
+    @Test
+    void testDecorate_withBatchInterval_commitsEveryIntervalBatches()
+            throws Exception
+    {
+        final DatabaseConfig config = connection.getConfig();
+        config.setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE, 2);
+        config.setProperty(DatabaseConfig.PROPERTY_COMMIT_INTERVAL_BATCHES, 2);
+        final IPreparedBatchStatement statement =
+                mock(IPreparedBatchStatement.class);
+
+        final CommitControl commits = CommitControl.begin(connection);
+        final IPreparedBatchStatement decorated = commits.decorate(statement);
+        for (int i = 0; i < 5; i++)
+        {
+            decorated.addBatch();
+        }
+        decorated.executeBatch();
+        // the next statement completes the second batch of the interval
+        final IPreparedBatchStatement next =
+                commits.decorate(mock(IPreparedBatchStatement.class));
+        next.addBatch();
+        next.executeBatch();
+
+        assertThat(commits.getCommitCount()).as("interval commits.")
+                .isEqualTo(2);
+    }
+
+    @Test
+    void testDecorate_inAutoCommitMode_returnsStatement() throws Exception
+    {
+        connection.getConfig()
+                .setFeature(DatabaseConfig.FEATURE_SUSPEND_AUTO_COMMIT, false);
+        connection.getConfig()
+                .setProperty(DatabaseConfig.PROPERTY_COMMIT_INTERVAL_ROWS, 1);
+        final IPreparedBatchStatement statement =
+                mock(IPreparedBatchStatement.class);
+
+        final CommitControl commits = CommitControl.begin(connection);
+        commits.end();
+
+        assertThat(commits.decorate(statement)).as("statement.")
+                .isSameAs(statement);
+        verify(jdbcConnection, never()).setAutoCommit(false);
+        verify(jdbcConnection, never()).commit();
+    }
+
+    @Test
+    void testAbort_withSuspendedAutoCommit_rollsBackAndRestores()
+            throws Exception
+    {
+        final SQLException failure = new SQLException("failed");
+
+        final CommitControl commits = CommitControl.begin(connection);
+        commits.abort(failure);
+
+        final InOrder inOrder = inOrder(jdbcConnection);
+        inOrder.verify(jdbcConnection).setAutoCommit(false);
+        inOrder.verify(jdbcConnection).rollback();
+        inOrder.verify(jdbcConnection).setAutoCommit(true);
+        verify(jdbcConnection, never()).commit();
+    }
+
+    @Test
+    void testInsert_withFailureAfterIntervalCommit_keepsCommittedRows()
+            throws Exception
+    {
+        final IDatabaseConnection h2Connection =
+                InMemoryDatabaseConnection.create();
+        try
+        {
+            final Statement statement =
+                    h2Connection.getConnection().createStatement();
+            statement.execute("create table T (ID int primary key)");
+            statement.close();
+            final DatabaseConfig config = h2Connection.getConfig();
+            config.setFeature(DatabaseConfig.FEATURE_SUSPEND_AUTO_COMMIT, true);
+            config.setProperty(DatabaseConfig.PROPERTY_COMMIT_INTERVAL_ROWS, 3);
+            final DefaultTable table = new DefaultTable("T",
+                    new Column[] {new Column("ID", DataType.INTEGER)});
+            for (final int id : new int[] {1, 2, 3, 4, 1})
+            {
+                table.addRow(new Object[] {id});
+            }
+
+            assertThatThrownBy(() -> DatabaseOperation.INSERT
+                    .execute(h2Connection, new DefaultDataSet(table)))
+                    .as("duplicate key.")
+                    .isInstanceOf(DatabaseUnitException.class);
+
+            assertThat(h2Connection.getConnection().getAutoCommit())
+                    .as("auto-commit restored.").isTrue();
+            final Statement query =
+                    h2Connection.getConnection().createStatement();
+            final ResultSet resultSet =
+                    query.executeQuery("select count(*) from T");
+            resultSet.next();
+            assertThat(resultSet.getInt(1)).as("committed rows.")
+                    .isEqualTo(3);
+            query.close();
+        }
+        finally
+        {
+            h2Connection.close();
+        }
+    }
+
+    @Test
+    void testDecorate_inCallerTransaction_returnsStatement() throws Exception
+    {
+        when(jdbcConnection.getAutoCommit()).thenReturn(false);
+        connection.getConfig()
+                .setProperty(DatabaseConfig.PROPERTY_COMMIT_INTERVAL_ROWS, 1);
+        final IPreparedBatchStatement statement =
+                mock(IPreparedBatchStatement.class);
+
+        final CommitControl commits = CommitControl.begin(connection);
+        final IPreparedBatchStatement decorated = commits.decorate(statement);
+        commits.end();
+
+        assertThat(decorated).as("statement.").isSameAs(statement);
+        verify(jdbcConnection, never()).setAutoCommit(false);
+        verify(jdbcConnection, never()).commit();
+    }
+
+    @Test
+    void testInsert_inTransactionOperationWithInterval_rollsBackAllRows()
+            throws Exception
+    {
+        final IDatabaseConnection h2Connection =
+                InMemoryDatabaseConnection.create();
+        try
+        {
+            final Statement statement =
+                    h2Connection.getConnection().createStatement();
+            statement.execute("create table T (ID int primary key)");
+            statement.close();
+            final DatabaseConfig config = h2Connection.getConfig();
+            config.setFeature(DatabaseConfig.FEATURE_SUSPEND_AUTO_COMMIT, true);
+            config.setProperty(DatabaseConfig.PROPERTY_COMMIT_INTERVAL_ROWS, 3);
+            final DefaultTable table = new DefaultTable("T",
+                    new Column[] {new Column("ID", DataType.INTEGER)});
+            for (final int id : new int[] {1, 2, 3, 4, 1})
+            {
+                table.addRow(new Object[] {id});
+            }
+
+            assertThatThrownBy(() -> new TransactionOperation(
+                    DatabaseOperation.INSERT)
+                    .execute(h2Connection, new DefaultDataSet(table)))
+                    .as("duplicate key.")
+                    .isInstanceOf(DatabaseUnitException.class);
+
+            final Statement query =
+                    h2Connection.getConnection().createStatement();
+            final ResultSet resultSet =
+                    query.executeQuery("select count(*) from T");
+            resultSet.next();
+            assertThat(resultSet.getInt(1))
+                    .as("no rows committed inside the transaction.").isZero();
+            query.close();
+        }
+        finally
+        {
+            h2Connection.close();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.ext.hsqldb.HsqldbConnection;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+/**
+ * Tests for {@link DeferredConstraintsOperation}.
+ *
+ * @since 3.6.0
+ */
+class DeferredConstraintsOperationTest
+{
+    @Test
+    void testExecute_onPostgresql_defersConstraintsInsideTransaction()
+            throws Exception
+    {
+        final Statement statement = mock(Statement.class);
+        final DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+        when(metaData.getDatabaseProductName()).thenReturn("PostgreSQL");
+        final Connection jdbcConnection = mock(Connection.class);
+        when(jdbcConnection.getMetaData()).thenReturn(metaData);
+        when(jdbcConnection.getAutoCommit()).thenReturn(true);
+        when(jdbcConnection.createStatement()).thenReturn(statement);
+        final MockDatabaseConnection connection = new MockDatabaseConnection();
+        connection.setupConnection(jdbcConnection);
+        final DatabaseOperation operation = mock(DatabaseOperation.class);
+        final IDataSet dataSet = new DefaultDataSet();
+
+        new DeferredConstraintsOperation(operation).execute(connection,
+                dataSet);
+
+        final InOrder inOrder = inOrder(jdbcConnection, statement, operation);
+        inOrder.verify(jdbcConnection).setAutoCommit(false);
+        inOrder.verify(statement).execute("set constraints all deferred");
+        inOrder.verify(operation).execute(connection, dataSet);
+        inOrder.verify(jdbcConnection).commit();
+        inOrder.verify(jdbcConnection).setAutoCommit(true);
+    }
+
+    @Test
+    void testExecute_withCyclicSchemaOnH2_loadsInDatasetOrder()
+            throws Exception
+    {
+        final IDatabaseConnection connection =
+                InMemoryDatabaseConnection.create();
+        try
+        {
+            final Statement statement =
+                    connection.getConnection().createStatement();
+            statement.execute("create table A (ID int primary key, B_ID int)");
+            statement.execute("create table B (ID int primary key, A_ID int"
+                    + " references A(ID))");
+            statement.execute(
+                    "alter table A add foreign key (B_ID) references B(ID)");
+            statement.close();
+
+            DeferredConstraintsOperation.INSERT.execute(connection,
+                    new DefaultDataSet(new ITable[] {
+                            createTable("A", "B_ID", 1, 2),
+                            createTable("B", "A_ID", 2, 1)}));
+
+            assertThat(count(connection, "A")).as("rows in A.").isEqualTo(1);
+            assertThat(count(connection, "B")).as("rows in B.").isEqualTo(1);
+            assertThat(connection.getConnection().getAutoCommit())
+                    .as("auto-commit restored.").isTrue();
+            assertThatThrownBy(() -> DatabaseOperation.INSERT.execute(
+                    connection,
+                    new DefaultDataSet(createTable("B", "A_ID", 3, 9))))
+                    .as("referential integrity restored.")
+                    .isInstanceOf(DatabaseUnitException.class);
+        }
+        finally
+        {
+            connection.close();
+        }
+    }
+
+    @Test
+    void testExecute_onOtherDatabase_sortsTablesByDependencies()
+            throws Exception
+    {
+        final IDatabaseConnection connection = new HsqldbConnection(
+                DriverManager.getConnection("jdbc:hsqldb:mem:deferred", "sa",
+                        ""),
+                "PUBLIC");
+        try
+        {
+            final Statement statement =
+                    connection.getConnection().createStatement();
+            statement.execute("create table PARENT (ID int primary key,"
+                    + " CHILD_ID int)");
+            statement.execute("create table CHILD (ID int primary key,"
+                    + " PARENT_ID int references PARENT(ID))");
+            statement.close();
+
+            DeferredConstraintsOperation.INSERT.execute(connection,
+                    new DefaultDataSet(new ITable[] {
+                            createTable("CHILD", "PARENT_ID", 1, 1),
+                            createTable("PARENT", "CHILD_ID", 1, null)}));
+
+            assertThat(count(connection, "CHILD")).as("rows in CHILD.")
+                    .isEqualTo(1);
+        }
+        finally
+        {
+            final Statement statement =
+                    connection.getConnection().createStatement();
+            statement.execute("drop schema public cascade");
+            statement.close();
+            connection.close();
+        }
+    }
+
+    private static ITable createTable(final String tableName,
+            final String referenceColumn, final int id, final Integer reference)
+            throws Exception
+    {
+        final DefaultTable table = new DefaultTable(tableName,
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column(referenceColumn, DataType.INTEGER)});
+        table.addRow(new Object[] {id, reference});
+        return table;
+    }
+
+    private static int count(final IDatabaseConnection connection,
+            final String from) throws Exception
+    {
+        final Statement statement =
+                connection.getConnection().createStatement();
+        try
+        {
+            final ResultSet resultSet =
+                    statement.executeQuery("select count(*) from " + from);
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+        finally
+        {
+            statement.close();
+        }
+    }
+}
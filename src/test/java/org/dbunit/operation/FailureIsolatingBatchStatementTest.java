@@ -0,0 +1,235 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.CollectingRowFailureHandler;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.database.RowFailure;
+import org.dbunit.database.RowFailureException;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.ext.hsqldb.HsqldbConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link FailureIsolatingBatchStatement} through
+ * {@link DatabaseConfig#PROPERTY_ROW_FAILURE_HANDLER}, against real H2 and
+ * HSQLDB in-memory databases, whose drivers report batch failures
+ * differently.
+ *
+ * @since 3.6.0
+ */
+class FailureIsolatingBatchStatementTest
+{
+    private IDatabaseConnection connection;
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+    }
+
+    @Test
+    void testInsert_withRejectedRowsOnH2_skipsAndReportsThem() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        final CollectingRowFailureHandler handler = setUp(true);
+
+        DatabaseOperation.INSERT.execute(connection, createDataSet(3, 7));
+
+        assertThat(readIds()).as("accepted rows inserted.")
+                .containsExactly(0, 1, 2, 4, 5, 6, 8, 9);
+        assertRejected(handler, 3, 7);
+    }
+
+    @Test
+    void testInsert_withRejectedRowsOnHsqldb_skipsAndReportsThem()
+            throws Exception
+    {
+        connection = new HsqldbConnection(DriverManager.getConnection(
+                "jdbc:hsqldb:mem:failureisolation", "sa", ""), "PUBLIC");
+        final CollectingRowFailureHandler handler = setUp(true);
+
+        DatabaseOperation.INSERT.execute(connection, createDataSet(0, 5, 6));
+
+        assertThat(readIds()).as("accepted rows inserted.")
+                .containsExactly(1, 2, 3, 4, 7, 8, 9);
+        assertRejected(handler, 0, 5, 6);
+        execute("DROP SCHEMA PUBLIC CASCADE");
+    }
+
+    @Test
+    void testInsert_withoutBatchedStatements_skipsRejectedRows()
+            throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        final CollectingRowFailureHandler handler = setUp(false);
+
+        DatabaseOperation.INSERT.execute(connection, createDataSet(9));
+
+        assertThat(readIds()).as("accepted rows inserted.")
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8);
+        assertRejected(handler, 9);
+    }
+
+    @Test
+    void testInsert_withGroupedRows_reportsDataSetRowIndex() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        final CollectingRowFailureHandler handler = setUp(true);
+        connection.getConfig().setFeature(
+                DatabaseConfig.FEATURE_GROUP_INSERT_ROWS, true);
+        final DefaultTable table = new DefaultTable("CHILD", createColumns());
+        table.addRow(new Object[] {1, 1, ITable.NO_VALUE});
+        table.addRow(new Object[] {2, 99, "b"});
+        table.addRow(new Object[] {3, 1, ITable.NO_VALUE});
+        table.addRow(new Object[] {4, 99, ITable.NO_VALUE});
+
+        DatabaseOperation.INSERT.execute(connection, new DefaultDataSet(table));
+
+        assertThat(readIds()).as("accepted rows inserted.").containsExactly(1, 3);
+        assertThat(handler.getFailures()).extracting(RowFailure::getRow)
+                .as("dataset row indexes, in execution order.")
+                .containsExactly(3, 1);
+    }
+
+    @Test
+    void testInsert_withAbortingHandler_throwsAndRollsBackBatch()
+            throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        setUp(true);
+        final CollectingRowFailureHandler handler =
+                new CollectingRowFailureHandler(false);
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_ROW_FAILURE_HANDLER, handler);
+
+        assertThatThrownBy(() -> DatabaseOperation.INSERT.execute(connection,
+                createDataSet(6)))
+                .as("abort on the rejected row.")
+                .isInstanceOf(DatabaseUnitException.class)
+                .hasMessageContaining("'CHILD'")
+                .cause().isInstanceOf(RowFailureException.class)
+                .hasMessageContaining("row 6 (ID=6, PARENT_ID=99, NAME=n6)");
+        assertThat(readIds()).as("batches before the failed one kept.")
+                .containsExactly(0, 1, 2, 3);
+        assertThat(handler.getFailures()).as("rejected row collected.").hasSize(1);
+    }
+
+    private CollectingRowFailureHandler setUp(final boolean batched)
+            throws Exception
+    {
+        execute("CREATE TABLE PARENT (ID INT PRIMARY KEY)",
+                "INSERT INTO PARENT VALUES (1)",
+                "CREATE TABLE CHILD (ID INT PRIMARY KEY,"
+                        + " PARENT_ID INT REFERENCES PARENT(ID), NAME VARCHAR(10))");
+        final CollectingRowFailureHandler handler =
+                new CollectingRowFailureHandler();
+        final DatabaseConfig config = connection.getConfig();
+        config.setProperty(DatabaseConfig.PROPERTY_ROW_FAILURE_HANDLER, handler);
+        config.setProperty(DatabaseConfig.PROPERTY_BATCH_SIZE, 4);
+        config.setFeature(DatabaseConfig.FEATURE_BATCHED_STATEMENTS, batched);
+        return handler;
+    }
+
+    private static Column[] createColumns()
+    {
+        return new Column[] {new Column("ID", DataType.INTEGER),
+                new Column("PARENT_ID", DataType.INTEGER),
+                new Column("NAME", DataType.VARCHAR)};
+    }
+
+    /**
+     * Ten rows referencing the parent, except the rejected ones.
+     */
+    private static DefaultDataSet createDataSet(final int... rejected)
+            throws Exception
+    {
+        final DefaultTable table = new DefaultTable("CHILD", createColumns());
+        for (int i = 0; i < 10; i++)
+        {
+            int parentId = 1;
+            for (final int row : rejected)
+            {
+                parentId = row == i ? 99 : parentId;
+            }
+            table.addRow(new Object[] {i, parentId, "n" + i});
+        }
+        return new DefaultDataSet(table);
+    }
+
+    private static void assertRejected(final CollectingRowFailureHandler handler,
+            final int... rows)
+    {
+        final List<RowFailure> failures = handler.getFailures();
+        assertThat(failures).extracting(RowFailure::getRow)
+                .as("rejected dataset rows.").containsExactly(
+                        Arrays.stream(rows).boxed().toArray(Integer[]::new));
+        final RowFailure first = failures.get(0);
+        assertThat(first.getTableName()).as("table of the row.").isEqualTo("CHILD");
+        assertThat(first.getValues()).as("bound values.")
+                .containsExactly(rows[0], 99, "n" + rows[0]);
+        assertThat((Object) first.getCause()).as("cause of the row.").isNotNull();
+    }
+
+    private void execute(final String... sqls) throws Exception
+    {
+        try (Statement statement = connection.getConnection().createStatement())
+        {
+            for (final String sql : sqls)
+            {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private List<Integer> readIds() throws Exception
+    {
+        final List<Integer> ids = new ArrayList<>();
+        try (Statement statement = connection.getConnection().createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "SELECT ID FROM CHILD ORDER BY ID"))
+        {
+            while (resultSet.next())
+            {
+                ids.add(resultSet.getInt(1));
+            }
+        }
+        return ids;
+    }
+}
@@ -21,11 +21,13 @@
 
 package org.dbunit.operation;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import org.dbunit.database.DatabaseConfig;
 import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.database.OperationStatistics;
 import org.dbunit.database.statement.MockBatchStatement;
 import org.dbunit.database.statement.MockStatementFactory;
 import org.dbunit.dataset.Column;
@@ -332,6 +334,101 @@ class InsertOperationTest
         connection.verify();
     }
 
+    @Test
+    void testExecute_withGroupInsertRowsAndFlappingNoValueFields_preparesOneStatementPerColumnSet()
+            throws Exception
+    {
+        final String schemaName = "schema";
+        final String tableName = "table";
+        final String[] expected = {
+                "insert into schema.table (c1, c2, c3) values ('toto', 1234, 'false')",
+                "insert into schema.table (c1, c2, c3) values ('qwerty1', 1, 'true')",
+                "insert into schema.table (c1, c2, c3) values ('qwerty2', 2, 'false')",
+                "insert into schema.table (c2, c3) values (123.45, 'true')",
+                "insert into schema.table (c2, c3) values (3, 'true')",};
+
+        // setup table
+        final Column[] columns =
+                new Column[] {new Column("c1", DataType.VARCHAR),
+                        new Column("c2", DataType.NUMERIC),
+                        new Column("c3", DataType.BOOLEAN),};
+        final DefaultTable table = new DefaultTable(tableName, columns);
+        table.addRow(new Object[] {"toto", "1234", Boolean.FALSE});
+        table.addRow(
+                new Object[] {ITable.NO_VALUE, new Double("123.45"), "true"});
+        table.addRow(new Object[] {"qwerty1", "1", Boolean.TRUE});
+        table.addRow(new Object[] {ITable.NO_VALUE, "3", Boolean.TRUE});
+        table.addRow(new Object[] {"qwerty2", "2", Boolean.FALSE});
+        final IDataSet dataSet = new DefaultDataSet(table);
+
+        // setup mock objects
+        final MockBatchStatement statement = new MockBatchStatement();
+        statement.addExpectedBatchStrings(expected);
+        statement.setExpectedExecuteBatchCalls(2);
+        statement.setExpectedClearBatchCalls(2);
+        statement.setExpectedCloseCalls(2);
+
+        final MockStatementFactory factory = new MockStatementFactory();
+        factory.setExpectedCreatePreparedStatementCalls(2);
+        factory.setupStatement(statement);
+
+        final MockDatabaseConnection connection = new MockDatabaseConnection();
+        connection.setupDataSet(dataSet);
+        connection.setupSchema(schemaName);
+        connection.setupStatementFactory(factory);
+        connection.setExpectedCloseCalls(0);
+
+        final OperationStatistics statistics = new OperationStatistics();
+        connection.getConfig()
+                .setFeature(DatabaseConfig.FEATURE_GROUP_INSERT_ROWS, true);
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_OPERATION_STATISTICS, statistics);
+
+        // execute operation
+        new InsertOperation().execute(connection, dataSet);
+
+        statement.verify();
+        factory.verify();
+        connection.verify();
+        assertThat(statistics.getPreparedStatementCount(tableName))
+                .as("One statement per distinct column set.").isEqualTo(2);
+    }
+
+    @Test
+    void testExecute_withFlappingNoValueFields_reportsOneStatementPerChange()
+            throws Exception
+    {
+        final String tableName = "table";
+        final Column[] columns =
+                new Column[] {new Column("c1", DataType.VARCHAR),
+                        new Column("c2", DataType.NUMERIC),};
+        final DefaultTable table = new DefaultTable(tableName, columns);
+        table.addRow(new Object[] {"a", "1"});
+        table.addRow(new Object[] {ITable.NO_VALUE, "2"});
+        table.addRow(new Object[] {"c", "3"});
+        final IDataSet dataSet = new DefaultDataSet(table);
+
+        final MockStatementFactory factory = new MockStatementFactory();
+        factory.setupStatement(new MockBatchStatement());
+
+        final MockDatabaseConnection connection = new MockDatabaseConnection();
+        connection.setupDataSet(dataSet);
+        connection.setupSchema("schema");
+        connection.setupStatementFactory(factory);
+        connection.setExpectedCloseCalls(0);
+
+        final OperationStatistics statistics = new OperationStatistics();
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_OPERATION_STATISTICS, statistics);
+
+        new InsertOperation().execute(connection, dataSet);
+
+        assertThat(statistics.getPreparedStatementCount())
+                .as("Without grouping, each change of column set prepares a"
+                        + " new statement.")
+                .isEqualTo(3);
+    }
+
     @Test
     void testExecute_withTwoDataSetsMergedOnSameTableAndOneMissingAnOptionalColumn_omitsColumnForThatPart()
             throws Exception
@@ -0,0 +1,301 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.DatabaseConnection;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.OperationStatistics;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ParallelOperation} against a real H2 in-memory database
+ * shared by several connections.
+ *
+ * @since 3.6.0
+ */
+class ParallelOperationTest
+{
+    private static final AtomicInteger DB_COUNTER = new AtomicInteger();
+
+    private JdbcDataSource dataSource;
+
+    private IDatabaseConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:dbunit_parallel_"
+                + DB_COUNTER.incrementAndGet());
+        connection = new DatabaseConnection(dataSource.getConnection());
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute("CREATE TABLE A (ID INT PRIMARY KEY)");
+            stmt.execute("CREATE TABLE B (ID INT PRIMARY KEY,"
+                    + " A_ID INT REFERENCES A(ID))");
+            stmt.execute("CREATE TABLE C (ID INT PRIMARY KEY,"
+                    + " A_ID INT REFERENCES A(ID))");
+            stmt.execute("CREATE TABLE D (ID INT PRIMARY KEY,"
+                    + " B_ID INT REFERENCES B(ID))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+    }
+
+    @Test
+    void testExecute_insertWithDataSource_writesAllTablesAndReportsTimes()
+            throws Exception
+    {
+        final OperationStatistics statistics = new OperationStatistics();
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_OPERATION_STATISTICS, statistics);
+
+        new ParallelOperation(DatabaseOperation.INSERT, dataSource, 2)
+                .execute(connection, createDataSet("1"));
+
+        assertThat(countRows()).as("Rows of D, C, B and A.")
+                .isEqualTo("1,1,1,1");
+        assertThat(statistics.getTableNames())
+                .as("Every table reported, by its worker connection.")
+                .containsExactly("A", "B", "C", "D");
+    }
+
+    @Test
+    void testExecute_deleteAll_deletesInReverseLevelOrder() throws Exception
+    {
+        new ParallelOperation(DatabaseOperation.INSERT, dataSource, 4)
+                .execute(connection, createDataSet("1"));
+
+        new ParallelOperation(DatabaseOperation.DELETE_ALL, dataSource, 4)
+                .execute(connection, createDataSet("1"));
+
+        assertThat(countRows()).as("Children deleted before their parents.")
+                .isEqualTo("0,0,0,0");
+    }
+
+    @Test
+    void testExecute_transactionalDeleteAll_deletesInReverseLevelOrder()
+            throws Exception
+    {
+        new ParallelOperation(DatabaseOperation.INSERT, dataSource, 4)
+                .execute(connection, createDataSet("1"));
+
+        new ParallelOperation(
+                new TransactionOperation(DatabaseOperation.DELETE_ALL),
+                dataSource, 4).execute(connection, createDataSet("1"));
+
+        assertThat(countRows())
+                .as("Children deleted before their parents through the decorator.")
+                .isEqualTo("0,0,0,0");
+    }
+
+    @Test
+    void testExecute_whenTableFails_skipsLaterLevels() throws Exception
+    {
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute("INSERT INTO A VALUES (1)");
+            stmt.execute("INSERT INTO B VALUES (1, 1)");
+        }
+
+        final DefaultDataSet dataSet = createDataSet("1");
+        assertThatThrownBy(() -> new ParallelOperation(DatabaseOperation.INSERT,
+                dataSource, 2).execute(connection,
+                        new DefaultDataSet(new ITable[] {dataSet.getTable("D"),
+                                dataSet.getTable("C"), dataSet.getTable("B")})))
+                .as("Duplicate key in B reported.")
+                .isInstanceOf(DatabaseUnitException.class)
+                .hasMessageContaining("'B'");
+
+        assertThat(countRows()).as("C of the failed level written,"
+                + " D of the next level not.").isEqualTo("1,1,1,0");
+    }
+
+    @Test
+    void testExecute_update_runsTablesAsOneLevelAndReportsRows()
+            throws Exception
+    {
+        new ParallelOperation(DatabaseOperation.INSERT, dataSource, 4)
+                .execute(connection, createDataSet("1"));
+        final OperationStatistics statistics = new OperationStatistics();
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_OPERATION_STATISTICS, statistics);
+
+        new ParallelOperation(DatabaseOperation.UPDATE, dataSource, 4)
+                .execute(connection, createDataSet("1"));
+
+        assertThat(statistics.getTableNames()).as("Every table updated.")
+                .containsExactly("A", "B", "C", "D");
+        assertThat(statistics.getRowCount("D")).as("Rows updated in D.")
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testExecute_failFastWhenTableFails_skipsTablesNotStarted()
+            throws Exception
+    {
+        assertThat(updateBThenC(false)).as("C updated after B failed.")
+                .isEqualTo(2);
+        assertThat(updateBThenC(true)).as("C skipped after B failed.")
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testExecute_withConnectionFactory_reusesWorkerConnections()
+            throws Exception
+    {
+        final AtomicInteger created = new AtomicInteger();
+        final ParallelOperation operation = new ParallelOperation(
+                DatabaseOperation.INSERT, () -> {
+                    created.incrementAndGet();
+                    return new DatabaseConnection(dataSource.getConnection());
+                }, 2);
+
+        operation.execute(connection, createDataSet("1"));
+        new ParallelOperation(DatabaseOperation.DELETE_ALL, dataSource, 2)
+                .execute(connection, createDataSet("1"));
+        operation.execute(connection, createDataSet("2"));
+        operation.close();
+
+        assertThat(created.get()).as("One connection per worker.")
+                .isEqualTo(2);
+        assertThat(countRows()).as("Rows of the second execution.")
+                .isEqualTo("1,1,1,1");
+    }
+
+    @Test
+    void testConstructor_withCompositeOperation_isRejected()
+    {
+        assertThatThrownBy(() -> new ParallelOperation(
+                DatabaseOperation.CLEAN_INSERT, dataSource, 2))
+                .as("Composite steps need opposite table orders.")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testUnwrap_withDecorators_returnsDecoratedOperation()
+    {
+        assertThat(ParallelOperation.unwrap(new TransactionOperation(
+                new CloseConnectionOperation(DatabaseOperation.UPDATE))))
+                .as("Operation inside the decorators.")
+                .isSameAs(DatabaseOperation.UPDATE);
+    }
+
+    /**
+     * Updates B to reference a missing row, then C, on a single worker.
+     *
+     * @return The A_ID of C afterwards.
+     */
+    private int updateBThenC(final boolean failFast) throws Exception
+    {
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            stmt.execute("DELETE FROM D");
+            stmt.execute("DELETE FROM C");
+            stmt.execute("DELETE FROM B");
+            stmt.execute("DELETE FROM A");
+            stmt.execute("INSERT INTO A VALUES (1), (2)");
+            stmt.execute("INSERT INTO B VALUES (1, 1)");
+            stmt.execute("INSERT INTO C VALUES (1, 1)");
+        }
+        final DefaultTable b = createTable("B", "A_ID");
+        b.addRow(new Object[] {"1", "99"});
+        final DefaultTable c = createTable("C", "A_ID");
+        c.addRow(new Object[] {"1", "2"});
+
+        assertThatThrownBy(() -> new ParallelOperation(
+                DatabaseOperation.UPDATE, dataSource, 1, failFast)
+                        .execute(connection,
+                                new DefaultDataSet(new ITable[] {b, c})))
+                .as("Missing reference of B reported.")
+                .isInstanceOf(DatabaseUnitException.class)
+                .hasMessageContaining("'B'");
+
+        try (Statement stmt = connection.getConnection().createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT A_ID FROM C"))
+        {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private DefaultDataSet createDataSet(final String id) throws Exception
+    {
+        final DefaultTable a = createTable("A", null);
+        a.addRow(new Object[] {id});
+        final DefaultTable b = createTable("B", "A_ID");
+        b.addRow(new Object[] {id, id});
+        final DefaultTable c = createTable("C", "A_ID");
+        c.addRow(new Object[] {id, id});
+        final DefaultTable d = createTable("D", "B_ID");
+        d.addRow(new Object[] {id, id});
+        return new DefaultDataSet(new ITable[] {d, c, b, a});
+    }
+
+    private DefaultTable createTable(final String tableName,
+            final String foreignKey)
+    {
+        final Column id = new Column("ID", DataType.INTEGER);
+        return new DefaultTable(tableName, foreignKey == null
+                ? new Column[] {id}
+                : new Column[] {id, new Column(foreignKey, DataType.INTEGER)});
+    }
+
+    private String countRows() throws Exception
+    {
+        final StringBuilder sb = new StringBuilder();
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            for (final String tableName : new String[] {"A", "B", "C", "D"})
+            {
+                try (ResultSet rs = stmt
+                        .executeQuery("SELECT COUNT(*) FROM " + tableName))
+                {
+                    rs.next();
+                    sb.append(sb.length() == 0 ? "" : ",").append(rs.getInt(1));
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.database.OperationStatistics;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.datatype.TypeCastException;
+import org.dbunit.dataset.stream.StreamingDataSet;
+import org.dbunit.dataset.xml.FlatXmlProducer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.InputSource;
+
+/**
+ * Tests for {@link PipelinedInsertOperation} against a real H2 in-memory
+ * database.
+ *
+ * @since 3.6.0
+ */
+class PipelinedInsertOperationTest
+{
+    private IDatabaseConnection connection;
+
+    private final OperationStatistics statistics = new OperationStatistics();
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_OPERATION_STATISTICS, statistics);
+        execute("CREATE TABLE PARENT (ID INT PRIMARY KEY, NAME VARCHAR(20),"
+                        + " CREATED DATE)",
+                "CREATE TABLE CHILD (ID INT PRIMARY KEY,"
+                        + " PARENT_ID INT REFERENCES PARENT(ID),"
+                        + " AMOUNT DECIMAL(10, 2))");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+    }
+
+    @Test
+    void testConstructor_withZeroChunkSize_throwsIllegalArgumentException()
+    {
+        assertThatThrownBy(() -> new PipelinedInsertOperation(1, 0, 1))
+                .as("chunk size must be positive.")
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testExecute_withStreamingDataSet_insertsConvertedRowsInOrder()
+            throws Exception
+    {
+        final StringBuilder xml = new StringBuilder("<dataset>");
+        for (int i = 1; i <= 25; i++)
+        {
+            xml.append("<PARENT ID='").append(i).append("' NAME='p").append(i)
+                    .append(i % 3 == 0 ? "'" : "' CREATED='2026-01-0" + (i % 9 + 1) + "'")
+                    .append("/>");
+        }
+        for (int i = 1; i <= 25; i++)
+        {
+            xml.append("<CHILD ID='").append(i).append("' PARENT_ID='")
+                    .append(26 - i).append("' AMOUNT='").append(i).append(".5'/>");
+        }
+        xml.append("</dataset>");
+
+        new PipelinedInsertOperation(3, 4, 2).execute(connection,
+                new StreamingDataSet(new FlatXmlProducer(
+                        new InputSource(new StringReader(xml.toString())))));
+
+        assertThat(readRows("SELECT COUNT(*), COUNT(CREATED) FROM PARENT"))
+                .as("all parents inserted, omitted dates left null.")
+                .containsExactly("25|17");
+        assertThat(readRows("SELECT ID, PARENT_ID, AMOUNT FROM CHILD WHERE ID IN (1, 25) ORDER BY ID"))
+                .as("children inserted with converted values.")
+                .containsExactly("1|25|1.50", "25|1|25.50");
+        assertThat(statistics.getStageNames()).as("stages reported.")
+                .containsExactly(PipelinedInsertOperation.STAGE_CONVERT,
+                        PipelinedInsertOperation.STAGE_READ,
+                        PipelinedInsertOperation.STAGE_WRITE);
+        for (final String stage : statistics.getStageNames())
+        {
+            assertThat(statistics.getStageRowCount(stage))
+                    .as("rows processed by stage " + stage + ".").isEqualTo(50);
+        }
+    }
+
+    @Test
+    void testExecute_withOmittedValues_preparesStatementPerColumnSet()
+            throws Exception
+    {
+        final DefaultTable parent = new DefaultTable("PARENT", new Column[] {
+                new Column("ID", DataType.UNKNOWN),
+                new Column("NAME", DataType.UNKNOWN)});
+        parent.addRow(new Object[] {"1", "one"});
+        parent.addRow(new Object[] {"2", ITable.NO_VALUE});
+        parent.addRow(new Object[] {"3", ITable.NO_VALUE});
+        parent.addRow(new Object[] {"4", "four"});
+
+        new PipelinedInsertOperation(1, 3, 1).execute(connection,
+                new DefaultDataSet(parent));
+
+        assertThat(readRows("SELECT ID, NAME FROM PARENT ORDER BY ID"))
+                .as("rows inserted, omitted names left null.")
+                .containsExactly("1|one", "2|null", "3|null", "4|four");
+        assertThat(statistics.getPreparedStatementCount("PARENT"))
+                .as("new statement whenever the omitted columns change.")
+                .isEqualTo(3);
+    }
+
+    @Test
+    void testExecute_withUnconvertibleValue_throwsTypeCastException()
+            throws Exception
+    {
+        final DefaultTable parent = new DefaultTable("PARENT", new Column[] {
+                new Column("ID", DataType.UNKNOWN),
+                new Column("NAME", DataType.UNKNOWN)});
+        for (int i = 1; i <= 10; i++)
+        {
+            parent.addRow(new Object[] {i == 7 ? "seven" : String.valueOf(i), "p" + i});
+        }
+
+        assertThatThrownBy(() -> new PipelinedInsertOperation(2, 2, 1)
+                .execute(connection, new DefaultDataSet(parent)))
+                .as("conversion failure reported to the caller.")
+                .isInstanceOf(TypeCastException.class)
+                .hasMessageContaining("'PARENT'");
+    }
+
+    @Test
+    void testExecute_withFailingStatement_throwsDatabaseUnitException()
+            throws Exception
+    {
+        final DefaultTable child = new DefaultTable("CHILD", new Column[] {
+                new Column("ID", DataType.UNKNOWN),
+                new Column("PARENT_ID", DataType.UNKNOWN)});
+        child.addRow(new Object[] {"1", "99"});
+
+        assertThatThrownBy(() -> new PipelinedInsertOperation()
+                .execute(connection, new DefaultDataSet(child)))
+                .as("database failure reported with the table.")
+                .isInstanceOf(DatabaseUnitException.class)
+                .hasMessageContaining("'CHILD'");
+    }
+
+    private void execute(final String... sqls) throws Exception
+    {
+        try (Statement statement = connection.getConnection().createStatement())
+        {
+            for (final String sql : sqls)
+            {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    private List<String> readRows(final String sql) throws Exception
+    {
+        final List<String> rows = new ArrayList<>();
+        try (Statement statement = connection.getConnection().createStatement();
+                ResultSet resultSet = statement.executeQuery(sql))
+        {
+            final int columnCount = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next())
+            {
+                final StringBuilder row = new StringBuilder();
+                for (int i = 1; i <= columnCount; i++)
+                {
+                    row.append(i > 1 ? "|" : "").append(resultSet.getString(i));
+                }
+                rows.add(row.toString());
+            }
+        }
+        return rows;
+    }
+}
@@ -30,14 +30,20 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
 import org.dbunit.database.MockDatabaseConnection;
+import org.dbunit.database.statement.MockBatchStatement;
+import org.dbunit.database.statement.MockStatementFactory;
 import org.dbunit.dataset.Column;
 import org.dbunit.dataset.DefaultDataSet;
 import org.dbunit.dataset.DefaultTable;
 import org.dbunit.dataset.DefaultTableMetaData;
 import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.ITable;
 import org.dbunit.dataset.ITableMetaData;
+import org.dbunit.dataset.NoPrimaryKeyException;
 import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.ext.mysql.MySqlUpsertStatementBuilder;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -95,4 +101,116 @@ class RefreshOperationTest
                         + " instead of being lost.")
                 .containsExactly(closeFailure);
     }
+
+    @Test
+    void testExecute_withUpsertStatementBuilder_batchesAllRowsThroughOneStatement()
+            throws Exception
+    {
+        final String[] expected = {
+                "insert into schema.table (ID, NAME) values (1, 'a')"
+                        + " on duplicate key update NAME = values(NAME)",
+                "insert into schema.table (ID, NAME) values (2, 'b')"
+                        + " on duplicate key update NAME = values(NAME)",};
+
+        final IDataSet dataSet = createDataSet(new Object[][] {{1, "a"}, {2, "b"}});
+
+        final MockBatchStatement statement = new MockBatchStatement();
+        statement.addExpectedBatchStrings(expected);
+        statement.setExpectedExecuteBatchCalls(1);
+        statement.setExpectedClearBatchCalls(1);
+        statement.setExpectedCloseCalls(1);
+
+        final MockStatementFactory factory = new MockStatementFactory();
+        factory.setExpectedCreatePreparedStatementCalls(1);
+        factory.setupStatement(statement);
+
+        final MockDatabaseConnection connection =
+                createConnection(dataSet, factory);
+
+        DatabaseOperation.REFRESH.execute(connection, dataSet);
+
+        statement.verify();
+        factory.verify();
+        connection.verify();
+    }
+
+    @Test
+    void testExecute_withUpsertStatementBuilderAndOmittedKey_fallsBackToInsert()
+            throws Exception
+    {
+        final String[] expected = {
+                "insert into schema.table (NAME) values ('a')",};
+
+        final IDataSet dataSet =
+                createDataSet(new Object[][] {{ITable.NO_VALUE, "a"}});
+
+        final MockBatchStatement statement = new MockBatchStatement();
+        statement.addExpectedBatchStrings(expected);
+        statement.setExpectedExecuteBatchCalls(1);
+        statement.setExpectedClearBatchCalls(1);
+        statement.setExpectedCloseCalls(1);
+
+        final MockStatementFactory factory = new MockStatementFactory();
+        factory.setExpectedCreatePreparedStatementCalls(1);
+        factory.setupStatement(statement);
+
+        final MockDatabaseConnection connection =
+                createConnection(dataSet, factory);
+
+        DatabaseOperation.REFRESH.execute(connection, dataSet);
+
+        statement.verify();
+        factory.verify();
+        connection.verify();
+    }
+
+    @Test
+    void testExecute_withUpsertStatementBuilderAndNoPrimaryKey_throwsNoPrimaryKeyException()
+            throws Exception
+    {
+        final DefaultTable table = new DefaultTable("table",
+                new Column[] {new Column("ID", DataType.INTEGER)});
+        table.addRow(new Object[] {1});
+        final IDataSet dataSet = new DefaultDataSet(table);
+
+        final MockStatementFactory factory = new MockStatementFactory();
+        factory.setExpectedCreatePreparedStatementCalls(0);
+
+        final MockDatabaseConnection connection =
+                createConnection(dataSet, factory);
+
+        final Throwable thrown = catchThrowable(
+                () -> DatabaseOperation.REFRESH.execute(connection, dataSet));
+
+        assertThat(thrown).as("Upsert requires a primary key.")
+                .isInstanceOf(NoPrimaryKeyException.class);
+        factory.verify();
+    }
+
+    private IDataSet createDataSet(final Object[][] rows) throws Exception
+    {
+        final Column[] columns = {new Column("ID", DataType.INTEGER),
+                new Column("NAME", DataType.VARCHAR)};
+        final DefaultTable table = new DefaultTable(
+                new DefaultTableMetaData("table", columns, new String[] {"ID"}));
+        for (final Object[] row : rows)
+        {
+            table.addRow(row);
+        }
+        return new DefaultDataSet(table);
+    }
+
+    private MockDatabaseConnection createConnection(final IDataSet dataSet,
+            final MockStatementFactory factory)
+    {
+        final MockDatabaseConnection connection = new MockDatabaseConnection();
+        connection.setupDataSet(dataSet);
+        connection.setupSchema("schema");
+        connection.setupStatementFactory(factory);
+        connection.setExpectedCloseCalls(0);
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_UPSERT_STATEMENT_BUILDER,
+                new MySqlUpsertStatementBuilder());
+        return connection;
+    }
 }
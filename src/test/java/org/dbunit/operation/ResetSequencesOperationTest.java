@@ -0,0 +1,198 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+package org.dbunit.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.StringReader;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Collections;
+
+import org.dbunit.DatabaseUnitException;
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.database.statement.IBatchStatement;
+import org.dbunit.database.statement.IStatementFactory;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.IDataSet;
+import org.dbunit.dataset.datatype.DataType;
+import org.dbunit.dataset.stream.StreamingDataSet;
+import org.dbunit.dataset.xml.FlatXmlProducer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.InputSource;
+
+/**
+ * Tests for {@link ResetSequencesOperation}.
+ *
+ * @since 3.6.0
+ */
+class ResetSequencesOperationTest
+{
+    private IDatabaseConnection connection;
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        try (Statement statement = connection.getConnection().createStatement())
+        {
+            statement.execute("create table RESET_IDENTITY (ID bigint"
+                    + " generated by default as identity primary key,"
+                    + " NAME varchar(10))");
+            statement.execute("create table RESET_PLAIN (ID int primary key,"
+                    + " NAME varchar(10))");
+            statement.execute("create sequence RESET_SEQUENCE");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        try (Statement statement = connection.getConnection().createStatement())
+        {
+            statement.execute("drop table RESET_IDENTITY");
+            statement.execute("drop table RESET_PLAIN");
+            statement.execute("drop sequence RESET_SEQUENCE");
+        }
+        connection.close();
+    }
+
+    @Test
+    void testExecute_afterCleanInsert_restartsIdentityPastDatasetMax()
+            throws Exception
+    {
+        final DefaultTable table = createTable("RESET_IDENTITY");
+        table.addRow(new Object[] {"7", "a"});
+        table.addRow(new Object[] {"3", "b"});
+
+        ResetSequencesOperation.CLEAN_INSERT.execute(connection,
+                new DefaultDataSet(table));
+
+        try (Statement statement = connection.getConnection().createStatement())
+        {
+            statement.execute("insert into RESET_IDENTITY (NAME) values ('c')");
+            try (ResultSet resultSet = statement.executeQuery(
+                    "select ID from RESET_IDENTITY where NAME = 'c'"))
+            {
+                resultSet.next();
+                assertThat(resultSet.getLong(1))
+                        .as("Next identity after the dataset max.")
+                        .isEqualTo(8);
+            }
+        }
+    }
+
+    @Test
+    void testExecute_withSequenceName_restartsSequencePastDatasetMax()
+            throws Exception
+    {
+        final DefaultTable table = createTable("RESET_PLAIN");
+        table.addRow(new Object[] {"41", "a"});
+
+        new CompositeOperation(DatabaseOperation.CLEAN_INSERT,
+                new ResetSequencesOperation(Collections.singletonMap(
+                        "reset_plain.id", "RESET_SEQUENCE")))
+                                .execute(connection, new DefaultDataSet(table));
+
+        try (Statement statement = connection.getConnection().createStatement();
+                ResultSet resultSet = statement.executeQuery(
+                        "select next value for RESET_SEQUENCE"))
+        {
+            resultSet.next();
+            assertThat(resultSet.getLong(1))
+                    .as("Sequence mapped case-insensitively.").isEqualTo(42);
+        }
+    }
+
+    @Test
+    void testExecute_withStreamingDataSet_fails() throws Exception
+    {
+        final String xml = "<dataset><RESET_IDENTITY ID='1' NAME='a'/></dataset>";
+        final IDataSet dataSet = new StreamingDataSet(
+                new FlatXmlProducer(new InputSource(new StringReader(xml))));
+
+        assertThatThrownBy(() -> ResetSequencesOperation.INSERT
+                .execute(connection, dataSet))
+                        .as("Dataset already read by the load.")
+                        .isInstanceOf(DatabaseUnitException.class)
+                        .hasMessageContaining("StreamingDataSet");
+    }
+
+    @Test
+    void testExecute_withSeveralTables_sendsOneBatch() throws Exception
+    {
+        final IBatchStatement statement = mock(IBatchStatement.class);
+        final IStatementFactory factory = mock(IStatementFactory.class);
+        when(factory.createBatchStatement(any())).thenReturn(statement);
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_STATEMENT_FACTORY, factory);
+        final DefaultTable identity = createTable("RESET_IDENTITY");
+        identity.addRow(new Object[] {"5", "a"});
+        final DefaultTable plain = createTable("RESET_PLAIN");
+        plain.addRow(new Object[] {"9", "b"});
+
+        new ResetSequencesOperation(Collections.singletonMap("RESET_PLAIN.ID",
+                "RESET_SEQUENCE")).execute(connection,
+                        new DefaultDataSet(identity, plain));
+
+        verify(statement).addBatch(
+                "alter table RESET_IDENTITY alter column ID restart with 6");
+        verify(statement)
+                .addBatch("alter sequence RESET_SEQUENCE restart with 10");
+        verify(statement, times(1)).executeBatch();
+        verify(statement).close();
+    }
+
+    @Test
+    void testExecute_withoutIdentityColumns_sendsNothing() throws Exception
+    {
+        final IStatementFactory factory = mock(IStatementFactory.class);
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_STATEMENT_FACTORY, factory);
+        final DefaultTable table = createTable("RESET_PLAIN");
+        table.addRow(new Object[] {"1", "a"});
+
+        new ResetSequencesOperation().execute(connection,
+                new DefaultDataSet(table));
+
+        verify(factory, never()).createBatchStatement(any());
+    }
+
+    private DefaultTable createTable(final String tableName)
+    {
+        return new DefaultTable(tableName,
+                new Column[] {new Column("ID", DataType.BIGINT),
+                        new Column("NAME", DataType.VARCHAR)});
+    }
+}
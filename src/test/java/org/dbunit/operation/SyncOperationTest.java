@@ -0,0 +1,172 @@
+/*
+ *
+ * The DbUnit Database Testing Framework
+ * Copyright (C)2002-2026, DbUnit.org
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ */
+
+package org.dbunit.operation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dbunit.database.DatabaseConfig;
+import org.dbunit.database.IDatabaseConnection;
+import org.dbunit.database.InMemoryDatabaseConnection;
+import org.dbunit.database.OperationStatistics;
+import org.dbunit.dataset.Column;
+import org.dbunit.dataset.DefaultDataSet;
+import org.dbunit.dataset.DefaultTable;
+import org.dbunit.dataset.ITable;
+import org.dbunit.dataset.datatype.DataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SyncOperation} against a real H2 in-memory database.
+ *
+ * @since 3.6.0
+ */
+class SyncOperationTest
+{
+    private IDatabaseConnection connection;
+
+    private final OperationStatistics statistics = new OperationStatistics();
+
+    @BeforeEach
+    void setUp() throws Exception
+    {
+        connection = InMemoryDatabaseConnection.create();
+        connection.getConfig().setProperty(
+                DatabaseConfig.PROPERTY_OPERATION_STATISTICS, statistics);
+        execute("CREATE TABLE PARENT (ID INT PRIMARY KEY, NAME VARCHAR(20))",
+                "CREATE TABLE CHILD (ID INT PRIMARY KEY,"
+                        + " PARENT_ID INT REFERENCES PARENT(ID), NOTE CHAR(10))",
+                "CREATE TABLE LOG (MESSAGE VARCHAR(20))");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception
+    {
+        connection.close();
+    }
+
+    @Test
+    void testExecute_withDirtyTables_writesDatasetContents() throws Exception
+    {
+        execute("INSERT INTO PARENT VALUES (1, 'one'), (2, 'dirty'), (3, 'extra')",
+                "INSERT INTO CHILD VALUES (1, 1, 'kept'), (3, 3, 'extra')",
+                "INSERT INTO LOG VALUES ('old')");
+
+        DatabaseOperation.SYNC.execute(connection, createDataSet());
+
+        assertThat(readRows("SELECT * FROM PARENT ORDER BY ID"))
+                .as("Extra row deleted, dirty row updated, missing row inserted.")
+                .containsExactly("1|one", "2|two", "4|four");
+        assertThat(readRows("SELECT ID, PARENT_ID, TRIM(NOTE) FROM CHILD ORDER BY ID"))
+                .as("Child rows synchronized around their parents.")
+                .containsExactly("1|1|kept", "2|4|new");
+        assertThat(readRows("SELECT * FROM LOG"))
+                .as("Table without primary key replaced.")
+                .containsExactly("message");
+    }
+
+    @Test
+    void testExecute_twice_writesNothingTheSecondTime() throws Exception
+    {
+        DatabaseOperation.SYNC.execute(connection, createDataSet());
+        statistics.clear();
+
+        DatabaseOperation.SYNC.execute(connection, createDataSet());
+
+        assertThat(statistics.getPreparedStatementCount("PARENT"))
+                .as("No statement for the unchanged PARENT.").isZero();
+        assertThat(statistics.getPreparedStatementCount("CHILD"))
+                .as("No statement for CHILD, blank-padded CHAR values match.")
+                .isZero();
+    }
+
+    @Test
+    void testExecute_withEmptyTable_deletesAllRows() throws Exception
+    {
+        execute("INSERT INTO PARENT VALUES (1, 'one')");
+
+        DatabaseOperation.SYNC.execute(connection,
+                new DefaultDataSet(new DefaultTable("PARENT",
+                        new Column[] {new Column("ID", DataType.INTEGER),
+                                new Column("NAME", DataType.VARCHAR)})));
+
+        assertThat(readRows("SELECT * FROM PARENT"))
+                .as("Rows absent from the dataset deleted.").isEmpty();
+    }
+
+    private DefaultDataSet createDataSet() throws Exception
+    {
+        final DefaultTable parent = new DefaultTable("PARENT",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("NAME", DataType.VARCHAR)});
+        parent.addRow(new Object[] {"1", "one"});
+        parent.addRow(new Object[] {"2", "two"});
+        parent.addRow(new Object[] {"4", "four"});
+        final DefaultTable child = new DefaultTable("CHILD",
+                new Column[] {new Column("ID", DataType.INTEGER),
+                        new Column("PARENT_ID", DataType.INTEGER),
+                        new Column("NOTE", DataType.CHAR)});
+        child.addRow(new Object[] {"1", "1", "kept"});
+        child.addRow(new Object[] {"2", "4", "new"});
+        final DefaultTable log = new DefaultTable("LOG",
+                new Column[] {new Column("MESSAGE", DataType.VARCHAR)});
+        log.addRow(new Object[] {"message"});
+        return new DefaultDataSet(new ITable[] {parent, child, log});
+    }
+
+    private void execute(final String... sqls) throws Exception
+    {
+        try (Statement stmt = connection.getConnection().createStatement())
+        {
+            for (final String sql : sqls)
+            {
+                stmt.execute(sql);
+            }
+        }
+    }
+
+    private List<String> readRows(final String sql) throws Exception
+    {
+        final List<String> rows = new ArrayList<>();
+        try (Statement stmt = connection.getConnection().createStatement();
+                ResultSet rs = stmt.executeQuery(sql))
+        {
+            final int columnCount = rs.getMetaData().getColumnCount();
+            while (rs.next())
+            {
+                final StringBuilder sb = new StringBuilder();
+                for (int i = 1; i <= columnCount; i++)
+                {
+                    sb.append(i > 1 ? "|" : "").append(rs.getString(i));
+                }
+                rows.add(sb.toString());
+            }
+        }
+        return rows;
+    }
+}
@@ -91,6 +91,56 @@ class UpdateOperationTest
         connection.verify();
     }
 
+    @Test
+    void testExecute_withGroupUpdateRowsAndMissingValue_leavesColumnUnchangedAndGroupsRows() throws Exception
+    {
+        final String schemaName = "schema";
+        final String tableName = "table";
+        final String[] expected = {
+                "update schema.table set c2 = 1234, c3 = 'false' where c4 = 0 and c1 = 'toto'",
+                "update schema.table set c2 = 5, c3 = NULL where c4 = 1 and c1 = 'abc'",
+                "update schema.table set c3 = 'x' where c4 = 0 and c1 = 'qwerty'",};
+
+        final Column[] columns =
+                new Column[] {new Column("c1", DataType.VARCHAR),
+                        new Column("c2", DataType.NUMERIC),
+                        new Column("c3", DataType.VARCHAR),
+                        new Column("c4", DataType.NUMERIC),};
+        final String[] primaryKeys = {"c4", "c1"};
+        final DefaultTable table = new DefaultTable(
+                new DefaultTableMetaData(tableName, columns, primaryKeys));
+        table.addRow(new Object[] {"toto", "1234", "false", "0"});
+        table.addRow(new Object[] {"qwerty", ITable.NO_VALUE, "x", "0"});
+        table.addRow(new Object[] {"abc", "5", null, "1"});
+        final IDataSet dataSet = new DefaultDataSet(table);
+
+        // setup mock objects
+        final MockBatchStatement statement = new MockBatchStatement();
+        statement.addExpectedBatchStrings(expected);
+        statement.setExpectedExecuteBatchCalls(2);
+        statement.setExpectedClearBatchCalls(2);
+        statement.setExpectedCloseCalls(2);
+
+        final MockStatementFactory factory = new MockStatementFactory();
+        factory.setExpectedCreatePreparedStatementCalls(2);
+        factory.setupStatement(statement);
+
+        final MockDatabaseConnection connection = new MockDatabaseConnection();
+        connection.setupDataSet(dataSet);
+        connection.setupSchema(schemaName);
+        connection.setupStatementFactory(factory);
+        connection.setExpectedCloseCalls(0);
+
+        // execute operation
+        connection.getConfig()
+                .setFeature(DatabaseConfig.FEATURE_GROUP_UPDATE_ROWS, true);
+        new UpdateOperation().execute(connection, dataSet);
+
+        statement.verify();
+        factory.verify();
+        connection.verify();
+    }
+
     @Test
     void testExecute_withBlanksDisabledAndEmptyStringValue_throwsIllegalArgumentException() throws Exception
     {